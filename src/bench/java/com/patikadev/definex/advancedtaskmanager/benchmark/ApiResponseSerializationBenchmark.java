@@ -0,0 +1,69 @@
+package com.patikadev.definex.advancedtaskmanager.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.patikadev.definex.advancedtaskmanager.constant.SuccessMessages;
+import com.patikadev.definex.advancedtaskmanager.mapper.ProjectMapper;
+import com.patikadev.definex.advancedtaskmanager.mapper.TaskMapper;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.AggregateCounts;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.ApiResponse;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPage;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPageRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.PageCursor;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.project.ProjectDetailResponse;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.task.TaskResponse;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Project;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Task;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int fixtureSize;
+
+    private ConfigurableApplicationContext context;
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<TaskResponse>> taskPageResponse;
+    private ApiResponse<ProjectDetailResponse> projectDetailResponse;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        objectMapper = context.getBean(ObjectMapper.class);
+
+        Project project = BenchmarkFixtures.project(fixtureSize);
+        List<Task> tasks = new ArrayList<>(project.getTasks());
+        AggregateCounts counts = BenchmarkFixtures.counts(project);
+        TaskMapper taskMapper = context.getBean(TaskMapper.class);
+        ProjectMapper projectMapper = context.getBean(ProjectMapper.class);
+
+        CursorPage<TaskResponse> page = CursorPage.of(tasks, CursorPageRequest.firstPage(fixtureSize),
+                task -> PageCursor.of(task.getCreatedAt(), task.getId()),
+                pageTasks -> taskMapper.toResponseList(pageTasks, counts));
+        taskPageResponse = ApiResponse.success(SuccessMessages.TASKS_FETCHED, page);
+        projectDetailResponse = ApiResponse.success(SuccessMessages.PROJECT_RETRIEVED,
+                projectMapper.toDetailResponse(project, counts));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] serializeTaskPage() throws Exception {
+        return objectMapper.writeValueAsBytes(taskPageResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeProjectDetail() throws Exception {
+        return objectMapper.writeValueAsBytes(projectDetailResponse);
+    }
+}
@@ -0,0 +1,23 @@
+package com.patikadev.definex.advancedtaskmanager.benchmark;
+
+import com.patikadev.definex.advancedtaskmanager.mapper.TaskMapper;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ComponentScan(basePackageClasses = TaskMapper.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+public class BenchmarkApplication {
+
+    public static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run();
+    }
+}
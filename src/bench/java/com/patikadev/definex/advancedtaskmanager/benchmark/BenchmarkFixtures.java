@@ -0,0 +1,128 @@
+package com.patikadev.definex.advancedtaskmanager.benchmark;
+
+import com.patikadev.definex.advancedtaskmanager.config.ApplicationProperties;
+import com.patikadev.definex.advancedtaskmanager.mapper.TaskMapper;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.AggregateCounts;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.ProjectCountView;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.TaskCountView;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Department;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Project;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Task;
+import com.patikadev.definex.advancedtaskmanager.model.entity.User;
+import com.patikadev.definex.advancedtaskmanager.model.enums.ProjectStatus;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskPriority;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
+import com.patikadev.definex.advancedtaskmanager.repository.ProjectRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.TaskRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.UserRepository;
+import com.patikadev.definex.advancedtaskmanager.service.AggregateCountService;
+import com.patikadev.definex.advancedtaskmanager.service.AuthService;
+import com.patikadev.definex.advancedtaskmanager.service.DomainEventService;
+import com.patikadev.definex.advancedtaskmanager.service.TaskStateHistoryService;
+import com.patikadev.definex.advancedtaskmanager.service.impl.TaskServiceImpl;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+public final class BenchmarkFixtures {
+    private BenchmarkFixtures() {
+        throw new IllegalStateException("Fixture class");
+    }
+
+    public static final String TOKEN_SECRET =
+            "c2VjcmV0LWtleS1mb3ItYmVuY2htYXJrLW9ubHktbXVzdC1iZS1hdC1sZWFzdC1zaXh0eS1mb3VyLWJ5dGVzLWxvbmctZm9yLWhzNTEy";
+    public static final String BENCHMARK_EMAIL = "bench@example.com";
+
+    public static ApplicationProperties applicationProperties(boolean tokenCacheEnabled) {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getSecurity().setTokenSecret(TOKEN_SECRET);
+        applicationProperties.getSecurity().setTokenExpirationMs(TimeUnit.HOURS.toMillis(1));
+        applicationProperties.getSecurity().setJwtIssuer("advanced-task-manager-bench");
+        applicationProperties.getSecurity().setJwtAudience("advanced-task-manager-client-bench");
+        applicationProperties.getSecurity().getTokenCache().setEnabled(tokenCacheEnabled);
+        return applicationProperties;
+    }
+
+    public static TaskServiceImpl taskService() {
+        return new TaskServiceImpl(
+                mock(TaskRepository.class),
+                mock(ProjectRepository.class),
+                mock(UserRepository.class),
+                mock(TaskStateHistoryService.class),
+                mock(TaskMapper.class),
+                mock(AggregateCountService.class),
+                mock(AuthService.class),
+                mock(ApplicationEventPublisher.class),
+                mock(DomainEventService.class));
+    }
+
+    public static Project project(int taskCount) {
+        Department department = Department.builder()
+                .id(1L)
+                .name("Engineering")
+                .description("Benchmark department")
+                .build();
+
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .firstName("Bench")
+                .lastName("User")
+                .email(BENCHMARK_EMAIL)
+                .department(department)
+                .build();
+
+        Project project = Project.builder()
+                .id(UUID.randomUUID())
+                .title("Benchmark project")
+                .description("Synthetic project used by the benchmarks")
+                .status(ProjectStatus.IN_PROGRESS)
+                .department(department)
+                .build();
+        project.getTeamMembers().add(user);
+        project.setCreatedAt(LocalDateTime.now());
+
+        for (int i = 0; i < taskCount; i++) {
+            project.getTasks().add(task(project, user, i));
+        }
+
+        return project;
+    }
+
+    public static List<Task> tasks(int taskCount) {
+        return new ArrayList<>(project(taskCount).getTasks());
+    }
+
+    public static AggregateCounts counts(Project project) {
+        List<TaskCountView> taskCounts = project.getTasks().stream()
+                .map(task -> new TaskCountView(task.getId(), 3L, 1L))
+                .toList();
+        ProjectCountView projectCount = new ProjectCountView(project.getId(),
+                (long) project.getTasks().size(), (long) project.getTasks().size() / 2);
+
+        return AggregateCounts.empty()
+                .withTaskCounts(taskCounts)
+                .withProjectCounts(List.of(projectCount));
+    }
+
+    private static Task task(Project project, User user, int index) {
+        Task task = Task.builder()
+                .id(UUID.randomUUID())
+                .title("Task " + index)
+                .userStory("As a user I want feature " + index + " so that the benchmark has realistic payloads")
+                .acceptanceCriteria("Feature " + index + " is implemented and covered by tests")
+                .state(TaskState.values()[index % TaskState.values().length])
+                .priority(TaskPriority.values()[index % TaskPriority.values().length])
+                .project(project)
+                .assignedUser(user)
+                .build();
+        task.setCreatedAt(LocalDateTime.now().minusMinutes(index));
+        task.setUpdatedAt(LocalDateTime.now());
+        return task;
+    }
+}
@@ -0,0 +1,128 @@
+package com.patikadev.definex.advancedtaskmanager.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+public class HttpLoadDriver {
+
+    private static final String DEFAULT_BASE_URL = "http://localhost:8080";
+    private static final String DEFAULT_PATH = "/api/projects";
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        String baseUrl = options.getOrDefault("base-url", DEFAULT_BASE_URL);
+        String token = options.get("token");
+        List<String> paths = List.of(options.getOrDefault("paths", DEFAULT_PATH).split(","));
+        int clients = Integer.parseInt(options.getOrDefault("clients", "2000"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "15")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60")));
+
+        if (token == null) {
+            throw new IllegalArgumentException("--token=<access token> is required");
+        }
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        List<HttpRequest> requests = paths.stream()
+                .map(path -> HttpRequest.newBuilder(URI.create(baseUrl + path.trim()))
+                        .header("Authorization", "Bearer " + token)
+                        .timeout(Duration.ofSeconds(30))
+                        .GET()
+                        .build())
+                .toList();
+
+        System.out.printf("Driving %d clients against %s %s (warmup %ds, measure %ds)%n",
+                clients, baseUrl, paths, warmup.toSeconds(), duration.toSeconds());
+        run(httpClient, requests, clients, warmup);
+        Result result = run(httpClient, requests, clients, duration);
+
+        double seconds = duration.toNanos() / 1_000_000_000.0;
+        System.out.printf("requests=%d errors=%d throughput=%.1f req/s p50=%.1fms p99=%.1fms max=%.1fms%n",
+                result.latencies().length, result.errors(), result.latencies().length / seconds,
+                percentile(result.latencies(), 0.50), percentile(result.latencies(), 0.99),
+                percentile(result.latencies(), 1.0));
+    }
+
+    private static Result run(HttpClient httpClient, List<HttpRequest> requests, int clients, Duration duration)
+            throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        LongAdder errors = new LongAdder();
+        List<Future<long[]>> futures = new ArrayList<>(clients);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int client = 0; client < clients; client++) {
+                int offset = client;
+                futures.add(executor.submit(() -> drive(httpClient, requests, offset, deadline, errors)));
+            }
+
+            long[][] perClient = new long[clients][];
+            for (int client = 0; client < clients; client++) {
+                perClient[client] = futures.get(client).get();
+            }
+
+            long[] latencies = Arrays.stream(perClient).flatMapToLong(Arrays::stream).sorted().toArray();
+            return new Result(latencies, errors.sum());
+        }
+    }
+
+    private static long[] drive(HttpClient httpClient, List<HttpRequest> requests, int offset, long deadline,
+                                LongAdder errors) {
+        long[] latencies = new long[256];
+        int count = 0;
+
+        for (int i = offset; System.nanoTime() < deadline; i++) {
+            HttpRequest request = requests.get(i % requests.size());
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() >= 400) {
+                    errors.increment();
+                    continue;
+                }
+            } catch (Exception ex) {
+                errors.increment();
+                continue;
+            }
+
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = System.nanoTime() - start;
+        }
+        return Arrays.copyOf(latencies, count);
+    }
+
+    private static double percentile(long[] sortedLatencies, double quantile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    private record Result(long[] latencies, long errors) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.patikadev.definex.advancedtaskmanager.benchmark;
+
+import com.patikadev.definex.advancedtaskmanager.mapper.ProjectMapper;
+import com.patikadev.definex.advancedtaskmanager.mapper.TaskMapper;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.AggregateCounts;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.project.ProjectDetailResponse;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.task.TaskResponse;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Project;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Task;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapperBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int fixtureSize;
+
+    private ConfigurableApplicationContext context;
+    private TaskMapper taskMapper;
+    private ProjectMapper projectMapper;
+    private Project project;
+    private List<Task> tasks;
+    private AggregateCounts counts;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        taskMapper = context.getBean(TaskMapper.class);
+        projectMapper = context.getBean(ProjectMapper.class);
+        project = BenchmarkFixtures.project(fixtureSize);
+        tasks = new ArrayList<>(project.getTasks());
+        counts = BenchmarkFixtures.counts(project);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskResponse> taskMapperToResponseList() {
+        return taskMapper.toResponseList(tasks, counts);
+    }
+
+    @Benchmark
+    public ProjectDetailResponse projectMapperToDetailResponse() {
+        return projectMapper.toDetailResponse(project, counts);
+    }
+}
@@ -0,0 +1,154 @@
+package com.patikadev.definex.advancedtaskmanager.benchmark;
+
+import com.patikadev.definex.advancedtaskmanager.model.entity.Department;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Project;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Task;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskPriority;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.LockModeType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class OptimisticLockingBenchmark {
+    private static final String BENCHMARK_USER = "benchmark";
+
+    public enum LockingStrategy {
+        OPTIMISTIC,
+        PESSIMISTIC
+    }
+
+    @Param({"OPTIMISTIC", "PESSIMISTIC"})
+    private LockingStrategy strategy;
+
+    @Param({"4"})
+    private int contendedTasks;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private List<UUID> taskIds;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EditOutcomes {
+        public long committed;
+        public long conflicts;
+        public long readMicros;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            committed = 0;
+            conflicts = 0;
+            readMicros = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(PersistenceConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run("--spring.datasource.url=jdbc:h2:mem:locking;DB_CLOSE_DELAY=-1;MODE=MySQL;LOCK_TIMEOUT=10000",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.hikari.maximum-pool-size=8",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect");
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        taskIds = transactionTemplate.execute(status -> seedTasks());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void parallelTaskEdit(EditOutcomes outcomes) {
+        UUID taskId = taskIds.get(ThreadLocalRandom.current().nextInt(taskIds.size()));
+        try {
+            transactionTemplate.executeWithoutResult(status -> editTask(taskId, outcomes));
+            outcomes.committed++;
+        } catch (ObjectOptimisticLockingFailureException ex) {
+            outcomes.conflicts++;
+        }
+    }
+
+    private void editTask(UUID taskId, EditOutcomes outcomes) {
+        long started = System.nanoTime();
+        Task task = strategy == LockingStrategy.PESSIMISTIC
+                ? entityManager.find(Task.class, taskId, LockModeType.PESSIMISTIC_WRITE)
+                : entityManager.find(Task.class, taskId);
+        outcomes.readMicros += TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started);
+
+        task.setStateChangeReason("Edited by " + Thread.currentThread().getName());
+        task.setUpdatedAt(LocalDateTime.now());
+    }
+
+    private List<UUID> seedTasks() {
+        LocalDateTime now = LocalDateTime.now();
+
+        Department department = Department.builder()
+                .name("Engineering")
+                .description("Benchmark department")
+                .build();
+        department.setCreatedAt(now);
+        entityManager.persist(department);
+
+        Project project = Project.builder()
+                .title("Locking benchmark")
+                .department(department)
+                .build();
+        project.setCreatedAt(now);
+        project.setCreatedBy(BENCHMARK_USER);
+        entityManager.persist(project);
+
+        List<UUID> ids = new ArrayList<>(contendedTasks);
+        for (int i = 0; i < contendedTasks; i++) {
+            Task task = Task.builder()
+                    .title("Contended task " + i)
+                    .userStory("As a benchmark I want parallel edits")
+                    .acceptanceCriteria("Edits either commit or conflict")
+                    .priority(TaskPriority.MEDIUM)
+                    .project(project)
+                    .build();
+            task.setCreatedAt(now);
+            task.setCreatedBy(BENCHMARK_USER);
+            entityManager.persist(task);
+            ids.add(task.getId());
+        }
+        return ids;
+    }
+
+    @Configuration
+    @EntityScan(basePackageClasses = Task.class)
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class})
+    static class PersistenceConfiguration {
+    }
+}
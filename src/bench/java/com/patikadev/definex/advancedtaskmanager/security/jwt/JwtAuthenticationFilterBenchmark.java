@@ -0,0 +1,55 @@
+package com.patikadev.definex.advancedtaskmanager.security.jwt;
+
+import com.patikadev.definex.advancedtaskmanager.benchmark.BenchmarkFixtures;
+import com.patikadev.definex.advancedtaskmanager.config.ApplicationProperties;
+import com.patikadev.definex.advancedtaskmanager.constant.SecurityConstants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"false", "true"})
+    private boolean cacheEnabled;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        ApplicationProperties applicationProperties = BenchmarkFixtures.applicationProperties(cacheEnabled);
+
+        TokenRevocationRegistry tokenRevocationRegistry = new TokenRevocationRegistry(applicationProperties);
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(applicationProperties, tokenRevocationRegistry);
+        VerifiedTokenCache verifiedTokenCache =
+                new VerifiedTokenCache(applicationProperties, tokenProvider, new SimpleMeterRegistry());
+        filter = new JwtAuthenticationFilter(tokenProvider, verifiedTokenCache, new SimpleMeterRegistry());
+
+        String token = tokenProvider.generateTokenFromUsername(BenchmarkFixtures.BENCHMARK_EMAIL, UUID.randomUUID(), 1L,
+                List.of(new SimpleGrantedAuthority(SecurityConstants.ROLE_PREFIX + "TEAM_MEMBER")));
+
+        request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.addHeader(SecurityConstants.HEADER_STRING, SecurityConstants.TOKEN_PREFIX + token);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void authenticateRequest(Blackhole blackhole) throws Exception {
+        filter.doFilterInternal(request, response, new MockFilterChain());
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,63 @@
+package com.patikadev.definex.advancedtaskmanager.security.jwt;
+
+import com.patikadev.definex.advancedtaskmanager.benchmark.BenchmarkFixtures;
+import com.patikadev.definex.advancedtaskmanager.config.ApplicationProperties;
+import com.patikadev.definex.advancedtaskmanager.constant.SecurityConstants;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    @Param({"1", "4"})
+    private int authorityCount;
+
+    private JwtTokenProvider tokenProvider;
+    private UUID userId;
+    private List<GrantedAuthority> authorities;
+    private String token;
+    private Claims claims;
+
+    @Setup
+    public void setUp() {
+        ApplicationProperties applicationProperties = BenchmarkFixtures.applicationProperties(false);
+        tokenProvider = new JwtTokenProvider(applicationProperties, new TokenRevocationRegistry(applicationProperties));
+        userId = UUID.randomUUID();
+        authorities = IntStream.range(0, authorityCount)
+                .<GrantedAuthority>mapToObj(i -> new SimpleGrantedAuthority(SecurityConstants.ROLE_PREFIX + "BENCH_" + i))
+                .toList();
+        token = tokenProvider.generateTokenFromUsername(BenchmarkFixtures.BENCHMARK_EMAIL, userId, 1L, authorities);
+        claims = tokenProvider.getValidatedClaims(token).orElseThrow();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateTokenFromUsername(BenchmarkFixtures.BENCHMARK_EMAIL, userId, 1L, authorities);
+    }
+
+    @Benchmark
+    public Optional<Claims> validateToken() {
+        return tokenProvider.getValidatedClaims(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthenticationFromClaims() {
+        return tokenProvider.getAuthentication(token, claims);
+    }
+
+    @Benchmark
+    public Authentication getAuthenticationFromToken() {
+        return tokenProvider.getAuthentication(token);
+    }
+}
@@ -0,0 +1,42 @@
+package com.patikadev.definex.advancedtaskmanager.service.impl;
+
+import com.patikadev.definex.advancedtaskmanager.benchmark.BenchmarkFixtures;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskStateTransitionBenchmark {
+
+    private TaskServiceImpl taskService;
+    private TaskState[] states;
+
+    @Setup
+    public void setUp() {
+        taskService = BenchmarkFixtures.taskService();
+        states = TaskState.values();
+    }
+
+    @Benchmark
+    public void validAndInvalidTransitions(Blackhole blackhole) {
+        for (TaskState currentState : states) {
+            for (TaskState newState : states) {
+                try {
+                    taskService.validateStateTransition(currentState, newState, "Benchmark reason");
+                    blackhole.consume(true);
+                } catch (RuntimeException e) {
+                    blackhole.consume(e);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void allowedTransition() {
+        taskService.validateStateTransition(TaskState.IN_PROGRESS, TaskState.COMPLETED, null);
+    }
+}
@@ -12,6 +12,15 @@ import org.springframework.context.annotation.Configuration;
 public class ApplicationProperties {
     private Security security = new Security();
     private File file = new File();
+    private Pagination pagination = new Pagination();
+    private HistoryWriter historyWriter = new HistoryWriter();
+    private DomainEvents domainEvents = new DomainEvents();
+    private TaskImport taskImport = new TaskImport();
+    private FlowAnalytics flowAnalytics = new FlowAnalytics();
+    private Search search = new Search();
+    private ReferenceCache referenceCache = new ReferenceCache();
+    private TaskFeed taskFeed = new TaskFeed();
+    private Sync sync = new Sync();
 
     @Getter
     @Setter
@@ -21,6 +30,14 @@ public class ApplicationProperties {
         private long tokenRefreshExpirationMs;
         private String jwtIssuer;
         private String jwtAudience;
+        private TokenCache tokenCache = new TokenCache();
+    }
+
+    @Getter
+    @Setter
+    public static class TokenCache {
+        private boolean enabled = false;
+        private long maximumSize = 10000;
     }
 
     @Getter
@@ -30,5 +47,105 @@ public class ApplicationProperties {
         private String taskAttachmentsDir;
         private String tempDir;
         private long maxFileSize;
+        private BlobCollector blobCollector = new BlobCollector();
+        private ChunkedUpload chunkedUpload = new ChunkedUpload();
+    }
+
+    @Getter
+    @Setter
+    public static class ChunkedUpload {
+        private long maxFileSize = 1073741824;
+        private long maxChunkSize = 8388608;
+        private long sessionExpirationMs = 86400000;
+        private long cleanupIntervalMs = 3600000;
+    }
+
+    @Getter
+    @Setter
+    public static class BlobCollector {
+        private long intervalMs = 300000;
+        private long gracePeriodMs = 600000;
+    }
+
+    @Getter
+    @Setter
+    public static class Pagination {
+        private int defaultPageSize = 20;
+        private int maxPageSize = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class HistoryWriter {
+        private int queueCapacity = 10000;
+        private int batchSize = 500;
+        private long pollTimeoutMs = 200;
+        private long relayIntervalMs = 5000;
+        private long relayDelayMs = 10000;
+    }
+
+    @Getter
+    @Setter
+    public static class DomainEvents {
+        private int batchSize = 200;
+        private long pollIntervalMs = 1000;
+        private int maxAttempts = 10;
+        private long retryBackoffMs = 1000;
+        private long maxRetryBackoffMs = 300000;
+        private long claimLeaseMs = 60000;
+    }
+
+    @Getter
+    @Setter
+    public static class TaskImport {
+        private int batchSize = 500;
+        private int maxReportedErrors = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class FlowAnalytics {
+        private int batchSize = 1000;
+        private long rollupIntervalMs = 60000;
+        private long settleDelayMs = 60000;
+        private int defaultRangeWeeks = 12;
+    }
+
+    @Getter
+    @Setter
+    public static class Search {
+        private String indexDir;
+        private boolean rebuildOnStartup = true;
+        private long refreshIntervalMs = 1000;
+        private int batchSize = 1000;
+        private int defaultLimit = 20;
+        private int maxLimit = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class ReferenceCache {
+        private boolean enabled = true;
+        private long maximumSize = 10000;
+        private long expireAfterWriteMs = 600000;
+    }
+
+    @Getter
+    @Setter
+    public static class TaskFeed {
+        private int bufferSize = 4096;
+        private long emitterTimeoutMs = 1800000;
+        private long heartbeatIntervalMs = 15000;
+        private int dispatchQueueCapacity = 10000;
+        private int subscriberQueueCapacity = 256;
+        private long sendTimeoutMs = 10000;
+    }
+
+    @Getter
+    @Setter
+    public static class Sync {
+        private int defaultLimit = 200;
+        private int maxLimit = 1000;
+        private long settleDelayMs = 5000;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,29 @@
+package com.patikadev.definex.advancedtaskmanager.config;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadFactory;
+
+@Component
+public class BackgroundThreads {
+
+    private final boolean virtual;
+
+    public BackgroundThreads(Environment environment) {
+        this.virtual = Threading.VIRTUAL.isActive(environment);
+    }
+
+    public Thread start(String name, Runnable task) {
+        return builder().name(name).start(task);
+    }
+
+    public ThreadFactory factory(String namePrefix) {
+        return builder().name(namePrefix, 0).factory();
+    }
+
+    private Thread.Builder builder() {
+        return virtual ? Thread.ofVirtual() : Thread.ofPlatform().daemon(true);
+    }
+}
@@ -0,0 +1,32 @@
+package com.patikadev.definex.advancedtaskmanager.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.patikadev.definex.advancedtaskmanager.constant.CacheNames;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(ApplicationProperties applicationProperties) {
+        ApplicationProperties.ReferenceCache properties = applicationProperties.getReferenceCache();
+        if (!properties.isEnabled()) {
+            return new NoOpCacheManager();
+        }
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
+                CacheNames.ROLES, CacheNames.DEPARTMENTS, CacheNames.USER_IDENTITIES);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(Duration.ofMillis(properties.getExpireAfterWriteMs()))
+                .recordStats());
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+}
@@ -0,0 +1,49 @@
+package com.patikadev.definex.advancedtaskmanager.config;
+
+import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
+import com.patikadev.definex.advancedtaskmanager.constant.PaginationConstants;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPageRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+@Component
+@RequiredArgsConstructor
+public class CursorPageRequestArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final ApplicationProperties applicationProperties;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return CursorPageRequest.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public CursorPageRequest resolveArgument(@NonNull MethodParameter parameter,
+                                             ModelAndViewContainer mavContainer,
+                                             @NonNull NativeWebRequest webRequest,
+                                             WebDataBinderFactory binderFactory) {
+        String cursor = webRequest.getParameter(PaginationConstants.CURSOR_PARAM);
+        Integer size = parseSize(webRequest.getParameter(PaginationConstants.SIZE_PARAM));
+
+        return CursorPageRequest.of(cursor, size, applicationProperties.getPagination());
+    }
+
+    private Integer parseSize(String size) {
+        if (!StringUtils.hasText(size)) {
+            return null;
+        }
+
+        try {
+            return Integer.valueOf(size);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_PAGE_SIZE);
+        }
+    }
+}
@@ -4,7 +4,9 @@ import com.patikadev.definex.advancedtaskmanager.constant.SecurityConstants;
 import com.patikadev.definex.advancedtaskmanager.security.jwt.JwtAccessDeniedHandler;
 import com.patikadev.definex.advancedtaskmanager.security.jwt.JwtAuthenticationEntryPoint;
 import com.patikadev.definex.advancedtaskmanager.security.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -72,7 +74,9 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(SecurityConstants.PUBLIC_URLS).permitAll()
+                        .requestMatchers(EndpointRequest.to(SecurityConstants.PUBLIC_ACTUATOR_ENDPOINTS)).permitAll()
                         .anyRequest().authenticated()
                 );
 
@@ -0,0 +1,40 @@
+package com.patikadev.definex.advancedtaskmanager.config;
+
+import com.patikadev.definex.advancedtaskmanager.constant.MetricConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.patikadev.definex.advancedtaskmanager.service.impl.*ServiceImpl.*(..))")
+    public Object timeServiceMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = MetricConstants.OUTCOME_SUCCESS;
+        String exception = MetricConstants.EXCEPTION_NONE;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            outcome = MetricConstants.OUTCOME_ERROR;
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(MetricConstants.SERVICE_METHOD)
+                    .tag(MetricConstants.TAG_CLASS, joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag(MetricConstants.TAG_METHOD, joinPoint.getSignature().getName())
+                    .tag(MetricConstants.TAG_OUTCOME, outcome)
+                    .tag(MetricConstants.TAG_EXCEPTION, exception)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.patikadev.definex.advancedtaskmanager.constant;
+
+public final class CacheNames {
+    private CacheNames() {
+        throw new IllegalStateException("Constant class");
+    }
+
+    public static final String ROLES = "roles";
+    public static final String DEPARTMENTS = "departments";
+    public static final String USER_IDENTITIES = "userIdentities";
+}
@@ -12,6 +12,13 @@ public final class ErrorMessages {
     public static final String RESOURCE_NOT_FOUND = "%s not found";
     public static final String INVALID_STATE_TRANSITION = "Invalid state transition from %s to %s";
     public static final String UNAUTHORIZED = "Unauthorized access";
+    public static final String INVALID_PAGE_CURSOR = "Invalid page cursor";
+    public static final String INVALID_SYNC_WATERMARK = "Invalid sync watermark";
+    public static final String INVALID_PAGE_SIZE = "Page size must be a positive number";
+    public static final String INVALID_IF_MATCH = "Invalid If-Match header: %s";
+    public static final String CONCURRENT_MODIFICATION = "The resource was modified by another request. Please reload it and try again";
+    public static final String DOMAIN_EVENT_SERIALIZATION_FAILED = "Could not serialize %s domain event";
+    public static final String DOMAIN_EVENT_DESERIALIZATION_FAILED = "Could not deserialize domain event outbox entry %d";
 
     public static final String INVALID_CREDENTIALS = "Invalid email or password";
     public static final String INVALID_TOKEN = "Invalid token";
@@ -24,6 +31,12 @@ public final class ErrorMessages {
     public static final String FILE_TYPE_NOT_ALLOWED = "File type not allowed: %s";
     public static final String FILE_STORAGE_ERROR = "Could not store file %s";
     public static final String MAX_UPLOAD_SIZE_EXCEEDED = "File size exceeds the maximum allowed size";
+    public static final String UPLOAD_SIZE_EXCEEDED = "File size %d exceeds the maximum allowed size of %d bytes";
+    public static final String UPLOAD_SESSION_NOT_FOUND = "Upload session with ID %s not found";
+    public static final String UPLOAD_SESSION_BUSY = "Upload session with ID %s is already receiving a chunk";
+    public static final String UPLOAD_OFFSET_MISMATCH = "Chunk offset %d does not match the %d bytes received so far";
+    public static final String UPLOAD_CHUNK_TOO_LARGE = "Chunk exceeds the %d bytes accepted at this offset";
+    public static final String UPLOAD_SESSION_INCOMPLETE = "Upload session with ID %s has received %d of %d bytes";
 
     public static final String DUPLICATE_EMAIL = "Email already exists";
     public static final String INVALID_PASSWORD_MATCH = "New password and confirmation do not match";
@@ -44,6 +57,9 @@ public final class ErrorMessages {
     public static final String TASK_STATE_CANNOT_BE_CHANGED = "Task in %s state cannot be changed";
     public static final String ATTACHMENT_NOT_FOUND = "Attachment with ID %s not found";
     public static final String COMMENT_NOT_FOUND = "Comment with ID %s not found";
+    public static final String DEPARTMENT_VERSION_CONFLICT = "Department with ID %s has been modified: expected version %d but current version is %d";
+    public static final String PROJECT_VERSION_CONFLICT = "Project with ID %s has been modified: expected version %d but current version is %d";
+    public static final String TASK_VERSION_CONFLICT = "Task with ID %s has been modified: expected version %d but current version is %d";
 
     public static final String UNAUTHORIZED_DEPARTMENT_ACCESS = "Project Manager can only manage projects in their own department";
     public static final String UNAUTHORIZED_PROJECT_CREATE = "Project Manager cannot create project for department with ID %s";
@@ -51,6 +67,19 @@ public final class ErrorMessages {
 
     public static final String UNAUTHORIZED_TASK_ACCESS = "You can only access tasks from projects in your department";
     public static final String UNAUTHORIZED_TASK_CREATE = "You can only create tasks for projects in your department";
+    public static final String DATA_FORMAT_UNSUPPORTED = "Unsupported data format: %s";
+    public static final String TASK_IMPORT_READ_ERROR = "Task import could not be read";
+    public static final String TASK_IMPORT_HEADER_MISSING = "CSV task import must start with a header row";
+    public static final String TASK_IMPORT_UNKNOWN_COLUMN = "Unknown CSV task import column: %s";
+    public static final String TASK_IMPORT_COLUMN_COUNT = "Row has %d columns but the header declares %d";
+    public static final String TASK_IMPORT_UNTERMINATED_QUOTE = "Quoted field is not terminated";
+    public static final String TASK_IMPORT_MALFORMED_ROW = "Row could not be parsed: %s";
+    public static final String TASK_IMPORT_ROW_SAVE_FAILED = "Row could not be saved";
+    public static final String EXPORT_WRITE_ERROR = "Export could not be written";
+    public static final String SEARCH_INDEX_ERROR = "Task search index could not be accessed";
+    public static final String SEARCH_QUERY_REQUIRED = "Search query must not be blank";
+    public static final String FLOW_METRICS_INVALID_RANGE = "Flow metrics range start %s must not be after its end %s";
+    public static final String UNAUTHORIZED_FLOW_METRICS_ACCESS = "You can only view flow metrics for your own department";
     public static final String UNAUTHORIZED_TASK_UPDATE = "You can only update tasks from projects in your department";
     public static final String UNAUTHORIZED_TASK_DELETE = "You can only delete tasks from projects in your department";
     public static final String UNAUTHORIZED_TASK_ASSIGNMENT = "You can only assign tasks from projects in your department";
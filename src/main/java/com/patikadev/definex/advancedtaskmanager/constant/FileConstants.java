@@ -14,4 +14,23 @@ public final class FileConstants {
 
     public static final String BASE_UPLOAD_DIR = "uploads";
     public static final String TASK_ATTACHMENTS_DIR = "task-attachments";
+    public static final String BASE_TEMP_DIR = "temp";
+    public static final String BLOB_STORE_DIR = "blobs";
+    public static final int BLOB_SHARD_PREFIX_LENGTH = 2;
+    public static final String STAGING_FILE_SUFFIX = ".part";
+    public static final String UPLOAD_SESSIONS_DIR = "upload-sessions";
+    public static final int BLOB_COLLECTOR_BATCH_SIZE = 100;
+
+    public static final String CONTENT_HASH_ALGORITHM = "SHA-256";
+    public static final int CONTENT_HASH_LENGTH = 64;
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    public static final String BYTE_RANGE_UNIT = "bytes";
+    public static final String ATTACHMENT_CACHE_CONTROL = "private, no-cache";
+
+    public static final String SENDFILE_SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+    public static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+    public static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+    public static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+    public static final long SENDFILE_MIN_SIZE = 48 * 1024;
+    public static final int STREAM_BUFFER_SIZE = 64 * 1024;
 } 
\ No newline at end of file
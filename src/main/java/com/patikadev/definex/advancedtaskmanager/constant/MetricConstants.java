@@ -0,0 +1,36 @@
+package com.patikadev.definex.advancedtaskmanager.constant;
+
+public final class MetricConstants {
+    private MetricConstants() {
+        throw new IllegalStateException("Constant class");
+    }
+
+    public static final String TASK_STATE_HISTORY_QUEUE_DEPTH = "task.state.history.queue.depth";
+    public static final String TASK_STATE_HISTORY_QUEUE_OVERFLOW = "task.state.history.queue.overflow";
+    public static final String TASK_STATE_HISTORY_FLUSH = "task.state.history.flush";
+    public static final String TASK_STATE_HISTORY_DEAD_LETTERED = "task.state.history.dead.lettered";
+    public static final String DOMAIN_EVENT_DISPATCH = "domain.event.dispatch";
+    public static final String DOMAIN_EVENT_DELIVERED = "domain.event.delivered";
+    public static final String DOMAIN_EVENT_RETRIED = "domain.event.retried";
+    public static final String DOMAIN_EVENT_DEAD_LETTERED = "domain.event.dead.lettered";
+    public static final String SERVICE_METHOD = "service.method";
+    public static final String JWT_VALIDATION = "jwt.validation";
+    public static final String ATTACHMENT_BYTES = "attachment.bytes";
+    public static final String TASK_FEED_SUBSCRIBERS = "task.feed.subscribers";
+    public static final String TASK_FEED_SUBSCRIBERS_DROPPED = "task.feed.subscribers.dropped";
+
+    public static final String TAG_CLASS = "class";
+    public static final String TAG_METHOD = "method";
+    public static final String TAG_OUTCOME = "outcome";
+    public static final String TAG_EXCEPTION = "exception";
+    public static final String TAG_DIRECTION = "direction";
+    public static final String TAG_EVENT_TYPE = "type";
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_ERROR = "error";
+    public static final String OUTCOME_CACHED = "cached";
+    public static final String OUTCOME_REJECTED = "rejected";
+    public static final String EXCEPTION_NONE = "none";
+    public static final String DIRECTION_IN = "in";
+    public static final String DIRECTION_OUT = "out";
+}
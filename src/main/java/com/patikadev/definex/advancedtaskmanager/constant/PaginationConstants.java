@@ -0,0 +1,13 @@
+package com.patikadev.definex.advancedtaskmanager.constant;
+
+public final class PaginationConstants {
+    private PaginationConstants() {
+        throw new IllegalStateException("Constant class");
+    }
+
+    public static final String CURSOR_PARAM = "cursor";
+    public static final String SIZE_PARAM = "size";
+    public static final String CURSOR_SEPARATOR = "|";
+    public static final String WATERMARK_SEPARATOR = ".";
+    public static final String EXPORT_FETCH_SIZE = "1000";
+}
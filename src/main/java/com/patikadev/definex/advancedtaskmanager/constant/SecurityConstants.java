@@ -8,17 +8,27 @@ public final class SecurityConstants {
     public static final String TOKEN_PREFIX = "Bearer ";
     public static final String HEADER_STRING = "Authorization";
     public static final String JWT_AUTHORITIES_KEY = "authorities";
+    public static final String JWT_USER_ID_KEY = "userId";
+    public static final String JWT_DEPARTMENT_ID_KEY = "departmentId";
+    public static final String JWT_TOKEN_VERSION_KEY = "tokenVersion";
+    public static final String ROLE_PREFIX = "ROLE_";
+    public static final String VERIFIED_TOKEN_CACHE_NAME = "jwt.verified-tokens";
     public static final int MIN_PASSWORD_LENGTH = 8;
     public static final String[] PUBLIC_URLS = {
             "/api/auth/register",
             "/api/auth/login",
             "/api/auth/refresh-token"
     };
+    public static final String[] PUBLIC_ACTUATOR_ENDPOINTS = {
+            "health",
+            "prometheus"
+    };
 
     public static final String INVALID_JWT_SIGNATURE = "Invalid JWT signature";
     public static final String INVALID_JWT_TOKEN = "Invalid JWT token";
     public static final String EXPIRED_JWT_TOKEN = "Expired JWT token";
     public static final String UNSUPPORTED_JWT_TOKEN = "Unsupported JWT token";
     public static final String EMPTY_JWT_CLAIMS = "JWT claims string is empty";
+    public static final String REVOKED_JWT_TOKEN = "Revoked JWT token";
     public static final String AUTH_CONTEXT_ERROR = "Could not set user authentication in security context";
 } 
\ No newline at end of file
@@ -36,11 +36,17 @@ public final class SuccessMessages {
     public static final String TASK_DELETED = "Task deleted successfully";
     public static final String TASKS_FETCHED = "Tasks fetched successfully";
     public static final String TASK_STATE_UPDATED = "Task state updated successfully";
+    public static final String TASK_STATES_BULK_UPDATED = "Bulk task state update processed";
+    public static final String TASKS_IMPORTED = "Task import processed";
     public static final String TASK_ASSIGNED = "Task assigned successfully";
     public static final String TASK_UNASSIGNED = "Task unassigned successfully";
 
     public static final String TASK_STATE_HISTORY_FETCHED = "Task state history fetched successfully";
     public static final String TASK_STATE_HISTORIES_FETCHED = "Task state histories fetched successfully";
+    public static final String TASK_FLOW_METRICS_FETCHED = "Task flow metrics fetched successfully";
+    public static final String TASK_SEARCH_COMPLETED = "Task search completed successfully";
+    public static final String TASK_SEARCH_INDEX_REBUILT = "Task search index rebuilt successfully";
+    public static final String SYNC_CHANGES_RETRIEVED = "Changes retrieved successfully";
 
     public static final String COMMENT_CREATED = "Comment created successfully";
     public static final String COMMENT_UPDATED = "Comment updated successfully";
@@ -50,4 +56,8 @@ public final class SuccessMessages {
     public static final String ATTACHMENT_UPLOADED = "Attachment uploaded successfully";
     public static final String ATTACHMENT_DELETED = "Attachment deleted successfully";
     public static final String ATTACHMENTS_FETCHED = "Attachments fetched successfully";
+    public static final String UPLOAD_SESSION_CREATED = "Upload session created successfully";
+    public static final String UPLOAD_SESSION_FETCHED = "Upload session fetched successfully";
+    public static final String UPLOAD_CHUNK_RECEIVED = "Upload chunk received successfully";
+    public static final String UPLOAD_SESSION_ABORTED = "Upload session aborted successfully";
 } 
\ No newline at end of file
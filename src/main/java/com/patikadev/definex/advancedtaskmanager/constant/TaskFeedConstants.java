@@ -0,0 +1,11 @@
+package com.patikadev.definex.advancedtaskmanager.constant;
+
+public final class TaskFeedConstants {
+    private TaskFeedConstants() {
+        throw new IllegalStateException("Constant class");
+    }
+
+    public static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+    public static final String RESET_EVENT = "reset";
+    public static final String HEARTBEAT_COMMENT = "heartbeat";
+}
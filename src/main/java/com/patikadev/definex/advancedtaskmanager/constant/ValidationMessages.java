@@ -41,6 +41,9 @@ public final class ValidationMessages {
     public static final String TASK_PROJECT = "Task must be assigned to a project";
     public static final String TASK_STATE = "Task state must be specified";
     public static final String TASK_PRIORITY = "Task priority must be specified";
+    public static final String BULK_TASK_IDS_NOT_EMPTY = "At least one task ID must be specified";
+    public static final String BULK_TASK_IDS_MAX_SIZE = "A bulk state update cannot exceed 500 tasks";
+    public static final String TASK_SEARCH_TEXT_MAX_SIZE = "Task search text cannot exceed 100 characters";
 
     public static final String COMMENT_CONTENT_NOT_BLANK = "Comment content cannot be empty";
     public static final String COMMENT_TASK = "Comment must be associated with a task";
@@ -52,4 +55,6 @@ public final class ValidationMessages {
     public static final String FILE_PATH = "File path cannot be empty";
     public static final String FILE_UPLOADER = "Attachment must have an uploader";
     public static final String FILE_TASK = "Attachment must be associated with a task";
+    public static final String CONTENT_TYPE_NOT_BLANK = "Content type cannot be empty";
+    public static final String FILE_SIZE_POSITIVE = "File size must be a positive number";
 } 
\ No newline at end of file
@@ -1,21 +1,27 @@
 package com.patikadev.definex.advancedtaskmanager.controller;
 
 import com.patikadev.definex.advancedtaskmanager.constant.SuccessMessages;
+import com.patikadev.definex.advancedtaskmanager.controller.support.AttachmentContentWriter;
 import com.patikadev.definex.advancedtaskmanager.model.dto.common.ApiResponse;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.attachment.CreateAttachmentRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.request.attachment.CreateUploadSessionRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.attachment.AttachmentDownload;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.attachment.AttachmentResponse;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.attachment.UploadSessionResponse;
 import com.patikadev.definex.advancedtaskmanager.service.AttachmentService;
+import com.patikadev.definex.advancedtaskmanager.service.UploadSessionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 
@@ -26,6 +32,8 @@ import java.util.UUID;
 public class AttachmentController {
 
     private final AttachmentService attachmentService;
+    private final UploadSessionService uploadSessionService;
+    private final AttachmentContentWriter attachmentContentWriter;
 
     @PostMapping("/upload")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
@@ -38,18 +46,63 @@ public class AttachmentController {
         return ResponseEntity.ok(ApiResponse.created(SuccessMessages.ATTACHMENT_UPLOADED, response));
     }
 
+    @PostMapping("/uploads")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> createUploadSession(
+            @Valid @RequestBody CreateUploadSessionRequest request) {
+        log.info("Request received to create upload session for file {} on task ID: {}", request.getFileName(), request.getTaskId());
+        UploadSessionResponse response = uploadSessionService.createUploadSession(request);
+        log.info("Upload session created successfully with ID: {}", response.getId());
+        return ResponseEntity.ok(ApiResponse.created(SuccessMessages.UPLOAD_SESSION_CREATED, response));
+    }
+
+    @GetMapping("/uploads/{sessionId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> getUploadSession(@PathVariable UUID sessionId) {
+        log.info("Request received to get upload session with ID: {}", sessionId);
+        UploadSessionResponse response = uploadSessionService.getUploadSession(sessionId);
+        log.info("Upload session {} has received {} bytes", sessionId, response.getReceivedBytes());
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.UPLOAD_SESSION_FETCHED, response));
+    }
+
+    @PutMapping(value = "/uploads/{sessionId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> uploadChunk(
+            @PathVariable UUID sessionId,
+            @RequestParam long offset,
+            HttpServletRequest request) throws IOException {
+        log.info("Request received to upload chunk at offset {} for upload session ID: {}", offset, sessionId);
+        UploadSessionResponse response = uploadSessionService.appendChunk(sessionId, offset, request.getInputStream());
+        log.info("Upload session {} has received {} bytes", sessionId, response.getReceivedBytes());
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.UPLOAD_CHUNK_RECEIVED, response));
+    }
+
+    @PostMapping("/uploads/{sessionId}/commit")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
+    public ResponseEntity<ApiResponse<AttachmentResponse>> commitUploadSession(@PathVariable UUID sessionId) {
+        log.info("Request received to commit upload session with ID: {}", sessionId);
+        AttachmentResponse response = uploadSessionService.commitUploadSession(sessionId);
+        log.info("Upload session {} committed as attachment ID: {}", sessionId, response.getId());
+        return ResponseEntity.ok(ApiResponse.created(SuccessMessages.ATTACHMENT_UPLOADED, response));
+    }
+
+    @DeleteMapping("/uploads/{sessionId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
+    public ResponseEntity<ApiResponse<Void>> abortUploadSession(@PathVariable UUID sessionId) {
+        log.info("Request received to abort upload session with ID: {}", sessionId);
+        uploadSessionService.abortUploadSession(sessionId);
+        log.info("Upload session aborted successfully with ID: {}", sessionId);
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.UPLOAD_SESSION_ABORTED));
+    }
+
     @GetMapping("/download/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
-    public ResponseEntity<Resource> downloadFile(@PathVariable Long id) {
+    public void downloadFile(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
         log.info("Request received to download file with ID: {}", id);
-        Resource resource = attachmentService.downloadFile(id);
-        AttachmentResponse attachment = attachmentService.getAttachmentById(id);
-        log.info("File downloaded successfully: {}", attachment.getFileName());
-
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(attachment.getContentType()))
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + attachment.getFileName() + "\"")
-                .body(resource);
+        AttachmentDownload download = attachmentService.downloadFile(id);
+        attachmentContentWriter.write(download, request, response);
+        log.info("File downloaded successfully: {}", download.getFileName());
     }
 
     @GetMapping("/{id}")
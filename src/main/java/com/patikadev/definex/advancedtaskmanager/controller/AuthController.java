@@ -43,7 +43,7 @@ public class AuthController {
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<UserResponse>> getCurrentUser() {
         log.info("Request received to get current user information");
-        UserResponse userResponse = authService.getCurrentUser();
+        UserResponse userResponse = authService.getCurrentUserProfile();
         log.info("Current user information retrieved for user ID: {}", userResponse.getId());
         return ResponseEntity.ok(ApiResponse.success(SuccessMessages.USER_FETCHED, userResponse));
     }
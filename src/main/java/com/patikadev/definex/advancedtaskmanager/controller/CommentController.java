@@ -2,6 +2,8 @@ package com.patikadev.definex.advancedtaskmanager.controller;
 
 import com.patikadev.definex.advancedtaskmanager.constant.SuccessMessages;
 import com.patikadev.definex.advancedtaskmanager.model.dto.common.ApiResponse;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPage;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPageRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.comment.CreateCommentRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.comment.UpdateCommentRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.comment.CommentResponse;
@@ -55,20 +57,20 @@ public class CommentController {
 
     @GetMapping("/task/{taskId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
-    public ResponseEntity<ApiResponse<List<CommentResponse>>> getCommentsByTaskId(@PathVariable UUID taskId) {
+    public ResponseEntity<ApiResponse<List<CommentResponse>>> getCommentsByTaskId(@PathVariable UUID taskId, CursorPageRequest pageRequest) {
         log.info("Request received to get comments for task ID: {}", taskId);
-        List<CommentResponse> responses = commentService.getCommentsByTaskId(taskId);
-        log.info("Retrieved {} comments for task ID: {}", responses.size(), taskId);
-        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.COMMENTS_FETCHED, responses));
+        CursorPage<CommentResponse> page = commentService.getCommentsByTaskId(taskId, pageRequest);
+        log.info("Retrieved {} comments for task ID: {}", page.getContent().size(), taskId);
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.COMMENTS_FETCHED, page));
     }
 
     @GetMapping("/user/{userId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER')")
-    public ResponseEntity<ApiResponse<List<CommentResponse>>> getCommentsByUserId(@PathVariable UUID userId) {
+    public ResponseEntity<ApiResponse<List<CommentResponse>>> getCommentsByUserId(@PathVariable UUID userId, CursorPageRequest pageRequest) {
         log.info("Request received to get comments by user ID: {}", userId);
-        List<CommentResponse> responses = commentService.getCommentsByUserId(userId);
-        log.info("Retrieved {} comments for user ID: {}", responses.size(), userId);
-        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.COMMENTS_FETCHED, responses));
+        CursorPage<CommentResponse> page = commentService.getCommentsByUserId(userId, pageRequest);
+        log.info("Retrieved {} comments for user ID: {}", page.getContent().size(), userId);
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.COMMENTS_FETCHED, page));
     }
 
     @DeleteMapping("/{id}")
@@ -2,6 +2,7 @@ package com.patikadev.definex.advancedtaskmanager.controller;
 
 import com.patikadev.definex.advancedtaskmanager.constant.SuccessMessages;
 import com.patikadev.definex.advancedtaskmanager.model.dto.common.ApiResponse;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.ResourceVersion;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.department.CreateDepartmentRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.department.UpdateDepartmentRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.department.DepartmentResponse;
@@ -10,9 +11,13 @@ import com.patikadev.definex.advancedtaskmanager.service.DepartmentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -37,20 +42,30 @@ public class DepartmentController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<DepartmentResponse>> updateDepartment(
             @PathVariable Long id,
-            @Valid @RequestBody UpdateDepartmentRequest request) {
+            @Valid @RequestBody UpdateDepartmentRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Request received to update department with ID: {}", id);
-        DepartmentResponse departmentResponse = departmentService.updateDepartment(id, request);
+        DepartmentResponse departmentResponse = departmentService.updateDepartment(id, request, ResourceVersion.parseVersion(ifMatch));
         log.info("Department updated successfully with ID: {}", id);
         return ResponseEntity.ok(ApiResponse.success(SuccessMessages.DEPARTMENT_UPDATED, departmentResponse));
     }
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER')")
-    public ResponseEntity<ApiResponse<DepartmentDetailResponse>> getDepartmentById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<DepartmentDetailResponse>> getDepartmentById(@PathVariable Long id, WebRequest webRequest) {
         log.info("Request received to get department details for ID: {}", id);
+        String etag = departmentService.getDepartmentDetailVersion(id).getEtag();
+        if (webRequest.checkNotModified(etag)) {
+            log.info("Department details not modified for ID: {}", id);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
         DepartmentDetailResponse departmentResponse = departmentService.getDepartmentById(id);
         log.info("Department details retrieved successfully for ID: {}", id);
-        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.DEPARTMENTS_FETCHED, departmentResponse));
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.success(SuccessMessages.DEPARTMENTS_FETCHED, departmentResponse));
     }
 
     @GetMapping("/by-name/{name}")
@@ -2,6 +2,9 @@ package com.patikadev.definex.advancedtaskmanager.controller;
 
 import com.patikadev.definex.advancedtaskmanager.constant.SuccessMessages;
 import com.patikadev.definex.advancedtaskmanager.model.dto.common.ApiResponse;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPage;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPageRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.ResourceVersion;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.project.CreateProjectRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.project.UpdateProjectRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.project.UpdateProjectStatusRequest;
@@ -12,9 +15,13 @@ import com.patikadev.definex.advancedtaskmanager.service.ProjectService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -40,65 +47,76 @@ public class ProjectController {
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER')")
     public ResponseEntity<ApiResponse<ProjectResponse>> updateProject(
             @PathVariable UUID id,
-            @Valid @RequestBody UpdateProjectRequest request) {
+            @Valid @RequestBody UpdateProjectRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Request received to update project with ID: {}", id);
-        ProjectResponse response = projectService.updateProject(id, request);
+        ProjectResponse response = projectService.updateProject(id, request, ResourceVersion.parseVersion(ifMatch));
         log.info("Project updated successfully with ID: {}", id);
         return ResponseEntity.ok(ApiResponse.success(SuccessMessages.PROJECT_UPDATED, response));
     }
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER')")
-    public ResponseEntity<ApiResponse<ProjectDetailResponse>> getProjectById(@PathVariable UUID id) {
+    public ResponseEntity<ApiResponse<ProjectDetailResponse>> getProjectById(@PathVariable UUID id, WebRequest webRequest) {
         log.info("Request received to get project details for ID: {}", id);
+        String etag = projectService.getProjectDetailVersion(id).getEtag();
+        if (webRequest.checkNotModified(etag)) {
+            log.info("Project details not modified for ID: {}", id);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
         ProjectDetailResponse response = projectService.getProjectById(id);
         log.info("Project details retrieved successfully for ID: {}", id);
-        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.PROJECT_RETRIEVED, response));
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.success(SuccessMessages.PROJECT_RETRIEVED, response));
     }
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER')")
-    public ResponseEntity<ApiResponse<List<ProjectResponse>>> getAllProjects() {
+    public ResponseEntity<ApiResponse<List<ProjectResponse>>> getAllProjects(CursorPageRequest pageRequest) {
         log.info("Request received to get all projects");
-        List<ProjectResponse> responses = projectService.getAllProjects();
-        log.info("Retrieved {} projects successfully", responses.size());
-        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.PROJECTS_RETRIEVED, responses));
+        CursorPage<ProjectResponse> page = projectService.getAllProjects(pageRequest);
+        log.info("Retrieved {} projects successfully", page.getContent().size());
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.PROJECTS_RETRIEVED, page));
     }
 
     @GetMapping("/department/{departmentId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER')")
-    public ResponseEntity<ApiResponse<List<ProjectResponse>>> getProjectsByDepartmentId(@PathVariable Long departmentId) {
+    public ResponseEntity<ApiResponse<List<ProjectResponse>>> getProjectsByDepartmentId(@PathVariable Long departmentId, CursorPageRequest pageRequest) {
         log.info("Request received to get projects for department ID: {}", departmentId);
-        List<ProjectResponse> responses = projectService.getProjectsByDepartmentId(departmentId);
-        log.info("Retrieved {} projects for department ID: {}", responses.size(), departmentId);
-        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.PROJECTS_RETRIEVED, responses));
+        CursorPage<ProjectResponse> page = projectService.getProjectsByDepartmentId(departmentId, pageRequest);
+        log.info("Retrieved {} projects for department ID: {}", page.getContent().size(), departmentId);
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.PROJECTS_RETRIEVED, page));
     }
 
     @GetMapping("/status/{status}")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER')")
-    public ResponseEntity<ApiResponse<List<ProjectResponse>>> getProjectsByStatus(@PathVariable ProjectStatus status) {
+    public ResponseEntity<ApiResponse<List<ProjectResponse>>> getProjectsByStatus(@PathVariable ProjectStatus status, CursorPageRequest pageRequest) {
         log.info("Request received to get projects by status: {}", status);
-        List<ProjectResponse> responses = projectService.getProjectsByStatus(status);
-        log.info("Retrieved {} projects with status: {}", responses.size(), status);
-        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.PROJECTS_RETRIEVED, responses));
+        CursorPage<ProjectResponse> page = projectService.getProjectsByStatus(status, pageRequest);
+        log.info("Retrieved {} projects with status: {}", page.getContent().size(), status);
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.PROJECTS_RETRIEVED, page));
     }
 
     @GetMapping("/team-member/{userId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER')")
-    public ResponseEntity<ApiResponse<List<ProjectResponse>>> getProjectsByTeamMemberId(@PathVariable UUID userId) {
+    public ResponseEntity<ApiResponse<List<ProjectResponse>>> getProjectsByTeamMemberId(@PathVariable UUID userId, CursorPageRequest pageRequest) {
         log.info("Request received to get projects for team member ID: {}", userId);
-        List<ProjectResponse> responses = projectService.getProjectsByTeamMemberId(userId);
-        log.info("Retrieved {} projects for team member ID: {}", responses.size(), userId);
-        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.PROJECTS_RETRIEVED, responses));
+        CursorPage<ProjectResponse> page = projectService.getProjectsByTeamMemberId(userId, pageRequest);
+        log.info("Retrieved {} projects for team member ID: {}", page.getContent().size(), userId);
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.PROJECTS_RETRIEVED, page));
     }
 
     @PostMapping("/{projectId}/team-members/{userId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER')")
     public ResponseEntity<ApiResponse<ProjectResponse>> addTeamMember(
             @PathVariable UUID projectId,
-            @PathVariable UUID userId) {
+            @PathVariable UUID userId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Request received to add team member ID: {} to project ID: {}", userId, projectId);
-        ProjectResponse response = projectService.addTeamMember(projectId, userId);
+        ProjectResponse response = projectService.addTeamMember(projectId, userId, ResourceVersion.parseVersion(ifMatch));
         log.info("Team member ID: {} successfully added to project ID: {}", userId, projectId);
         return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TEAM_MEMBER_ADDED, response));
     }
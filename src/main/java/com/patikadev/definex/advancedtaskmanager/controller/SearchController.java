@@ -0,0 +1,44 @@
+package com.patikadev.definex.advancedtaskmanager.controller;
+
+import com.patikadev.definex.advancedtaskmanager.constant.SuccessMessages;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.ApiResponse;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.task.TaskSearchHit;
+import com.patikadev.definex.advancedtaskmanager.service.TaskSearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@Slf4j
+public class SearchController {
+
+    private final TaskSearchService taskSearchService;
+
+    @GetMapping("/tasks")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
+    public ResponseEntity<ApiResponse<List<TaskSearchHit>>> searchTasks(
+            @RequestParam String q,
+            @RequestParam(required = false) UUID projectId,
+            @RequestParam(required = false) Integer limit) {
+        log.info("Request received to search tasks for '{}' in project ID: {}", q, projectId);
+        List<TaskSearchHit> hits = taskSearchService.searchTasks(q, projectId, limit);
+        log.info("Task search for '{}' returned {} hits", q, hits.size());
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASK_SEARCH_COMPLETED, hits));
+    }
+
+    @PostMapping("/tasks/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> rebuildTaskIndex() {
+        log.info("Request received to rebuild the task search index");
+        int indexed = taskSearchService.rebuildIndex();
+        log.info("Task search index rebuilt with {} tasks", indexed);
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASK_SEARCH_INDEX_REBUILT, indexed));
+    }
+}
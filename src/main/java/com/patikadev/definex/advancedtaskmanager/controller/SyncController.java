@@ -0,0 +1,33 @@
+package com.patikadev.definex.advancedtaskmanager.controller;
+
+import com.patikadev.definex.advancedtaskmanager.constant.SuccessMessages;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.ApiResponse;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.sync.SyncResponse;
+import com.patikadev.definex.advancedtaskmanager.service.SyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+@Slf4j
+public class SyncController {
+
+    private final SyncService syncService;
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
+    public ResponseEntity<ApiResponse<SyncResponse>> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit) {
+        log.info("Request received to sync changes since watermark: {}", since);
+        SyncResponse response = syncService.getChanges(since, limit);
+        log.info("Sync returned {} tasks, {} comments, {} attachments and {} tombstones",
+                response.getTasks().size(), response.getComments().size(),
+                response.getAttachments().size(), response.getTombstones().size());
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.SYNC_CHANGES_RETRIEVED, response));
+    }
+}
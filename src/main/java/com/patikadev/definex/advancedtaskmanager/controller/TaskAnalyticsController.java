@@ -0,0 +1,48 @@
+package com.patikadev.definex.advancedtaskmanager.controller;
+
+import com.patikadev.definex.advancedtaskmanager.constant.SuccessMessages;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.ApiResponse;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.analytics.TaskFlowMetricsResponse;
+import com.patikadev.definex.advancedtaskmanager.service.TaskAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+@Slf4j
+public class TaskAnalyticsController {
+
+    private final TaskAnalyticsService taskAnalyticsService;
+
+    @GetMapping("/projects/{projectId}/flow")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER')")
+    public ResponseEntity<ApiResponse<TaskFlowMetricsResponse>> getProjectFlowMetrics(
+            @PathVariable UUID projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("Request received to get flow metrics for project ID: {} from {} to {}", projectId, from, to);
+        TaskFlowMetricsResponse response = taskAnalyticsService.getProjectFlowMetrics(projectId, from, to);
+        log.info("Flow metrics retrieved for project ID: {} with {} completed tasks", projectId, response.getCompletedTasks());
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASK_FLOW_METRICS_FETCHED, response));
+    }
+
+    @GetMapping("/departments/{departmentId}/flow")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER')")
+    public ResponseEntity<ApiResponse<TaskFlowMetricsResponse>> getDepartmentFlowMetrics(
+            @PathVariable Long departmentId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("Request received to get flow metrics for department ID: {} from {} to {}", departmentId, from, to);
+        TaskFlowMetricsResponse response = taskAnalyticsService.getDepartmentFlowMetrics(departmentId, from, to);
+        log.info("Flow metrics retrieved for department ID: {} with {} completed tasks", departmentId, response.getCompletedTasks());
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASK_FLOW_METRICS_FETCHED, response));
+    }
+}
@@ -1,22 +1,47 @@
 package com.patikadev.definex.advancedtaskmanager.controller;
 
+import com.patikadev.definex.advancedtaskmanager.constant.FileConstants;
 import com.patikadev.definex.advancedtaskmanager.constant.SuccessMessages;
+import com.patikadev.definex.advancedtaskmanager.constant.TaskFeedConstants;
 import com.patikadev.definex.advancedtaskmanager.model.dto.common.ApiResponse;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPage;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPageRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.ResourceVersion;
+import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.BulkUpdateTaskStateRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.CreateTaskRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.TaskExportFilter;
+import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.TaskSearchCriteria;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.UpdateTaskRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.UpdateTaskStateRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.task.BulkTaskStateUpdateResponse;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.task.TaskDetailResponse;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.task.TaskImportResponse;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.task.TaskResponse;
+import com.patikadev.definex.advancedtaskmanager.model.enums.DataFormat;
 import com.patikadev.definex.advancedtaskmanager.model.enums.TaskPriority;
 import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
+import com.patikadev.definex.advancedtaskmanager.service.ExportService;
+import com.patikadev.definex.advancedtaskmanager.service.TaskFeedService;
+import com.patikadev.definex.advancedtaskmanager.service.TaskImportService;
 import com.patikadev.definex.advancedtaskmanager.service.TaskService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 
@@ -27,6 +52,9 @@ import java.util.UUID;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskImportService taskImportService;
+    private final ExportService exportService;
+    private final TaskFeedService taskFeedService;
 
     @PostMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER')")
@@ -37,82 +65,149 @@ public class TaskController {
         return ResponseEntity.ok(ApiResponse.created(SuccessMessages.TASK_CREATED, response));
     }
 
+    @PostMapping(value = "/import", consumes = {FileConstants.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER')")
+    public ResponseEntity<ApiResponse<TaskImportResponse>> importTasks(HttpServletRequest request) throws IOException {
+        DataFormat format = DataFormat.fromContentType(request.getContentType());
+        log.info("Request received to import tasks from {}", format);
+        TaskImportResponse response = taskImportService.importTasks(request.getInputStream(), format);
+        log.info("Task import processed: {} imported, {} failed", response.getImportedRows(), response.getFailedRows());
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASKS_IMPORTED, response));
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER')")
     public ResponseEntity<ApiResponse<TaskResponse>> updateTask(
             @PathVariable UUID id,
-            @Valid @RequestBody UpdateTaskRequest request) {
+            @Valid @RequestBody UpdateTaskRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Request received to update task with ID: {}", id);
-        TaskResponse response = taskService.updateTask(id, request);
+        TaskResponse response = taskService.updateTask(id, request, ResourceVersion.parseVersion(ifMatch));
         log.info("Task updated successfully with ID: {}", id);
         return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASK_UPDATED, response));
     }
 
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
+    public void exportTasks(TaskExportFilter filter,
+                            @RequestParam(defaultValue = "NDJSON") DataFormat format,
+                            HttpServletResponse response) throws IOException {
+        log.info("Request received to export tasks as {} with filter: {}", format, filter);
+        response.setContentType(format.getMediaType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("tasks." + format.getFileExtension())
+                .build()
+                .toString());
+        long exported = exportService.exportTasks(filter, format, response.getOutputStream());
+        log.info("Exported {} tasks as {}", exported, format);
+    }
+
+    @GetMapping(value = "/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
+    public SseEmitter subscribeToTaskFeed(
+            @RequestParam(required = false) UUID projectId,
+            @RequestHeader(value = TaskFeedConstants.LAST_EVENT_ID_HEADER, required = false) Long lastEventId) {
+        log.info("Request received to subscribe to task feed for project ID: {} after event: {}", projectId, lastEventId);
+        SseEmitter emitter = taskFeedService.subscribe(projectId, lastEventId);
+        log.info("Task feed subscription opened for project ID: {}", projectId);
+        return emitter;
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
+    public ResponseEntity<ApiResponse<List<TaskResponse>>> searchTasks(@Valid TaskSearchCriteria criteria, CursorPageRequest pageRequest) {
+        log.info("Request received to search tasks with criteria: {}", criteria);
+        CursorPage<TaskResponse> page = taskService.searchTasks(criteria, pageRequest);
+        log.info("Found {} tasks matching search criteria", page.getContent().size());
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASKS_FETCHED, page));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
-    public ResponseEntity<ApiResponse<TaskDetailResponse>> getTaskById(@PathVariable UUID id) {
+    public ResponseEntity<ApiResponse<TaskDetailResponse>> getTaskById(@PathVariable UUID id, WebRequest webRequest) {
         log.info("Request received to get task details for ID: {}", id);
+        String etag = taskService.getTaskDetailVersion(id).getEtag();
+        if (webRequest.checkNotModified(etag)) {
+            log.info("Task details not modified for ID: {}", id);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
         TaskDetailResponse response = taskService.getTaskById(id);
         log.info("Task details retrieved successfully for ID: {}", id);
-        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASKS_FETCHED, response));
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.success(SuccessMessages.TASKS_FETCHED, response));
     }
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
-    public ResponseEntity<ApiResponse<List<TaskResponse>>> getAllTasks() {
+    public ResponseEntity<ApiResponse<List<TaskResponse>>> getAllTasks(CursorPageRequest pageRequest) {
         log.info("Request received to get all tasks");
-        List<TaskResponse> responses = taskService.getAllTasks();
-        log.info("Retrieved {} tasks successfully", responses.size());
-        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASKS_FETCHED, responses));
+        CursorPage<TaskResponse> page = taskService.getAllTasks(pageRequest);
+        log.info("Retrieved {} tasks successfully", page.getContent().size());
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASKS_FETCHED, page));
     }
 
     @GetMapping("/project/{projectId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
-    public ResponseEntity<ApiResponse<List<TaskResponse>>> getTasksByProjectId(@PathVariable UUID projectId) {
+    public ResponseEntity<ApiResponse<List<TaskResponse>>> getTasksByProjectId(@PathVariable UUID projectId, CursorPageRequest pageRequest) {
         log.info("Request received to get tasks for project ID: {}", projectId);
-        List<TaskResponse> responses = taskService.getTasksByProjectId(projectId);
-        log.info("Retrieved {} tasks for project ID: {}", responses.size(), projectId);
-        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASKS_FETCHED, responses));
+        CursorPage<TaskResponse> page = taskService.getTasksByProjectId(projectId, pageRequest);
+        log.info("Retrieved {} tasks for project ID: {}", page.getContent().size(), projectId);
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASKS_FETCHED, page));
     }
 
     @GetMapping("/assigned-user/{userId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
-    public ResponseEntity<ApiResponse<List<TaskResponse>>> getTasksByAssignedUserId(@PathVariable UUID userId) {
+    public ResponseEntity<ApiResponse<List<TaskResponse>>> getTasksByAssignedUserId(@PathVariable UUID userId, CursorPageRequest pageRequest) {
         log.info("Request received to get tasks assigned to user ID: {}", userId);
-        List<TaskResponse> responses = taskService.getTasksByAssignedUserId(userId);
-        log.info("Retrieved {} tasks assigned to user ID: {}", responses.size(), userId);
-        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASKS_FETCHED, responses));
+        CursorPage<TaskResponse> page = taskService.getTasksByAssignedUserId(userId, pageRequest);
+        log.info("Retrieved {} tasks assigned to user ID: {}", page.getContent().size(), userId);
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASKS_FETCHED, page));
     }
 
     @GetMapping("/state/{state}")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
-    public ResponseEntity<ApiResponse<List<TaskResponse>>> getTasksByState(@PathVariable TaskState state) {
+    public ResponseEntity<ApiResponse<List<TaskResponse>>> getTasksByState(@PathVariable TaskState state, CursorPageRequest pageRequest) {
         log.info("Request received to get tasks by state: {}", state);
-        List<TaskResponse> responses = taskService.getTasksByState(state);
-        log.info("Retrieved {} tasks with state: {}", responses.size(), state);
-        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASKS_FETCHED, responses));
+        CursorPage<TaskResponse> page = taskService.getTasksByState(state, pageRequest);
+        log.info("Retrieved {} tasks with state: {}", page.getContent().size(), state);
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASKS_FETCHED, page));
     }
 
     @GetMapping("/priority/{priority}")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
-    public ResponseEntity<ApiResponse<List<TaskResponse>>> getTasksByPriority(@PathVariable TaskPriority priority) {
+    public ResponseEntity<ApiResponse<List<TaskResponse>>> getTasksByPriority(@PathVariable TaskPriority priority, CursorPageRequest pageRequest) {
         log.info("Request received to get tasks by priority: {}", priority);
-        List<TaskResponse> responses = taskService.getTasksByPriority(priority);
-        log.info("Retrieved {} tasks with priority: {}", responses.size(), priority);
-        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASKS_FETCHED, responses));
+        CursorPage<TaskResponse> page = taskService.getTasksByPriority(priority, pageRequest);
+        log.info("Retrieved {} tasks with priority: {}", page.getContent().size(), priority);
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASKS_FETCHED, page));
     }
 
     @PatchMapping("/{id}/state")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
     public ResponseEntity<ApiResponse<TaskResponse>> updateTaskState(
             @PathVariable UUID id,
-            @Valid @RequestBody UpdateTaskStateRequest request) {
+            @Valid @RequestBody UpdateTaskStateRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Request received to update task state for ID: {} to state: {}", id, request.getNewState());
-        TaskResponse response = taskService.updateTaskState(id, request);
+        TaskResponse response = taskService.updateTaskState(id, request, ResourceVersion.parseVersion(ifMatch));
         log.info("Task state updated successfully for ID: {} to state: {}", id, request.getNewState());
         return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASK_STATE_UPDATED, response));
     }
 
+    @PatchMapping("/state")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
+    public ResponseEntity<ApiResponse<BulkTaskStateUpdateResponse>> bulkUpdateTaskState(
+            @Valid @RequestBody BulkUpdateTaskStateRequest request) {
+        log.info("Request received to update state of {} tasks to state: {}", request.getTaskIds().size(), request.getNewState());
+        BulkTaskStateUpdateResponse response = taskService.bulkUpdateTaskState(request);
+        log.info("Bulk task state update processed: {} succeeded, {} failed", response.getSucceeded(), response.getFailed());
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASK_STATES_BULK_UPDATED, response));
+    }
+
     @PostMapping("/{taskId}/assign/{userId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER')")
     public ResponseEntity<ApiResponse<TaskResponse>> assignTaskToUser(
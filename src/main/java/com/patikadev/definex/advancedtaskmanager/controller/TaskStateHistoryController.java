@@ -2,16 +2,26 @@ package com.patikadev.definex.advancedtaskmanager.controller;
 
 import com.patikadev.definex.advancedtaskmanager.constant.SuccessMessages;
 import com.patikadev.definex.advancedtaskmanager.model.dto.common.ApiResponse;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPage;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPageRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.TaskExportFilter;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.taskStateHistory.TaskStateHistoryResponse;
+import com.patikadev.definex.advancedtaskmanager.model.enums.DataFormat;
 import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
+import com.patikadev.definex.advancedtaskmanager.service.ExportService;
 import com.patikadev.definex.advancedtaskmanager.service.TaskStateHistoryService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -23,6 +33,23 @@ import java.util.UUID;
 public class TaskStateHistoryController {
 
     private final TaskStateHistoryService taskStateHistoryService;
+    private final ExportService exportService;
+
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER')")
+    public void exportTaskStateHistories(TaskExportFilter filter,
+                                         @RequestParam(defaultValue = "NDJSON") DataFormat format,
+                                         HttpServletResponse response) throws IOException {
+        log.info("Request received to export task state histories as {} with filter: {}", format, filter);
+        response.setContentType(format.getMediaType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("task-state-histories." + format.getFileExtension())
+                .build()
+                .toString());
+        long exported = exportService.exportTaskStateHistories(filter, format, response.getOutputStream());
+        log.info("Exported {} task state histories as {}", exported, format);
+    }
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER')")
@@ -35,48 +62,49 @@ public class TaskStateHistoryController {
 
     @GetMapping("/task/{taskId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER')")
-    public ResponseEntity<ApiResponse<List<TaskStateHistoryResponse>>> getTaskStateHistoriesByTaskId(@PathVariable UUID taskId) {
+    public ResponseEntity<ApiResponse<List<TaskStateHistoryResponse>>> getTaskStateHistoriesByTaskId(@PathVariable UUID taskId, CursorPageRequest pageRequest) {
         log.info("Request received to get task state histories by task id: {}", taskId);
-        List<TaskStateHistoryResponse> responses = taskStateHistoryService.getTaskStateHistoriesByTaskId(taskId);
-        log.info("Retrieved {} task state histories for task id: {}", responses.size(), taskId);
-        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASK_STATE_HISTORIES_FETCHED, responses));
+        CursorPage<TaskStateHistoryResponse> page = taskStateHistoryService.getTaskStateHistoriesByTaskId(taskId, pageRequest);
+        log.info("Retrieved {} task state histories for task id: {}", page.getContent().size(), taskId);
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASK_STATE_HISTORIES_FETCHED, page));
     }
 
     @GetMapping("/user/{userId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER')")
-    public ResponseEntity<ApiResponse<List<TaskStateHistoryResponse>>> getTaskStateHistoriesByChangedByUserId(@PathVariable UUID userId) {
+    public ResponseEntity<ApiResponse<List<TaskStateHistoryResponse>>> getTaskStateHistoriesByChangedByUserId(@PathVariable UUID userId, CursorPageRequest pageRequest) {
         log.info("Request received to get task state histories by user id: {}", userId);
-        List<TaskStateHistoryResponse> responses = taskStateHistoryService.getTaskStateHistoriesByChangedByUserId(userId);
-        log.info("Retrieved {} task state histories for user id: {}", responses.size(), userId);
-        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASK_STATE_HISTORIES_FETCHED, responses));
+        CursorPage<TaskStateHistoryResponse> page = taskStateHistoryService.getTaskStateHistoriesByChangedByUserId(userId, pageRequest);
+        log.info("Retrieved {} task state histories for user id: {}", page.getContent().size(), userId);
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASK_STATE_HISTORIES_FETCHED, page));
     }
 
     @GetMapping("/old-state/{oldState}")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER')")
-    public ResponseEntity<ApiResponse<List<TaskStateHistoryResponse>>> getTaskStateHistoriesByOldState(@PathVariable TaskState oldState) {
+    public ResponseEntity<ApiResponse<List<TaskStateHistoryResponse>>> getTaskStateHistoriesByOldState(@PathVariable TaskState oldState, CursorPageRequest pageRequest) {
         log.info("Request received to get task state histories by old state: {}", oldState);
-        List<TaskStateHistoryResponse> responses = taskStateHistoryService.getTaskStateHistoriesByOldState(oldState);
-        log.info("Retrieved {} task state histories for old state: {}", responses.size(), oldState);
-        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASK_STATE_HISTORIES_FETCHED, responses));
+        CursorPage<TaskStateHistoryResponse> page = taskStateHistoryService.getTaskStateHistoriesByOldState(oldState, pageRequest);
+        log.info("Retrieved {} task state histories for old state: {}", page.getContent().size(), oldState);
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASK_STATE_HISTORIES_FETCHED, page));
     }
 
     @GetMapping("/new-state/{newState}")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER')")
-    public ResponseEntity<ApiResponse<List<TaskStateHistoryResponse>>> getTaskStateHistoriesByNewState(@PathVariable TaskState newState) {
+    public ResponseEntity<ApiResponse<List<TaskStateHistoryResponse>>> getTaskStateHistoriesByNewState(@PathVariable TaskState newState, CursorPageRequest pageRequest) {
         log.info("Request received to get task state histories by new state: {}", newState);
-        List<TaskStateHistoryResponse> responses = taskStateHistoryService.getTaskStateHistoriesByNewState(newState);
-        log.info("Retrieved {} task state histories for new state: {}", responses.size(), newState);
-        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASK_STATE_HISTORIES_FETCHED, responses));
+        CursorPage<TaskStateHistoryResponse> page = taskStateHistoryService.getTaskStateHistoriesByNewState(newState, pageRequest);
+        log.info("Retrieved {} task state histories for new state: {}", page.getContent().size(), newState);
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASK_STATE_HISTORIES_FETCHED, page));
     }
 
     @GetMapping("/date-range")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER')")
     public ResponseEntity<ApiResponse<List<TaskStateHistoryResponse>>> getTaskStateHistoriesByChangedAtBetween(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            CursorPageRequest pageRequest) {
         log.info("Request received to get task state histories between dates: {} and {}", startDate, endDate);
-        List<TaskStateHistoryResponse> responses = taskStateHistoryService.getTaskStateHistoriesByChangedAtBetween(startDate, endDate);
-        log.info("Retrieved {} task state histories between dates: {} and {}", responses.size(), startDate, endDate);
-        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASK_STATE_HISTORIES_FETCHED, responses));
+        CursorPage<TaskStateHistoryResponse> page = taskStateHistoryService.getTaskStateHistoriesByChangedAtBetween(startDate, endDate, pageRequest);
+        log.info("Retrieved {} task state histories between dates: {} and {}", page.getContent().size(), startDate, endDate);
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.TASK_STATE_HISTORIES_FETCHED, page));
     }
 } 
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.patikadev.definex.advancedtaskmanager.controller;
 
 import com.patikadev.definex.advancedtaskmanager.constant.SuccessMessages;
 import com.patikadev.definex.advancedtaskmanager.model.dto.common.ApiResponse;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPage;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPageRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.user.CreateUserRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.user.UpdateUserRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.user.UpdateUserRolesRequest;
@@ -77,29 +79,29 @@ public class UserController {
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER')")
-    public ResponseEntity<ApiResponse<List<UserResponse>>> getAllUsers() {
+    public ResponseEntity<ApiResponse<List<UserResponse>>> getAllUsers(CursorPageRequest pageRequest) {
         log.info("Request received to get all users");
-        List<UserResponse> userResponses = userService.getAllUsers();
-        log.info("Retrieved {} users successfully", userResponses.size());
-        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.USERS_FETCHED, userResponses));
+        CursorPage<UserResponse> page = userService.getAllUsers(pageRequest);
+        log.info("Retrieved {} users successfully", page.getContent().size());
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.USERS_FETCHED, page));
     }
 
     @GetMapping("/by-department/{departmentId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER', 'TEAM_LEADER')")
-    public ResponseEntity<ApiResponse<List<UserResponse>>> getUsersByDepartmentId(@PathVariable Long departmentId) {
+    public ResponseEntity<ApiResponse<List<UserResponse>>> getUsersByDepartmentId(@PathVariable Long departmentId, CursorPageRequest pageRequest) {
         log.info("Request received to get users by department ID: {}", departmentId);
-        List<UserResponse> userResponses = userService.getUsersByDepartmentId(departmentId);
-        log.info("Retrieved {} users for department ID: {}", userResponses.size(), departmentId);
-        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.USERS_FETCHED, userResponses));
+        CursorPage<UserResponse> page = userService.getUsersByDepartmentId(departmentId, pageRequest);
+        log.info("Retrieved {} users for department ID: {}", page.getContent().size(), departmentId);
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.USERS_FETCHED, page));
     }
 
     @GetMapping("/by-role/{role}")
     @PreAuthorize("hasAnyRole('ADMIN', 'PROJECT_GROUP_MANAGER', 'PROJECT_MANAGER')")
-    public ResponseEntity<ApiResponse<List<UserResponse>>> getUsersByRole(@PathVariable UserRole role) {
+    public ResponseEntity<ApiResponse<List<UserResponse>>> getUsersByRole(@PathVariable UserRole role, CursorPageRequest pageRequest) {
         log.info("Request received to get users by role: {}", role);
-        List<UserResponse> userResponses = userService.getUsersByRole(role);
-        log.info("Retrieved {} users with role: {}", userResponses.size(), role);
-        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.USERS_FETCHED, userResponses));
+        CursorPage<UserResponse> page = userService.getUsersByRole(role, pageRequest);
+        log.info("Retrieved {} users with role: {}", page.getContent().size(), role);
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessages.USERS_FETCHED, page));
     }
 
     @DeleteMapping("/{id}")
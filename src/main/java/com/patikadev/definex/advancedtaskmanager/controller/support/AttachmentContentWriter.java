@@ -0,0 +1,185 @@
+package com.patikadev.definex.advancedtaskmanager.controller.support;
+
+import com.patikadev.definex.advancedtaskmanager.constant.FileConstants;
+import com.patikadev.definex.advancedtaskmanager.constant.MetricConstants;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.attachment.AttachmentDownload;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class AttachmentContentWriter {
+
+    private final Counter bytesOutCounter;
+
+    public AttachmentContentWriter(MeterRegistry meterRegistry) {
+        this.bytesOutCounter = Counter.builder(MetricConstants.ATTACHMENT_BYTES)
+                .tag(MetricConstants.TAG_DIRECTION, MetricConstants.DIRECTION_OUT)
+                .register(meterRegistry);
+    }
+
+    public void write(AttachmentDownload download, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        String etag = download.getContentHash() != null ? "\"" + download.getContentHash() + "\"" : null;
+        long lastModified = download.getLastModified() != null
+                ? download.getLastModified().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1;
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, FileConstants.ATTACHMENT_CACHE_CONTROL);
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        long contentLength = download.getContentLength();
+        String contentType = StringUtils.hasText(download.getContentType())
+                ? download.getContentType()
+                : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, FileConstants.BYTE_RANGE_UNIT);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(download.getFileName()).build().toString());
+
+        List<long[]> ranges;
+        try {
+            ranges = resolveRanges(request, etag, lastModified, contentLength);
+        } catch (IllegalArgumentException ex) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, FileConstants.BYTE_RANGE_UNIT + " */" + contentLength);
+            return;
+        }
+
+        if (ranges.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(contentType);
+            response.setContentLengthLong(contentLength);
+            transfer(download.getFilePath(), 0, contentLength, request, response);
+        } else if (ranges.size() == 1) {
+            long start = ranges.get(0)[0];
+            long end = ranges.get(0)[1];
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setContentType(contentType);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, contentRange(start, end, contentLength));
+            response.setContentLengthLong(end - start + 1);
+            transfer(download.getFilePath(), start, end - start + 1, request, response);
+        } else {
+            writeMultipartRanges(download.getFilePath(), contentType, ranges, contentLength, response);
+        }
+    }
+
+    private List<long[]> resolveRanges(HttpServletRequest request, String etag, long lastModified,
+                                       long contentLength) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (!StringUtils.hasText(rangeHeader) || !isIfRangeSatisfied(request, etag, lastModified)) {
+            return List.of();
+        }
+
+        List<long[]> ranges = new ArrayList<>();
+        for (HttpRange range : HttpRange.parseRanges(rangeHeader)) {
+            long start = range.getRangeStart(contentLength);
+            long end = range.getRangeEnd(contentLength);
+            if (start >= contentLength || start > end) {
+                throw new IllegalArgumentException(rangeHeader);
+            }
+            ranges.add(new long[]{start, end});
+        }
+        return ranges;
+    }
+
+    private boolean isIfRangeSatisfied(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (!StringUtils.hasText(ifRange)) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+
+        try {
+            return lastModified >= 0 && lastModified / 1000 == request.getDateHeader(HttpHeaders.IF_RANGE) / 1000;
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    private void transfer(Path filePath, long start, long count, HttpServletRequest request,
+                          HttpServletResponse response) throws IOException {
+        if (count >= FileConstants.SENDFILE_MIN_SIZE
+                && Boolean.TRUE.equals(request.getAttribute(FileConstants.SENDFILE_SUPPORT_ATTRIBUTE))) {
+            request.setAttribute(FileConstants.SENDFILE_FILENAME_ATTRIBUTE, filePath.toAbsolutePath().toString());
+            request.setAttribute(FileConstants.SENDFILE_START_ATTRIBUTE, start);
+            request.setAttribute(FileConstants.SENDFILE_END_ATTRIBUTE, start + count);
+            bytesOutCounter.increment(count);
+            return;
+        }
+
+        try (FileChannel fileChannel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            copy(fileChannel, start, count, response.getOutputStream(), newBuffer(count));
+        }
+    }
+
+    private void copy(FileChannel fileChannel, long start, long count, OutputStream target, ByteBuffer buffer)
+            throws IOException {
+        long position = start;
+        long remaining = count;
+        while (remaining > 0) {
+            buffer.clear().limit((int) Math.min(buffer.capacity(), remaining));
+            int read = fileChannel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            target.write(buffer.array(), 0, read);
+            position += read;
+            remaining -= read;
+        }
+        bytesOutCounter.increment(count - remaining);
+    }
+
+    private ByteBuffer newBuffer(long count) {
+        return ByteBuffer.allocate((int) Math.max(1, Math.min(FileConstants.STREAM_BUFFER_SIZE, count)));
+    }
+
+    private void writeMultipartRanges(Path filePath, String contentType, List<long[]> ranges, long contentLength,
+                                      HttpServletResponse response) throws IOException {
+        String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+
+        ServletOutputStream outputStream = response.getOutputStream();
+        ByteBuffer buffer = ByteBuffer.allocate(FileConstants.STREAM_BUFFER_SIZE);
+        try (FileChannel fileChannel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            for (long[] range : ranges) {
+                String partHeader = "\r\n--" + boundary + "\r\n"
+                        + HttpHeaders.CONTENT_TYPE + ": " + contentType + "\r\n"
+                        + HttpHeaders.CONTENT_RANGE + ": " + contentRange(range[0], range[1], contentLength) + "\r\n\r\n";
+                outputStream.write(partHeader.getBytes(StandardCharsets.US_ASCII));
+                copy(fileChannel, range[0], range[1] - range[0] + 1, outputStream, buffer);
+            }
+        }
+        outputStream.write(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private String contentRange(long start, long end, long contentLength) {
+        return FileConstants.BYTE_RANGE_UNIT + " " + start + "-" + end + "/" + contentLength;
+    }
+}
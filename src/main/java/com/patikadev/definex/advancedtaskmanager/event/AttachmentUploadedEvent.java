@@ -0,0 +1,29 @@
+package com.patikadev.definex.advancedtaskmanager.event;
+
+import com.patikadev.definex.advancedtaskmanager.model.entity.Attachment;
+import com.patikadev.definex.advancedtaskmanager.model.enums.DomainEventType;
+
+import java.util.UUID;
+
+public record AttachmentUploadedEvent(Long attachmentId,
+                                      UUID taskId,
+                                      String fileName,
+                                      String contentType,
+                                      Long fileSize,
+                                      UUID uploadedByUserId) implements DomainEvent {
+
+    public static AttachmentUploadedEvent of(Attachment attachment) {
+        return new AttachmentUploadedEvent(attachment.getId(), attachment.getTask().getId(), attachment.getFileName(),
+                attachment.getContentType(), attachment.getFileSize(), attachment.getUploadedByUser().getId());
+    }
+
+    @Override
+    public DomainEventType type() {
+        return DomainEventType.ATTACHMENT_UPLOADED;
+    }
+
+    @Override
+    public UUID aggregateId() {
+        return taskId;
+    }
+}
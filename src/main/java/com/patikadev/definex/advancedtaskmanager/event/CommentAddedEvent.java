@@ -0,0 +1,29 @@
+package com.patikadev.definex.advancedtaskmanager.event;
+
+import com.patikadev.definex.advancedtaskmanager.model.entity.Comment;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Task;
+import com.patikadev.definex.advancedtaskmanager.model.enums.DomainEventType;
+
+import java.util.UUID;
+
+public record CommentAddedEvent(Long commentId,
+                                UUID taskId,
+                                UUID authorId,
+                                UUID assignedUserId) implements DomainEvent {
+
+    public static CommentAddedEvent of(Comment comment) {
+        Task task = comment.getTask();
+        return new CommentAddedEvent(comment.getId(), task.getId(), comment.getUser().getId(),
+                task.getAssignedUser() != null ? task.getAssignedUser().getId() : null);
+    }
+
+    @Override
+    public DomainEventType type() {
+        return DomainEventType.COMMENT_ADDED;
+    }
+
+    @Override
+    public UUID aggregateId() {
+        return taskId;
+    }
+}
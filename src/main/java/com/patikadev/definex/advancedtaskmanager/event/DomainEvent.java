@@ -0,0 +1,12 @@
+package com.patikadev.definex.advancedtaskmanager.event;
+
+import com.patikadev.definex.advancedtaskmanager.model.enums.DomainEventType;
+
+import java.util.UUID;
+
+public interface DomainEvent {
+
+    DomainEventType type();
+
+    UUID aggregateId();
+}
@@ -0,0 +1,28 @@
+package com.patikadev.definex.advancedtaskmanager.event;
+
+import com.patikadev.definex.advancedtaskmanager.model.entity.Project;
+import com.patikadev.definex.advancedtaskmanager.model.enums.DomainEventType;
+import com.patikadev.definex.advancedtaskmanager.model.enums.ProjectStatus;
+
+import java.util.UUID;
+
+public record ProjectStatusChangedEvent(UUID projectId,
+                                        Long departmentId,
+                                        ProjectStatus oldStatus,
+                                        ProjectStatus newStatus) implements DomainEvent {
+
+    public static ProjectStatusChangedEvent of(Project project, ProjectStatus oldStatus) {
+        return new ProjectStatusChangedEvent(project.getId(), project.getDepartment().getId(),
+                oldStatus, project.getStatus());
+    }
+
+    @Override
+    public DomainEventType type() {
+        return DomainEventType.PROJECT_STATUS_CHANGED;
+    }
+
+    @Override
+    public UUID aggregateId() {
+        return projectId;
+    }
+}
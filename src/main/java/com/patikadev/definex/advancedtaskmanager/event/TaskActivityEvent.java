@@ -0,0 +1,30 @@
+package com.patikadev.definex.advancedtaskmanager.event;
+
+import com.patikadev.definex.advancedtaskmanager.model.entity.Comment;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Task;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskActivityType;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
+
+import java.util.UUID;
+
+public record TaskActivityEvent(TaskActivityType type,
+                                UUID taskId,
+                                UUID projectId,
+                                Long departmentId,
+                                TaskState state,
+                                UUID assignedUserId,
+                                Long commentId) {
+
+    public static TaskActivityEvent of(TaskActivityType type, Task task) {
+        return new TaskActivityEvent(type, task.getId(), task.getProject().getId(),
+                task.getProject().getDepartment().getId(), task.getState(),
+                task.getAssignedUser() != null ? task.getAssignedUser().getId() : null, null);
+    }
+
+    public static TaskActivityEvent commentAdded(Comment comment) {
+        Task task = comment.getTask();
+        return new TaskActivityEvent(TaskActivityType.COMMENT_ADDED, task.getId(), task.getProject().getId(),
+                task.getProject().getDepartment().getId(), task.getState(),
+                task.getAssignedUser() != null ? task.getAssignedUser().getId() : null, comment.getId());
+    }
+}
@@ -0,0 +1,27 @@
+package com.patikadev.definex.advancedtaskmanager.event;
+
+import com.patikadev.definex.advancedtaskmanager.model.entity.Task;
+import com.patikadev.definex.advancedtaskmanager.model.enums.DomainEventType;
+
+import java.util.UUID;
+
+public record TaskAssignedEvent(UUID taskId,
+                                UUID projectId,
+                                UUID assignedUserId,
+                                UUID previousAssignedUserId) implements DomainEvent {
+
+    public static TaskAssignedEvent of(Task task, UUID previousAssignedUserId) {
+        return new TaskAssignedEvent(task.getId(), task.getProject().getId(),
+                task.getAssignedUser().getId(), previousAssignedUserId);
+    }
+
+    @Override
+    public DomainEventType type() {
+        return DomainEventType.TASK_ASSIGNED;
+    }
+
+    @Override
+    public UUID aggregateId() {
+        return taskId;
+    }
+}
@@ -0,0 +1,16 @@
+package com.patikadev.definex.advancedtaskmanager.event;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public record TaskChangedEvent(List<UUID> taskIds) {
+
+    public static TaskChangedEvent of(UUID taskId) {
+        return new TaskChangedEvent(List.of(taskId));
+    }
+
+    public static TaskChangedEvent of(Collection<UUID> taskIds) {
+        return new TaskChangedEvent(List.copyOf(taskIds));
+    }
+}
@@ -0,0 +1,31 @@
+package com.patikadev.definex.advancedtaskmanager.event;
+
+import com.patikadev.definex.advancedtaskmanager.model.entity.Task;
+import com.patikadev.definex.advancedtaskmanager.model.enums.DomainEventType;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskPriority;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
+
+import java.util.UUID;
+
+public record TaskCreatedEvent(UUID taskId,
+                               UUID projectId,
+                               String title,
+                               TaskState state,
+                               TaskPriority priority,
+                               UUID assignedUserId) implements DomainEvent {
+
+    public static TaskCreatedEvent of(Task task) {
+        return new TaskCreatedEvent(task.getId(), task.getProject().getId(), task.getTitle(), task.getState(),
+                task.getPriority(), task.getAssignedUser() != null ? task.getAssignedUser().getId() : null);
+    }
+
+    @Override
+    public DomainEventType type() {
+        return DomainEventType.TASK_CREATED;
+    }
+
+    @Override
+    public UUID aggregateId() {
+        return taskId;
+    }
+}
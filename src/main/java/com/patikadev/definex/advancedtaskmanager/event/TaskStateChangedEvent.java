@@ -0,0 +1,30 @@
+package com.patikadev.definex.advancedtaskmanager.event;
+
+import com.patikadev.definex.advancedtaskmanager.model.entity.Task;
+import com.patikadev.definex.advancedtaskmanager.model.enums.DomainEventType;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
+
+import java.util.UUID;
+
+public record TaskStateChangedEvent(UUID taskId,
+                                    UUID projectId,
+                                    TaskState oldState,
+                                    TaskState newState,
+                                    String reason,
+                                    UUID assignedUserId) implements DomainEvent {
+
+    public static TaskStateChangedEvent of(Task task, TaskState oldState) {
+        return new TaskStateChangedEvent(task.getId(), task.getProject().getId(), oldState, task.getState(),
+                task.getStateChangeReason(), task.getAssignedUser() != null ? task.getAssignedUser().getId() : null);
+    }
+
+    @Override
+    public DomainEventType type() {
+        return DomainEventType.TASK_STATE_CHANGED;
+    }
+
+    @Override
+    public UUID aggregateId() {
+        return taskId;
+    }
+}
@@ -8,6 +8,7 @@ import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.validation.FieldError;
@@ -170,6 +171,33 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(ex.getMessage(), HttpStatusConstants.FORBIDDEN));
     }
 
+    @ExceptionHandler(UploadSessionConflictException.class)
+    public ResponseEntity<ApiResponse<Void>> handleUploadSessionConflict(UploadSessionConflictException ex) {
+        log.error("Upload session conflict: {}", ex.getMessage(), ex);
+
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error(ex.getMessage(), HttpStatusConstants.CONFLICT));
+    }
+
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<ApiResponse<Object>> handleVersionConflict(VersionConflictException ex) {
+        log.error("Version conflict: {}", ex.getMessage(), ex);
+
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ApiResponse.conflict(ex.getMessage(), ex.getCurrentRepresentation()));
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException ex) {
+        log.error("Optimistic locking failure: {}", ex.getMessage(), ex);
+
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error(ErrorMessages.CONCURRENT_MODIFICATION, HttpStatusConstants.CONFLICT));
+    }
+
     @ExceptionHandler(MaxUploadSizeExceededException.class)
     public ResponseEntity<ApiResponse<Void>> handleMaxUploadSizeExceededException(MaxUploadSizeExceededException ex) {
         log.error("File size exceeded: {}", ex.getMessage(), ex);
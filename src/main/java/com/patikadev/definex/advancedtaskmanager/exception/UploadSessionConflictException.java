@@ -0,0 +1,7 @@
+package com.patikadev.definex.advancedtaskmanager.exception;
+
+public class UploadSessionConflictException extends RuntimeException {
+    public UploadSessionConflictException(String message) {
+        super(message);
+    }
+}
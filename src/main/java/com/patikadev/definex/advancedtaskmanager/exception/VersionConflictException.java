@@ -0,0 +1,13 @@
+package com.patikadev.definex.advancedtaskmanager.exception;
+
+import lombok.Getter;
+
+@Getter
+public class VersionConflictException extends RuntimeException {
+    private final transient Object currentRepresentation;
+
+    public VersionConflictException(String message, Object currentRepresentation) {
+        super(message);
+        this.currentRepresentation = currentRepresentation;
+    }
+}
@@ -32,7 +32,9 @@ public interface AttachmentMapper {
     @Mapping(target = "filePath", source = "filePath")
     @Mapping(target = "fileSize", source = "fileSize")
     @Mapping(target = "contentType", source = "contentType")
-    Attachment toEntity(String fileName, Task task, User user, String filePath, Long fileSize, String contentType);
+    @Mapping(target = "contentHash", source = "contentHash")
+    Attachment toEntity(String fileName, Task task, User user, String filePath, Long fileSize, String contentType,
+                        String contentHash);
 
     @Named("toResponseSet")
     default Set<AttachmentResponse> toResponseSet(Set<Attachment> attachments) {
@@ -1,5 +1,6 @@
 package com.patikadev.definex.advancedtaskmanager.mapper;
 
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.AggregateCounts;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.department.CreateDepartmentRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.department.UpdateDepartmentRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.department.DepartmentResponse;
@@ -19,20 +20,20 @@ public interface DepartmentMapper {
     void updateEntityFromDto(UpdateDepartmentRequest request, @MappingTarget Department department);
 
     @Named("toResponse")
-    @Mapping(target = "totalUsers", expression = "java((int)department.getUsers().stream().filter(user -> user.getIsActive()).count())")
-    @Mapping(target = "totalProjects", expression = "java((int)department.getProjects().stream().filter(project -> project.getIsActive()).count())")
+    @Mapping(target = "totalUsers", expression = "java(counts.totalUsers(department.getId()))")
+    @Mapping(target = "totalProjects", expression = "java(counts.totalProjects(department.getId()))")
     @Mapping(target = "active", source = "isActive")
-    DepartmentResponse toResponse(Department department);
+    DepartmentResponse toResponse(Department department, @Context AggregateCounts counts);
 
     @Named("toDetailResponse")
-    @Mapping(target = "totalUsers", expression = "java((int)department.getUsers().stream().filter(user -> user.getIsActive()).count())")
-    @Mapping(target = "totalProjects", expression = "java((int)department.getProjects().stream().filter(project -> project.getIsActive()).count())")
+    @Mapping(target = "totalUsers", expression = "java(counts.totalUsers(department.getId()))")
+    @Mapping(target = "totalProjects", expression = "java(counts.totalProjects(department.getId()))")
     @Mapping(target = "users", qualifiedByName = "toResponseSet")
     @Mapping(target = "projects", qualifiedByName = "toResponseSet")
     @Mapping(target = "active", source = "isActive")
-    DepartmentDetailResponse toDetailResponse(Department department);
+    DepartmentDetailResponse toDetailResponse(Department department, @Context AggregateCounts counts);
 
     @Named("toResponseList")
     @IterableMapping(qualifiedByName = "toResponse")
-    List<DepartmentResponse> toResponseList(List<Department> departments);
+    List<DepartmentResponse> toResponseList(List<Department> departments, @Context AggregateCounts counts);
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.patikadev.definex.advancedtaskmanager.mapper;
 
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.AggregateCounts;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.project.CreateProjectRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.project.UpdateProjectRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.project.ProjectResponse;
@@ -31,26 +32,26 @@ public interface ProjectMapper {
     @Named("toResponse")
     @Mapping(target = "departmentId", source = "department.id")
     @Mapping(target = "departmentName", source = "department.name")
-    @Mapping(target = "totalTasks", expression = "java((int)project.getTasks().stream().filter(task -> task.getIsActive()).count())")
-    @Mapping(target = "completedTasks", expression = "java((int) project.getTasks().stream().filter(task -> task.getIsActive() && task.getState() == com.patikadev.definex.advancedtaskmanager.model.enums.TaskState.COMPLETED).count())")
+    @Mapping(target = "totalTasks", expression = "java(counts.totalTasks(project.getId()))")
+    @Mapping(target = "completedTasks", expression = "java(counts.completedTasks(project.getId()))")
     @Mapping(target = "active", source = "isActive")
-    ProjectResponse toResponse(Project project);
+    ProjectResponse toResponse(Project project, @Context AggregateCounts counts);
 
     @Named("toDetailResponse")
     @Mapping(target = "departmentId", source = "department.id")
     @Mapping(target = "departmentName", source = "department.name")
-    @Mapping(target = "totalTasks", expression = "java((int)project.getTasks().stream().filter(task -> task.getIsActive()).count())")
-    @Mapping(target = "completedTasks", expression = "java((int) project.getTasks().stream().filter(task -> task.getIsActive() && task.getState() == com.patikadev.definex.advancedtaskmanager.model.enums.TaskState.COMPLETED).count())")
+    @Mapping(target = "totalTasks", expression = "java(counts.totalTasks(project.getId()))")
+    @Mapping(target = "completedTasks", expression = "java(counts.completedTasks(project.getId()))")
     @Mapping(target = "active", source = "isActive")
     @Mapping(target = "teamMembers", qualifiedByName = "toResponseSet")
     @Mapping(target = "tasks", qualifiedByName = "toResponseSet")
-    ProjectDetailResponse toDetailResponse(Project project);
+    ProjectDetailResponse toDetailResponse(Project project, @Context AggregateCounts counts);
 
     @Named("toResponseList")
     @IterableMapping(qualifiedByName = "toResponse")
-    List<ProjectResponse> toResponseList(List<Project> project);
+    List<ProjectResponse> toResponseList(List<Project> project, @Context AggregateCounts counts);
 
     @Named("toResponseSet")
     @IterableMapping(qualifiedByName = "toResponse")
-    Set<ProjectResponse> toResponseSet(Set<Project> projects);
+    Set<ProjectResponse> toResponseSet(Set<Project> projects, @Context AggregateCounts counts);
 } 
\ No newline at end of file
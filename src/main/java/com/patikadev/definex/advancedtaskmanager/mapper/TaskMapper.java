@@ -1,5 +1,6 @@
 package com.patikadev.definex.advancedtaskmanager.mapper;
 
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.AggregateCounts;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.CreateTaskRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.UpdateTaskRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.task.TaskResponse;
@@ -25,27 +26,27 @@ public interface TaskMapper {
     @Mapping(target = "projectTitle", source = "project.title")
     @Mapping(target = "assignedUserId", source = "assignedUser.id")
     @Mapping(target = "assignedUserName", expression = "java(task.getAssignedUser() != null ? task.getAssignedUser().getFirstName() + \" \" + task.getAssignedUser().getLastName() : null)")
-    @Mapping(target = "totalComments", expression = "java((int)task.getComments().stream().filter(comment -> comment.getIsActive()).count())")
-    @Mapping(target = "totalAttachments", expression = "java((int)task.getAttachments().stream().filter(attachment -> attachment.getIsActive()).count())")
+    @Mapping(target = "totalComments", expression = "java(counts.totalComments(task.getId()))")
+    @Mapping(target = "totalAttachments", expression = "java(counts.totalAttachments(task.getId()))")
     @Mapping(target = "active", source = "isActive")
-    TaskResponse toResponse(Task task);
+    TaskResponse toResponse(Task task, @Context AggregateCounts counts);
 
     @Named("toDetailResponse")
     @Mapping(target = "projectId", source = "project.id")
     @Mapping(target = "projectTitle", source = "project.title")
     @Mapping(target = "assignedUserId", source = "assignedUser.id")
     @Mapping(target = "assignedUserName", expression = "java(task.getAssignedUser() != null ? task.getAssignedUser().getFirstName() + \" \" + task.getAssignedUser().getLastName() : null)")
-    @Mapping(target = "totalComments", expression = "java((int)task.getComments().stream().filter(comment -> comment.getIsActive()).count())")
-    @Mapping(target = "totalAttachments", expression = "java((int)task.getAttachments().stream().filter(attachment -> attachment.getIsActive()).count())")
+    @Mapping(target = "totalComments", expression = "java(counts.totalComments(task.getId()))")
+    @Mapping(target = "totalAttachments", expression = "java(counts.totalAttachments(task.getId()))")
     @Mapping(target = "comments", qualifiedByName = "toResponseSet")
     @Mapping(target = "attachments", qualifiedByName = "toResponseSet")
     @Mapping(target = "stateHistories", qualifiedByName = "toResponseSet")
     @Mapping(target = "active", source = "isActive")
-    TaskDetailResponse toDetailResponse(Task task);
+    TaskDetailResponse toDetailResponse(Task task, @Context AggregateCounts counts);
 
     @Named("toResponseList")
     @IterableMapping(qualifiedByName = "toResponse")
-    List<TaskResponse> toResponseList(List<Task> tasks);
+    List<TaskResponse> toResponseList(List<Task> tasks, @Context AggregateCounts counts);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "title", source = "request.title")
@@ -57,13 +58,13 @@ public interface TaskMapper {
     Task toEntity(CreateTaskRequest request, Project project, User assignedUser);
 
     @Named("toResponseSet")
-    default Set<TaskResponse> toResponseSet(Set<Task> tasks) {
+    default Set<TaskResponse> toResponseSet(Set<Task> tasks, @Context AggregateCounts counts) {
         if (tasks == null) {
             return null;
         }
         return tasks.stream()
                 .filter(Task::getIsActive)
-                .map(this::toResponse)
+                .map(task -> toResponse(task, counts))
                 .collect(Collectors.toSet());
     }
 } 
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.patikadev.definex.advancedtaskmanager.mapper;
 
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.taskStateHistory.TaskStateHistoryResponse;
 import com.patikadev.definex.advancedtaskmanager.model.entity.TaskStateHistory;
+import com.patikadev.definex.advancedtaskmanager.model.entity.TaskStateHistoryOutbox;
 import com.patikadev.definex.advancedtaskmanager.model.entity.User;
 import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
 import org.mapstruct.*;
@@ -9,6 +10,7 @@ import org.mapstruct.*;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE, uses = {UserMapper.class})
@@ -25,6 +27,10 @@ public interface TaskStateHistoryMapper {
     @Mapping(target = "task", ignore = true)
     TaskStateHistory toEntity(TaskState oldState, TaskState newState, String reason, LocalDateTime changedAt, User changedBy);
 
+    @Mapping(target = "id", ignore = true)
+    TaskStateHistoryOutbox toOutboxEntry(UUID taskId, TaskState oldState, TaskState newState, String reason,
+                                         LocalDateTime changedAt, UUID changedByUserId);
+
     @Named("toResponseSet")
     default Set<TaskStateHistoryResponse> toResponseSet(Set<TaskStateHistory> taskStateHistories) {
         if (taskStateHistories == null) {
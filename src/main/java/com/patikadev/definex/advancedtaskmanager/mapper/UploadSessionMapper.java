@@ -0,0 +1,34 @@
+package com.patikadev.definex.advancedtaskmanager.mapper;
+
+import com.patikadev.definex.advancedtaskmanager.model.dto.request.attachment.CreateUploadSessionRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.attachment.UploadSessionResponse;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Task;
+import com.patikadev.definex.advancedtaskmanager.model.entity.UploadSession;
+import com.patikadev.definex.advancedtaskmanager.model.entity.User;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+import java.time.LocalDateTime;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface UploadSessionMapper {
+
+    @Mapping(target = "id", source = "session.id")
+    @Mapping(target = "taskId", source = "session.task.id")
+    @Mapping(target = "fileName", source = "session.fileName")
+    @Mapping(target = "contentType", source = "session.contentType")
+    @Mapping(target = "totalSize", source = "session.totalSize")
+    @Mapping(target = "receivedBytes", source = "receivedBytes")
+    @Mapping(target = "expiresAt", source = "session.expiresAt")
+    UploadSessionResponse toResponse(UploadSession session, Long receivedBytes);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "fileName", source = "request.fileName")
+    @Mapping(target = "contentType", source = "request.contentType")
+    @Mapping(target = "totalSize", source = "request.totalSize")
+    @Mapping(target = "expiresAt", source = "expiresAt")
+    @Mapping(target = "task", source = "task")
+    @Mapping(target = "uploadedByUser", source = "user")
+    UploadSession toEntity(CreateUploadSessionRequest request, Task task, User user, LocalDateTime expiresAt);
+}
@@ -0,0 +1,65 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.common;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+public class AggregateCounts {
+    private final Map<UUID, TaskCountView> taskCounts = new HashMap<>();
+    private final Map<UUID, ProjectCountView> projectCounts = new HashMap<>();
+    private final Map<Long, DepartmentCountView> departmentCounts = new HashMap<>();
+
+    public static AggregateCounts empty() {
+        return new AggregateCounts();
+    }
+
+    public AggregateCounts withTaskCounts(Collection<TaskCountView> counts) {
+        counts.forEach(count -> taskCounts.put(count.getTaskId(), count));
+        return this;
+    }
+
+    public AggregateCounts withProjectCounts(Collection<ProjectCountView> counts) {
+        counts.forEach(count -> projectCounts.put(count.getProjectId(), count));
+        return this;
+    }
+
+    public AggregateCounts withDepartmentCounts(Collection<DepartmentCountView> counts) {
+        counts.forEach(count -> departmentCounts.put(count.getDepartmentId(), count));
+        return this;
+    }
+
+    public int totalComments(UUID taskId) {
+        TaskCountView count = taskCounts.get(taskId);
+        return count != null ? toInt(count.getTotalComments()) : 0;
+    }
+
+    public int totalAttachments(UUID taskId) {
+        TaskCountView count = taskCounts.get(taskId);
+        return count != null ? toInt(count.getTotalAttachments()) : 0;
+    }
+
+    public int totalTasks(UUID projectId) {
+        ProjectCountView count = projectCounts.get(projectId);
+        return count != null ? toInt(count.getTotalTasks()) : 0;
+    }
+
+    public int completedTasks(UUID projectId) {
+        ProjectCountView count = projectCounts.get(projectId);
+        return count != null ? toInt(count.getCompletedTasks()) : 0;
+    }
+
+    public int totalUsers(Long departmentId) {
+        DepartmentCountView count = departmentCounts.get(departmentId);
+        return count != null ? toInt(count.getTotalUsers()) : 0;
+    }
+
+    public int totalProjects(Long departmentId) {
+        DepartmentCountView count = departmentCounts.get(departmentId);
+        return count != null ? toInt(count.getTotalProjects()) : 0;
+    }
+
+    private int toInt(Long value) {
+        return value != null ? value.intValue() : 0;
+    }
+}
@@ -19,6 +19,7 @@ public class ApiResponse<T> {
     private int httpStatus;
     private String message;
     private T data;
+    private String nextCursor;
     private List<String> errorDetails;
     private Instant timestamp;
 
@@ -41,6 +42,17 @@ public class ApiResponse<T> {
                 .build();
     }
 
+    public static <T> ApiResponse<List<T>> success(String message, CursorPage<T> page) {
+        return ApiResponse.<List<T>>builder()
+                .status(ApiResponseStatus.SUCCESS)
+                .httpStatus(HttpStatusConstants.OK)
+                .message(message)
+                .data(page.getContent())
+                .nextCursor(page.getNextCursor())
+                .timestamp(Instant.now())
+                .build();
+    }
+
     public static <T> ApiResponse<T> created(String message, T data) {
         return ApiResponse.<T>builder()
                 .status(ApiResponseStatus.SUCCESS)
@@ -69,4 +81,14 @@ public class ApiResponse<T> {
                 .timestamp(Instant.now())
                 .build();
     }
-} 
\ No newline at end of file
+
+    public static <T> ApiResponse<T> conflict(String message, T data) {
+        return ApiResponse.<T>builder()
+                .status(ApiResponseStatus.ERROR)
+                .httpStatus(HttpStatusConstants.CONFLICT)
+                .message(message)
+                .data(data)
+                .timestamp(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+    private final List<T> content;
+    private final String nextCursor;
+
+    public static <E, T> CursorPage<T> of(List<E> rows, CursorPageRequest pageRequest,
+                                          Function<E, PageCursor> cursorExtractor,
+                                          Function<List<E>, List<T>> mapper) {
+        boolean hasNext = rows.size() > pageRequest.getSize();
+        List<E> pageRows = hasNext ? rows.subList(0, pageRequest.getSize()) : rows;
+        String nextCursor = hasNext ? cursorExtractor.apply(pageRows.get(pageRows.size() - 1)).encode() : null;
+
+        return new CursorPage<>(mapper.apply(pageRows), nextCursor);
+    }
+
+    public static <T> CursorPage<T> empty() {
+        return new CursorPage<>(List.of(), null);
+    }
+}
@@ -0,0 +1,52 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.common;
+
+import com.patikadev.definex.advancedtaskmanager.config.ApplicationProperties;
+import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Limit;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorPageRequest {
+    private final PageCursor cursor;
+    private final int size;
+
+    public static CursorPageRequest of(String cursor, Integer size, ApplicationProperties.Pagination pagination) {
+        if (size != null && size < 1) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_PAGE_SIZE);
+        }
+
+        int resolvedSize = size == null
+                ? pagination.getDefaultPageSize()
+                : Math.min(size, pagination.getMaxPageSize());
+        PageCursor pageCursor = StringUtils.hasText(cursor) ? PageCursor.decode(cursor) : null;
+
+        return new CursorPageRequest(pageCursor, resolvedSize);
+    }
+
+    public static CursorPageRequest firstPage(int size) {
+        return new CursorPageRequest(null, size);
+    }
+
+    public Limit toLimit() {
+        return Limit.of(size + 1);
+    }
+
+    public LocalDateTime getCursorSortValue() {
+        return cursor != null ? cursor.getSortValue() : null;
+    }
+
+    public UUID getCursorUuid() {
+        return cursor != null ? cursor.getIdAsUuid() : null;
+    }
+
+    public Long getCursorLong() {
+        return cursor != null ? cursor.getIdAsLong() : null;
+    }
+}
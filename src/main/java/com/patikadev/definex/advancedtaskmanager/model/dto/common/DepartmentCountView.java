@@ -0,0 +1,12 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class DepartmentCountView {
+    private final Long departmentId;
+    private final Long totalUsers;
+    private final Long totalProjects;
+}
@@ -0,0 +1,24 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class DepartmentDetailVersion {
+    private final Long departmentVersion;
+    private final LocalDateTime departmentUpdatedAt;
+    private final LocalDateTime usersUpdatedAt;
+    private final Long userCount;
+    private final LocalDateTime projectsUpdatedAt;
+    private final Long projectCount;
+    private final LocalDateTime tasksUpdatedAt;
+    private final Long taskCount;
+
+    public ResourceVersion toResourceVersion() {
+        return ResourceVersion.of(departmentVersion, departmentUpdatedAt, usersUpdatedAt, userCount,
+                projectsUpdatedAt, projectCount, tasksUpdatedAt, taskCount);
+    }
+}
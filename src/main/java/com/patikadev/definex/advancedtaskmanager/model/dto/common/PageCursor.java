@@ -0,0 +1,61 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.common;
+
+import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
+import com.patikadev.definex.advancedtaskmanager.constant.PaginationConstants;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PageCursor {
+    private final LocalDateTime sortValue;
+    private final String id;
+
+    public static PageCursor of(LocalDateTime sortValue, Object id) {
+        return new PageCursor(sortValue.truncatedTo(ChronoUnit.MICROS), String.valueOf(id));
+    }
+
+    public static PageCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.indexOf(PaginationConstants.CURSOR_SEPARATOR);
+            if (separatorIndex <= 0 || separatorIndex == decoded.length() - 1) {
+                throw new IllegalArgumentException(ErrorMessages.INVALID_PAGE_CURSOR);
+            }
+
+            LocalDateTime sortValue = LocalDateTime.parse(decoded.substring(0, separatorIndex));
+            return new PageCursor(sortValue, decoded.substring(separatorIndex + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_PAGE_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = sortValue + PaginationConstants.CURSOR_SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public UUID getIdAsUuid() {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_PAGE_CURSOR);
+        }
+    }
+
+    public Long getIdAsLong() {
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_PAGE_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class ProjectCountView {
+    private final UUID projectId;
+    private final Long totalTasks;
+    private final Long completedTasks;
+}
@@ -0,0 +1,27 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class ProjectDetailVersion {
+    private final Long projectVersion;
+    private final LocalDateTime projectUpdatedAt;
+    private final LocalDateTime departmentUpdatedAt;
+    private final LocalDateTime teamMembersUpdatedAt;
+    private final Long teamMemberCount;
+    private final LocalDateTime tasksUpdatedAt;
+    private final Long taskCount;
+    private final LocalDateTime commentsUpdatedAt;
+    private final Long commentCount;
+    private final LocalDateTime attachmentsUpdatedAt;
+    private final Long attachmentCount;
+
+    public ResourceVersion toResourceVersion() {
+        return ResourceVersion.of(projectVersion, projectUpdatedAt, departmentUpdatedAt, teamMembersUpdatedAt, teamMemberCount,
+                tasksUpdatedAt, taskCount, commentsUpdatedAt, commentCount, attachmentsUpdatedAt, attachmentCount);
+    }
+}
@@ -0,0 +1,59 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.common;
+
+import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.stream.Collectors;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ResourceVersion {
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final int ETAG_BYTES = 16;
+    private static final String QUOTE = "\"";
+    private static final String VERSION_SEPARATOR = "-";
+    private static final String ANY_VERSION = "*";
+    private static final String LIST_SEPARATOR = ",";
+
+    private final String etag;
+
+    public static ResourceVersion of(Long version, Object... components) {
+        String raw = Arrays.stream(components)
+                .map(String::valueOf)
+                .collect(Collectors.joining("|"));
+        try {
+            byte[] digest = MessageDigest.getInstance(DIGEST_ALGORITHM).digest(raw.getBytes(StandardCharsets.UTF_8));
+            return new ResourceVersion(QUOTE + version + VERSION_SEPARATOR + HexFormat.of().formatHex(digest, 0, ETAG_BYTES) + QUOTE);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    public static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ANY_VERSION.equals(ifMatch.trim())) {
+            return null;
+        }
+
+        String tag = ifMatch.trim();
+        if (tag.contains(LIST_SEPARATOR)) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_IF_MATCH.formatted(ifMatch));
+        }
+        if (tag.length() > 1 && tag.startsWith(QUOTE) && tag.endsWith(QUOTE)) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        int separatorIndex = tag.indexOf(VERSION_SEPARATOR);
+        String version = separatorIndex > 0 ? tag.substring(0, separatorIndex) : tag;
+        try {
+            return Long.parseLong(version);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_IF_MATCH.formatted(ifMatch));
+        }
+    }
+}
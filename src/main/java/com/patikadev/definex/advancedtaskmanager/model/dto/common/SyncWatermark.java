@@ -0,0 +1,49 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.common;
+
+import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
+import com.patikadev.definex.advancedtaskmanager.constant.PaginationConstants;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+@Getter
+@AllArgsConstructor
+public class SyncWatermark {
+    private static final int POSITION_COUNT = 3;
+
+    private final PageCursor tasks;
+    private final PageCursor comments;
+    private final PageCursor attachments;
+
+    public static SyncWatermark initial() {
+        return new SyncWatermark(null, null, null);
+    }
+
+    public static SyncWatermark decode(String token) {
+        if (token == null || token.isBlank()) {
+            return initial();
+        }
+
+        String[] positions = token.split(Pattern.quote(PaginationConstants.WATERMARK_SEPARATOR), -1);
+        if (positions.length != POSITION_COUNT) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_SYNC_WATERMARK);
+        }
+        try {
+            return new SyncWatermark(decodePosition(positions[0]), decodePosition(positions[1]), decodePosition(positions[2]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(ErrorMessages.INVALID_SYNC_WATERMARK);
+        }
+    }
+
+    public String encode() {
+        return String.join(PaginationConstants.WATERMARK_SEPARATOR, Stream.of(tasks, comments, attachments)
+                .map(position -> position != null ? position.encode() : "")
+                .toList());
+    }
+
+    private static PageCursor decodePosition(String position) {
+        return position.isEmpty() ? null : PageCursor.decode(position);
+    }
+}
@@ -0,0 +1,13 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class TaskCommentContent {
+    private final UUID taskId;
+    private final String content;
+}
@@ -0,0 +1,14 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class TaskCountView {
+    private final UUID taskId;
+    private final Long totalComments;
+    private final Long totalAttachments;
+}
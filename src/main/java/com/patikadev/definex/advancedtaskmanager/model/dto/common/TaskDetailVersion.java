@@ -0,0 +1,28 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class TaskDetailVersion {
+    private final Long departmentId;
+    private final Long taskVersion;
+    private final LocalDateTime taskUpdatedAt;
+    private final LocalDateTime projectUpdatedAt;
+    private final LocalDateTime assignedUserUpdatedAt;
+    private final LocalDateTime commentsUpdatedAt;
+    private final Long commentCount;
+    private final LocalDateTime attachmentsUpdatedAt;
+    private final Long attachmentCount;
+    private final Long latestStateHistoryId;
+    private final Long stateHistoryCount;
+
+    public ResourceVersion toResourceVersion() {
+        return ResourceVersion.of(taskVersion, taskUpdatedAt, projectUpdatedAt, assignedUserUpdatedAt,
+                commentsUpdatedAt, commentCount, attachmentsUpdatedAt, attachmentCount,
+                latestStateHistoryId, stateHistoryCount);
+    }
+}
@@ -0,0 +1,18 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class TaskFlowDailyTotals {
+    private final LocalDate bucketDate;
+    private final Long completedCount;
+    private final Long leadTimeSeconds;
+    private final Long cycleTimeCount;
+    private final Long cycleTimeSeconds;
+    private final Long blockedCount;
+    private final Long blockedSeconds;
+}
@@ -0,0 +1,22 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.common;
+
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class TaskFlowEvent {
+    private final Long historyId;
+    private final UUID taskId;
+    private final UUID projectId;
+    private final Long departmentId;
+    private final LocalDateTime taskCreatedAt;
+    private final TaskState oldState;
+    private final TaskState newState;
+    private final LocalDateTime changedAt;
+    private final LocalDateTime writtenAt;
+}
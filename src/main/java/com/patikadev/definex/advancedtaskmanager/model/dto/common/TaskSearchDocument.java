@@ -0,0 +1,20 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.common;
+
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskPriority;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class TaskSearchDocument {
+    private final UUID taskId;
+    private final UUID projectId;
+    private final String title;
+    private final String userStory;
+    private final String acceptanceCriteria;
+    private final TaskState state;
+    private final TaskPriority priority;
+}
@@ -0,0 +1,9 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.common;
+
+import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
+
+import java.util.Set;
+import java.util.UUID;
+
+public record UserIdentity(UUID id, String email, Long departmentId, Set<UserRole> roles) {
+}
@@ -0,0 +1,29 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.request.attachment;
+
+import com.patikadev.definex.advancedtaskmanager.constant.FileConstants;
+import com.patikadev.definex.advancedtaskmanager.constant.ValidationMessages;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+public class CreateUploadSessionRequest {
+    @NotNull(message = ValidationMessages.FILE_TASK)
+    private UUID taskId;
+
+    @NotBlank(message = ValidationMessages.FILE_NAME_NOT_BLANK)
+    @Size(max = FileConstants.MAX_FILE_NAME_LENGTH, message = ValidationMessages.FILE_NAME_MAX_SIZE)
+    private String fileName;
+
+    @NotBlank(message = ValidationMessages.CONTENT_TYPE_NOT_BLANK)
+    @Size(max = FileConstants.MAX_CONTENT_TYPE_LENGTH, message = ValidationMessages.CONTENT_TYPE_MAX_SIZE)
+    private String contentType;
+
+    @NotNull(message = ValidationMessages.FILE_SIZE_POSITIVE)
+    @Positive(message = ValidationMessages.FILE_SIZE_POSITIVE)
+    private Long totalSize;
+}
@@ -0,0 +1,24 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.request.task;
+
+import com.patikadev.definex.advancedtaskmanager.constant.ValidationMessages;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class BulkUpdateTaskStateRequest {
+    @NotEmpty(message = ValidationMessages.BULK_TASK_IDS_NOT_EMPTY)
+    @Size(max = 500, message = ValidationMessages.BULK_TASK_IDS_MAX_SIZE)
+    private List<@NotNull(message = ValidationMessages.BULK_TASK_IDS_NOT_EMPTY) UUID> taskIds;
+
+    @NotNull(message = ValidationMessages.TASK_STATE)
+    private TaskState newState;
+
+    @Size(max = 500, message = ValidationMessages.STATE_CHANGE_REASON_MAX_SIZE)
+    private String reason;
+}
@@ -0,0 +1,22 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.request.task;
+
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskPriority;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+public class TaskExportFilter {
+    private TaskState state;
+    private TaskPriority priority;
+    private UUID projectId;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+}
@@ -0,0 +1,35 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.request.task;
+
+import com.patikadev.definex.advancedtaskmanager.constant.ValidationMessages;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskPriority;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+@Data
+public class TaskSearchCriteria {
+    private UUID projectId;
+    private UUID assignedUserId;
+    private Set<TaskState> states;
+    private Set<TaskPriority> priorities;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedTo;
+
+    @Size(max = 100, message = ValidationMessages.TASK_SEARCH_TEXT_MAX_SIZE)
+    private String text;
+}
@@ -0,0 +1,28 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.response.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFlowMetricsResponse {
+    private UUID projectId;
+    private Long departmentId;
+    private LocalDate from;
+    private LocalDate to;
+    private long completedTasks;
+    private Long averageLeadTimeSeconds;
+    private Long averageCycleTimeSeconds;
+    private long blockedPeriods;
+    private long totalBlockedSeconds;
+    private Long averageBlockedSeconds;
+    private List<WeeklyThroughput> weeklyThroughput;
+}
@@ -0,0 +1,17 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.response.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeeklyThroughput {
+    private LocalDate weekStart;
+    private long completedTasks;
+}
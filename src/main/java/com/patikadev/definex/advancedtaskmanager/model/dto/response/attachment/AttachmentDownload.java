@@ -0,0 +1,18 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.response.attachment;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class AttachmentDownload {
+    private final String fileName;
+    private final String contentType;
+    private final Path filePath;
+    private final long contentLength;
+    private final String contentHash;
+    private final LocalDateTime lastModified;
+}
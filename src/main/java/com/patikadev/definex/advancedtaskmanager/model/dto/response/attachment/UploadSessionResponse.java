@@ -0,0 +1,17 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.response.attachment;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+public class UploadSessionResponse {
+    private UUID id;
+    private UUID taskId;
+    private String fileName;
+    private String contentType;
+    private Long totalSize;
+    private Long receivedBytes;
+    private LocalDateTime expiresAt;
+}
@@ -5,6 +5,7 @@ import lombok.Data;
 @Data
 public class DepartmentResponse {
     private Long id;
+    private Long version;
     private String name;
     private String description;
     private int totalUsers;
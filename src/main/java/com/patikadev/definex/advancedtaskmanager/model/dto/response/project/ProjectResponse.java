@@ -8,6 +8,7 @@ import java.util.UUID;
 @Data
 public class ProjectResponse {
     private UUID id;
+    private Long version;
     private String title;
     private String description;
     private ProjectStatus status;
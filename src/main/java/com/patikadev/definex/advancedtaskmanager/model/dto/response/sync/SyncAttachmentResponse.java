@@ -0,0 +1,26 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.response.sync;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncAttachmentResponse implements SyncChange {
+    private Long id;
+    private UUID taskId;
+    private String fileName;
+    private Long fileSize;
+    private String contentType;
+    private String contentHash;
+    private UUID uploadedByUserId;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private boolean active;
+}
@@ -0,0 +1,12 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.response.sync;
+
+import java.time.LocalDateTime;
+
+public interface SyncChange {
+
+    Object getId();
+
+    LocalDateTime getUpdatedAt();
+
+    boolean isActive();
+}
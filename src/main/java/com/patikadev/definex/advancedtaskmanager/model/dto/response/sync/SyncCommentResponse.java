@@ -0,0 +1,23 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.response.sync;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncCommentResponse implements SyncChange {
+    private Long id;
+    private UUID taskId;
+    private UUID userId;
+    private String content;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private boolean active;
+}
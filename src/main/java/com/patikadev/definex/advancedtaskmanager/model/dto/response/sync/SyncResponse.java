@@ -0,0 +1,21 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.response.sync;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncResponse {
+    private List<SyncTaskResponse> tasks;
+    private List<SyncCommentResponse> comments;
+    private List<SyncAttachmentResponse> attachments;
+    private List<SyncTombstone> tombstones;
+    private String watermark;
+    private boolean hasMore;
+}
@@ -0,0 +1,30 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.response.sync;
+
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskPriority;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncTaskResponse implements SyncChange {
+    private UUID id;
+    private UUID projectId;
+    private String title;
+    private String userStory;
+    private String acceptanceCriteria;
+    private TaskState state;
+    private TaskPriority priority;
+    private String stateChangeReason;
+    private UUID assignedUserId;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private boolean active;
+}
@@ -0,0 +1,19 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.response.sync;
+
+import com.patikadev.definex.advancedtaskmanager.model.enums.SyncEntityType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncTombstone {
+    private SyncEntityType type;
+    private String id;
+    private LocalDateTime deletedAt;
+}
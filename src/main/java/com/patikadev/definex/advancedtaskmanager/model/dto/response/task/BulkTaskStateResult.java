@@ -0,0 +1,21 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.response.task;
+
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskStateResult {
+    private UUID taskId;
+    private boolean success;
+    private TaskState previousState;
+    private TaskState state;
+    private String error;
+}
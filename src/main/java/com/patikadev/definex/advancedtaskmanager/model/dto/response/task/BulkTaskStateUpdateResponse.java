@@ -0,0 +1,19 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.response.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskStateUpdateResponse {
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private List<BulkTaskStateResult> results;
+}
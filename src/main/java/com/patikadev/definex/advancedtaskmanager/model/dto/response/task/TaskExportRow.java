@@ -0,0 +1,26 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.response.task;
+
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskPriority;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskExportRow {
+    private UUID id;
+    private String title;
+    private TaskState state;
+    private TaskPriority priority;
+    private String stateChangeReason;
+    private UUID projectId;
+    private Long departmentId;
+    private UUID assignedUserId;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,20 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.response.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportResponse {
+    private long totalRows;
+    private long importedRows;
+    private long failedRows;
+    private boolean errorsTruncated;
+    private List<TaskImportRowError> errors;
+}
@@ -0,0 +1,13 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.response.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportRowError {
+    private long line;
+    private String error;
+}
@@ -9,6 +9,7 @@ import java.util.UUID;
 @Data
 public class TaskResponse {
     private UUID id;
+    private Long version;
     private String title;
     private String userStory;
     private String acceptanceCriteria;
@@ -0,0 +1,23 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.response.task;
+
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskPriority;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchHit {
+    private UUID taskId;
+    private UUID projectId;
+    private String title;
+    private TaskState state;
+    private TaskPriority priority;
+    private float score;
+}
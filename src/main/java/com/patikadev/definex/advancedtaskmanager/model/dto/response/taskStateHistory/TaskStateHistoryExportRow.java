@@ -0,0 +1,23 @@
+package com.patikadev.definex.advancedtaskmanager.model.dto.response.taskStateHistory;
+
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStateHistoryExportRow {
+    private Long id;
+    private UUID taskId;
+    private UUID projectId;
+    private TaskState oldState;
+    private TaskState newState;
+    private String reason;
+    private UUID changedByUserId;
+    private LocalDateTime changedAt;
+}
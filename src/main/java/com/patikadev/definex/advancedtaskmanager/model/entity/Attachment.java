@@ -14,7 +14,9 @@ import lombok.*;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "attachments")
+@Table(name = "attachments", indexes = {
+        @Index(name = "idx_attachments_updated_at_id", columnList = "updated_at, id")
+})
 public class Attachment extends BaseEntity {
 
     @Id
@@ -34,6 +36,9 @@ public class Attachment extends BaseEntity {
     @Column(name = "file_size")
     private Long fileSize;
 
+    @Column(name = "content_hash", length = FileConstants.CONTENT_HASH_LENGTH)
+    private String contentHash;
+
     @Size(max = FileConstants.MAX_CONTENT_TYPE_LENGTH, message = ValidationMessages.CONTENT_TYPE_MAX_SIZE)
     @Column(name = "content_type")
     private String contentType;
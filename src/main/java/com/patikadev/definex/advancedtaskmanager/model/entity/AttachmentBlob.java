@@ -0,0 +1,33 @@
+package com.patikadev.definex.advancedtaskmanager.model.entity;
+
+import com.patikadev.definex.advancedtaskmanager.constant.FileConstants;
+import jakarta.persistence.*;
+import lombok.*;
+
+@Getter
+@Setter
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "attachment_blobs")
+public class AttachmentBlob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @Column(name = "content_hash", nullable = false, unique = true, updatable = false,
+            length = FileConstants.CONTENT_HASH_LENGTH)
+    private String contentHash;
+
+    @Column(name = "file_path", nullable = false, updatable = false)
+    private String filePath;
+
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    @Column(name = "reference_count", nullable = false)
+    private Integer referenceCount;
+}
@@ -12,7 +12,11 @@ import lombok.*;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_task_created_at_id", columnList = "task_id, created_at, id"),
+        @Index(name = "idx_comments_user_created_at_id", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_comments_updated_at_id", columnList = "updated_at, id")
+})
 public class Comment extends Auditable {
 
     @Id
@@ -25,6 +25,10 @@ public class Department extends BaseEntity {
     @Column(name = "id", updatable = false)
     private Long id;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @NotBlank(message = ValidationMessages.DEPARTMENT_NAME_NOT_BLANK)
     @Size(min = 2, max = 100, message = ValidationMessages.DEPARTMENT_NAME_SIZE)
     @Pattern(regexp = RegexPatterns.DEPARTMENT_NAME_PATTERN, message = ValidationMessages.DEPARTMENT_NAME_PATTERN)
@@ -0,0 +1,55 @@
+package com.patikadev.definex.advancedtaskmanager.model.entity;
+
+import com.patikadev.definex.advancedtaskmanager.model.enums.DomainEventType;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "domain_event_outbox", indexes = {
+        @Index(name = "idx_domain_event_outbox_active_next_attempt_id", columnList = "is_active, next_attempt_at, id"),
+        @Index(name = "idx_domain_event_outbox_aggregate_id", columnList = "aggregate_id, id")
+})
+public class DomainEventOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private DomainEventType eventType;
+
+    @NotNull
+    @Column(name = "aggregate_id", nullable = false)
+    private UUID aggregateId;
+
+    @NotNull
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @NotNull
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "claimed_by", length = 36)
+    private String claimedBy;
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+}
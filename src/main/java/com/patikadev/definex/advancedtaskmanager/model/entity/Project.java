@@ -20,7 +20,10 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "projects")
+@Table(name = "projects", indexes = {
+        @Index(name = "idx_projects_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_projects_department_created_at_id", columnList = "department_id, created_at, id")
+})
 public class Project extends Auditable {
 
     @Id
@@ -28,6 +31,10 @@ public class Project extends Auditable {
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @NotBlank(message = ValidationMessages.PROJECT_TITLE_NOT_BLANK)
     @Size(min = 2, max = 100, message = ValidationMessages.PROJECT_TITLE_SIZE)
     @Pattern(regexp = RegexPatterns.TITLE_PATTERN, message = ValidationMessages.PROJECT_TITLE_PATTERN)
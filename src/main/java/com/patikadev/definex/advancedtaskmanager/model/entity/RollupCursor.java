@@ -0,0 +1,21 @@
+package com.patikadev.definex.advancedtaskmanager.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Getter
+@Setter
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "rollup_cursors")
+public class RollupCursor extends BaseEntity {
+
+    @Id
+    @Column(name = "name", updatable = false, length = 100)
+    private String name;
+
+    @Column(name = "last_processed_id", nullable = false)
+    private Long lastProcessedId;
+}
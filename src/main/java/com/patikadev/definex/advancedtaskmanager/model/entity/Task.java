@@ -19,7 +19,16 @@ import java.util.*;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_tasks_project_created_at_id", columnList = "project_id, created_at, id"),
+        @Index(name = "idx_tasks_assigned_user_created_at_id", columnList = "assigned_user_id, created_at, id"),
+        @Index(name = "idx_tasks_project_active_state_created_at", columnList = "project_id, is_active, state, created_at"),
+        @Index(name = "idx_tasks_assigned_user_active_priority_created_at", columnList = "assigned_user_id, is_active, priority, created_at"),
+        @Index(name = "idx_tasks_active_state_priority_created_at", columnList = "is_active, state, priority, created_at"),
+        @Index(name = "idx_tasks_active_updated_at", columnList = "is_active, updated_at"),
+        @Index(name = "idx_tasks_updated_at_id", columnList = "updated_at, id")
+})
 public class Task extends Auditable {
 
     @Id
@@ -27,6 +36,10 @@ public class Task extends Auditable {
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @NotBlank(message = ValidationMessages.TASK_TITLE_NOT_BLANK)
     @Size(min = 2, max = 100, message = ValidationMessages.TASK_TITLE_SIZE)
     @Pattern(regexp = RegexPatterns.TITLE_PATTERN, message = ValidationMessages.TASK_TITLE_PATTERN)
@@ -0,0 +1,58 @@
+package com.patikadev.definex.advancedtaskmanager.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "task_flow_daily_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_task_flow_daily_rollups_project_bucket", columnNames = {"project_id", "bucket_date"})
+}, indexes = {
+        @Index(name = "idx_task_flow_daily_rollups_department_bucket", columnList = "department_id, bucket_date")
+})
+public class TaskFlowDailyRollup extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "bucket_date", nullable = false, updatable = false)
+    private LocalDate bucketDate;
+
+    @Column(name = "project_id", nullable = false, updatable = false)
+    private UUID projectId;
+
+    @Column(name = "department_id", nullable = false)
+    private Long departmentId;
+
+    @Builder.Default
+    @Column(name = "completed_count", nullable = false)
+    private long completedCount = 0;
+
+    @Builder.Default
+    @Column(name = "lead_time_seconds", nullable = false)
+    private long leadTimeSeconds = 0;
+
+    @Builder.Default
+    @Column(name = "cycle_time_count", nullable = false)
+    private long cycleTimeCount = 0;
+
+    @Builder.Default
+    @Column(name = "cycle_time_seconds", nullable = false)
+    private long cycleTimeSeconds = 0;
+
+    @Builder.Default
+    @Column(name = "blocked_count", nullable = false)
+    private long blockedCount = 0;
+
+    @Builder.Default
+    @Column(name = "blocked_seconds", nullable = false)
+    private long blockedSeconds = 0;
+}
@@ -0,0 +1,36 @@
+package com.patikadev.definex.advancedtaskmanager.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "task_flow_states")
+public class TaskFlowState extends BaseEntity {
+
+    @Id
+    @Column(name = "task_id", updatable = false)
+    private UUID taskId;
+
+    @Column(name = "project_id", nullable = false)
+    private UUID projectId;
+
+    @Column(name = "department_id", nullable = false)
+    private Long departmentId;
+
+    @Column(name = "opened_at", nullable = false)
+    private LocalDateTime openedAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "blocked_since")
+    private LocalDateTime blockedSince;
+}
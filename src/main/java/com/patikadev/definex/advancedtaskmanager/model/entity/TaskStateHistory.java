@@ -15,7 +15,10 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "task_state_histories")
+@Table(name = "task_state_histories", indexes = {
+        @Index(name = "idx_task_state_histories_task_changed_at_id", columnList = "task_id, changed_at, id"),
+        @Index(name = "idx_task_state_histories_changed_at_id", columnList = "changed_at, id")
+})
 public class TaskStateHistory extends BaseEntity {
 
     @Id
@@ -0,0 +1,52 @@
+package com.patikadev.definex.advancedtaskmanager.model.entity;
+
+import com.patikadev.definex.advancedtaskmanager.constant.FileConstants;
+import com.patikadev.definex.advancedtaskmanager.constant.ValidationMessages;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "upload_sessions")
+public class UploadSession extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @NotBlank(message = ValidationMessages.FILE_NAME_NOT_BLANK)
+    @Size(max = FileConstants.MAX_FILE_NAME_LENGTH, message = ValidationMessages.FILE_NAME_MAX_SIZE)
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    @Size(max = FileConstants.MAX_CONTENT_TYPE_LENGTH, message = ValidationMessages.CONTENT_TYPE_MAX_SIZE)
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+
+    @Column(name = "total_size", nullable = false)
+    private Long totalSize;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @NotNull(message = ValidationMessages.FILE_TASK)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id", nullable = false)
+    private Task task;
+
+    @NotNull(message = ValidationMessages.FILE_UPLOADER)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "uploaded_by_user_id", nullable = false)
+    private User uploadedByUser;
+}
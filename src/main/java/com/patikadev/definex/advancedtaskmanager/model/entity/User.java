@@ -17,7 +17,9 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_created_at_id", columnList = "created_at, id")
+})
 public class User extends Auditable {
 
     @Id
@@ -0,0 +1,29 @@
+package com.patikadev.definex.advancedtaskmanager.model.enums;
+
+import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
+import com.patikadev.definex.advancedtaskmanager.constant.FileConstants;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+@Getter
+@RequiredArgsConstructor
+public enum DataFormat {
+    CSV(FileConstants.TEXT_CSV_VALUE, "csv"),
+    NDJSON(MediaType.APPLICATION_NDJSON_VALUE, "ndjson");
+
+    private final String mediaType;
+    private final String fileExtension;
+
+    public static DataFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            MediaType requested = MediaType.parseMediaType(contentType);
+            for (DataFormat format : values()) {
+                if (requested.isCompatibleWith(MediaType.parseMediaType(format.mediaType))) {
+                    return format;
+                }
+            }
+        }
+        throw new IllegalArgumentException(ErrorMessages.DATA_FORMAT_UNSUPPORTED.formatted(contentType));
+    }
+}
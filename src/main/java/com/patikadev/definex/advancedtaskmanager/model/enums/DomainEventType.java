@@ -0,0 +1,10 @@
+package com.patikadev.definex.advancedtaskmanager.model.enums;
+
+public enum DomainEventType {
+    TASK_CREATED,
+    TASK_STATE_CHANGED,
+    TASK_ASSIGNED,
+    COMMENT_ADDED,
+    ATTACHMENT_UPLOADED,
+    PROJECT_STATUS_CHANGED
+}
@@ -0,0 +1,7 @@
+package com.patikadev.definex.advancedtaskmanager.model.enums;
+
+public enum SyncEntityType {
+    TASK,
+    COMMENT,
+    ATTACHMENT
+}
@@ -0,0 +1,11 @@
+package com.patikadev.definex.advancedtaskmanager.model.enums;
+
+public enum TaskActivityType {
+    TASK_CREATED,
+    TASK_UPDATED,
+    TASK_STATE_CHANGED,
+    TASK_ASSIGNED,
+    TASK_UNASSIGNED,
+    TASK_DELETED,
+    COMMENT_ADDED
+}
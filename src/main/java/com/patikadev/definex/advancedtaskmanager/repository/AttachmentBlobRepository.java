@@ -0,0 +1,52 @@
+package com.patikadev.definex.advancedtaskmanager.repository;
+
+import com.patikadev.definex.advancedtaskmanager.model.entity.AttachmentBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AttachmentBlobRepository extends JpaRepository<AttachmentBlob, Long> {
+
+    Optional<AttachmentBlob> findByContentHash(String contentHash);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM AttachmentBlob b WHERE b.contentHash = :contentHash")
+    Optional<AttachmentBlob> findByContentHashForUpdate(@Param("contentHash") String contentHash);
+
+    @Modifying
+    @Query("""
+                UPDATE AttachmentBlob b
+                SET b.referenceCount = b.referenceCount + 1, b.updatedAt = :now
+                WHERE b.contentHash = :contentHash
+            """)
+    int incrementReferenceCount(@Param("contentHash") String contentHash, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+                UPDATE AttachmentBlob b
+                SET b.referenceCount = b.referenceCount - 1, b.updatedAt = :now
+                WHERE b.contentHash = :contentHash AND b.referenceCount > 0
+            """)
+    int decrementReferenceCount(@Param("contentHash") String contentHash, @Param("now") LocalDateTime now);
+
+    @Query("""
+                SELECT b.id FROM AttachmentBlob b
+                WHERE b.referenceCount = 0 AND b.updatedAt < :releasedBefore
+                ORDER BY b.updatedAt
+            """)
+    List<Long> findOrphanedBlobIds(@Param("releasedBefore") LocalDateTime releasedBefore, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM AttachmentBlob b WHERE b.id = :id AND b.referenceCount = 0")
+    Optional<AttachmentBlob> findOrphanedBlobForUpdate(@Param("id") Long id);
+}
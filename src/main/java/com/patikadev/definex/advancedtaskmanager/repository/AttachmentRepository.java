@@ -1,10 +1,14 @@
 package com.patikadev.definex.advancedtaskmanager.repository;
 
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.sync.SyncAttachmentResponse;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Attachment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,6 +22,8 @@ public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
 
     boolean existsByIdAndIsActiveTrue(Long id);
 
+    long countByFilePathAndIsActiveTrue(String filePath);
+
     @Query("""
                 SELECT a FROM Attachment a
                 JOIN FETCH a.task t
@@ -26,4 +32,23 @@ public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
                 ORDER BY a.createdAt DESC
             """)
     List<Attachment> findAllByTaskIdWithDetails(UUID taskId);
-} 
\ No newline at end of file
+
+    @Query("""
+                SELECT new com.patikadev.definex.advancedtaskmanager.model.dto.response.sync.SyncAttachmentResponse(
+                    a.id, t.id, a.fileName, a.fileSize, a.contentType, a.contentHash, a.uploadedByUser.id,
+                    a.createdAt, a.updatedAt, a.isActive)
+                FROM Attachment a
+                JOIN a.task t
+                JOIN t.project p
+                WHERE (:departmentId IS NULL OR p.department.id = :departmentId)
+                AND a.updatedAt <= :upperBound
+                AND (:cursorUpdatedAt IS NULL OR a.updatedAt > :cursorUpdatedAt OR (a.updatedAt = :cursorUpdatedAt AND a.id > :cursorId))
+                AND (:cursorUpdatedAt IS NOT NULL OR a.isActive = true)
+                ORDER BY a.updatedAt, a.id
+            """)
+    List<SyncAttachmentResponse> findSyncPage(@Param("departmentId") Long departmentId,
+                                              @Param("upperBound") LocalDateTime upperBound,
+                                              @Param("cursorUpdatedAt") LocalDateTime cursorUpdatedAt,
+                                              @Param("cursorId") Long cursorId,
+                                              Limit limit);
+}
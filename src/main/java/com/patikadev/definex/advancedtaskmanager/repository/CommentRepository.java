@@ -1,10 +1,16 @@
 package com.patikadev.definex.advancedtaskmanager.repository;
 
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.TaskCommentContent;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.sync.SyncCommentResponse;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -26,4 +32,55 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
                 ORDER BY c.createdAt DESC
             """)
     List<Comment> findAllByTaskIdWithDetails(UUID taskId);
-} 
\ No newline at end of file
+
+    @Query("""
+                SELECT c FROM Comment c
+                JOIN FETCH c.task t
+                JOIN FETCH c.user u
+                WHERE t.id = :taskId AND c.isActive = true
+                AND (:cursorCreatedAt IS NULL OR c.createdAt < :cursorCreatedAt OR (c.createdAt = :cursorCreatedAt AND c.id < :cursorId))
+                ORDER BY c.createdAt DESC, c.id DESC
+            """)
+    List<Comment> findPageByTaskIdWithDetails(@Param("taskId") UUID taskId,
+                                              @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                              @Param("cursorId") Long cursorId,
+                                              Limit limit);
+
+    @Query("""
+                SELECT c FROM Comment c
+                JOIN FETCH c.task t
+                JOIN FETCH c.user u
+                WHERE u.id = :userId AND c.isActive = true
+                AND (:cursorCreatedAt IS NULL OR c.createdAt < :cursorCreatedAt OR (c.createdAt = :cursorCreatedAt AND c.id < :cursorId))
+                ORDER BY c.createdAt DESC, c.id DESC
+            """)
+    List<Comment> findPageByUserIdAndIsActiveTrue(@Param("userId") UUID userId,
+                                                  @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                  @Param("cursorId") Long cursorId,
+                                                  Limit limit);
+
+    @Query("""
+                SELECT new com.patikadev.definex.advancedtaskmanager.model.dto.common.TaskCommentContent(c.task.id, c.content)
+                FROM Comment c
+                WHERE c.task.id IN :taskIds AND c.isActive = true
+            """)
+    List<TaskCommentContent> findSearchContentsByTaskIdIn(@Param("taskIds") Collection<UUID> taskIds);
+
+    @Query("""
+                SELECT new com.patikadev.definex.advancedtaskmanager.model.dto.response.sync.SyncCommentResponse(
+                    c.id, t.id, c.user.id, c.content, c.createdAt, c.updatedAt, c.isActive)
+                FROM Comment c
+                JOIN c.task t
+                JOIN t.project p
+                WHERE (:departmentId IS NULL OR p.department.id = :departmentId)
+                AND c.updatedAt <= :upperBound
+                AND (:cursorUpdatedAt IS NULL OR c.updatedAt > :cursorUpdatedAt OR (c.updatedAt = :cursorUpdatedAt AND c.id > :cursorId))
+                AND (:cursorUpdatedAt IS NOT NULL OR c.isActive = true)
+                ORDER BY c.updatedAt, c.id
+            """)
+    List<SyncCommentResponse> findSyncPage(@Param("departmentId") Long departmentId,
+                                           @Param("upperBound") LocalDateTime upperBound,
+                                           @Param("cursorUpdatedAt") LocalDateTime cursorUpdatedAt,
+                                           @Param("cursorId") Long cursorId,
+                                           Limit limit);
+}
@@ -1,9 +1,14 @@
 package com.patikadev.definex.advancedtaskmanager.repository;
 
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.DepartmentCountView;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.DepartmentDetailVersion;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Department;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,9 +16,33 @@ import java.util.Optional;
 public interface DepartmentRepository extends JpaRepository<Department, Long> {
     Optional<Department> findByIdAndIsActiveTrue(Long id);
 
+    @Query("""
+                SELECT new com.patikadev.definex.advancedtaskmanager.model.dto.common.DepartmentDetailVersion(
+                    d.version, d.updatedAt,
+                    (SELECT MAX(u.updatedAt) FROM User u WHERE u.department.id = d.id),
+                    (SELECT COUNT(u) FROM User u WHERE u.department.id = d.id),
+                    (SELECT MAX(p.updatedAt) FROM Project p WHERE p.department.id = d.id),
+                    (SELECT COUNT(p) FROM Project p WHERE p.department.id = d.id),
+                    (SELECT MAX(t.updatedAt) FROM Task t WHERE t.project.department.id = d.id),
+                    (SELECT COUNT(t) FROM Task t WHERE t.project.department.id = d.id))
+                FROM Department d
+                WHERE d.id = :id AND d.isActive = true
+            """)
+    Optional<DepartmentDetailVersion> findDetailVersionById(@Param("id") Long id);
+
     Optional<Department> findByNameAndIsActiveTrue(String name);
 
     List<Department> findAllByIsActiveTrue();
 
     boolean existsByIdAndIsActiveTrue(Long id);
-} 
\ No newline at end of file
+
+    @Query("""
+                SELECT new com.patikadev.definex.advancedtaskmanager.model.dto.common.DepartmentCountView(
+                    d.id,
+                    (SELECT COUNT(u) FROM User u WHERE u.department = d AND u.isActive = true),
+                    (SELECT COUNT(p) FROM Project p WHERE p.department = d AND p.isActive = true))
+                FROM Department d
+                WHERE d.id IN :departmentIds
+            """)
+    List<DepartmentCountView> findCountsByIdIn(@Param("departmentIds") Collection<Long> departmentIds);
+}
@@ -0,0 +1,49 @@
+package com.patikadev.definex.advancedtaskmanager.repository;
+
+import com.patikadev.definex.advancedtaskmanager.model.entity.DomainEventOutbox;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface DomainEventOutboxRepository extends JpaRepository<DomainEventOutbox, Long> {
+
+    @Query("""
+                SELECT o FROM DomainEventOutbox o
+                WHERE o.isActive = true AND o.nextAttemptAt <= :now
+                AND (o.claimedUntil IS NULL OR o.claimedUntil <= :now)
+                AND NOT EXISTS (
+                    SELECT 1 FROM DomainEventOutbox p
+                    WHERE p.aggregateId = o.aggregateId AND p.id < o.id
+                    AND p.isActive = true AND (p.nextAttemptAt > :now OR p.claimedUntil > :now)
+                )
+                ORDER BY o.id
+            """)
+    List<DomainEventOutbox> findDeliverable(@Param("now") LocalDateTime now, Limit limit);
+
+    @Modifying
+    @Query("""
+                UPDATE DomainEventOutbox o SET o.claimedBy = :owner, o.claimedUntil = :claimedUntil
+                WHERE o.id IN :ids AND (o.claimedUntil IS NULL OR o.claimedUntil <= :now)
+            """)
+    int claim(@Param("ids") List<Long> ids,
+              @Param("owner") String owner,
+              @Param("claimedUntil") LocalDateTime claimedUntil,
+              @Param("now") LocalDateTime now);
+
+    @Query("SELECT o.id FROM DomainEventOutbox o WHERE o.id IN :ids AND o.claimedBy = :owner")
+    List<Long> findClaimedIds(@Param("ids") List<Long> ids, @Param("owner") String owner);
+
+    @Modifying
+    @Query("""
+                UPDATE DomainEventOutbox o SET o.claimedBy = NULL, o.claimedUntil = NULL
+                WHERE o.id IN :ids AND o.claimedBy = :owner
+            """)
+    int release(@Param("ids") List<Long> ids, @Param("owner") String owner);
+}
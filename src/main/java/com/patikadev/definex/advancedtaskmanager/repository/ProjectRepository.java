@@ -1,12 +1,17 @@
 package com.patikadev.definex.advancedtaskmanager.repository;
 
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.ProjectCountView;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.ProjectDetailVersion;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Project;
 import com.patikadev.definex.advancedtaskmanager.model.enums.ProjectStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,6 +20,23 @@ import java.util.UUID;
 public interface ProjectRepository extends JpaRepository<Project, UUID> {
     Optional<Project> findByIdAndIsActiveTrue(UUID id);
 
+    @Query("""
+                SELECT new com.patikadev.definex.advancedtaskmanager.model.dto.common.ProjectDetailVersion(
+                    p.version, p.updatedAt, d.updatedAt,
+                    (SELECT MAX(m.updatedAt) FROM Project mp JOIN mp.teamMembers m WHERE mp.id = p.id),
+                    (SELECT COUNT(m) FROM Project mp JOIN mp.teamMembers m WHERE mp.id = p.id),
+                    (SELECT MAX(t.updatedAt) FROM Task t WHERE t.project.id = p.id),
+                    (SELECT COUNT(t) FROM Task t WHERE t.project.id = p.id),
+                    (SELECT MAX(c.updatedAt) FROM Comment c WHERE c.task.project.id = p.id),
+                    (SELECT COUNT(c) FROM Comment c WHERE c.task.project.id = p.id),
+                    (SELECT MAX(a.updatedAt) FROM Attachment a WHERE a.task.project.id = p.id),
+                    (SELECT COUNT(a) FROM Attachment a WHERE a.task.project.id = p.id))
+                FROM Project p
+                JOIN p.department d
+                WHERE p.id = :id AND p.isActive = true
+            """)
+    Optional<ProjectDetailVersion> findDetailVersionById(@Param("id") UUID id);
+
     List<Project> findAllByIsActiveTrue();
 
     List<Project> findAllByDepartmentIdAndIsActiveTrue(Long departmentId);
@@ -24,5 +46,69 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
     @Query("SELECT p FROM Project p JOIN p.teamMembers m WHERE m.id = :userId AND p.isActive = true")
     List<Project> findAllByTeamMemberIdAndIsActiveTrue(@Param("userId") UUID userId);
 
+    @Query("""
+                SELECT p FROM Project p
+                JOIN FETCH p.department d
+                WHERE p.isActive = true
+                AND (:cursorCreatedAt IS NULL OR p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId))
+                ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<Project> findPageByIsActiveTrue(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                         @Param("cursorId") UUID cursorId,
+                                         Limit limit);
+
+    @Query("""
+                SELECT p FROM Project p
+                JOIN FETCH p.department d
+                WHERE d.id = :departmentId AND p.isActive = true
+                AND (:cursorCreatedAt IS NULL OR p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId))
+                ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<Project> findPageByDepartmentIdAndIsActiveTrue(@Param("departmentId") Long departmentId,
+                                                        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                        @Param("cursorId") UUID cursorId,
+                                                        Limit limit);
+
+    @Query("""
+                SELECT p FROM Project p
+                JOIN FETCH p.department d
+                WHERE p.status = :status AND p.isActive = true
+                AND (:cursorCreatedAt IS NULL OR p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId))
+                ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<Project> findPageByStatusAndIsActiveTrue(@Param("status") ProjectStatus status,
+                                                  @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                  @Param("cursorId") UUID cursorId,
+                                                  Limit limit);
+
+    @Query("""
+                SELECT p FROM Project p
+                JOIN FETCH p.department d
+                JOIN p.teamMembers m
+                WHERE m.id = :userId AND p.isActive = true
+                AND (:cursorCreatedAt IS NULL OR p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId))
+                ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<Project> findPageByTeamMemberIdAndIsActiveTrue(@Param("userId") UUID userId,
+                                                        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                        @Param("cursorId") UUID cursorId,
+                                                        Limit limit);
+
     boolean existsByIdAndIsActiveTrue(UUID id);
-} 
\ No newline at end of file
+
+    List<Project> findAllByIdInAndIsActiveTrue(Collection<UUID> ids);
+
+    @Query("""
+                SELECT new com.patikadev.definex.advancedtaskmanager.model.dto.common.ProjectCountView(
+                    p.id,
+                    (SELECT COUNT(t) FROM Task t WHERE t.project = p AND t.isActive = true),
+                    (SELECT COUNT(t) FROM Task t WHERE t.project = p AND t.isActive = true
+                        AND t.state = com.patikadev.definex.advancedtaskmanager.model.enums.TaskState.COMPLETED))
+                FROM Project p
+                WHERE p.id IN :projectIds
+            """)
+    List<ProjectCountView> findCountsByIdIn(@Param("projectIds") Collection<UUID> projectIds);
+
+    @Query("SELECT p.id FROM Project p WHERE p.department.id = :departmentId AND p.isActive = true")
+    List<UUID> findActiveIdsByDepartmentId(@Param("departmentId") Long departmentId);
+}
@@ -0,0 +1,19 @@
+package com.patikadev.definex.advancedtaskmanager.repository;
+
+import com.patikadev.definex.advancedtaskmanager.model.entity.RollupCursor;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RollupCursorRepository extends JpaRepository<RollupCursor, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM RollupCursor c WHERE c.name = :name")
+    Optional<RollupCursor> findByNameForUpdate(@Param("name") String name);
+}
@@ -0,0 +1,45 @@
+package com.patikadev.definex.advancedtaskmanager.repository;
+
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.TaskFlowDailyTotals;
+import com.patikadev.definex.advancedtaskmanager.model.entity.TaskFlowDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TaskFlowDailyRollupRepository extends JpaRepository<TaskFlowDailyRollup, Long> {
+
+    List<TaskFlowDailyRollup> findAllByProjectIdInAndBucketDateIn(Collection<UUID> projectIds, Collection<LocalDate> bucketDates);
+
+    @Query("""
+                SELECT new com.patikadev.definex.advancedtaskmanager.model.dto.common.TaskFlowDailyTotals(
+                    r.bucketDate, SUM(r.completedCount), SUM(r.leadTimeSeconds), SUM(r.cycleTimeCount),
+                    SUM(r.cycleTimeSeconds), SUM(r.blockedCount), SUM(r.blockedSeconds))
+                FROM TaskFlowDailyRollup r
+                WHERE r.projectId = :projectId AND r.bucketDate BETWEEN :from AND :to
+                GROUP BY r.bucketDate
+                ORDER BY r.bucketDate
+            """)
+    List<TaskFlowDailyTotals> findDailyTotalsByProjectId(@Param("projectId") UUID projectId,
+                                                         @Param("from") LocalDate from,
+                                                         @Param("to") LocalDate to);
+
+    @Query("""
+                SELECT new com.patikadev.definex.advancedtaskmanager.model.dto.common.TaskFlowDailyTotals(
+                    r.bucketDate, SUM(r.completedCount), SUM(r.leadTimeSeconds), SUM(r.cycleTimeCount),
+                    SUM(r.cycleTimeSeconds), SUM(r.blockedCount), SUM(r.blockedSeconds))
+                FROM TaskFlowDailyRollup r
+                WHERE r.departmentId = :departmentId AND r.bucketDate BETWEEN :from AND :to
+                GROUP BY r.bucketDate
+                ORDER BY r.bucketDate
+            """)
+    List<TaskFlowDailyTotals> findDailyTotalsByDepartmentId(@Param("departmentId") Long departmentId,
+                                                            @Param("from") LocalDate from,
+                                                            @Param("to") LocalDate to);
+}
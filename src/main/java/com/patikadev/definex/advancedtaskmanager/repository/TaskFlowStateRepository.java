@@ -0,0 +1,11 @@
+package com.patikadev.definex.advancedtaskmanager.repository;
+
+import com.patikadev.definex.advancedtaskmanager.model.entity.TaskFlowState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface TaskFlowStateRepository extends JpaRepository<TaskFlowState, UUID> {
+}
@@ -1,20 +1,52 @@
 package com.patikadev.definex.advancedtaskmanager.repository;
 
+import com.patikadev.definex.advancedtaskmanager.constant.PaginationConstants;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.TaskCountView;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.TaskDetailVersion;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.TaskSearchDocument;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.sync.SyncTaskResponse;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.task.TaskExportRow;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Task;
 import com.patikadev.definex.advancedtaskmanager.model.enums.TaskPriority;
 import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, UUID> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificationExecutor<Task> {
 
     Optional<Task> findByIdAndIsActiveTrue(UUID id);
 
+    @Query("""
+                SELECT new com.patikadev.definex.advancedtaskmanager.model.dto.common.TaskDetailVersion(
+                    p.department.id, t.version, t.updatedAt, p.updatedAt, au.updatedAt,
+                    (SELECT MAX(c.updatedAt) FROM Comment c WHERE c.task.id = t.id),
+                    (SELECT COUNT(c) FROM Comment c WHERE c.task.id = t.id),
+                    (SELECT MAX(a.updatedAt) FROM Attachment a WHERE a.task.id = t.id),
+                    (SELECT COUNT(a) FROM Attachment a WHERE a.task.id = t.id),
+                    (SELECT MAX(h.id) FROM TaskStateHistory h WHERE h.task.id = t.id),
+                    (SELECT COUNT(h) FROM TaskStateHistory h WHERE h.task.id = t.id))
+                FROM Task t
+                JOIN t.project p
+                LEFT JOIN t.assignedUser au
+                WHERE t.id = :id AND t.isActive = true
+            """)
+    Optional<TaskDetailVersion> findDetailVersionById(@Param("id") UUID id);
+
     List<Task> findAllByIsActiveTrue();
 
     List<Task> findAllByProjectIdAndIsActiveTrue(UUID projectId);
@@ -25,5 +57,201 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
 
     List<Task> findAllByPriorityAndIsActiveTrue(TaskPriority priority);
 
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = PaginationConstants.EXPORT_FETCH_SIZE))
+    @Query("""
+                SELECT new com.patikadev.definex.advancedtaskmanager.model.dto.response.task.TaskExportRow(
+                    t.id, t.title, t.state, t.priority, t.stateChangeReason, p.id, p.department.id, t.assignedUser.id,
+                    t.createdAt, t.updatedAt)
+                FROM Task t
+                JOIN t.project p
+                WHERE t.isActive = true
+                AND (:departmentId IS NULL OR p.department.id = :departmentId)
+                AND (:state IS NULL OR t.state = :state)
+                AND (:priority IS NULL OR t.priority = :priority)
+                AND (:projectId IS NULL OR p.id = :projectId)
+                AND (:from IS NULL OR t.createdAt >= :from)
+                AND (:to IS NULL OR t.createdAt < :to)
+                ORDER BY t.createdAt, t.id
+            """)
+    Stream<TaskExportRow> streamExportRows(@Param("departmentId") Long departmentId,
+                                           @Param("state") TaskState state,
+                                           @Param("priority") TaskPriority priority,
+                                           @Param("projectId") UUID projectId,
+                                           @Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to);
+
+    @Query("""
+                SELECT t FROM Task t
+                JOIN FETCH t.project p
+                JOIN FETCH p.department
+                WHERE t.id IN :ids AND t.isActive = true
+            """)
+    List<Task> findAllByIdInAndIsActiveTrueWithProject(@Param("ids") Collection<UUID> ids);
+
+    @Query("""
+                SELECT t FROM Task t
+                JOIN FETCH t.project p
+                LEFT JOIN FETCH t.assignedUser
+                WHERE t.isActive = true
+                AND (:cursorCreatedAt IS NULL OR t.createdAt < :cursorCreatedAt OR (t.createdAt = :cursorCreatedAt AND t.id < :cursorId))
+                ORDER BY t.createdAt DESC, t.id DESC
+            """)
+    List<Task> findPageByIsActiveTrue(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                      @Param("cursorId") UUID cursorId,
+                                      Limit limit);
+
+    @Query("""
+                SELECT t FROM Task t
+                JOIN FETCH t.project p
+                LEFT JOIN FETCH t.assignedUser
+                WHERE p.department.id = :departmentId AND t.isActive = true
+                AND (:cursorCreatedAt IS NULL OR t.createdAt < :cursorCreatedAt OR (t.createdAt = :cursorCreatedAt AND t.id < :cursorId))
+                ORDER BY t.createdAt DESC, t.id DESC
+            """)
+    List<Task> findPageByDepartmentIdAndIsActiveTrue(@Param("departmentId") Long departmentId,
+                                                     @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                     @Param("cursorId") UUID cursorId,
+                                                     Limit limit);
+
+    @Query("""
+                SELECT t FROM Task t
+                JOIN FETCH t.project p
+                LEFT JOIN FETCH t.assignedUser
+                WHERE p.id = :projectId AND t.isActive = true
+                AND (:cursorCreatedAt IS NULL OR t.createdAt < :cursorCreatedAt OR (t.createdAt = :cursorCreatedAt AND t.id < :cursorId))
+                ORDER BY t.createdAt DESC, t.id DESC
+            """)
+    List<Task> findPageByProjectIdAndIsActiveTrue(@Param("projectId") UUID projectId,
+                                                  @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                  @Param("cursorId") UUID cursorId,
+                                                  Limit limit);
+
+    @Query("""
+                SELECT t FROM Task t
+                JOIN FETCH t.project p
+                LEFT JOIN FETCH t.assignedUser u
+                WHERE u.id = :userId AND t.isActive = true
+                AND (:cursorCreatedAt IS NULL OR t.createdAt < :cursorCreatedAt OR (t.createdAt = :cursorCreatedAt AND t.id < :cursorId))
+                ORDER BY t.createdAt DESC, t.id DESC
+            """)
+    List<Task> findPageByAssignedUserIdAndIsActiveTrue(@Param("userId") UUID userId,
+                                                       @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                       @Param("cursorId") UUID cursorId,
+                                                       Limit limit);
+
+    @Query("""
+                SELECT t FROM Task t
+                JOIN FETCH t.project p
+                LEFT JOIN FETCH t.assignedUser u
+                WHERE u.id = :userId AND p.department.id = :departmentId AND t.isActive = true
+                AND (:cursorCreatedAt IS NULL OR t.createdAt < :cursorCreatedAt OR (t.createdAt = :cursorCreatedAt AND t.id < :cursorId))
+                ORDER BY t.createdAt DESC, t.id DESC
+            """)
+    List<Task> findPageByAssignedUserIdAndDepartmentIdAndIsActiveTrue(@Param("userId") UUID userId,
+                                                                      @Param("departmentId") Long departmentId,
+                                                                      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                                      @Param("cursorId") UUID cursorId,
+                                                                      Limit limit);
+
+    @Query("""
+                SELECT t FROM Task t
+                JOIN FETCH t.project p
+                LEFT JOIN FETCH t.assignedUser
+                WHERE t.state = :state AND t.isActive = true
+                AND (:cursorCreatedAt IS NULL OR t.createdAt < :cursorCreatedAt OR (t.createdAt = :cursorCreatedAt AND t.id < :cursorId))
+                ORDER BY t.createdAt DESC, t.id DESC
+            """)
+    List<Task> findPageByStateAndIsActiveTrue(@Param("state") TaskState state,
+                                              @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                              @Param("cursorId") UUID cursorId,
+                                              Limit limit);
+
+    @Query("""
+                SELECT t FROM Task t
+                JOIN FETCH t.project p
+                LEFT JOIN FETCH t.assignedUser
+                WHERE t.state = :state AND p.department.id = :departmentId AND t.isActive = true
+                AND (:cursorCreatedAt IS NULL OR t.createdAt < :cursorCreatedAt OR (t.createdAt = :cursorCreatedAt AND t.id < :cursorId))
+                ORDER BY t.createdAt DESC, t.id DESC
+            """)
+    List<Task> findPageByStateAndDepartmentIdAndIsActiveTrue(@Param("state") TaskState state,
+                                                             @Param("departmentId") Long departmentId,
+                                                             @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                             @Param("cursorId") UUID cursorId,
+                                                             Limit limit);
+
+    @Query("""
+                SELECT t FROM Task t
+                JOIN FETCH t.project p
+                LEFT JOIN FETCH t.assignedUser
+                WHERE t.priority = :priority AND t.isActive = true
+                AND (:cursorCreatedAt IS NULL OR t.createdAt < :cursorCreatedAt OR (t.createdAt = :cursorCreatedAt AND t.id < :cursorId))
+                ORDER BY t.createdAt DESC, t.id DESC
+            """)
+    List<Task> findPageByPriorityAndIsActiveTrue(@Param("priority") TaskPriority priority,
+                                                 @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                 @Param("cursorId") UUID cursorId,
+                                                 Limit limit);
+
+    @Query("""
+                SELECT t FROM Task t
+                JOIN FETCH t.project p
+                LEFT JOIN FETCH t.assignedUser
+                WHERE t.priority = :priority AND p.department.id = :departmentId AND t.isActive = true
+                AND (:cursorCreatedAt IS NULL OR t.createdAt < :cursorCreatedAt OR (t.createdAt = :cursorCreatedAt AND t.id < :cursorId))
+                ORDER BY t.createdAt DESC, t.id DESC
+            """)
+    List<Task> findPageByPriorityAndDepartmentIdAndIsActiveTrue(@Param("priority") TaskPriority priority,
+                                                                @Param("departmentId") Long departmentId,
+                                                                @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                                @Param("cursorId") UUID cursorId,
+                                                                Limit limit);
+
     boolean existsByIdAndIsActiveTrue(UUID id);
-} 
\ No newline at end of file
+
+    @Query("""
+                SELECT new com.patikadev.definex.advancedtaskmanager.model.dto.common.TaskCountView(
+                    t.id,
+                    (SELECT COUNT(c) FROM Comment c WHERE c.task = t AND c.isActive = true),
+                    (SELECT COUNT(a) FROM Attachment a WHERE a.task = t AND a.isActive = true))
+                FROM Task t
+                WHERE t.id IN :taskIds
+            """)
+    List<TaskCountView> findCountsByIdIn(@Param("taskIds") Collection<UUID> taskIds);
+
+    @Query("""
+                SELECT new com.patikadev.definex.advancedtaskmanager.model.dto.common.TaskSearchDocument(
+                    t.id, t.project.id, t.title, t.userStory, t.acceptanceCriteria, t.state, t.priority)
+                FROM Task t
+                WHERE t.id IN :ids AND t.isActive = true
+            """)
+    List<TaskSearchDocument> findSearchDocumentsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("""
+                SELECT new com.patikadev.definex.advancedtaskmanager.model.dto.common.TaskSearchDocument(
+                    t.id, t.project.id, t.title, t.userStory, t.acceptanceCriteria, t.state, t.priority)
+                FROM Task t
+                WHERE t.isActive = true
+                AND (:afterId IS NULL OR t.id > :afterId)
+                ORDER BY t.id
+            """)
+    List<TaskSearchDocument> findSearchDocumentsAfter(@Param("afterId") UUID afterId, Limit limit);
+
+    @Query("""
+                SELECT new com.patikadev.definex.advancedtaskmanager.model.dto.response.sync.SyncTaskResponse(
+                    t.id, p.id, t.title, t.userStory, t.acceptanceCriteria, t.state, t.priority, t.stateChangeReason,
+                    t.assignedUser.id, t.createdAt, t.updatedAt, t.isActive)
+                FROM Task t
+                JOIN t.project p
+                WHERE (:departmentId IS NULL OR p.department.id = :departmentId)
+                AND t.updatedAt <= :upperBound
+                AND (:cursorUpdatedAt IS NULL OR t.updatedAt > :cursorUpdatedAt OR (t.updatedAt = :cursorUpdatedAt AND t.id > :cursorId))
+                AND (:cursorUpdatedAt IS NOT NULL OR t.isActive = true)
+                ORDER BY t.updatedAt, t.id
+            """)
+    List<SyncTaskResponse> findSyncPage(@Param("departmentId") Long departmentId,
+                                        @Param("upperBound") LocalDateTime upperBound,
+                                        @Param("cursorUpdatedAt") LocalDateTime cursorUpdatedAt,
+                                        @Param("cursorId") UUID cursorId,
+                                        Limit limit);
+}
@@ -0,0 +1,50 @@
+package com.patikadev.definex.advancedtaskmanager.repository;
+
+import com.patikadev.definex.advancedtaskmanager.model.entity.TaskStateHistoryOutbox;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TaskStateHistoryOutboxRepository extends JpaRepository<TaskStateHistoryOutbox, Long> {
+
+    @Query("SELECT o.id FROM TaskStateHistoryOutbox o WHERE o.isActive = true AND o.createdAt < :createdBefore ORDER BY o.id")
+    List<Long> findPendingIds(@Param("createdBefore") LocalDateTime createdBefore, Limit limit);
+
+    @Modifying
+    @Query("""
+                INSERT INTO TaskStateHistoryOutbox (taskId, oldState, newState, reason, changedAt, changedByUserId, attempts, createdAt, updatedAt, isActive)
+                SELECT t.id, t.state, :newState, :reason, :changedAt, :changedByUserId, 0, :changedAt, :changedAt, true
+                FROM Task t
+                WHERE t.id IN :taskIds
+            """)
+    int insertForTasks(@Param("taskIds") Collection<UUID> taskIds,
+                       @Param("newState") TaskState newState,
+                       @Param("reason") String reason,
+                       @Param("changedAt") LocalDateTime changedAt,
+                       @Param("changedByUserId") UUID changedByUserId);
+
+    @Modifying
+    @Query("""
+                INSERT INTO TaskStateHistoryOutbox (taskId, newState, changedAt, changedByUserId, attempts, createdAt, updatedAt, isActive)
+                SELECT t.id, t.state, :changedAt, :changedByUserId, 0, :changedAt, :changedAt, true
+                FROM Task t
+                WHERE t.id IN :taskIds
+            """)
+    int insertInitialForTasks(@Param("taskIds") Collection<UUID> taskIds,
+                              @Param("changedAt") LocalDateTime changedAt,
+                              @Param("changedByUserId") UUID changedByUserId);
+
+    @Query("SELECT o.id FROM TaskStateHistoryOutbox o WHERE o.taskId IN :taskIds AND o.changedAt = :changedAt")
+    List<Long> findIdsByTaskIdInAndChangedAt(@Param("taskIds") Collection<UUID> taskIds,
+                                             @Param("changedAt") LocalDateTime changedAt);
+}
@@ -1,18 +1,62 @@
 package com.patikadev.definex.advancedtaskmanager.repository;
 
+import com.patikadev.definex.advancedtaskmanager.constant.PaginationConstants;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.TaskFlowEvent;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.taskStateHistory.TaskStateHistoryExportRow;
 import com.patikadev.definex.advancedtaskmanager.model.entity.TaskStateHistory;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskPriority;
 import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface TaskStateHistoryRepository extends JpaRepository<TaskStateHistory, Long> {
 
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = PaginationConstants.EXPORT_FETCH_SIZE))
+    @Query("""
+                SELECT new com.patikadev.definex.advancedtaskmanager.model.dto.response.taskStateHistory.TaskStateHistoryExportRow(
+                    tsh.id, t.id, p.id, tsh.oldState, tsh.newState, tsh.reason, tsh.changedBy.id, tsh.changedAt)
+                FROM TaskStateHistory tsh
+                JOIN tsh.task t
+                JOIN t.project p
+                WHERE tsh.isActive = true
+                AND (:departmentId IS NULL OR p.department.id = :departmentId)
+                AND (:state IS NULL OR tsh.newState = :state)
+                AND (:priority IS NULL OR t.priority = :priority)
+                AND (:projectId IS NULL OR p.id = :projectId)
+                AND (:from IS NULL OR tsh.changedAt >= :from)
+                AND (:to IS NULL OR tsh.changedAt < :to)
+                ORDER BY tsh.changedAt, tsh.id
+            """)
+    Stream<TaskStateHistoryExportRow> streamExportRows(@Param("departmentId") Long departmentId,
+                                                       @Param("state") TaskState state,
+                                                       @Param("priority") TaskPriority priority,
+                                                       @Param("projectId") UUID projectId,
+                                                       @Param("from") LocalDateTime from,
+                                                       @Param("to") LocalDateTime to);
+
+    @Query("""
+                SELECT new com.patikadev.definex.advancedtaskmanager.model.dto.common.TaskFlowEvent(
+                    tsh.id, t.id, p.id, p.department.id, t.createdAt, tsh.oldState, tsh.newState, tsh.changedAt, tsh.updatedAt)
+                FROM TaskStateHistory tsh
+                JOIN tsh.task t
+                JOIN t.project p
+                WHERE tsh.id > :afterId
+                ORDER BY tsh.id
+            """)
+    List<TaskFlowEvent> findFlowEventsAfter(@Param("afterId") Long afterId, Limit limit);
+
     @Query("""
                 SELECT tsh FROM TaskStateHistory tsh
                 JOIN FETCH tsh.task t
@@ -30,5 +74,132 @@ public interface TaskStateHistoryRepository extends JpaRepository<TaskStateHisto
 
     List<TaskStateHistory> findByChangedAtBetweenOrderByChangedAtDesc(LocalDateTime startDate, LocalDateTime endDate);
 
+    @Query("""
+                SELECT tsh FROM TaskStateHistory tsh
+                JOIN FETCH tsh.task t
+                JOIN FETCH tsh.changedBy u
+                WHERE t.id = :taskId
+                AND (:cursorChangedAt IS NULL OR tsh.changedAt < :cursorChangedAt OR (tsh.changedAt = :cursorChangedAt AND tsh.id < :cursorId))
+                ORDER BY tsh.changedAt DESC, tsh.id DESC
+            """)
+    List<TaskStateHistory> findPageByTaskIdWithDetails(@Param("taskId") UUID taskId,
+                                                       @Param("cursorChangedAt") LocalDateTime cursorChangedAt,
+                                                       @Param("cursorId") Long cursorId,
+                                                       Limit limit);
+
+    @Query("""
+                SELECT tsh FROM TaskStateHistory tsh
+                JOIN FETCH tsh.task t
+                JOIN FETCH tsh.changedBy u
+                WHERE u.id = :userId
+                AND (:cursorChangedAt IS NULL OR tsh.changedAt < :cursorChangedAt OR (tsh.changedAt = :cursorChangedAt AND tsh.id < :cursorId))
+                ORDER BY tsh.changedAt DESC, tsh.id DESC
+            """)
+    List<TaskStateHistory> findPageByChangedById(@Param("userId") UUID userId,
+                                                 @Param("cursorChangedAt") LocalDateTime cursorChangedAt,
+                                                 @Param("cursorId") Long cursorId,
+                                                 Limit limit);
+
+    @Query("""
+                SELECT tsh FROM TaskStateHistory tsh
+                JOIN FETCH tsh.task t
+                JOIN FETCH tsh.changedBy u
+                JOIN t.project p
+                WHERE u.id = :userId AND p.department.id = :departmentId
+                AND (:cursorChangedAt IS NULL OR tsh.changedAt < :cursorChangedAt OR (tsh.changedAt = :cursorChangedAt AND tsh.id < :cursorId))
+                ORDER BY tsh.changedAt DESC, tsh.id DESC
+            """)
+    List<TaskStateHistory> findPageByChangedByIdAndDepartmentId(@Param("userId") UUID userId,
+                                                                @Param("departmentId") Long departmentId,
+                                                                @Param("cursorChangedAt") LocalDateTime cursorChangedAt,
+                                                                @Param("cursorId") Long cursorId,
+                                                                Limit limit);
+
+    @Query("""
+                SELECT tsh FROM TaskStateHistory tsh
+                JOIN FETCH tsh.task t
+                JOIN FETCH tsh.changedBy u
+                WHERE tsh.oldState = :oldState
+                AND (:cursorChangedAt IS NULL OR tsh.changedAt < :cursorChangedAt OR (tsh.changedAt = :cursorChangedAt AND tsh.id < :cursorId))
+                ORDER BY tsh.changedAt DESC, tsh.id DESC
+            """)
+    List<TaskStateHistory> findPageByOldState(@Param("oldState") TaskState oldState,
+                                              @Param("cursorChangedAt") LocalDateTime cursorChangedAt,
+                                              @Param("cursorId") Long cursorId,
+                                              Limit limit);
+
+    @Query("""
+                SELECT tsh FROM TaskStateHistory tsh
+                JOIN FETCH tsh.task t
+                JOIN FETCH tsh.changedBy u
+                JOIN t.project p
+                WHERE tsh.oldState = :oldState AND p.department.id = :departmentId
+                AND (:cursorChangedAt IS NULL OR tsh.changedAt < :cursorChangedAt OR (tsh.changedAt = :cursorChangedAt AND tsh.id < :cursorId))
+                ORDER BY tsh.changedAt DESC, tsh.id DESC
+            """)
+    List<TaskStateHistory> findPageByOldStateAndDepartmentId(@Param("oldState") TaskState oldState,
+                                                             @Param("departmentId") Long departmentId,
+                                                             @Param("cursorChangedAt") LocalDateTime cursorChangedAt,
+                                                             @Param("cursorId") Long cursorId,
+                                                             Limit limit);
+
+    @Query("""
+                SELECT tsh FROM TaskStateHistory tsh
+                JOIN FETCH tsh.task t
+                JOIN FETCH tsh.changedBy u
+                WHERE tsh.newState = :newState
+                AND (:cursorChangedAt IS NULL OR tsh.changedAt < :cursorChangedAt OR (tsh.changedAt = :cursorChangedAt AND tsh.id < :cursorId))
+                ORDER BY tsh.changedAt DESC, tsh.id DESC
+            """)
+    List<TaskStateHistory> findPageByNewState(@Param("newState") TaskState newState,
+                                              @Param("cursorChangedAt") LocalDateTime cursorChangedAt,
+                                              @Param("cursorId") Long cursorId,
+                                              Limit limit);
+
+    @Query("""
+                SELECT tsh FROM TaskStateHistory tsh
+                JOIN FETCH tsh.task t
+                JOIN FETCH tsh.changedBy u
+                JOIN t.project p
+                WHERE tsh.newState = :newState AND p.department.id = :departmentId
+                AND (:cursorChangedAt IS NULL OR tsh.changedAt < :cursorChangedAt OR (tsh.changedAt = :cursorChangedAt AND tsh.id < :cursorId))
+                ORDER BY tsh.changedAt DESC, tsh.id DESC
+            """)
+    List<TaskStateHistory> findPageByNewStateAndDepartmentId(@Param("newState") TaskState newState,
+                                                             @Param("departmentId") Long departmentId,
+                                                             @Param("cursorChangedAt") LocalDateTime cursorChangedAt,
+                                                             @Param("cursorId") Long cursorId,
+                                                             Limit limit);
+
+    @Query("""
+                SELECT tsh FROM TaskStateHistory tsh
+                JOIN FETCH tsh.task t
+                JOIN FETCH tsh.changedBy u
+                WHERE tsh.changedAt BETWEEN :startDate AND :endDate
+                AND (:cursorChangedAt IS NULL OR tsh.changedAt < :cursorChangedAt OR (tsh.changedAt = :cursorChangedAt AND tsh.id < :cursorId))
+                ORDER BY tsh.changedAt DESC, tsh.id DESC
+            """)
+    List<TaskStateHistory> findPageByChangedAtBetween(@Param("startDate") LocalDateTime startDate,
+                                                      @Param("endDate") LocalDateTime endDate,
+                                                      @Param("cursorChangedAt") LocalDateTime cursorChangedAt,
+                                                      @Param("cursorId") Long cursorId,
+                                                      Limit limit);
+
+    @Query("""
+                SELECT tsh FROM TaskStateHistory tsh
+                JOIN FETCH tsh.task t
+                JOIN FETCH tsh.changedBy u
+                JOIN t.project p
+                WHERE tsh.changedAt BETWEEN :startDate AND :endDate AND p.department.id = :departmentId
+                AND (:cursorChangedAt IS NULL OR tsh.changedAt < :cursorChangedAt OR (tsh.changedAt = :cursorChangedAt AND tsh.id < :cursorId))
+                ORDER BY tsh.changedAt DESC, tsh.id DESC
+            """)
+    List<TaskStateHistory> findPageByChangedAtBetweenAndDepartmentId(@Param("startDate") LocalDateTime startDate,
+                                                                     @Param("endDate") LocalDateTime endDate,
+                                                                     @Param("departmentId") Long departmentId,
+                                                                     @Param("cursorChangedAt") LocalDateTime cursorChangedAt,
+                                                                     @Param("cursorId") Long cursorId,
+                                                                     Limit limit);
+
     boolean existsById(Long id);
 } 
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.patikadev.definex.advancedtaskmanager.repository;
+
+import com.patikadev.definex.advancedtaskmanager.model.entity.UploadSession;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, UUID> {
+
+    @Query("""
+                SELECT s FROM UploadSession s
+                WHERE s.id = :id AND s.uploadedByUser.id = :userId
+                AND s.isActive = true AND s.expiresAt > :now
+            """)
+    Optional<UploadSession> findActiveSession(@Param("id") UUID id, @Param("userId") UUID userId,
+                                              @Param("now") LocalDateTime now);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+                SELECT s FROM UploadSession s
+                WHERE s.id = :id AND s.uploadedByUser.id = :userId
+                AND s.isActive = true AND s.expiresAt > :now
+            """)
+    Optional<UploadSession> findActiveSessionForUpdate(@Param("id") UUID id, @Param("userId") UUID userId,
+                                                       @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+                UPDATE UploadSession s SET s.expiresAt = :expiresAt
+                WHERE s.id = :id AND s.isActive = true AND s.expiresAt < :expiresAt
+            """)
+    int extendExpiration(@Param("id") UUID id, @Param("expiresAt") LocalDateTime expiresAt);
+
+    List<UploadSession> findAllByIsActiveTrueAndExpiresAtBefore(LocalDateTime now);
+}
@@ -2,13 +2,17 @@ package com.patikadev.definex.advancedtaskmanager.repository;
 
 import com.patikadev.definex.advancedtaskmanager.model.entity.User;
 import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
@@ -25,7 +29,46 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     @Query("SELECT u FROM User u JOIN u.roles r WHERE r.name = :role AND u.isActive = true")
     List<User> findAllByRolesNameAndIsActiveTrue(@Param("role") UserRole role);
 
+    @Query("""
+                SELECT u FROM User u
+                LEFT JOIN FETCH u.department d
+                WHERE u.isActive = true
+                AND (:cursorCreatedAt IS NULL OR u.createdAt < :cursorCreatedAt OR (u.createdAt = :cursorCreatedAt AND u.id < :cursorId))
+                ORDER BY u.createdAt DESC, u.id DESC
+            """)
+    List<User> findPageByIsActiveTrue(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                      @Param("cursorId") UUID cursorId,
+                                      Limit limit);
+
+    @Query("""
+                SELECT u FROM User u
+                LEFT JOIN FETCH u.department d
+                WHERE d.id = :departmentId AND u.isActive = true
+                AND (:cursorCreatedAt IS NULL OR u.createdAt < :cursorCreatedAt OR (u.createdAt = :cursorCreatedAt AND u.id < :cursorId))
+                ORDER BY u.createdAt DESC, u.id DESC
+            """)
+    List<User> findPageByDepartmentIdAndIsActiveTrue(@Param("departmentId") Long departmentId,
+                                                     @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                     @Param("cursorId") UUID cursorId,
+                                                     Limit limit);
+
+    @Query("""
+                SELECT u FROM User u
+                LEFT JOIN FETCH u.department d
+                JOIN u.roles r
+                WHERE r.name = :role AND u.isActive = true
+                AND (:cursorCreatedAt IS NULL OR u.createdAt < :cursorCreatedAt OR (u.createdAt = :cursorCreatedAt AND u.id < :cursorId))
+                ORDER BY u.createdAt DESC, u.id DESC
+            """)
+    List<User> findPageByRolesNameAndIsActiveTrue(@Param("role") UserRole role,
+                                                  @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                  @Param("cursorId") UUID cursorId,
+                                                  Limit limit);
+
     boolean existsByEmail(String email);
 
     boolean existsByIdAndIsActiveTrue(UUID id);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids AND u.isActive = true")
+    Set<UUID> findActiveIdsByIdIn(@Param("ids") Collection<UUID> ids);
 } 
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.patikadev.definex.advancedtaskmanager.repository.specification;
+
+import com.patikadev.definex.advancedtaskmanager.model.entity.Task;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskPriority;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.UUID;
+
+public final class TaskSpecifications {
+    private TaskSpecifications() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    public static Specification<Task> isActive() {
+        return (root, query, cb) -> cb.isTrue(root.get("isActive"));
+    }
+
+    public static Specification<Task> inDepartment(Long departmentId) {
+        return departmentId == null ? null
+                : (root, query, cb) -> cb.equal(root.get("project").get("department").get("id"), departmentId);
+    }
+
+    public static Specification<Task> inProject(UUID projectId) {
+        return projectId == null ? null
+                : (root, query, cb) -> cb.equal(root.get("project").get("id"), projectId);
+    }
+
+    public static Specification<Task> assignedTo(UUID userId) {
+        return userId == null ? null
+                : (root, query, cb) -> cb.equal(root.get("assignedUser").get("id"), userId);
+    }
+
+    public static Specification<Task> stateIn(Collection<TaskState> states) {
+        return CollectionUtils.isEmpty(states) ? null
+                : (root, query, cb) -> root.get("state").in(states);
+    }
+
+    public static Specification<Task> priorityIn(Collection<TaskPriority> priorities) {
+        return CollectionUtils.isEmpty(priorities) ? null
+                : (root, query, cb) -> root.get("priority").in(priorities);
+    }
+
+    public static Specification<Task> createdBetween(LocalDateTime from, LocalDateTime to) {
+        return between("createdAt", from, to);
+    }
+
+    public static Specification<Task> updatedBetween(LocalDateTime from, LocalDateTime to) {
+        return between("updatedAt", from, to);
+    }
+
+    public static Specification<Task> textContains(String text) {
+        if (!StringUtils.hasText(text)) {
+            return null;
+        }
+
+        String pattern = "%" + escapeLike(text.trim().toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("title")), pattern, LIKE_ESCAPE),
+                cb.like(cb.lower(root.get("userStory")), pattern, LIKE_ESCAPE));
+    }
+
+    public static Specification<Task> createdBefore(LocalDateTime cursorCreatedAt, UUID cursorId) {
+        return cursorCreatedAt == null ? null
+                : (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), cursorCreatedAt),
+                cb.and(cb.equal(root.get("createdAt"), cursorCreatedAt), cb.lessThan(root.get("id"), cursorId)));
+    }
+
+    private static Specification<Task> between(String attribute, LocalDateTime from, LocalDateTime to) {
+        Specification<Task> lowerBound = from == null ? null
+                : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get(attribute), from);
+        Specification<Task> upperBound = to == null ? null
+                : (root, query, cb) -> cb.lessThan(root.get(attribute), to);
+        return Specification.where(lowerBound).and(upperBound);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
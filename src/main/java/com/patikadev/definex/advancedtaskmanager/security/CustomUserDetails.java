@@ -1,5 +1,6 @@
 package com.patikadev.definex.advancedtaskmanager.security;
 
+import com.patikadev.definex.advancedtaskmanager.constant.SecurityConstants;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Role;
 import com.patikadev.definex.advancedtaskmanager.model.entity.User;
 import org.springframework.security.core.GrantedAuthority;
@@ -15,6 +16,7 @@ public class CustomUserDetails implements UserDetails {
 
     private final UUID id;
     private final String email;
+    private final Long departmentId;
     private final String password;
     private final Set<Role> roles;
     private final boolean accountNonExpired;
@@ -25,6 +27,7 @@ public class CustomUserDetails implements UserDetails {
     public CustomUserDetails(User user) {
         this.id = user.getId();
         this.email = user.getEmail();
+        this.departmentId = user.getDepartment() != null ? user.getDepartment().getId() : null;
         this.password = user.getPassword();
         this.roles = user.getRoles();
         this.accountNonExpired = true;
@@ -38,7 +41,7 @@ public class CustomUserDetails implements UserDetails {
         Set<GrantedAuthority> authorities = new HashSet<>();
 
         for (Role role : roles) {
-            authorities.add(new SimpleGrantedAuthority("ROLE_" + role.getName().name()));
+            authorities.add(new SimpleGrantedAuthority(SecurityConstants.ROLE_PREFIX + role.getName().name()));
         }
 
         return authorities;
@@ -78,6 +81,10 @@ public class CustomUserDetails implements UserDetails {
         return id;
     }
 
+    public Long getDepartmentId() {
+        return departmentId;
+    }
+
     public Set<Role> getRoles() {
         return roles;
     }
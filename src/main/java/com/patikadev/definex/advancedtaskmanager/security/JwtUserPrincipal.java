@@ -0,0 +1,40 @@
+package com.patikadev.definex.advancedtaskmanager.security;
+
+import com.patikadev.definex.advancedtaskmanager.constant.SecurityConstants;
+import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Getter
+@EqualsAndHashCode(callSuper = true)
+public class JwtUserPrincipal extends User {
+
+    private final UUID id;
+    private final Long departmentId;
+
+    public JwtUserPrincipal(String username, UUID id, Long departmentId,
+                            Collection<? extends GrantedAuthority> authorities) {
+        super(username, "", authorities);
+        this.id = id;
+        this.departmentId = departmentId;
+    }
+
+    public boolean hasIdentityClaims() {
+        return id != null;
+    }
+
+    public Set<UserRole> getRoles() {
+        return getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority.startsWith(SecurityConstants.ROLE_PREFIX))
+                .map(authority -> UserRole.valueOf(authority.substring(SecurityConstants.ROLE_PREFIX.length())))
+                .collect(Collectors.toSet());
+    }
+}
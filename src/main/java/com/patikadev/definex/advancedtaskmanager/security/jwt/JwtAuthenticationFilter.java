@@ -1,8 +1,11 @@
 package com.patikadev.definex.advancedtaskmanager.security.jwt;
 
 import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
+import com.patikadev.definex.advancedtaskmanager.constant.MetricConstants;
 import com.patikadev.definex.advancedtaskmanager.constant.SecurityConstants;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,6 +20,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.util.StringUtils;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
@@ -24,6 +28,8 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(
@@ -33,9 +39,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         try {
             String jwt = tokenProvider.resolveToken(request);
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                Authentication auth = tokenProvider.getAuthentication(jwt);
-                SecurityContextHolder.getContext().setAuthentication(auth);
+            if (StringUtils.hasText(jwt)) {
+                validate(jwt).ifPresent(auth -> SecurityContextHolder.getContext().setAuthentication(auth));
             }
         } catch (Exception ex) {
             log.error(SecurityConstants.AUTH_CONTEXT_ERROR, ex);
@@ -46,4 +51,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private Optional<Authentication> validate(String jwt) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = MetricConstants.OUTCOME_ERROR;
+        try {
+            Optional<Authentication> cached = verifiedTokenCache.get(jwt);
+            if (cached.isPresent()) {
+                outcome = MetricConstants.OUTCOME_CACHED;
+                return cached;
+            }
+
+            Optional<Authentication> authentication = authenticate(jwt);
+            outcome = authentication.isPresent() ? MetricConstants.OUTCOME_SUCCESS : MetricConstants.OUTCOME_REJECTED;
+            return authentication;
+        } finally {
+            sample.stop(Timer.builder(MetricConstants.JWT_VALIDATION)
+                    .tag(MetricConstants.TAG_OUTCOME, outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private Optional<Authentication> authenticate(String jwt) {
+        return tokenProvider.getValidatedClaims(jwt).map(claims -> {
+            Authentication auth = tokenProvider.getAuthentication(jwt, claims);
+            verifiedTokenCache.put(jwt, claims, auth);
+            return auth;
+        });
+    }
 } 
\ No newline at end of file
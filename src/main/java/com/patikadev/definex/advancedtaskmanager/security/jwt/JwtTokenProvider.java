@@ -2,6 +2,7 @@ package com.patikadev.definex.advancedtaskmanager.security.jwt;
 
 import com.patikadev.definex.advancedtaskmanager.config.ApplicationProperties;
 import com.patikadev.definex.advancedtaskmanager.constant.SecurityConstants;
+import com.patikadev.definex.advancedtaskmanager.security.JwtUserPrincipal;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -11,7 +12,6 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -26,11 +26,14 @@ import java.util.stream.Collectors;
 public class JwtTokenProvider {
 
     private final Key key;
+    private final JwtParser jwtParser;
     private final long jwtExpiration;
     private final String jwtIssuer;
     private final String jwtAudience;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
 
-    public JwtTokenProvider(ApplicationProperties applicationProperties) {
+    public JwtTokenProvider(ApplicationProperties applicationProperties,
+                            TokenRevocationRegistry tokenRevocationRegistry) {
         Key tokenSecretKey;
         String secret = applicationProperties.getSecurity().getTokenSecret();
 
@@ -50,12 +53,15 @@ public class JwtTokenProvider {
         }
 
         this.key = tokenSecretKey;
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(tokenSecretKey).build();
         this.jwtExpiration = applicationProperties.getSecurity().getTokenExpirationMs();
         this.jwtIssuer = applicationProperties.getSecurity().getJwtIssuer();
         this.jwtAudience = applicationProperties.getSecurity().getJwtAudience();
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
     }
 
-    public String generateTokenFromUsername(String username, Collection<? extends GrantedAuthority> authorities) {
+    public String generateTokenFromUsername(String username, UUID userId, Long departmentId,
+                                            Collection<? extends GrantedAuthority> authorities) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
@@ -63,9 +69,18 @@ public class JwtTokenProvider {
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(","));
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(username)
                 .claim(SecurityConstants.JWT_AUTHORITIES_KEY, authoritiesString)
+                .claim(SecurityConstants.JWT_USER_ID_KEY, userId.toString())
+                .claim(SecurityConstants.JWT_TOKEN_VERSION_KEY, tokenRevocationRegistry.currentVersion(userId));
+
+        if (departmentId != null) {
+            builder.claim(SecurityConstants.JWT_DEPARTMENT_ID_KEY, departmentId);
+        }
+
+        return builder
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .setIssuer(jwtIssuer)
@@ -88,17 +103,17 @@ public class JwtTokenProvider {
     }
 
     private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
-    public boolean validateToken(String token) {
+    public Optional<Claims> getValidatedClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return !isTokenExpired(token);
+            Claims claims = getAllClaimsFromToken(token);
+            if (isRevoked(claims)) {
+                log.error(SecurityConstants.REVOKED_JWT_TOKEN);
+                return Optional.empty();
+            }
+            return Optional.of(claims);
         } catch (SecurityException ex) {
             log.error(SecurityConstants.INVALID_JWT_SIGNATURE);
         } catch (MalformedJwtException ex) {
@@ -110,7 +125,11 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException ex) {
             log.error(SecurityConstants.EMPTY_JWT_CLAIMS);
         }
-        return false;
+        return Optional.empty();
+    }
+
+    public boolean validateToken(String token) {
+        return getValidatedClaims(token).isPresent();
     }
 
     public boolean isTokenExpired(String token) {
@@ -119,19 +138,54 @@ public class JwtTokenProvider {
     }
 
     public Authentication getAuthentication(String token) {
-        Claims claims = getAllClaimsFromToken(token);
+        return getAuthentication(token, getAllClaimsFromToken(token));
+    }
 
+    public Authentication getAuthentication(String token, Claims claims) {
         Collection<? extends GrantedAuthority> authorities =
                 Arrays.stream(claims.get(SecurityConstants.JWT_AUTHORITIES_KEY).toString().split(","))
                         .filter(auth -> !auth.trim().isEmpty())
                         .map(SimpleGrantedAuthority::new)
                         .collect(Collectors.toList());
 
-        UserDetails principal = new User(claims.getSubject(), "", authorities);
+        UserDetails principal = new JwtUserPrincipal(
+                claims.getSubject(), getUserId(claims), getDepartmentId(claims), authorities);
 
         return new UsernamePasswordAuthenticationToken(principal, token, authorities);
     }
 
+    public boolean isRevoked(Claims claims) {
+        if (claims.getId() != null && tokenRevocationRegistry.isTokenRevoked(claims.getId())) {
+            return true;
+        }
+
+        UUID userId = getUserId(claims);
+        String subjectKey = userId != null ? userId.toString() : claims.getSubject();
+        Number tokenVersion = claims.get(SecurityConstants.JWT_TOKEN_VERSION_KEY, Number.class);
+
+        return tokenRevocationRegistry.isRevoked(subjectKey, tokenVersion != null ? tokenVersion.longValue() : 0L);
+    }
+
+    public void revokeToken(String token) {
+        getValidatedClaims(token).ifPresent(claims -> {
+            if (claims.getId() != null) {
+                tokenRevocationRegistry.revokeToken(claims.getId(), claims.getExpiration().getTime());
+            } else {
+                tokenRevocationRegistry.revokeIssuedTokens(getUserId(claims), claims.getSubject());
+            }
+        });
+    }
+
+    private UUID getUserId(Claims claims) {
+        String userId = claims.get(SecurityConstants.JWT_USER_ID_KEY, String.class);
+        return userId != null ? UUID.fromString(userId) : null;
+    }
+
+    private Long getDepartmentId(Claims claims) {
+        Number departmentId = claims.get(SecurityConstants.JWT_DEPARTMENT_ID_KEY, Number.class);
+        return departmentId != null ? departmentId.longValue() : null;
+    }
+
     public String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader(SecurityConstants.HEADER_STRING);
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(SecurityConstants.TOKEN_PREFIX)) {
@@ -0,0 +1,61 @@
+package com.patikadev.definex.advancedtaskmanager.security.jwt;
+
+import com.patikadev.definex.advancedtaskmanager.config.ApplicationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class TokenRevocationRegistry {
+
+    private final Map<String, Long> revocationVersions = new ConcurrentHashMap<>();
+    private final Map<String, Long> revokedTokenIds = new ConcurrentHashMap<>();
+    private final long tokenExpirationMs;
+
+    public TokenRevocationRegistry(ApplicationProperties applicationProperties) {
+        this.tokenExpirationMs = applicationProperties.getSecurity().getTokenExpirationMs();
+    }
+
+    public long currentVersion(UUID userId) {
+        return userId != null ? currentVersion(userId.toString()) : 0L;
+    }
+
+    public void revokeIssuedTokens(UUID userId, String username) {
+        long version = System.currentTimeMillis();
+        if (userId != null) {
+            revocationVersions.merge(userId.toString(), version, (previous, next) -> Math.max(previous + 1, next));
+        }
+        revocationVersions.merge(username, version, (previous, next) -> Math.max(previous + 1, next));
+    }
+
+    public void revokeToken(String tokenId, long expiresAtMs) {
+        long now = System.currentTimeMillis();
+        revokedTokenIds.values().removeIf(expiresAt -> expiresAt <= now);
+        revokedTokenIds.put(tokenId, expiresAtMs);
+    }
+
+    public boolean isRevoked(String subjectKey, long tokenVersion) {
+        return tokenVersion < currentVersion(subjectKey);
+    }
+
+    public boolean isTokenRevoked(String tokenId) {
+        Long expiresAt = revokedTokenIds.get(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    private long currentVersion(String subjectKey) {
+        Long version = revocationVersions.get(subjectKey);
+        if (version == null) {
+            return 0L;
+        }
+
+        if (System.currentTimeMillis() - version > tokenExpirationMs) {
+            revocationVersions.remove(subjectKey, version);
+            return 0L;
+        }
+
+        return version;
+    }
+}
@@ -0,0 +1,124 @@
+package com.patikadev.definex.advancedtaskmanager.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.patikadev.definex.advancedtaskmanager.config.ApplicationProperties;
+import com.patikadev.definex.advancedtaskmanager.constant.SecurityConstants;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class VerifiedTokenCache {
+
+    private final boolean enabled;
+    private final JwtTokenProvider tokenProvider;
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(ApplicationProperties applicationProperties,
+                              JwtTokenProvider tokenProvider,
+                              MeterRegistry meterRegistry) {
+        ApplicationProperties.TokenCache properties = applicationProperties.getSecurity().getTokenCache();
+        this.enabled = properties.isEnabled();
+        this.tokenProvider = tokenProvider;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        if (enabled) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, SecurityConstants.VERIFIED_TOKEN_CACHE_NAME);
+        }
+    }
+
+    public Optional<Authentication> get(String token) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        String key = digest(token);
+        VerifiedToken verifiedToken = cache.getIfPresent(key);
+        if (verifiedToken == null) {
+            return Optional.empty();
+        }
+
+        if (verifiedToken.isExpired() || tokenProvider.isRevoked(verifiedToken.claims())) {
+            cache.invalidate(key);
+            return Optional.empty();
+        }
+
+        return Optional.of(verifiedToken.authentication());
+    }
+
+    public void put(String token, Claims claims, Authentication authentication) {
+        if (enabled && claims.getExpiration() != null) {
+            cache.put(digest(token), new VerifiedToken(authentication, claims));
+        }
+    }
+
+    public void invalidate(String token) {
+        if (enabled) {
+            cache.invalidate(digest(token));
+        }
+    }
+
+    public void invalidateUser(String username) {
+        if (enabled) {
+            cache.asMap().values().removeIf(verifiedToken -> username.equals(verifiedToken.authentication().getName()));
+        }
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(Authentication authentication, Claims claims) {
+
+        long remainingNanos() {
+            long remainingMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0));
+        }
+
+        boolean isExpired() {
+            return remainingNanos() == 0;
+        }
+    }
+
+    private static final class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return value.remainingNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return value.remainingNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
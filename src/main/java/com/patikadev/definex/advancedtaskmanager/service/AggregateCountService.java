@@ -0,0 +1,21 @@
+package com.patikadev.definex.advancedtaskmanager.service;
+
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.AggregateCounts;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Department;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Project;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Task;
+
+import java.util.Collection;
+
+public interface AggregateCountService {
+
+    AggregateCounts countForTasks(Collection<Task> tasks);
+
+    AggregateCounts countForProjects(Collection<Project> projects);
+
+    AggregateCounts countForProjectDetail(Project project);
+
+    AggregateCounts countForDepartments(Collection<Department> departments);
+
+    AggregateCounts countForDepartmentDetail(Department department);
+}
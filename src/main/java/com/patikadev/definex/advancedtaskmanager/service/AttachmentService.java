@@ -1,8 +1,8 @@
 package com.patikadev.definex.advancedtaskmanager.service;
 
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.attachment.CreateAttachmentRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.attachment.AttachmentDownload;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.attachment.AttachmentResponse;
-import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -12,7 +12,7 @@ public interface AttachmentService {
 
     AttachmentResponse uploadFile(CreateAttachmentRequest request, MultipartFile file);
 
-    Resource downloadFile(Long id);
+    AttachmentDownload downloadFile(Long id);
 
     AttachmentResponse getAttachmentById(Long id);
 
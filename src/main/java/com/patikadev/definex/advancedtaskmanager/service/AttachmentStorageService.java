@@ -0,0 +1,22 @@
+package com.patikadev.definex.advancedtaskmanager.service;
+
+import com.patikadev.definex.advancedtaskmanager.model.entity.Attachment;
+import com.patikadev.definex.advancedtaskmanager.model.entity.AttachmentBlob;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.file.Path;
+
+public interface AttachmentStorageService {
+
+    AttachmentBlob storeContent(MultipartFile file);
+
+    String hashStagedFile(Path stagedFile, String fileName);
+
+    AttachmentBlob storeStagedFile(Path stagedFile, String fileName, String contentHash);
+
+    Path getStagingPath();
+
+    void releaseContent(Attachment attachment);
+
+    int collectOrphanedBlobs();
+}
@@ -15,6 +15,8 @@ public interface AuthService {
 
     UserResponse getCurrentUser();
 
+    UserResponse getCurrentUserProfile();
+
     UUID getCurrentUserId();
 
     boolean isResourceOwner(UUID resourceOwnerId);
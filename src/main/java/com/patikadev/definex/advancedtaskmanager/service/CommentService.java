@@ -1,10 +1,11 @@
 package com.patikadev.definex.advancedtaskmanager.service;
 
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPage;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPageRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.comment.CreateCommentRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.comment.UpdateCommentRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.comment.CommentResponse;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface CommentService {
@@ -15,9 +16,9 @@ public interface CommentService {
 
     CommentResponse getCommentById(Long id);
 
-    List<CommentResponse> getCommentsByTaskId(UUID taskId);
+    CursorPage<CommentResponse> getCommentsByTaskId(UUID taskId, CursorPageRequest pageRequest);
 
-    List<CommentResponse> getCommentsByUserId(UUID userId);
+    CursorPage<CommentResponse> getCommentsByUserId(UUID userId, CursorPageRequest pageRequest);
 
     void deleteComment(Long id);
 } 
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.patikadev.definex.advancedtaskmanager.service;
 
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.ResourceVersion;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.department.CreateDepartmentRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.department.UpdateDepartmentRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.department.DepartmentResponse;
@@ -11,10 +12,12 @@ public interface DepartmentService {
 
     DepartmentResponse createDepartment(CreateDepartmentRequest request);
 
-    DepartmentResponse updateDepartment(Long id, UpdateDepartmentRequest request);
+    DepartmentResponse updateDepartment(Long id, UpdateDepartmentRequest request, Long expectedVersion);
 
     DepartmentDetailResponse getDepartmentById(Long id);
 
+    ResourceVersion getDepartmentDetailVersion(Long id);
+
     DepartmentDetailResponse getDepartmentByName(String name);
 
     List<DepartmentResponse> getAllDepartments();
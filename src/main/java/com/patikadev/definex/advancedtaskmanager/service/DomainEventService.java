@@ -0,0 +1,12 @@
+package com.patikadev.definex.advancedtaskmanager.service;
+
+import com.patikadev.definex.advancedtaskmanager.event.DomainEvent;
+
+import java.util.Collection;
+
+public interface DomainEventService {
+
+    void record(DomainEvent event);
+
+    void recordAll(Collection<? extends DomainEvent> events);
+}
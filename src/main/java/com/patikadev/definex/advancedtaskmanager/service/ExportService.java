@@ -0,0 +1,13 @@
+package com.patikadev.definex.advancedtaskmanager.service;
+
+import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.TaskExportFilter;
+import com.patikadev.definex.advancedtaskmanager.model.enums.DataFormat;
+
+import java.io.OutputStream;
+
+public interface ExportService {
+
+    long exportTasks(TaskExportFilter filter, DataFormat format, OutputStream outputStream);
+
+    long exportTaskStateHistories(TaskExportFilter filter, DataFormat format, OutputStream outputStream);
+}
@@ -1,5 +1,8 @@
 package com.patikadev.definex.advancedtaskmanager.service;
 
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPage;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPageRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.ResourceVersion;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.project.CreateProjectRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.project.UpdateProjectRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.project.UpdateProjectStatusRequest;
@@ -7,26 +10,27 @@ import com.patikadev.definex.advancedtaskmanager.model.dto.response.project.Proj
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.project.ProjectResponse;
 import com.patikadev.definex.advancedtaskmanager.model.enums.ProjectStatus;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface ProjectService {
 
     ProjectResponse createProject(CreateProjectRequest request);
 
-    ProjectResponse updateProject(UUID id, UpdateProjectRequest request);
+    ProjectResponse updateProject(UUID id, UpdateProjectRequest request, Long expectedVersion);
 
     ProjectDetailResponse getProjectById(UUID id);
 
-    List<ProjectResponse> getAllProjects();
+    ResourceVersion getProjectDetailVersion(UUID id);
 
-    List<ProjectResponse> getProjectsByDepartmentId(Long departmentId);
+    CursorPage<ProjectResponse> getAllProjects(CursorPageRequest pageRequest);
 
-    List<ProjectResponse> getProjectsByStatus(ProjectStatus status);
+    CursorPage<ProjectResponse> getProjectsByDepartmentId(Long departmentId, CursorPageRequest pageRequest);
 
-    List<ProjectResponse> getProjectsByTeamMemberId(UUID userId);
+    CursorPage<ProjectResponse> getProjectsByStatus(ProjectStatus status, CursorPageRequest pageRequest);
 
-    ProjectResponse addTeamMember(UUID projectId, UUID userId);
+    CursorPage<ProjectResponse> getProjectsByTeamMemberId(UUID userId, CursorPageRequest pageRequest);
+
+    ProjectResponse addTeamMember(UUID projectId, UUID userId, Long expectedVersion);
 
     ProjectResponse removeTeamMember(UUID projectId, UUID userId);
 
@@ -0,0 +1,23 @@
+package com.patikadev.definex.advancedtaskmanager.service;
+
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.UserIdentity;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Department;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Role;
+import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
+
+import java.util.Optional;
+
+public interface ReferenceDataService {
+
+    Optional<Role> findRole(UserRole name);
+
+    Optional<Department> findDepartment(Long id);
+
+    Optional<UserIdentity> findUserIdentity(String email);
+
+    void evictRoles();
+
+    void evictDepartment(Long id);
+
+    void evictUserIdentity(String email);
+}
@@ -0,0 +1,8 @@
+package com.patikadev.definex.advancedtaskmanager.service;
+
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.sync.SyncResponse;
+
+public interface SyncService {
+
+    SyncResponse getChanges(String watermark, Integer limit);
+}
@@ -0,0 +1,13 @@
+package com.patikadev.definex.advancedtaskmanager.service;
+
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.analytics.TaskFlowMetricsResponse;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface TaskAnalyticsService {
+
+    TaskFlowMetricsResponse getProjectFlowMetrics(UUID projectId, LocalDate from, LocalDate to);
+
+    TaskFlowMetricsResponse getDepartmentFlowMetrics(Long departmentId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,10 @@
+package com.patikadev.definex.advancedtaskmanager.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+public interface TaskFeedService {
+
+    SseEmitter subscribe(UUID projectId, Long lastEventId);
+}
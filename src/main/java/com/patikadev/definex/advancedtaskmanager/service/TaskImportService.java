@@ -0,0 +1,11 @@
+package com.patikadev.definex.advancedtaskmanager.service;
+
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.task.TaskImportResponse;
+import com.patikadev.definex.advancedtaskmanager.model.enums.DataFormat;
+
+import java.io.InputStream;
+
+public interface TaskImportService {
+
+    TaskImportResponse importTasks(InputStream inputStream, DataFormat format);
+}
@@ -0,0 +1,13 @@
+package com.patikadev.definex.advancedtaskmanager.service;
+
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.task.TaskSearchHit;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface TaskSearchService {
+
+    List<TaskSearchHit> searchTasks(String query, UUID projectId, Integer limit);
+
+    int rebuildIndex();
+}
@@ -1,35 +1,46 @@
 package com.patikadev.definex.advancedtaskmanager.service;
 
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPage;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPageRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.ResourceVersion;
+import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.BulkUpdateTaskStateRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.CreateTaskRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.UpdateTaskRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.TaskSearchCriteria;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.UpdateTaskStateRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.task.BulkTaskStateUpdateResponse;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.task.TaskDetailResponse;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.task.TaskResponse;
 import com.patikadev.definex.advancedtaskmanager.model.enums.TaskPriority;
 import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface TaskService {
 
     TaskResponse createTask(CreateTaskRequest request);
 
-    TaskResponse updateTask(UUID id, UpdateTaskRequest request);
+    TaskResponse updateTask(UUID id, UpdateTaskRequest request, Long expectedVersion);
 
     TaskDetailResponse getTaskById(UUID id);
 
-    List<TaskResponse> getAllTasks();
+    ResourceVersion getTaskDetailVersion(UUID id);
 
-    List<TaskResponse> getTasksByProjectId(UUID projectId);
+    CursorPage<TaskResponse> getAllTasks(CursorPageRequest pageRequest);
 
-    List<TaskResponse> getTasksByAssignedUserId(UUID userId);
+    CursorPage<TaskResponse> getTasksByProjectId(UUID projectId, CursorPageRequest pageRequest);
 
-    List<TaskResponse> getTasksByState(TaskState state);
+    CursorPage<TaskResponse> getTasksByAssignedUserId(UUID userId, CursorPageRequest pageRequest);
 
-    List<TaskResponse> getTasksByPriority(TaskPriority priority);
+    CursorPage<TaskResponse> getTasksByState(TaskState state, CursorPageRequest pageRequest);
 
-    TaskResponse updateTaskState(UUID id, UpdateTaskStateRequest request);
+    CursorPage<TaskResponse> getTasksByPriority(TaskPriority priority, CursorPageRequest pageRequest);
+
+    CursorPage<TaskResponse> searchTasks(TaskSearchCriteria criteria, CursorPageRequest pageRequest);
+
+    TaskResponse updateTaskState(UUID id, UpdateTaskStateRequest request, Long expectedVersion);
+
+    BulkTaskStateUpdateResponse bulkUpdateTaskState(BulkUpdateTaskStateRequest request);
 
     TaskResponse assignTaskToUser(UUID taskId, UUID userId);
 
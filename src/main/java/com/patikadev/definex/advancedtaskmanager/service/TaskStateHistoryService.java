@@ -1,25 +1,32 @@
 package com.patikadev.definex.advancedtaskmanager.service;
 
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPage;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPageRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.taskStateHistory.TaskStateHistoryResponse;
 import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.Collection;
 import java.util.UUID;
 
 public interface TaskStateHistoryService {
 
     void createTaskStateHistory(UUID taskId, TaskState oldState, TaskState newState, LocalDateTime changedAt, String reason);
 
+    void createTaskStateHistories(Collection<UUID> taskIds, TaskState newState, LocalDateTime changedAt, String reason);
+
+    void createInitialTaskStateHistories(Collection<UUID> taskIds, LocalDateTime changedAt);
+
     TaskStateHistoryResponse getTaskStateHistoryById(Long id);
 
-    List<TaskStateHistoryResponse> getTaskStateHistoriesByTaskId(UUID taskId);
+    CursorPage<TaskStateHistoryResponse> getTaskStateHistoriesByTaskId(UUID taskId, CursorPageRequest pageRequest);
 
-    List<TaskStateHistoryResponse> getTaskStateHistoriesByChangedByUserId(UUID userId);
+    CursorPage<TaskStateHistoryResponse> getTaskStateHistoriesByChangedByUserId(UUID userId, CursorPageRequest pageRequest);
 
-    List<TaskStateHistoryResponse> getTaskStateHistoriesByOldState(TaskState oldState);
+    CursorPage<TaskStateHistoryResponse> getTaskStateHistoriesByOldState(TaskState oldState, CursorPageRequest pageRequest);
 
-    List<TaskStateHistoryResponse> getTaskStateHistoriesByNewState(TaskState newState);
+    CursorPage<TaskStateHistoryResponse> getTaskStateHistoriesByNewState(TaskState newState, CursorPageRequest pageRequest);
 
-    List<TaskStateHistoryResponse> getTaskStateHistoriesByChangedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
+    CursorPage<TaskStateHistoryResponse> getTaskStateHistoriesByChangedAtBetween(LocalDateTime startDate, LocalDateTime endDate,
+                                                                                 CursorPageRequest pageRequest);
 } 
\ No newline at end of file
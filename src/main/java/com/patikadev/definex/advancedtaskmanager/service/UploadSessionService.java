@@ -0,0 +1,23 @@
+package com.patikadev.definex.advancedtaskmanager.service;
+
+import com.patikadev.definex.advancedtaskmanager.model.dto.request.attachment.CreateUploadSessionRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.attachment.AttachmentResponse;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.attachment.UploadSessionResponse;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+public interface UploadSessionService {
+
+    UploadSessionResponse createUploadSession(CreateUploadSessionRequest request);
+
+    UploadSessionResponse getUploadSession(UUID sessionId);
+
+    UploadSessionResponse appendChunk(UUID sessionId, long offset, InputStream content);
+
+    AttachmentResponse commitUploadSession(UUID sessionId);
+
+    void abortUploadSession(UUID sessionId);
+
+    int expireUploadSessions();
+}
@@ -1,5 +1,7 @@
 package com.patikadev.definex.advancedtaskmanager.service;
 
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPage;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPageRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.user.CreateUserRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.user.UpdateUserRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.user.UpdateUserRolesRequest;
@@ -7,7 +9,6 @@ import com.patikadev.definex.advancedtaskmanager.model.dto.response.user.UserRes
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.user.UserDetailResponse;
 import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface UserService {
@@ -22,11 +23,11 @@ public interface UserService {
 
     UserDetailResponse getUserByEmail(String email);
 
-    List<UserResponse> getAllUsers();
+    CursorPage<UserResponse> getAllUsers(CursorPageRequest pageRequest);
 
-    List<UserResponse> getUsersByDepartmentId(Long departmentId);
+    CursorPage<UserResponse> getUsersByDepartmentId(Long departmentId, CursorPageRequest pageRequest);
 
-    List<UserResponse> getUsersByRole(UserRole role);
+    CursorPage<UserResponse> getUsersByRole(UserRole role, CursorPageRequest pageRequest);
 
     void deleteUser(UUID id);
 
@@ -0,0 +1,74 @@
+package com.patikadev.definex.advancedtaskmanager.service.impl;
+
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.AggregateCounts;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Department;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Project;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Task;
+import com.patikadev.definex.advancedtaskmanager.repository.DepartmentRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.ProjectRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.TaskRepository;
+import com.patikadev.definex.advancedtaskmanager.service.AggregateCountService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class AggregateCountServiceImpl implements AggregateCountService {
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final DepartmentRepository departmentRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public AggregateCounts countForTasks(Collection<Task> tasks) {
+        return withTaskCounts(AggregateCounts.empty(), tasks);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AggregateCounts countForProjects(Collection<Project> projects) {
+        return withProjectCounts(AggregateCounts.empty(), projects);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AggregateCounts countForProjectDetail(Project project) {
+        AggregateCounts counts = withProjectCounts(AggregateCounts.empty(), List.of(project));
+        return withTaskCounts(counts, project.getTasks());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AggregateCounts countForDepartments(Collection<Department> departments) {
+        return withDepartmentCounts(AggregateCounts.empty(), departments);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AggregateCounts countForDepartmentDetail(Department department) {
+        AggregateCounts counts = withDepartmentCounts(AggregateCounts.empty(), List.of(department));
+        return withProjectCounts(counts, department.getProjects());
+    }
+
+    private AggregateCounts withTaskCounts(AggregateCounts counts, Collection<Task> tasks) {
+        List<UUID> taskIds = tasks.stream().map(Task::getId).filter(Objects::nonNull).toList();
+        return taskIds.isEmpty() ? counts : counts.withTaskCounts(taskRepository.findCountsByIdIn(taskIds));
+    }
+
+    private AggregateCounts withProjectCounts(AggregateCounts counts, Collection<Project> projects) {
+        List<UUID> projectIds = projects.stream().map(Project::getId).filter(Objects::nonNull).toList();
+        return projectIds.isEmpty() ? counts : counts.withProjectCounts(projectRepository.findCountsByIdIn(projectIds));
+    }
+
+    private AggregateCounts withDepartmentCounts(AggregateCounts counts, Collection<Department> departments) {
+        List<Long> departmentIds = departments.stream().map(Department::getId).filter(Objects::nonNull).toList();
+        return departmentIds.isEmpty() ? counts : counts.withDepartmentCounts(departmentRepository.findCountsByIdIn(departmentIds));
+    }
+}
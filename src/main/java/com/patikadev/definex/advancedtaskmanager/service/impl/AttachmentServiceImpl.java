@@ -3,33 +3,36 @@ package com.patikadev.definex.advancedtaskmanager.service.impl;
 import com.patikadev.definex.advancedtaskmanager.config.ApplicationProperties;
 import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
 import com.patikadev.definex.advancedtaskmanager.constant.FileConstants;
+import com.patikadev.definex.advancedtaskmanager.constant.MetricConstants;
+import com.patikadev.definex.advancedtaskmanager.event.AttachmentUploadedEvent;
 import com.patikadev.definex.advancedtaskmanager.exception.FileStorageException;
 import com.patikadev.definex.advancedtaskmanager.exception.ResourceNotFoundException;
 import com.patikadev.definex.advancedtaskmanager.mapper.AttachmentMapper;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.attachment.CreateAttachmentRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.attachment.AttachmentDownload;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.attachment.AttachmentResponse;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Attachment;
+import com.patikadev.definex.advancedtaskmanager.model.entity.AttachmentBlob;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Task;
 import com.patikadev.definex.advancedtaskmanager.model.entity.User;
 import com.patikadev.definex.advancedtaskmanager.repository.AttachmentRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.TaskRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.UserRepository;
 import com.patikadev.definex.advancedtaskmanager.service.AttachmentService;
+import com.patikadev.definex.advancedtaskmanager.service.AttachmentStorageService;
 import com.patikadev.definex.advancedtaskmanager.service.AuthService;
+import com.patikadev.definex.advancedtaskmanager.service.DomainEventService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
@@ -43,7 +46,10 @@ public class AttachmentServiceImpl implements AttachmentService {
     private final UserRepository userRepository;
     private final AuthService authService;
     private final AttachmentMapper attachmentMapper;
+    private final AttachmentStorageService attachmentStorageService;
     private final ApplicationProperties applicationProperties;
+    private final MeterRegistry meterRegistry;
+    private final DomainEventService domainEventService;
 
     @Override
     @Transactional
@@ -61,45 +67,46 @@ public class AttachmentServiceImpl implements AttachmentService {
         User currentUser = findCurrentUser();
 
         String fileName = StringUtils.cleanPath(file.getOriginalFilename() != null ? file.getOriginalFilename() : "unknown");
-        String uniqueFileName = System.currentTimeMillis() + "_" + fileName;
-        String relativePath = Paths.get(FileConstants.TASK_ATTACHMENTS_DIR, task.getId().toString(), uniqueFileName).toString();
-        Path targetLocation = getUploadPath().resolve(relativePath);
-
-        try {
-            Files.createDirectories(targetLocation.getParent());
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
-
-            Attachment attachment = attachmentMapper.toEntity(
-                    fileName,
-                    task,
-                    currentUser,
-                    relativePath,
-                    file.getSize(),
-                    file.getContentType()
-            );
-
-            Attachment savedAttachment = attachmentRepository.save(attachment);
-            return attachmentMapper.toResponse(savedAttachment);
-        } catch (IOException ex) {
-            throw new FileStorageException(ErrorMessages.FILE_STORAGE_ERROR.formatted(fileName), ex);
-        }
+        AttachmentBlob blob = attachmentStorageService.storeContent(file);
+
+        Attachment attachment = attachmentMapper.toEntity(
+                fileName,
+                task,
+                currentUser,
+                blob.getFilePath(),
+                blob.getFileSize(),
+                file.getContentType(),
+                blob.getContentHash()
+        );
+
+        Attachment savedAttachment = attachmentRepository.save(attachment);
+        domainEventService.record(AttachmentUploadedEvent.of(savedAttachment));
+        meterRegistry.counter(MetricConstants.ATTACHMENT_BYTES, MetricConstants.TAG_DIRECTION, MetricConstants.DIRECTION_IN)
+                .increment(file.getSize());
+        return attachmentMapper.toResponse(savedAttachment);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Resource downloadFile(Long id) {
+    public AttachmentDownload downloadFile(Long id) {
         Attachment attachment = findAttachmentById(id);
 
+        Path uploadPath = getUploadPath();
+        Path filePath = uploadPath.resolve(attachment.getFilePath()).normalize();
+        if (!filePath.startsWith(uploadPath) || !Files.isRegularFile(filePath) || !Files.isReadable(filePath)) {
+            throw new ResourceNotFoundException(ErrorMessages.FILE_NOT_FOUND.formatted(attachment.getFileName()));
+        }
+
         try {
-            Path filePath = getUploadPath().resolve(attachment.getFilePath()).normalize();
-            Resource resource = new UrlResource(filePath.toUri());
-
-            if (resource.exists()) {
-                return resource;
-            } else {
-                throw new ResourceNotFoundException(ErrorMessages.FILE_NOT_FOUND.formatted(attachment.getFileName()));
-            }
-        } catch (MalformedURLException ex) {
+            return AttachmentDownload.builder()
+                    .fileName(attachment.getFileName())
+                    .contentType(attachment.getContentType())
+                    .filePath(filePath)
+                    .contentLength(Files.size(filePath))
+                    .contentHash(attachment.getContentHash())
+                    .lastModified(attachment.getUpdatedAt() != null ? attachment.getUpdatedAt() : attachment.getCreatedAt())
+                    .build();
+        } catch (IOException ex) {
             throw new FileStorageException(ErrorMessages.FILE_NOT_FOUND.formatted(attachment.getFileName()), ex);
         }
     }
@@ -140,6 +147,7 @@ public class AttachmentServiceImpl implements AttachmentService {
 
         attachment.setIsActive(false);
         attachmentRepository.save(attachment);
+        attachmentStorageService.releaseContent(attachment);
     }
 
     private Path getUploadPath() {
@@ -0,0 +1,299 @@
+package com.patikadev.definex.advancedtaskmanager.service.impl;
+
+import com.patikadev.definex.advancedtaskmanager.config.ApplicationProperties;
+import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
+import com.patikadev.definex.advancedtaskmanager.constant.FileConstants;
+import com.patikadev.definex.advancedtaskmanager.exception.FileStorageException;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Attachment;
+import com.patikadev.definex.advancedtaskmanager.model.entity.AttachmentBlob;
+import com.patikadev.definex.advancedtaskmanager.repository.AttachmentBlobRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.AttachmentRepository;
+import com.patikadev.definex.advancedtaskmanager.service.AttachmentStorageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttachmentStorageServiceImpl implements AttachmentStorageService {
+
+    private static final String INSERT_BLOB_SQL = """
+            INSERT INTO attachment_blobs (content_hash, file_path, file_size, reference_count, created_at, updated_at, is_active)
+            VALUES (:contentHash, :filePath, :fileSize, 1, :now, :now, TRUE)
+            """;
+
+    private final AttachmentBlobRepository attachmentBlobRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final ApplicationProperties applicationProperties;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    @Transactional
+    public AttachmentBlob storeContent(MultipartFile file) {
+        String fileName = file.getOriginalFilename();
+
+        try {
+            String contentHash = hashContent(file);
+            return acquireBlob(contentHash, file.getSize(), blobFile -> writeBlob(file, contentHash, blobFile));
+        } catch (IOException | DataIntegrityViolationException ex) {
+            throw new FileStorageException(ErrorMessages.FILE_STORAGE_ERROR.formatted(fileName), ex);
+        }
+    }
+
+    @Override
+    public String hashStagedFile(Path stagedFile, String fileName) {
+        try {
+            return hashContent(() -> Files.newInputStream(stagedFile));
+        } catch (IOException ex) {
+            throw new FileStorageException(ErrorMessages.FILE_STORAGE_ERROR.formatted(fileName), ex);
+        }
+    }
+
+    @Override
+    @Transactional
+    public AttachmentBlob storeStagedFile(Path stagedFile, String fileName, String contentHash) {
+        try {
+            AttachmentBlob blob = acquireBlob(contentHash, Files.size(stagedFile),
+                    blobFile -> placeIntoStore(stagedFile, blobFile));
+            discardAfterCommit(stagedFile);
+            return blob;
+        } catch (IOException | DataIntegrityViolationException ex) {
+            throw new FileStorageException(ErrorMessages.FILE_STORAGE_ERROR.formatted(fileName), ex);
+        }
+    }
+
+    @Override
+    public Path getStagingPath() {
+        String tempDir = applicationProperties.getFile().getTempDir();
+        if (tempDir == null || tempDir.isEmpty()) {
+            tempDir = FileConstants.BASE_TEMP_DIR;
+        }
+        return getUploadPath().resolve(tempDir).normalize();
+    }
+
+    @Override
+    @Transactional
+    public void releaseContent(Attachment attachment) {
+        String contentHash = attachment.getContentHash();
+        if (contentHash == null || !toBlobPath(contentHash).equals(attachment.getFilePath())) {
+            return;
+        }
+
+        attachmentBlobRepository.decrementReferenceCount(contentHash, LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${application.file.blob-collector.interval-ms:300000}",
+            initialDelayString = "${application.file.blob-collector.interval-ms:300000}")
+    public int collectOrphanedBlobs() {
+        long gracePeriodMs = applicationProperties.getFile().getBlobCollector().getGracePeriodMs();
+        LocalDateTime releasedBefore = LocalDateTime.now().minus(Duration.ofMillis(gracePeriodMs));
+        List<Long> orphanedBlobIds = attachmentBlobRepository.findOrphanedBlobIds(
+                releasedBefore, PageRequest.of(0, FileConstants.BLOB_COLLECTOR_BATCH_SIZE));
+
+        int collected = 0;
+        for (Long blobId : orphanedBlobIds) {
+            AttachmentBlob blob = attachmentBlobRepository.findOrphanedBlobForUpdate(blobId).orElse(null);
+            if (blob == null) {
+                continue;
+            }
+
+            long references = attachmentRepository.countByFilePathAndIsActiveTrue(blob.getFilePath());
+            if (references > 0) {
+                blob.setReferenceCount((int) references);
+                continue;
+            }
+
+            try {
+                Files.deleteIfExists(getUploadPath().resolve(blob.getFilePath()));
+            } catch (IOException ex) {
+                log.warn("Could not delete orphaned attachment blob {}", blob.getFilePath(), ex);
+                continue;
+            }
+
+            attachmentBlobRepository.delete(blob);
+            collected++;
+        }
+
+        if (collected > 0) {
+            log.info("Collected {} orphaned attachment blobs", collected);
+        }
+        return collected;
+    }
+
+    private AttachmentBlob acquireBlob(String contentHash, long fileSize, BlobWriter blobWriter) throws IOException {
+        String relativePath = toBlobPath(contentHash);
+        Path blobFile = getUploadPath().resolve(relativePath);
+
+        if (attachmentBlobRepository.incrementReferenceCount(contentHash, LocalDateTime.now()) == 0
+                && !insertBlob(contentHash, relativePath, fileSize)
+                && attachmentBlobRepository.incrementReferenceCount(contentHash, LocalDateTime.now()) == 0) {
+            throw new FileStorageException(ErrorMessages.FILE_STORAGE_ERROR.formatted(contentHash));
+        }
+
+        if (!Files.isRegularFile(blobFile) && blobWriter.write(blobFile)) {
+            discardOnRollback(contentHash, blobFile);
+        }
+        return attachmentBlobRepository.findByContentHash(contentHash)
+                .orElseThrow(() -> new FileStorageException(ErrorMessages.FILE_STORAGE_ERROR.formatted(contentHash)));
+    }
+
+    private boolean insertBlob(String contentHash, String relativePath, long fileSize) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("contentHash", contentHash)
+                .addValue("filePath", relativePath)
+                .addValue("fileSize", fileSize)
+                .addValue("now", LocalDateTime.now());
+        try {
+            return jdbcTemplate.update(INSERT_BLOB_SQL, parameters) > 0;
+        } catch (DuplicateKeyException ex) {
+            return false;
+        }
+    }
+
+    private boolean writeBlob(InputStreamSource source, String contentHash, Path blobFile) throws IOException {
+        Path stagingPath = getStagingPath();
+        Files.createDirectories(stagingPath);
+
+        Path stagingFile = Files.createTempFile(stagingPath, contentHash, FileConstants.STAGING_FILE_SUFFIX);
+        try {
+            try (InputStream inputStream = source.getInputStream()) {
+                Files.copy(inputStream, stagingFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return placeIntoStore(stagingFile, blobFile);
+        } finally {
+            Files.deleteIfExists(stagingFile);
+        }
+    }
+
+    private boolean placeIntoStore(Path sourceFile, Path blobFile) throws IOException {
+        Files.createDirectories(blobFile.getParent());
+        try {
+            Files.createLink(blobFile, sourceFile);
+        } catch (FileAlreadyExistsException ex) {
+            return false;
+        } catch (UnsupportedOperationException ex) {
+            try {
+                Files.copy(sourceFile, blobFile);
+            } catch (FileAlreadyExistsException copyEx) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void discardOnRollback(String contentHash, Path blobFile) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+                try {
+                    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+                    transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+                    transactionTemplate.executeWithoutResult(transactionStatus -> {
+                        if (attachmentBlobRepository.findByContentHashForUpdate(contentHash).isEmpty()) {
+                            deleteBlobFile(blobFile);
+                        }
+                    });
+                } catch (RuntimeException ex) {
+                    log.warn("Could not discard attachment blob {}", blobFile, ex);
+                }
+            }
+        });
+    }
+
+    private void deleteBlobFile(Path blobFile) {
+        try {
+            Files.deleteIfExists(blobFile);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void discardAfterCommit(Path stagedFile) throws IOException {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Files.deleteIfExists(stagedFile);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    Files.deleteIfExists(stagedFile);
+                } catch (IOException ex) {
+                    log.warn("Could not delete staged upload {}", stagedFile, ex);
+                }
+            }
+        });
+    }
+
+    private String hashContent(InputStreamSource source) throws IOException {
+        try (DigestInputStream inputStream = new DigestInputStream(source.getInputStream(), newContentDigest())) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+            return HexFormat.of().formatHex(inputStream.getMessageDigest().digest());
+        }
+    }
+
+    private MessageDigest newContentDigest() {
+        try {
+            return MessageDigest.getInstance(FileConstants.CONTENT_HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private String toBlobPath(String contentHash) {
+        return String.join("/", FileConstants.BLOB_STORE_DIR,
+                contentHash.substring(0, FileConstants.BLOB_SHARD_PREFIX_LENGTH), contentHash);
+    }
+
+    private Path getUploadPath() {
+        String uploadDir = applicationProperties.getFile().getUploadDir();
+        if (uploadDir == null || uploadDir.isEmpty()) {
+            uploadDir = FileConstants.BASE_UPLOAD_DIR;
+        }
+        return Paths.get(uploadDir).toAbsolutePath().normalize();
+    }
+
+    @FunctionalInterface
+    private interface BlobWriter {
+        boolean write(Path blobFile) throws IOException;
+    }
+}
@@ -5,6 +5,7 @@ import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
 import com.patikadev.definex.advancedtaskmanager.constant.SecurityConstants;
 import com.patikadev.definex.advancedtaskmanager.exception.TokenRefreshException;
 import com.patikadev.definex.advancedtaskmanager.mapper.UserMapper;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.UserIdentity;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.auth.LoginRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.auth.RegisterRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.user.CreateUserRequest;
@@ -14,8 +15,11 @@ import com.patikadev.definex.advancedtaskmanager.model.entity.RefreshToken;
 import com.patikadev.definex.advancedtaskmanager.model.entity.User;
 import com.patikadev.definex.advancedtaskmanager.repository.UserRepository;
 import com.patikadev.definex.advancedtaskmanager.security.CustomUserDetails;
+import com.patikadev.definex.advancedtaskmanager.security.JwtUserPrincipal;
 import com.patikadev.definex.advancedtaskmanager.security.jwt.JwtTokenProvider;
+import com.patikadev.definex.advancedtaskmanager.security.jwt.VerifiedTokenCache;
 import com.patikadev.definex.advancedtaskmanager.service.AuthService;
+import com.patikadev.definex.advancedtaskmanager.service.ReferenceDataService;
 import com.patikadev.definex.advancedtaskmanager.service.RefreshTokenService;
 import com.patikadev.definex.advancedtaskmanager.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -40,6 +44,8 @@ public class AuthServiceImpl implements AuthService {
     private final UserMapper userMapper;
     private final ApplicationProperties applicationProperties;
     private final RefreshTokenService refreshTokenService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final ReferenceDataService referenceDataService;
 
     @Override
     @Transactional
@@ -78,23 +84,62 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public UserResponse getCurrentUser() {
-        String email = getCurrentUserEmail();
-        return userService.getUserByEmail(email);
+        Authentication authentication = getCurrentAuthentication();
+        if (authentication.getPrincipal() instanceof JwtUserPrincipal principal && principal.hasIdentityClaims()) {
+            return toUserResponse(principal);
+        }
+        return toUserResponse(findUserIdentity(authentication.getName()));
+    }
+
+    @Override
+    public UserResponse getCurrentUserProfile() {
+        return userService.getUserByEmail(getCurrentAuthentication().getName());
     }
 
     @Override
     public UUID getCurrentUserId() {
-        String email = getCurrentUserEmail();
-        User user = findUserByEmail(email);
-        return user.getId();
+        return resolveUserId(getCurrentAuthentication());
+    }
+
+    private UUID resolveUserId(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof JwtUserPrincipal principal && principal.hasIdentityClaims()) {
+            return principal.getId();
+        }
+        return findUserIdentity(authentication.getName()).id();
     }
 
-    private String getCurrentUserEmail() {
+    private Authentication getCurrentAuthentication() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated()) {
             throw new IllegalStateException(ErrorMessages.UNAUTHORIZED);
         }
-        return authentication.getName();
+        return authentication;
+    }
+
+    private UserIdentity findUserIdentity(String email) {
+        return referenceDataService.findUserIdentity(email)
+                .orElseThrow(() -> new UsernameNotFoundException(
+                        ErrorMessages.RESOURCE_NOT_FOUND.formatted("User with email: " + email)));
+    }
+
+    private UserResponse toUserResponse(UserIdentity identity) {
+        UserResponse userResponse = new UserResponse();
+        userResponse.setId(identity.id());
+        userResponse.setEmail(identity.email());
+        userResponse.setRoles(identity.roles());
+        userResponse.setDepartmentId(identity.departmentId());
+        userResponse.setActive(true);
+        return userResponse;
+    }
+
+    private UserResponse toUserResponse(JwtUserPrincipal principal) {
+        UserResponse userResponse = new UserResponse();
+        userResponse.setId(principal.getId());
+        userResponse.setEmail(principal.getUsername());
+        userResponse.setRoles(principal.getRoles());
+        userResponse.setDepartmentId(principal.getDepartmentId());
+        userResponse.setActive(true);
+        return userResponse;
     }
 
     @Override
@@ -115,10 +160,7 @@ public class AuthServiceImpl implements AuthService {
 
                     CustomUserDetails customUserDetails = new CustomUserDetails(user);
 
-                    String accessToken = tokenProvider.generateTokenFromUsername(
-                            customUserDetails.getUsername(),
-                            customUserDetails.getAuthorities()
-                    );
+                    String accessToken = generateAccessToken(customUserDetails);
 
                     RefreshToken newRefreshToken = refreshTokenService.createRefreshToken(user.getId());
 
@@ -133,10 +175,12 @@ public class AuthServiceImpl implements AuthService {
     public void logout() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null && authentication.isAuthenticated()) {
-            String email = authentication.getName();
-            User user = findUserByEmail(email);
-
-            refreshTokenService.deleteByUserId(user.getId());
+            UUID userId = resolveUserId(authentication);
+            refreshTokenService.deleteByUserId(userId);
+            if (authentication.getCredentials() instanceof String accessToken) {
+                tokenProvider.revokeToken(accessToken);
+                verifiedTokenCache.invalidate(accessToken);
+            }
         }
 
         SecurityContextHolder.clearContext();
@@ -158,9 +202,18 @@ public class AuthServiceImpl implements AuthService {
     }
 
     private String generateAccessToken(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof CustomUserDetails customUserDetails) {
+            return generateAccessToken(customUserDetails);
+        }
+        return generateAccessToken(new CustomUserDetails(findUserByEmail(authentication.getName())));
+    }
+
+    private String generateAccessToken(CustomUserDetails customUserDetails) {
         return tokenProvider.generateTokenFromUsername(
-                authentication.getName(),
-                authentication.getAuthorities()
+                customUserDetails.getUsername(),
+                customUserDetails.getId(),
+                customUserDetails.getDepartmentId(),
+                customUserDetails.getAuthorities()
         );
     }
 
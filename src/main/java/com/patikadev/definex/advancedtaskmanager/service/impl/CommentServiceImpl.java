@@ -1,8 +1,14 @@
 package com.patikadev.definex.advancedtaskmanager.service.impl;
 
 import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
+import com.patikadev.definex.advancedtaskmanager.event.CommentAddedEvent;
+import com.patikadev.definex.advancedtaskmanager.event.TaskActivityEvent;
+import com.patikadev.definex.advancedtaskmanager.event.TaskChangedEvent;
 import com.patikadev.definex.advancedtaskmanager.exception.ResourceNotFoundException;
 import com.patikadev.definex.advancedtaskmanager.mapper.CommentMapper;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPage;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPageRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.PageCursor;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.comment.CreateCommentRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.comment.UpdateCommentRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.comment.CommentResponse;
@@ -14,7 +20,9 @@ import com.patikadev.definex.advancedtaskmanager.repository.TaskRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.UserRepository;
 import com.patikadev.definex.advancedtaskmanager.service.AuthService;
 import com.patikadev.definex.advancedtaskmanager.service.CommentService;
+import com.patikadev.definex.advancedtaskmanager.service.DomainEventService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,6 +38,8 @@ public class CommentServiceImpl implements CommentService {
     private final UserRepository userRepository;
     private final AuthService authService;
     private final CommentMapper commentMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DomainEventService domainEventService;
 
     @Override
     @Transactional
@@ -39,6 +49,9 @@ public class CommentServiceImpl implements CommentService {
 
         Comment comment = commentMapper.toEntity(request, task, currentUser);
         Comment savedComment = commentRepository.save(comment);
+        eventPublisher.publishEvent(TaskChangedEvent.of(task.getId()));
+        eventPublisher.publishEvent(TaskActivityEvent.commentAdded(savedComment));
+        domainEventService.record(CommentAddedEvent.of(savedComment));
 
         return commentMapper.toResponse(savedComment);
     }
@@ -49,6 +62,7 @@ public class CommentServiceImpl implements CommentService {
         Comment comment = findCommentById(id);
         commentMapper.updateEntityFromDto(request, comment);
         Comment updatedComment = commentRepository.save(comment);
+        eventPublisher.publishEvent(TaskChangedEvent.of(updatedComment.getTask().getId()));
 
         return commentMapper.toResponse(updatedComment);
     }
@@ -62,24 +76,26 @@ public class CommentServiceImpl implements CommentService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<CommentResponse> getCommentsByTaskId(UUID taskId) {
+    public CursorPage<CommentResponse> getCommentsByTaskId(UUID taskId, CursorPageRequest pageRequest) {
         if (!taskRepository.existsByIdAndIsActiveTrue(taskId)) {
             throw new ResourceNotFoundException(ErrorMessages.TASK_NOT_FOUND.formatted(taskId));
         }
 
-        List<Comment> comments = commentRepository.findAllByTaskIdWithDetails(taskId);
-        return commentMapper.toResponseList(comments);
+        List<Comment> comments = commentRepository.findPageByTaskIdWithDetails(taskId,
+                pageRequest.getCursorSortValue(), pageRequest.getCursorLong(), pageRequest.toLimit());
+        return toCommentPage(comments, pageRequest);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<CommentResponse> getCommentsByUserId(UUID userId) {
+    public CursorPage<CommentResponse> getCommentsByUserId(UUID userId, CursorPageRequest pageRequest) {
         if (!userRepository.existsByIdAndIsActiveTrue(userId)) {
             throw new ResourceNotFoundException(ErrorMessages.USER_NOT_FOUND.formatted(userId));
         }
 
-        List<Comment> comments = commentRepository.findAllByUserIdAndIsActiveTrue(userId);
-        return commentMapper.toResponseList(comments);
+        List<Comment> comments = commentRepository.findPageByUserIdAndIsActiveTrue(userId,
+                pageRequest.getCursorSortValue(), pageRequest.getCursorLong(), pageRequest.toLimit());
+        return toCommentPage(comments, pageRequest);
     }
 
     @Override
@@ -88,6 +104,7 @@ public class CommentServiceImpl implements CommentService {
         Comment comment = findCommentById(id);
         comment.setIsActive(false);
         commentRepository.save(comment);
+        eventPublisher.publishEvent(TaskChangedEvent.of(comment.getTask().getId()));
     }
 
     private Task findTaskById(UUID taskId) {
@@ -108,4 +125,10 @@ public class CommentServiceImpl implements CommentService {
                 .orElseThrow(() -> new ResourceNotFoundException(
                         ErrorMessages.COMMENT_NOT_FOUND.formatted(id)));
     }
-} 
\ No newline at end of file
+
+    private CursorPage<CommentResponse> toCommentPage(List<Comment> comments, CursorPageRequest pageRequest) {
+        return CursorPage.of(comments, pageRequest,
+                comment -> PageCursor.of(comment.getCreatedAt(), comment.getId()),
+                commentMapper::toResponseList);
+    }
+}
@@ -2,14 +2,20 @@ package com.patikadev.definex.advancedtaskmanager.service.impl;
 
 import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
 import com.patikadev.definex.advancedtaskmanager.exception.ResourceNotFoundException;
+import com.patikadev.definex.advancedtaskmanager.exception.VersionConflictException;
 import com.patikadev.definex.advancedtaskmanager.mapper.DepartmentMapper;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.AggregateCounts;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.DepartmentDetailVersion;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.ResourceVersion;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.department.CreateDepartmentRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.department.UpdateDepartmentRequest;
-import com.patikadev.definex.advancedtaskmanager.model.dto.response.department.DepartmentResponse;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.department.DepartmentDetailResponse;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.department.DepartmentResponse;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Department;
 import com.patikadev.definex.advancedtaskmanager.repository.DepartmentRepository;
+import com.patikadev.definex.advancedtaskmanager.service.AggregateCountService;
 import com.patikadev.definex.advancedtaskmanager.service.DepartmentService;
+import com.patikadev.definex.advancedtaskmanager.service.ReferenceDataService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +29,8 @@ public class DepartmentServiceImpl implements DepartmentService {
 
     private final DepartmentRepository departmentRepository;
     private final DepartmentMapper departmentMapper;
+    private final AggregateCountService aggregateCountService;
+    private final ReferenceDataService referenceDataService;
 
     @Override
     @Transactional
@@ -32,43 +40,53 @@ public class DepartmentServiceImpl implements DepartmentService {
         Department department = departmentMapper.toEntity(request);
         Department savedDepartment = departmentRepository.save(department);
 
-        return departmentMapper.toResponse(savedDepartment);
+        return departmentMapper.toResponse(savedDepartment, AggregateCounts.empty());
     }
 
     @Override
     @Transactional
-    public DepartmentResponse updateDepartment(Long id, UpdateDepartmentRequest request) {
+    public DepartmentResponse updateDepartment(Long id, UpdateDepartmentRequest request, Long expectedVersion) {
         Department department = findDepartmentById(id);
+        validateDepartmentVersion(department, expectedVersion);
 
         if (request.getName() != null && !request.getName().equals(department.getName())) {
             checkIfDepartmentNameExists(request.getName());
         }
 
         departmentMapper.updateEntityFromDto(request, department);
-        Department updatedDepartment = departmentRepository.save(department);
+        Department updatedDepartment = departmentRepository.saveAndFlush(department);
+        referenceDataService.evictDepartment(id);
 
-        return departmentMapper.toResponse(updatedDepartment);
+        return departmentMapper.toResponse(updatedDepartment, aggregateCountService.countForDepartments(List.of(updatedDepartment)));
     }
 
     @Override
     @Transactional(readOnly = true)
     public DepartmentDetailResponse getDepartmentById(Long id) {
         Department department = findDepartmentById(id);
-        return departmentMapper.toDetailResponse(department);
+        return departmentMapper.toDetailResponse(department, aggregateCountService.countForDepartmentDetail(department));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getDepartmentDetailVersion(Long id) {
+        return departmentRepository.findDetailVersionById(id)
+                .map(DepartmentDetailVersion::toResourceVersion)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.DEPARTMENT_NOT_FOUND.formatted(id)));
     }
 
     @Override
     @Transactional(readOnly = true)
     public DepartmentDetailResponse getDepartmentByName(String name) {
         Department department = findDepartmentByName(name);
-        return departmentMapper.toDetailResponse(department);
+        return departmentMapper.toDetailResponse(department, aggregateCountService.countForDepartmentDetail(department));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<DepartmentResponse> getAllDepartments() {
         List<Department> departments = departmentRepository.findAllByIsActiveTrue();
-        return departmentMapper.toResponseList(departments);
+        return departmentMapper.toResponseList(departments, aggregateCountService.countForDepartments(departments));
     }
 
     @Override
@@ -86,6 +104,7 @@ public class DepartmentServiceImpl implements DepartmentService {
 
         department.setIsActive(false);
         departmentRepository.save(department);
+        referenceDataService.evictDepartment(id);
     }
 
     private Department findDepartmentById(Long id) {
@@ -93,6 +112,14 @@ public class DepartmentServiceImpl implements DepartmentService {
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.DEPARTMENT_NOT_FOUND.formatted(id)));
     }
 
+    private void validateDepartmentVersion(Department department, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(department.getVersion())) {
+            throw new VersionConflictException(
+                    ErrorMessages.DEPARTMENT_VERSION_CONFLICT.formatted(department.getId(), expectedVersion, department.getVersion()),
+                    departmentMapper.toResponse(department, aggregateCountService.countForDepartments(List.of(department))));
+        }
+    }
+
     private Department findDepartmentByName(String name) {
         return departmentRepository.findByNameAndIsActiveTrue(name)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.DEPARTMENT_NOT_FOUND.formatted(name)));
@@ -0,0 +1,254 @@
+package com.patikadev.definex.advancedtaskmanager.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.patikadev.definex.advancedtaskmanager.config.ApplicationProperties;
+import com.patikadev.definex.advancedtaskmanager.config.BackgroundThreads;
+import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
+import com.patikadev.definex.advancedtaskmanager.constant.MetricConstants;
+import com.patikadev.definex.advancedtaskmanager.event.*;
+import com.patikadev.definex.advancedtaskmanager.model.entity.DomainEventOutbox;
+import com.patikadev.definex.advancedtaskmanager.model.enums.DomainEventType;
+import com.patikadev.definex.advancedtaskmanager.repository.DomainEventOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class DomainEventDispatcher implements SmartLifecycle {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    private final DomainEventOutboxRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final ApplicationProperties.DomainEvents properties;
+    private final BackgroundThreads backgroundThreads;
+    private final MeterRegistry meterRegistry;
+    private final Timer dispatchTimer;
+    private final Counter retriedCounter;
+    private final Counter deadLetteredCounter;
+    private final Semaphore wakeUps = new Semaphore(0);
+    private final String dispatcherId = UUID.randomUUID().toString();
+    private volatile boolean running;
+    private Thread worker;
+
+    public DomainEventDispatcher(DomainEventOutboxRepository outboxRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 ApplicationEventPublisher eventPublisher,
+                                 ObjectMapper objectMapper,
+                                 ApplicationProperties applicationProperties,
+                                 BackgroundThreads backgroundThreads,
+                                 MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.properties = applicationProperties.getDomainEvents();
+        this.backgroundThreads = backgroundThreads;
+        this.meterRegistry = meterRegistry;
+        this.dispatchTimer = Timer.builder(MetricConstants.DOMAIN_EVENT_DISPATCH).register(meterRegistry);
+        this.retriedCounter = Counter.builder(MetricConstants.DOMAIN_EVENT_RETRIED).register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder(MetricConstants.DOMAIN_EVENT_DEAD_LETTERED).register(meterRegistry);
+    }
+
+    public void wakeUp() {
+        if (wakeUps.availablePermits() == 0) {
+            wakeUps.release();
+        }
+    }
+
+    public int dispatchPending() {
+        int delivered = 0;
+
+        List<DomainEventOutbox> batch;
+        do {
+            batch = transactionTemplate.execute(status -> claimBatch(LocalDateTime.now()));
+            int dispatched = dispatch(batch);
+            if (dispatched == 0) {
+                break;
+            }
+            delivered += dispatched;
+        } while (batch.size() == properties.getBatchSize());
+
+        return delivered;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = backgroundThreads.start("domain-event-dispatcher", this::dispatchLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker == null) {
+            return;
+        }
+
+        wakeUp();
+        try {
+            worker.join(properties.getPollIntervalMs() * 2);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                dispatchPending();
+                wakeUps.tryAcquire(properties.getPollIntervalMs(), TimeUnit.MILLISECONDS);
+                wakeUps.drainPermits();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Domain event dispatcher failed, pending events stay in the outbox", ex);
+            }
+        }
+    }
+
+    private List<DomainEventOutbox> claimBatch(LocalDateTime now) {
+        List<DomainEventOutbox> candidates = outboxRepository.findDeliverable(now, Limit.of(properties.getBatchSize()));
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        List<Long> candidateIds = candidates.stream().map(DomainEventOutbox::getId).toList();
+        outboxRepository.claim(candidateIds, dispatcherId,
+                now.plus(Duration.ofMillis(properties.getClaimLeaseMs())), now);
+        Set<Long> claimedIds = new HashSet<>(outboxRepository.findClaimedIds(candidateIds, dispatcherId));
+
+        List<DomainEventOutbox> claimed = new ArrayList<>(claimedIds.size());
+        List<Long> releasedIds = new ArrayList<>();
+        Set<UUID> contestedAggregates = new HashSet<>();
+        for (DomainEventOutbox candidate : candidates) {
+            if (!claimedIds.contains(candidate.getId())) {
+                contestedAggregates.add(candidate.getAggregateId());
+            } else if (contestedAggregates.contains(candidate.getAggregateId())) {
+                releasedIds.add(candidate.getId());
+            } else {
+                claimed.add(candidate);
+            }
+        }
+
+        if (!releasedIds.isEmpty()) {
+            outboxRepository.release(releasedIds, dispatcherId);
+        }
+        return claimed;
+    }
+
+    private int dispatch(List<DomainEventOutbox> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Timer.Sample sample = Timer.start();
+        List<Long> deliveredIds = new ArrayList<>(batch.size());
+        List<DomainEventOutbox> failedEntries = new ArrayList<>();
+        List<Long> skippedIds = new ArrayList<>();
+        Set<UUID> blockedAggregates = new HashSet<>();
+        try {
+            for (DomainEventOutbox entry : batch) {
+                if (blockedAggregates.contains(entry.getAggregateId())) {
+                    skippedIds.add(entry.getId());
+                    continue;
+                }
+
+                try {
+                    eventPublisher.publishEvent(deserialize(entry));
+                    deliveredIds.add(entry.getId());
+                    meterRegistry.counter(MetricConstants.DOMAIN_EVENT_DELIVERED,
+                            MetricConstants.TAG_EVENT_TYPE, entry.getEventType().name()).increment();
+                } catch (RuntimeException ex) {
+                    blockedAggregates.add(entry.getAggregateId());
+                    scheduleRetry(entry, ex);
+                    entry.setClaimedBy(null);
+                    entry.setClaimedUntil(null);
+                    failedEntries.add(entry);
+                }
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!deliveredIds.isEmpty()) {
+                    outboxRepository.deleteAllByIdInBatch(deliveredIds);
+                }
+                if (!skippedIds.isEmpty()) {
+                    outboxRepository.release(skippedIds, dispatcherId);
+                }
+                outboxRepository.saveAll(failedEntries);
+            });
+            return deliveredIds.size();
+        } finally {
+            sample.stop(dispatchTimer);
+        }
+    }
+
+    private DomainEvent deserialize(DomainEventOutbox entry) {
+        try {
+            return objectMapper.readValue(entry.getPayload(), eventClass(entry.getEventType()));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ErrorMessages.DOMAIN_EVENT_DESERIALIZATION_FAILED.formatted(entry.getId()), ex);
+        }
+    }
+
+    private void scheduleRetry(DomainEventOutbox entry, RuntimeException ex) {
+        int attempts = entry.getAttempts() + 1;
+        String error = ex.getMessage() != null ? ex.getMessage() : ex.getClass().getName();
+        entry.setAttempts(attempts);
+        entry.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+
+        if (attempts >= properties.getMaxAttempts()) {
+            log.error("Dead-lettering {} event {} for aggregate {} after {} attempts",
+                    entry.getEventType(), entry.getId(), entry.getAggregateId(), attempts, ex);
+            entry.setIsActive(false);
+            deadLetteredCounter.increment();
+            return;
+        }
+
+        long backoffMs = Math.min(properties.getMaxRetryBackoffMs(),
+                properties.getRetryBackoffMs() << Math.min(attempts - 1, MAX_BACKOFF_SHIFT));
+        log.warn("Delivery of {} event {} for aggregate {} failed on attempt {}, retrying in {} ms",
+                entry.getEventType(), entry.getId(), entry.getAggregateId(), attempts, backoffMs, ex);
+        entry.setNextAttemptAt(LocalDateTime.now().plus(Duration.ofMillis(backoffMs)));
+        retriedCounter.increment();
+    }
+
+    private static Class<? extends DomainEvent> eventClass(DomainEventType type) {
+        return switch (type) {
+            case TASK_CREATED -> TaskCreatedEvent.class;
+            case TASK_STATE_CHANGED -> TaskStateChangedEvent.class;
+            case TASK_ASSIGNED -> TaskAssignedEvent.class;
+            case COMMENT_ADDED -> CommentAddedEvent.class;
+            case ATTACHMENT_UPLOADED -> AttachmentUploadedEvent.class;
+            case PROJECT_STATUS_CHANGED -> ProjectStatusChangedEvent.class;
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package com.patikadev.definex.advancedtaskmanager.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
+import com.patikadev.definex.advancedtaskmanager.event.DomainEvent;
+import com.patikadev.definex.advancedtaskmanager.model.entity.DomainEventOutbox;
+import com.patikadev.definex.advancedtaskmanager.repository.DomainEventOutboxRepository;
+import com.patikadev.definex.advancedtaskmanager.service.DomainEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class DomainEventServiceImpl implements DomainEventService {
+
+    private final DomainEventOutboxRepository domainEventOutboxRepository;
+    private final DomainEventDispatcher domainEventDispatcher;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(DomainEvent event) {
+        recordAll(List.of(event));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(Collection<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime recordedAt = LocalDateTime.now();
+        List<DomainEventOutbox> entries = events.stream()
+                .map(event -> DomainEventOutbox.builder()
+                        .eventType(event.type())
+                        .aggregateId(event.aggregateId())
+                        .payload(serialize(event))
+                        .nextAttemptAt(recordedAt)
+                        .build())
+                .toList();
+        domainEventOutboxRepository.saveAll(entries);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                domainEventDispatcher.wakeUp();
+            }
+        });
+    }
+
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ErrorMessages.DOMAIN_EVENT_SERIALIZATION_FAILED.formatted(event.type()), ex);
+        }
+    }
+}
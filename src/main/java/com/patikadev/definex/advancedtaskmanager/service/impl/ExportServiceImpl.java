@@ -0,0 +1,106 @@
+package com.patikadev.definex.advancedtaskmanager.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
+import com.patikadev.definex.advancedtaskmanager.exception.FileOperationException;
+import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.TaskExportFilter;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.task.TaskExportRow;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.taskStateHistory.TaskStateHistoryExportRow;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.user.UserResponse;
+import com.patikadev.definex.advancedtaskmanager.model.enums.DataFormat;
+import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
+import com.patikadev.definex.advancedtaskmanager.repository.TaskRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.TaskStateHistoryRepository;
+import com.patikadev.definex.advancedtaskmanager.service.AuthService;
+import com.patikadev.definex.advancedtaskmanager.service.ExportService;
+import com.patikadev.definex.advancedtaskmanager.service.impl.ExportWriter.Column;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class ExportServiceImpl implements ExportService {
+
+    private static final List<Column<TaskExportRow>> TASK_COLUMNS = List.of(
+            new Column<>("id", TaskExportRow::getId),
+            new Column<>("title", TaskExportRow::getTitle),
+            new Column<>("state", TaskExportRow::getState),
+            new Column<>("priority", TaskExportRow::getPriority),
+            new Column<>("stateChangeReason", TaskExportRow::getStateChangeReason),
+            new Column<>("projectId", TaskExportRow::getProjectId),
+            new Column<>("departmentId", TaskExportRow::getDepartmentId),
+            new Column<>("assignedUserId", TaskExportRow::getAssignedUserId),
+            new Column<>("createdAt", TaskExportRow::getCreatedAt),
+            new Column<>("updatedAt", TaskExportRow::getUpdatedAt));
+
+    private static final List<Column<TaskStateHistoryExportRow>> TASK_STATE_HISTORY_COLUMNS = List.of(
+            new Column<>("id", TaskStateHistoryExportRow::getId),
+            new Column<>("taskId", TaskStateHistoryExportRow::getTaskId),
+            new Column<>("projectId", TaskStateHistoryExportRow::getProjectId),
+            new Column<>("oldState", TaskStateHistoryExportRow::getOldState),
+            new Column<>("newState", TaskStateHistoryExportRow::getNewState),
+            new Column<>("reason", TaskStateHistoryExportRow::getReason),
+            new Column<>("changedByUserId", TaskStateHistoryExportRow::getChangedByUserId),
+            new Column<>("changedAt", TaskStateHistoryExportRow::getChangedAt));
+
+    private final TaskRepository taskRepository;
+    private final TaskStateHistoryRepository taskStateHistoryRepository;
+    private final AuthService authService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportTasks(TaskExportFilter filter, DataFormat format, OutputStream outputStream) {
+        UserResponse currentUser = authService.getCurrentUser();
+        if (!canViewAnyTask(currentUser)) {
+            return write(Stream.empty(), format, outputStream, TASK_COLUMNS);
+        }
+
+        try (Stream<TaskExportRow> rows = taskRepository.streamExportRows(visibleDepartmentId(currentUser),
+                filter.getState(), filter.getPriority(), filter.getProjectId(), filter.getFrom(), filter.getTo())) {
+            return write(rows, format, outputStream, TASK_COLUMNS);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportTaskStateHistories(TaskExportFilter filter, DataFormat format, OutputStream outputStream) {
+        UserResponse currentUser = authService.getCurrentUser();
+        if (!canViewAnyTask(currentUser)) {
+            return write(Stream.empty(), format, outputStream, TASK_STATE_HISTORY_COLUMNS);
+        }
+
+        try (Stream<TaskStateHistoryExportRow> rows = taskStateHistoryRepository.streamExportRows(
+                visibleDepartmentId(currentUser), filter.getState(), filter.getPriority(), filter.getProjectId(),
+                filter.getFrom(), filter.getTo())) {
+            return write(rows, format, outputStream, TASK_STATE_HISTORY_COLUMNS);
+        }
+    }
+
+    private <T> long write(Stream<T> rows, DataFormat format, OutputStream outputStream, List<Column<T>> columns) {
+        try {
+            return ExportWriter.write(rows, format, outputStream, objectMapper, columns);
+        } catch (IOException ex) {
+            throw new FileOperationException(ErrorMessages.EXPORT_WRITE_ERROR, ex);
+        }
+    }
+
+    private boolean canViewAnyTask(UserResponse currentUser) {
+        return isAdminOrProjectGroupManager(currentUser.getRoles()) || currentUser.getDepartmentId() != null;
+    }
+
+    private Long visibleDepartmentId(UserResponse currentUser) {
+        return isAdminOrProjectGroupManager(currentUser.getRoles()) ? null : currentUser.getDepartmentId();
+    }
+
+    private boolean isAdminOrProjectGroupManager(Set<UserRole> roles) {
+        return roles.contains(UserRole.ADMIN) || roles.contains(UserRole.PROJECT_GROUP_MANAGER);
+    }
+}
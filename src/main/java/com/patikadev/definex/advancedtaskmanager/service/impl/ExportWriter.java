@@ -0,0 +1,62 @@
+package com.patikadev.definex.advancedtaskmanager.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.patikadev.definex.advancedtaskmanager.model.enums.DataFormat;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+final class ExportWriter {
+
+    private ExportWriter() {
+    }
+
+    record Column<T>(String name, Function<T, Object> value) {
+    }
+
+    static <T> long write(Stream<T> rows, DataFormat format, OutputStream outputStream, ObjectMapper objectMapper,
+                          List<Column<T>> columns) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == DataFormat.CSV) {
+            writeCsvLine(writer, columns.stream().map(Column::name));
+        }
+
+        long count = 0;
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+            if (format == DataFormat.CSV) {
+                writeCsvLine(writer, columns.stream().map(column -> column.value().apply(row)));
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            }
+            count++;
+        }
+
+        writer.flush();
+        return count;
+    }
+
+    private static void writeCsvLine(Writer writer, Stream<Object> values) throws IOException {
+        writer.write(values.map(ExportWriter::toCsvValue).collect(Collectors.joining(",")));
+        writer.write('\n');
+    }
+
+    private static String toCsvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
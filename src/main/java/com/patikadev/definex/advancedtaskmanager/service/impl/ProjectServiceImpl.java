@@ -1,9 +1,17 @@
 package com.patikadev.definex.advancedtaskmanager.service.impl;
 
 import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
+import com.patikadev.definex.advancedtaskmanager.event.ProjectStatusChangedEvent;
 import com.patikadev.definex.advancedtaskmanager.exception.ResourceNotFoundException;
 import com.patikadev.definex.advancedtaskmanager.exception.UnauthorizedDepartmentAccessException;
+import com.patikadev.definex.advancedtaskmanager.exception.VersionConflictException;
 import com.patikadev.definex.advancedtaskmanager.mapper.ProjectMapper;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.AggregateCounts;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPage;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPageRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.PageCursor;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.ProjectDetailVersion;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.ResourceVersion;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.project.CreateProjectRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.project.UpdateProjectRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.project.UpdateProjectStatusRequest;
@@ -18,8 +26,11 @@ import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
 import com.patikadev.definex.advancedtaskmanager.repository.DepartmentRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.ProjectRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.UserRepository;
+import com.patikadev.definex.advancedtaskmanager.service.AggregateCountService;
 import com.patikadev.definex.advancedtaskmanager.service.AuthService;
+import com.patikadev.definex.advancedtaskmanager.service.DomainEventService;
 import com.patikadev.definex.advancedtaskmanager.service.ProjectService;
+import com.patikadev.definex.advancedtaskmanager.service.ReferenceDataService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,7 +46,10 @@ public class ProjectServiceImpl implements ProjectService {
     private final DepartmentRepository departmentRepository;
     private final UserRepository userRepository;
     private final ProjectMapper projectMapper;
+    private final AggregateCountService aggregateCountService;
     private final AuthService authService;
+    private final ReferenceDataService referenceDataService;
+    private final DomainEventService domainEventService;
 
     @Override
     @Transactional
@@ -49,15 +63,16 @@ public class ProjectServiceImpl implements ProjectService {
         Project project = projectMapper.toEntity(request, department, teamMembers);
         Project savedProject = projectRepository.save(project);
 
-        return projectMapper.toResponse(savedProject);
+        return projectMapper.toResponse(savedProject, AggregateCounts.empty());
     }
 
     @Override
     @Transactional
-    public ProjectResponse updateProject(UUID id, UpdateProjectRequest request) {
+    public ProjectResponse updateProject(UUID id, UpdateProjectRequest request, Long expectedVersion) {
         Project project = findProjectById(id);
 
         validateProjectManagerProjectAccess(project);
+        validateProjectVersion(project, expectedVersion);
 
         projectMapper.updateEntityFromDto(request, project);
         if (request.getDepartmentId() != null) {
@@ -73,54 +88,67 @@ public class ProjectServiceImpl implements ProjectService {
             project.setTeamMembers(teamMembers);
         }
 
-        Project updatedProject = projectRepository.save(project);
+        Project updatedProject = projectRepository.saveAndFlush(project);
 
-        return projectMapper.toResponse(updatedProject);
+        return projectMapper.toResponse(updatedProject, aggregateCountService.countForProjects(List.of(updatedProject)));
     }
 
     @Override
     @Transactional(readOnly = true)
     public ProjectDetailResponse getProjectById(UUID id) {
         Project project = findProjectById(id);
-        return projectMapper.toDetailResponse(project);
+        return projectMapper.toDetailResponse(project, aggregateCountService.countForProjectDetail(project));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ProjectResponse> getAllProjects() {
-        List<Project> projects = projectRepository.findAllByIsActiveTrue();
-        return projectMapper.toResponseList(projects);
+    public ResourceVersion getProjectDetailVersion(UUID id) {
+        return projectRepository.findDetailVersionById(id)
+                .map(ProjectDetailVersion::toResourceVersion)
+                .orElseThrow(() -> new ResourceNotFoundException(String.format(ErrorMessages.PROJECT_NOT_FOUND, id)));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ProjectResponse> getProjectsByDepartmentId(Long departmentId) {
+    public CursorPage<ProjectResponse> getAllProjects(CursorPageRequest pageRequest) {
+        List<Project> projects = projectRepository.findPageByIsActiveTrue(
+                pageRequest.getCursorSortValue(), pageRequest.getCursorUuid(), pageRequest.toLimit());
+        return toProjectPage(projects, pageRequest);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ProjectResponse> getProjectsByDepartmentId(Long departmentId, CursorPageRequest pageRequest) {
         validateDepartmentExists(departmentId);
-        List<Project> projects = projectRepository.findAllByDepartmentIdAndIsActiveTrue(departmentId);
-        return projectMapper.toResponseList(projects);
+        List<Project> projects = projectRepository.findPageByDepartmentIdAndIsActiveTrue(departmentId,
+                pageRequest.getCursorSortValue(), pageRequest.getCursorUuid(), pageRequest.toLimit());
+        return toProjectPage(projects, pageRequest);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ProjectResponse> getProjectsByStatus(ProjectStatus status) {
-        List<Project> projects = projectRepository.findAllByStatusAndIsActiveTrue(status);
-        return projectMapper.toResponseList(projects);
+    public CursorPage<ProjectResponse> getProjectsByStatus(ProjectStatus status, CursorPageRequest pageRequest) {
+        List<Project> projects = projectRepository.findPageByStatusAndIsActiveTrue(status,
+                pageRequest.getCursorSortValue(), pageRequest.getCursorUuid(), pageRequest.toLimit());
+        return toProjectPage(projects, pageRequest);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ProjectResponse> getProjectsByTeamMemberId(UUID userId) {
+    public CursorPage<ProjectResponse> getProjectsByTeamMemberId(UUID userId, CursorPageRequest pageRequest) {
         validateUserExists(userId);
-        List<Project> projects = projectRepository.findAllByTeamMemberIdAndIsActiveTrue(userId);
-        return projectMapper.toResponseList(projects);
+        List<Project> projects = projectRepository.findPageByTeamMemberIdAndIsActiveTrue(userId,
+                pageRequest.getCursorSortValue(), pageRequest.getCursorUuid(), pageRequest.toLimit());
+        return toProjectPage(projects, pageRequest);
     }
 
     @Override
     @Transactional
-    public ProjectResponse addTeamMember(UUID projectId, UUID userId) {
+    public ProjectResponse addTeamMember(UUID projectId, UUID userId, Long expectedVersion) {
         Project project = findProjectById(projectId);
 
         validateProjectManagerProjectAccess(project);
+        validateProjectVersion(project, expectedVersion);
 
         User user = findUserById(userId);
 
@@ -129,9 +157,9 @@ public class ProjectServiceImpl implements ProjectService {
         }
 
         project.getTeamMembers().add(user);
-        Project updatedProject = projectRepository.save(project);
+        Project updatedProject = projectRepository.saveAndFlush(project);
 
-        return projectMapper.toResponse(updatedProject);
+        return projectMapper.toResponse(updatedProject, aggregateCountService.countForProjects(List.of(updatedProject)));
     }
 
     @Override
@@ -150,7 +178,7 @@ public class ProjectServiceImpl implements ProjectService {
         project.getTeamMembers().remove(user);
         Project updatedProject = projectRepository.save(project);
 
-        return projectMapper.toResponse(updatedProject);
+        return projectMapper.toResponse(updatedProject, aggregateCountService.countForProjects(List.of(updatedProject)));
     }
 
     @Override
@@ -160,10 +188,14 @@ public class ProjectServiceImpl implements ProjectService {
 
         validateProjectManagerProjectAccess(project);
 
+        ProjectStatus oldStatus = project.getStatus();
         project.setStatus(request.getNewStatus());
 
         Project updatedProject = projectRepository.save(project);
-        return projectMapper.toResponse(updatedProject);
+        if (oldStatus != updatedProject.getStatus()) {
+            domainEventService.record(ProjectStatusChangedEvent.of(updatedProject, oldStatus));
+        }
+        return projectMapper.toResponse(updatedProject, aggregateCountService.countForProjects(List.of(updatedProject)));
     }
 
     @Override
@@ -192,8 +224,16 @@ public class ProjectServiceImpl implements ProjectService {
                 .orElseThrow(() -> new ResourceNotFoundException(String.format(ErrorMessages.PROJECT_NOT_FOUND, id)));
     }
 
+    private void validateProjectVersion(Project project, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(project.getVersion())) {
+            throw new VersionConflictException(
+                    String.format(ErrorMessages.PROJECT_VERSION_CONFLICT, project.getId(), expectedVersion, project.getVersion()),
+                    projectMapper.toResponse(project, aggregateCountService.countForProjects(List.of(project))));
+        }
+    }
+
     private Department findDepartmentById(Long id) {
-        return departmentRepository.findByIdAndIsActiveTrue(id)
+        return referenceDataService.findDepartment(id)
                 .orElseThrow(() -> new ResourceNotFoundException(String.format(ErrorMessages.DEPARTMENT_NOT_FOUND, id)));
     }
 
@@ -270,4 +310,10 @@ public class ProjectServiceImpl implements ProjectService {
     private boolean isAdminOrProjectGroupManager(Set<UserRole> roles) {
         return roles.contains(UserRole.ADMIN) || roles.contains(UserRole.PROJECT_GROUP_MANAGER);
     }
-} 
\ No newline at end of file
+
+    private CursorPage<ProjectResponse> toProjectPage(List<Project> projects, CursorPageRequest pageRequest) {
+        return CursorPage.of(projects, pageRequest,
+                project -> PageCursor.of(project.getCreatedAt(), project.getId()),
+                pageProjects -> projectMapper.toResponseList(pageProjects, aggregateCountService.countForProjects(pageProjects)));
+    }
+}
@@ -0,0 +1,151 @@
+package com.patikadev.definex.advancedtaskmanager.service.impl;
+
+import com.patikadev.definex.advancedtaskmanager.constant.CacheNames;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.UserIdentity;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Department;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Role;
+import com.patikadev.definex.advancedtaskmanager.model.entity.User;
+import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
+import com.patikadev.definex.advancedtaskmanager.repository.DepartmentRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.RoleRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.UserRepository;
+import com.patikadev.definex.advancedtaskmanager.service.ReferenceDataService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class ReferenceDataServiceImpl implements ReferenceDataService {
+
+    private final RoleRepository roleRepository;
+    private final DepartmentRepository departmentRepository;
+    private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+    private final Map<String, CacheGeneration> generations = new ConcurrentHashMap<>();
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Role> findRole(UserRole name) {
+        return lookup(CacheNames.ROLES, name, RoleReference.class,
+                () -> roleRepository.findByNameAndIsActiveTrue(name)
+                        .map(role -> new RoleReference(role.getId(), role.getName())))
+                .map(reference -> Role.builder()
+                        .id(reference.id())
+                        .name(reference.name())
+                        .build());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Department> findDepartment(Long id) {
+        return lookup(CacheNames.DEPARTMENTS, id, DepartmentReference.class,
+                () -> departmentRepository.findByIdAndIsActiveTrue(id)
+                        .map(department -> new DepartmentReference(department.getId(), department.getVersion(), department.getName(), department.getDescription())))
+                .map(reference -> Department.builder()
+                        .id(reference.id())
+                        .version(reference.version())
+                        .name(reference.name())
+                        .description(reference.description())
+                        .build());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<UserIdentity> findUserIdentity(String email) {
+        return lookup(CacheNames.USER_IDENTITIES, email, UserIdentity.class,
+                () -> userRepository.findByEmailAndIsActiveTrue(email).map(this::toUserIdentity));
+    }
+
+    @Override
+    public void evictRoles() {
+        evict(CacheNames.ROLES, Cache::clear);
+    }
+
+    @Override
+    public void evictDepartment(Long id) {
+        evict(CacheNames.DEPARTMENTS, cache -> cache.evict(id));
+    }
+
+    @Override
+    public void evictUserIdentity(String email) {
+        evict(CacheNames.USER_IDENTITIES, cache -> cache.evict(email));
+    }
+
+    private <T> Optional<T> lookup(String cacheName, Object key, Class<T> type, Supplier<Optional<T>> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        T cached = cache.get(key, type);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        CacheGeneration generation = generation(cacheName);
+        long loadedAt = generation.current();
+        Optional<T> loaded = loader.get();
+        loaded.ifPresent(value -> generation.putIfCurrent(loadedAt, () -> cache.put(key, value)));
+        return loaded;
+    }
+
+    private void evict(String cacheName, Consumer<Cache> eviction) {
+        Cache cache = cacheManager.getCache(cacheName);
+        CacheGeneration generation = generation(cacheName);
+        generation.advance(() -> eviction.accept(cache));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    generation.advance(() -> eviction.accept(cache));
+                }
+            });
+        }
+    }
+
+    private CacheGeneration generation(String cacheName) {
+        return generations.computeIfAbsent(cacheName, name -> new CacheGeneration());
+    }
+
+    private UserIdentity toUserIdentity(User user) {
+        return new UserIdentity(
+                user.getId(),
+                user.getEmail(),
+                user.getDepartment() != null ? user.getDepartment().getId() : null,
+                user.getRoles().stream().map(Role::getName).collect(Collectors.toUnmodifiableSet()));
+    }
+
+    private static final class CacheGeneration {
+        private long value;
+
+        private synchronized long current() {
+            return value;
+        }
+
+        private synchronized void putIfCurrent(long expected, Runnable put) {
+            if (value == expected) {
+                put.run();
+            }
+        }
+
+        private synchronized void advance(Runnable eviction) {
+            value++;
+            eviction.run();
+        }
+    }
+
+    private record RoleReference(Long id, UserRole name) {
+    }
+
+    private record DepartmentReference(Long id, Long version, String name, String description) {
+    }
+}
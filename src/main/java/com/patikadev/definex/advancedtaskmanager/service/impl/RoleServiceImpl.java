@@ -4,6 +4,7 @@ import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Role;
 import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
 import com.patikadev.definex.advancedtaskmanager.repository.RoleRepository;
+import com.patikadev.definex.advancedtaskmanager.service.ReferenceDataService;
 import com.patikadev.definex.advancedtaskmanager.service.RoleService;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
@@ -18,10 +19,11 @@ import java.util.stream.Collectors;
 public class RoleServiceImpl implements RoleService {
 
     private final RoleRepository roleRepository;
+    private final ReferenceDataService referenceDataService;
 
     @Override
     public Role getRoleByName(UserRole name) {
-        return roleRepository.findByNameAndIsActiveTrue(name)
+        return referenceDataService.findRole(name)
                 .orElseThrow(() -> new IllegalArgumentException(
                         ErrorMessages.RESOURCE_NOT_FOUND.formatted("Role with name: " + name)));
     }
@@ -47,6 +49,7 @@ public class RoleServiceImpl implements RoleService {
         createRoleIfNotExists(UserRole.PROJECT_MANAGER);
         createRoleIfNotExists(UserRole.TEAM_LEADER);
         createRoleIfNotExists(UserRole.TEAM_MEMBER);
+        referenceDataService.evictRoles();
     }
 
     private void createRoleIfNotExists(UserRole name) {
@@ -0,0 +1,120 @@
+package com.patikadev.definex.advancedtaskmanager.service.impl;
+
+import com.patikadev.definex.advancedtaskmanager.config.ApplicationProperties;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.PageCursor;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.SyncWatermark;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.sync.*;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.user.UserResponse;
+import com.patikadev.definex.advancedtaskmanager.model.enums.SyncEntityType;
+import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
+import com.patikadev.definex.advancedtaskmanager.repository.AttachmentRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.CommentRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.TaskRepository;
+import com.patikadev.definex.advancedtaskmanager.service.AuthService;
+import com.patikadev.definex.advancedtaskmanager.service.SyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class SyncServiceImpl implements SyncService {
+
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final AuthService authService;
+    private final ApplicationProperties applicationProperties;
+
+    @Override
+    @Transactional(readOnly = true)
+    public SyncResponse getChanges(String watermark, Integer limit) {
+        SyncWatermark position = SyncWatermark.decode(watermark);
+
+        UserResponse currentUser = authService.getCurrentUser();
+        boolean unrestricted = currentUser.getRoles().contains(UserRole.ADMIN)
+                || currentUser.getRoles().contains(UserRole.PROJECT_GROUP_MANAGER);
+        if (!unrestricted && currentUser.getDepartmentId() == null) {
+            return SyncResponse.builder()
+                    .tasks(List.of())
+                    .comments(List.of())
+                    .attachments(List.of())
+                    .tombstones(List.of())
+                    .watermark(position.encode())
+                    .hasMore(false)
+                    .build();
+        }
+
+        Long departmentId = unrestricted ? null : currentUser.getDepartmentId();
+        ApplicationProperties.Sync properties = applicationProperties.getSync();
+        LocalDateTime upperBound = LocalDateTime.now().minus(Duration.ofMillis(properties.getSettleDelayMs()));
+        int pageSize = resolveLimit(limit);
+        Limit rowLimit = Limit.of(pageSize + 1);
+
+        PageCursor taskCursor = position.getTasks();
+        PageCursor commentCursor = position.getComments();
+        PageCursor attachmentCursor = position.getAttachments();
+        List<SyncTombstone> tombstones = new ArrayList<>();
+
+        Section<SyncTaskResponse> tasks = toSection(SyncEntityType.TASK, taskCursor, pageSize, tombstones,
+                taskRepository.findSyncPage(departmentId, upperBound,
+                        taskCursor != null ? taskCursor.getSortValue() : null,
+                        taskCursor != null ? taskCursor.getIdAsUuid() : null, rowLimit));
+        Section<SyncCommentResponse> comments = toSection(SyncEntityType.COMMENT, commentCursor, pageSize, tombstones,
+                commentRepository.findSyncPage(departmentId, upperBound,
+                        commentCursor != null ? commentCursor.getSortValue() : null,
+                        commentCursor != null ? commentCursor.getIdAsLong() : null, rowLimit));
+        Section<SyncAttachmentResponse> attachments = toSection(SyncEntityType.ATTACHMENT, attachmentCursor, pageSize, tombstones,
+                attachmentRepository.findSyncPage(departmentId, upperBound,
+                        attachmentCursor != null ? attachmentCursor.getSortValue() : null,
+                        attachmentCursor != null ? attachmentCursor.getIdAsLong() : null, rowLimit));
+
+        SyncWatermark nextWatermark = new SyncWatermark(tasks.cursor(), comments.cursor(), attachments.cursor());
+        return SyncResponse.builder()
+                .tasks(tasks.changes())
+                .comments(comments.changes())
+                .attachments(attachments.changes())
+                .tombstones(tombstones)
+                .watermark(nextWatermark.encode())
+                .hasMore(tasks.hasMore() || comments.hasMore() || attachments.hasMore())
+                .build();
+    }
+
+    private <T extends SyncChange> Section<T> toSection(SyncEntityType type, PageCursor cursor, int pageSize,
+                                                        List<SyncTombstone> tombstones, List<T> rows) {
+        boolean hasMore = rows.size() > pageSize;
+        List<T> pageRows = hasMore ? rows.subList(0, pageSize) : rows;
+        if (pageRows.isEmpty()) {
+            return new Section<>(List.of(), cursor, false);
+        }
+
+        List<T> changes = new ArrayList<>();
+        for (T row : pageRows) {
+            if (row.isActive()) {
+                changes.add(row);
+            } else {
+                tombstones.add(new SyncTombstone(type, String.valueOf(row.getId()), row.getUpdatedAt()));
+            }
+        }
+
+        T last = pageRows.get(pageRows.size() - 1);
+        return new Section<>(changes, PageCursor.of(last.getUpdatedAt(), last.getId()), hasMore);
+    }
+
+    private int resolveLimit(Integer limit) {
+        ApplicationProperties.Sync properties = applicationProperties.getSync();
+        if (limit == null || limit < 1) {
+            return properties.getDefaultLimit();
+        }
+        return Math.min(limit, properties.getMaxLimit());
+    }
+
+    private record Section<T>(List<T> changes, PageCursor cursor, boolean hasMore) {
+    }
+}
@@ -0,0 +1,143 @@
+package com.patikadev.definex.advancedtaskmanager.service.impl;
+
+import com.patikadev.definex.advancedtaskmanager.config.ApplicationProperties;
+import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
+import com.patikadev.definex.advancedtaskmanager.exception.ResourceNotFoundException;
+import com.patikadev.definex.advancedtaskmanager.exception.UnauthorizedDepartmentAccessException;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.TaskFlowDailyTotals;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.analytics.TaskFlowMetricsResponse;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.analytics.WeeklyThroughput;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.user.UserResponse;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Project;
+import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
+import com.patikadev.definex.advancedtaskmanager.repository.DepartmentRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.ProjectRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.TaskFlowDailyRollupRepository;
+import com.patikadev.definex.advancedtaskmanager.service.AuthService;
+import com.patikadev.definex.advancedtaskmanager.service.TaskAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class TaskAnalyticsServiceImpl implements TaskAnalyticsService {
+
+    private final TaskFlowDailyRollupRepository taskFlowDailyRollupRepository;
+    private final ProjectRepository projectRepository;
+    private final DepartmentRepository departmentRepository;
+    private final AuthService authService;
+    private final ApplicationProperties applicationProperties;
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskFlowMetricsResponse getProjectFlowMetrics(UUID projectId, LocalDate from, LocalDate to) {
+        Project project = projectRepository.findByIdAndIsActiveTrue(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException(String.format(ErrorMessages.PROJECT_NOT_FOUND, projectId)));
+        validateDepartmentAccess(project.getDepartment().getId());
+
+        LocalDate rangeEnd = resolveRangeEnd(to);
+        LocalDate rangeStart = resolveRangeStart(from, rangeEnd);
+        List<TaskFlowDailyTotals> dailyTotals = taskFlowDailyRollupRepository.findDailyTotalsByProjectId(projectId, rangeStart, rangeEnd);
+
+        TaskFlowMetricsResponse response = toResponse(dailyTotals, rangeStart, rangeEnd);
+        response.setProjectId(projectId);
+        response.setDepartmentId(project.getDepartment().getId());
+        return response;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskFlowMetricsResponse getDepartmentFlowMetrics(Long departmentId, LocalDate from, LocalDate to) {
+        if (!departmentRepository.existsByIdAndIsActiveTrue(departmentId)) {
+            throw new ResourceNotFoundException(String.format(ErrorMessages.DEPARTMENT_NOT_FOUND, departmentId));
+        }
+        validateDepartmentAccess(departmentId);
+
+        LocalDate rangeEnd = resolveRangeEnd(to);
+        LocalDate rangeStart = resolveRangeStart(from, rangeEnd);
+        List<TaskFlowDailyTotals> dailyTotals = taskFlowDailyRollupRepository.findDailyTotalsByDepartmentId(departmentId, rangeStart, rangeEnd);
+
+        TaskFlowMetricsResponse response = toResponse(dailyTotals, rangeStart, rangeEnd);
+        response.setDepartmentId(departmentId);
+        return response;
+    }
+
+    private TaskFlowMetricsResponse toResponse(List<TaskFlowDailyTotals> dailyTotals, LocalDate from, LocalDate to) {
+        Map<LocalDate, Long> weeklyCompletions = new LinkedHashMap<>();
+        for (LocalDate weekStart = weekStart(from); !weekStart.isAfter(to); weekStart = weekStart.plusWeeks(1)) {
+            weeklyCompletions.put(weekStart, 0L);
+        }
+
+        long completed = 0;
+        long leadTimeSeconds = 0;
+        long cycleTimeCount = 0;
+        long cycleTimeSeconds = 0;
+        long blockedCount = 0;
+        long blockedSeconds = 0;
+        for (TaskFlowDailyTotals totals : dailyTotals) {
+            completed += totals.getCompletedCount();
+            leadTimeSeconds += totals.getLeadTimeSeconds();
+            cycleTimeCount += totals.getCycleTimeCount();
+            cycleTimeSeconds += totals.getCycleTimeSeconds();
+            blockedCount += totals.getBlockedCount();
+            blockedSeconds += totals.getBlockedSeconds();
+            weeklyCompletions.merge(weekStart(totals.getBucketDate()), totals.getCompletedCount(), Long::sum);
+        }
+
+        return TaskFlowMetricsResponse.builder()
+                .from(from)
+                .to(to)
+                .completedTasks(completed)
+                .averageLeadTimeSeconds(average(leadTimeSeconds, completed))
+                .averageCycleTimeSeconds(average(cycleTimeSeconds, cycleTimeCount))
+                .blockedPeriods(blockedCount)
+                .totalBlockedSeconds(blockedSeconds)
+                .averageBlockedSeconds(average(blockedSeconds, blockedCount))
+                .weeklyThroughput(weeklyCompletions.entrySet().stream()
+                        .map(entry -> new WeeklyThroughput(entry.getKey(), entry.getValue()))
+                        .toList())
+                .build();
+    }
+
+    private void validateDepartmentAccess(Long departmentId) {
+        UserResponse currentUser = authService.getCurrentUser();
+        if (currentUser.getRoles().contains(UserRole.ADMIN) || currentUser.getRoles().contains(UserRole.PROJECT_GROUP_MANAGER)) {
+            return;
+        }
+
+        if (!Objects.equals(currentUser.getDepartmentId(), departmentId)) {
+            throw new UnauthorizedDepartmentAccessException(ErrorMessages.UNAUTHORIZED_FLOW_METRICS_ACCESS);
+        }
+    }
+
+    private LocalDate resolveRangeEnd(LocalDate to) {
+        return to != null ? to : LocalDate.now();
+    }
+
+    private LocalDate resolveRangeStart(LocalDate from, LocalDate to) {
+        LocalDate rangeStart = from != null ? from
+                : to.minusWeeks(applicationProperties.getFlowAnalytics().getDefaultRangeWeeks()).plusDays(1);
+        if (rangeStart.isAfter(to)) {
+            throw new IllegalArgumentException(String.format(ErrorMessages.FLOW_METRICS_INVALID_RANGE, rangeStart, to));
+        }
+        return rangeStart;
+    }
+
+    private LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private Long average(long total, long count) {
+        return count == 0 ? null : total / count;
+    }
+}
@@ -0,0 +1,343 @@
+package com.patikadev.definex.advancedtaskmanager.service.impl;
+
+import com.patikadev.definex.advancedtaskmanager.config.ApplicationProperties;
+import com.patikadev.definex.advancedtaskmanager.config.BackgroundThreads;
+import com.patikadev.definex.advancedtaskmanager.constant.MetricConstants;
+import com.patikadev.definex.advancedtaskmanager.constant.TaskFeedConstants;
+import com.patikadev.definex.advancedtaskmanager.event.TaskActivityEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Slf4j
+@Component
+public class TaskEventFeed implements SmartLifecycle {
+
+    private final ApplicationProperties.TaskFeed properties;
+    private final BackgroundThreads backgroundThreads;
+    private final FeedEntry[] buffer;
+    private final ReentrantReadWriteLock bufferLock = new ReentrantReadWriteLock();
+    private final BlockingQueue<FeedEntry> dispatchQueue;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final Counter droppedSubscribersCounter;
+    private long latestEventId;
+    private volatile boolean running;
+    private Thread dispatcher;
+    private ExecutorService senderExecutor;
+    private ScheduledExecutorService heartbeatScheduler;
+
+    public TaskEventFeed(ApplicationProperties applicationProperties, BackgroundThreads backgroundThreads,
+                         MeterRegistry meterRegistry) {
+        this.properties = applicationProperties.getTaskFeed();
+        this.backgroundThreads = backgroundThreads;
+        this.buffer = new FeedEntry[properties.getBufferSize()];
+        this.dispatchQueue = new ArrayBlockingQueue<>(properties.getDispatchQueueCapacity());
+        Gauge.builder(MetricConstants.TASK_FEED_SUBSCRIBERS, subscriptions, Set::size).register(meterRegistry);
+        this.droppedSubscribersCounter = Counter.builder(MetricConstants.TASK_FEED_SUBSCRIBERS_DROPPED).register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskActivity(TaskActivityEvent event) {
+        FeedEntry entry;
+        bufferLock.writeLock().lock();
+        try {
+            entry = new FeedEntry(++latestEventId, event);
+            buffer[(int) (entry.id() % buffer.length)] = entry;
+        } finally {
+            bufferLock.writeLock().unlock();
+        }
+
+        if (!dispatchQueue.offer(entry)) {
+            log.warn("Task feed dispatch queue is full, disconnecting {} subscribers to resume from the buffer",
+                    subscriptions.size());
+            subscriptions.forEach(Subscription::drop);
+        }
+    }
+
+    public SseEmitter subscribe(FeedFilter filter, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(properties.getEmitterTimeoutMs());
+        Subscription subscription = new Subscription(emitter, filter);
+        emitter.onCompletion(subscription::discard);
+        emitter.onTimeout(subscription::discard);
+        emitter.onError(ex -> subscription.discard());
+        subscriptions.add(subscription);
+
+        subscription.lock.lock();
+        try {
+            Replay replay = replayAfter(lastEventId);
+            if (replay.gap()) {
+                subscription.sendNow(SseEmitter.event()
+                        .name(TaskFeedConstants.RESET_EVENT)
+                        .id(String.valueOf(replay.latestEventId()))
+                        .data(TaskFeedConstants.RESET_EVENT));
+            }
+            for (FeedEntry entry : replay.entries()) {
+                if (filter.matches(entry.event())) {
+                    subscription.sendNow(toFrame(entry));
+                }
+            }
+            subscription.lastQueuedId = replay.latestEventId();
+            subscription.ready = true;
+        } finally {
+            subscription.lock.unlock();
+        }
+        return emitter;
+    }
+
+    public long getLatestEventId() {
+        bufferLock.readLock().lock();
+        try {
+            return latestEventId;
+        } finally {
+            bufferLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        senderExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+                .name("task-event-feed-sender-", 0)
+                .factory());
+        heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(
+                backgroundThreads.factory("task-event-feed-heartbeat-"));
+        heartbeatScheduler.scheduleWithFixedDelay(this::sendHeartbeats, properties.getHeartbeatIntervalMs(),
+                properties.getHeartbeatIntervalMs(), TimeUnit.MILLISECONDS);
+        dispatcher = backgroundThreads.start("task-event-feed-dispatcher", this::dispatch);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+        }
+        if (heartbeatScheduler != null) {
+            heartbeatScheduler.shutdownNow();
+        }
+        subscriptions.forEach(Subscription::close);
+        if (senderExecutor != null) {
+            senderExecutor.shutdown();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void sendHeartbeats() {
+        long now = System.nanoTime();
+        long sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(properties.getSendTimeoutMs());
+        for (Subscription subscription : subscriptions) {
+            if (subscription.isSendStalled(now, sendTimeoutNanos)) {
+                log.warn("Task feed subscriber stalled for more than {} ms, disconnecting", properties.getSendTimeoutMs());
+                subscription.drop();
+                continue;
+            }
+            subscription.lock.lock();
+            try {
+                subscription.enqueue(SseEmitter.event().comment(TaskFeedConstants.HEARTBEAT_COMMENT));
+            } finally {
+                subscription.lock.unlock();
+            }
+        }
+    }
+
+    private void dispatch() {
+        while (running) {
+            try {
+                FeedEntry entry = dispatchQueue.poll(1, TimeUnit.SECONDS);
+                if (entry == null) {
+                    continue;
+                }
+                for (Subscription subscription : subscriptions) {
+                    if (!subscription.filter.matches(entry.event())) {
+                        continue;
+                    }
+                    subscription.lock.lock();
+                    try {
+                        if (subscription.ready && entry.id() > subscription.lastQueuedId) {
+                            subscription.enqueue(toFrame(entry));
+                            subscription.lastQueuedId = entry.id();
+                        }
+                    } finally {
+                        subscription.lock.unlock();
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.warn("Could not dispatch task feed event", ex);
+            }
+        }
+    }
+
+    private SseEmitter.SseEventBuilder toFrame(FeedEntry entry) {
+        return SseEmitter.event()
+                .id(String.valueOf(entry.id()))
+                .name(entry.event().type().name())
+                .data(entry.event(), MediaType.APPLICATION_JSON);
+    }
+
+    private Replay replayAfter(Long lastEventId) {
+        bufferLock.readLock().lock();
+        try {
+            if (lastEventId == null) {
+                return new Replay(List.of(), latestEventId, false);
+            }
+
+            long oldestEventId = Math.max(1, latestEventId - buffer.length + 1);
+            boolean gap = lastEventId > latestEventId || lastEventId + 1 < oldestEventId;
+            long fromEventId = gap ? oldestEventId : lastEventId + 1;
+            List<FeedEntry> entries = new ArrayList<>();
+            for (long id = fromEventId; id <= latestEventId; id++) {
+                entries.add(buffer[(int) (id % buffer.length)]);
+            }
+            return new Replay(entries, latestEventId, gap);
+        } finally {
+            bufferLock.readLock().unlock();
+        }
+    }
+
+    public record FeedFilter(Long departmentId, UUID projectId, boolean unrestricted) {
+
+        boolean matches(TaskActivityEvent event) {
+            if (projectId != null && !projectId.equals(event.projectId())) {
+                return false;
+            }
+            return unrestricted || (departmentId != null && Objects.equals(departmentId, event.departmentId()));
+        }
+    }
+
+    private record FeedEntry(long id, TaskActivityEvent event) {
+    }
+
+    private record Replay(List<FeedEntry> entries, long latestEventId, boolean gap) {
+    }
+
+    private final class Subscription {
+        private final SseEmitter emitter;
+        private final FeedFilter filter;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ArrayDeque<>();
+        private long lastQueuedId;
+        private boolean ready;
+        private boolean draining;
+        private boolean closed;
+        private volatile long sendStartedAt;
+
+        private Subscription(SseEmitter emitter, FeedFilter filter) {
+            this.emitter = emitter;
+            this.filter = filter;
+        }
+
+        private void enqueue(SseEmitter.SseEventBuilder frame) {
+            if (closed) {
+                return;
+            }
+            if (pending.size() >= properties.getSubscriberQueueCapacity()) {
+                log.warn("Task feed subscriber fell {} events behind, disconnecting", pending.size());
+                drop();
+                return;
+            }
+
+            pending.add(frame);
+            if (!draining) {
+                draining = true;
+                senderExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                SseEmitter.SseEventBuilder frame;
+                lock.lock();
+                try {
+                    frame = closed ? null : pending.poll();
+                    if (frame == null) {
+                        draining = false;
+                        return;
+                    }
+                    sendStartedAt = System.nanoTime();
+                } finally {
+                    lock.unlock();
+                }
+
+                try {
+                    sendNow(frame);
+                } finally {
+                    sendStartedAt = 0;
+                }
+            }
+        }
+
+        private void sendNow(SseEmitter.SseEventBuilder frame) {
+            try {
+                emitter.send(frame);
+            } catch (IOException | IllegalStateException ex) {
+                discard();
+                emitter.completeWithError(ex);
+            }
+        }
+
+        private boolean isSendStalled(long now, long sendTimeoutNanos) {
+            long startedAt = sendStartedAt;
+            return startedAt != 0 && now - startedAt > sendTimeoutNanos;
+        }
+
+        private void drop() {
+            if (close()) {
+                droppedSubscribersCounter.increment();
+            }
+        }
+
+        private boolean close() {
+            if (!discard()) {
+                return false;
+            }
+            senderExecutor.execute(emitter::complete);
+            return true;
+        }
+
+        private boolean discard() {
+            lock.lock();
+            try {
+                if (closed) {
+                    return false;
+                }
+                closed = true;
+                pending.clear();
+            } finally {
+                lock.unlock();
+            }
+            subscriptions.remove(this);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.patikadev.definex.advancedtaskmanager.service.impl;
+
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.user.UserResponse;
+import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
+import com.patikadev.definex.advancedtaskmanager.service.AuthService;
+import com.patikadev.definex.advancedtaskmanager.service.TaskFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class TaskFeedServiceImpl implements TaskFeedService {
+
+    private final TaskEventFeed taskEventFeed;
+    private final AuthService authService;
+
+    @Override
+    public SseEmitter subscribe(UUID projectId, Long lastEventId) {
+        UserResponse currentUser = authService.getCurrentUser();
+        boolean unrestricted = currentUser.getRoles().contains(UserRole.ADMIN)
+                || currentUser.getRoles().contains(UserRole.PROJECT_GROUP_MANAGER);
+
+        return taskEventFeed.subscribe(
+                new TaskEventFeed.FeedFilter(currentUser.getDepartmentId(), projectId, unrestricted), lastEventId);
+    }
+}
@@ -0,0 +1,200 @@
+package com.patikadev.definex.advancedtaskmanager.service.impl;
+
+import com.patikadev.definex.advancedtaskmanager.config.ApplicationProperties;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.TaskFlowEvent;
+import com.patikadev.definex.advancedtaskmanager.model.entity.RollupCursor;
+import com.patikadev.definex.advancedtaskmanager.model.entity.TaskFlowDailyRollup;
+import com.patikadev.definex.advancedtaskmanager.model.entity.TaskFlowState;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
+import com.patikadev.definex.advancedtaskmanager.repository.RollupCursorRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.TaskFlowDailyRollupRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.TaskFlowStateRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.TaskStateHistoryRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class TaskFlowRollupJob {
+
+    static final String CURSOR_NAME = "task-flow-daily-rollups";
+
+    private final TaskStateHistoryRepository taskStateHistoryRepository;
+    private final TaskFlowStateRepository taskFlowStateRepository;
+    private final TaskFlowDailyRollupRepository taskFlowDailyRollupRepository;
+    private final RollupCursorRepository rollupCursorRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationProperties.FlowAnalytics properties;
+
+    public TaskFlowRollupJob(TaskStateHistoryRepository taskStateHistoryRepository,
+                             TaskFlowStateRepository taskFlowStateRepository,
+                             TaskFlowDailyRollupRepository taskFlowDailyRollupRepository,
+                             RollupCursorRepository rollupCursorRepository,
+                             EntityManager entityManager,
+                             PlatformTransactionManager transactionManager,
+                             ApplicationProperties applicationProperties) {
+        this.taskStateHistoryRepository = taskStateHistoryRepository;
+        this.taskFlowStateRepository = taskFlowStateRepository;
+        this.taskFlowDailyRollupRepository = taskFlowDailyRollupRepository;
+        this.rollupCursorRepository = rollupCursorRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = applicationProperties.getFlowAnalytics();
+    }
+
+    @Scheduled(fixedDelayString = "${application.flow-analytics.rollup-interval-ms:60000}",
+            initialDelayString = "${application.flow-analytics.rollup-interval-ms:60000}")
+    public int rollUpPendingHistory() {
+        int processed = 0;
+
+        try {
+            int batch;
+            do {
+                batch = transactionTemplate.execute(status -> rollUpBatch());
+                processed += batch;
+            } while (batch == properties.getBatchSize());
+        } catch (DataAccessException ex) {
+            log.error("Task flow rollup stopped after {} history entries, the rest is retried on the next run", processed, ex);
+        }
+
+        if (processed > 0) {
+            log.info("Rolled up {} task state history entries into daily flow metrics", processed);
+        }
+        return processed;
+    }
+
+    private int rollUpBatch() {
+        RollupCursor cursor = lockCursor();
+        LocalDateTime writtenBefore = LocalDateTime.now().minus(Duration.ofMillis(properties.getSettleDelayMs()));
+
+        List<TaskFlowEvent> events = taskStateHistoryRepository
+                .findFlowEventsAfter(cursor.getLastProcessedId(), Limit.of(properties.getBatchSize()))
+                .stream()
+                .takeWhile(event -> event.getWrittenAt() == null || event.getWrittenAt().isBefore(writtenBefore))
+                .toList();
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        Map<UUID, TaskFlowState> flowStates = taskFlowStateRepository
+                .findAllById(events.stream().map(TaskFlowEvent::getTaskId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(TaskFlowState::getTaskId, Function.identity()));
+        Map<RollupKey, TaskFlowDailyRollup> rollups = findRollups(events);
+        List<Object> created = new ArrayList<>();
+
+        for (TaskFlowEvent event : events) {
+            TaskFlowState flowState = flowStates.computeIfAbsent(event.getTaskId(), taskId -> {
+                TaskFlowState newFlowState = TaskFlowState.builder()
+                        .taskId(taskId)
+                        .openedAt(event.getTaskCreatedAt() != null ? event.getTaskCreatedAt() : event.getChangedAt())
+                        .build();
+                created.add(newFlowState);
+                return newFlowState;
+            });
+            apply(event, flowState, key -> rollups.computeIfAbsent(key, newKey -> {
+                TaskFlowDailyRollup rollup = TaskFlowDailyRollup.builder()
+                        .projectId(newKey.projectId())
+                        .bucketDate(newKey.bucketDate())
+                        .build();
+                created.add(rollup);
+                return rollup;
+            }));
+        }
+
+        created.forEach(entityManager::persist);
+        cursor.setLastProcessedId(events.getLast().getHistoryId());
+        return events.size();
+    }
+
+    private void apply(TaskFlowEvent event, TaskFlowState flowState, Function<RollupKey, TaskFlowDailyRollup> rollups) {
+        flowState.setProjectId(event.getProjectId());
+        flowState.setDepartmentId(event.getDepartmentId());
+        LocalDateTime changedAt = event.getChangedAt();
+
+        if (event.getOldState() == TaskState.BLOCKED && flowState.getBlockedSince() != null) {
+            TaskFlowDailyRollup rollup = rollupFor(event, rollups);
+            rollup.setBlockedCount(rollup.getBlockedCount() + 1);
+            rollup.setBlockedSeconds(rollup.getBlockedSeconds() + secondsBetween(flowState.getBlockedSince(), changedAt));
+            flowState.setBlockedSince(null);
+        }
+
+        switch (event.getNewState()) {
+            case BLOCKED -> flowState.setBlockedSince(changedAt);
+            case IN_PROGRESS -> {
+                if (flowState.getStartedAt() == null) {
+                    flowState.setStartedAt(changedAt);
+                }
+            }
+            case COMPLETED -> {
+                TaskFlowDailyRollup rollup = rollupFor(event, rollups);
+                rollup.setCompletedCount(rollup.getCompletedCount() + 1);
+                rollup.setLeadTimeSeconds(rollup.getLeadTimeSeconds() + secondsBetween(flowState.getOpenedAt(), changedAt));
+                if (flowState.getStartedAt() != null) {
+                    rollup.setCycleTimeCount(rollup.getCycleTimeCount() + 1);
+                    rollup.setCycleTimeSeconds(rollup.getCycleTimeSeconds() + secondsBetween(flowState.getStartedAt(), changedAt));
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private TaskFlowDailyRollup rollupFor(TaskFlowEvent event, Function<RollupKey, TaskFlowDailyRollup> rollups) {
+        TaskFlowDailyRollup rollup = rollups.apply(RollupKey.of(event));
+        rollup.setDepartmentId(event.getDepartmentId());
+        return rollup;
+    }
+
+    private Map<RollupKey, TaskFlowDailyRollup> findRollups(List<TaskFlowEvent> events) {
+        Set<RollupKey> keys = events.stream()
+                .filter(event -> event.getNewState() == TaskState.COMPLETED || event.getOldState() == TaskState.BLOCKED)
+                .map(RollupKey::of)
+                .collect(Collectors.toSet());
+        if (keys.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        Set<UUID> projectIds = keys.stream().map(RollupKey::projectId).collect(Collectors.toSet());
+        Set<LocalDate> bucketDates = keys.stream().map(RollupKey::bucketDate).collect(Collectors.toSet());
+        return taskFlowDailyRollupRepository.findAllByProjectIdInAndBucketDateIn(projectIds, bucketDates).stream()
+                .collect(Collectors.toMap(rollup -> new RollupKey(rollup.getProjectId(), rollup.getBucketDate()),
+                        Function.identity(), (first, second) -> first, HashMap::new));
+    }
+
+    private RollupCursor lockCursor() {
+        return rollupCursorRepository.findByNameForUpdate(CURSOR_NAME).orElseGet(() -> {
+            RollupCursor cursor = RollupCursor.builder()
+                    .name(CURSOR_NAME)
+                    .lastProcessedId(0L)
+                    .build();
+            entityManager.persist(cursor);
+            return cursor;
+        });
+    }
+
+    private long secondsBetween(LocalDateTime start, LocalDateTime end) {
+        return Math.max(0, Duration.between(start, end).toSeconds());
+    }
+
+    private record RollupKey(UUID projectId, LocalDate bucketDate) {
+
+        private static RollupKey of(TaskFlowEvent event) {
+            return new RollupKey(event.getProjectId(), event.getChangedAt().toLocalDate());
+        }
+    }
+}
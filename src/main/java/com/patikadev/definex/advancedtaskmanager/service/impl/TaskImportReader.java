@@ -0,0 +1,203 @@
+package com.patikadev.definex.advancedtaskmanager.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
+import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.CreateTaskRequest;
+import com.patikadev.definex.advancedtaskmanager.model.enums.DataFormat;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+abstract class TaskImportReader implements Closeable {
+
+    private static final Set<String> CSV_COLUMNS = Set.of(
+            "title", "userStory", "acceptanceCriteria", "priority", "projectId", "assignedUserId");
+
+    protected final BufferedReader reader;
+    protected final ObjectMapper objectMapper;
+    protected long lineNumber;
+
+    private TaskImportReader(InputStream inputStream, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.objectMapper = objectMapper;
+    }
+
+    static TaskImportReader open(InputStream inputStream, DataFormat format, ObjectMapper objectMapper)
+            throws IOException {
+        return switch (format) {
+            case CSV -> new CsvReader(inputStream, objectMapper);
+            case NDJSON -> new NdjsonReader(inputStream, objectMapper);
+        };
+    }
+
+    abstract Row next() throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    record Row(long line, CreateTaskRequest request, String error) {
+
+        static Row parsed(long line, CreateTaskRequest request) {
+            return new Row(line, request, null);
+        }
+
+        static Row failed(long line, String error) {
+            return new Row(line, null, error);
+        }
+    }
+
+    private static String describe(Exception ex) {
+        String message = ex instanceof JsonProcessingException jsonException
+                ? jsonException.getOriginalMessage()
+                : ex.getMessage();
+        return ErrorMessages.TASK_IMPORT_MALFORMED_ROW.formatted(message);
+    }
+
+    private static final class NdjsonReader extends TaskImportReader {
+
+        private NdjsonReader(InputStream inputStream, ObjectMapper objectMapper) {
+            super(inputStream, objectMapper);
+        }
+
+        @Override
+        Row next() throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                try {
+                    return Row.parsed(lineNumber, objectMapper.readValue(line, CreateTaskRequest.class));
+                } catch (JsonProcessingException ex) {
+                    return Row.failed(lineNumber, describe(ex));
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class CsvReader extends TaskImportReader {
+
+        private static final List<String> UNTERMINATED_RECORD = new ArrayList<>();
+
+        private final List<String> header;
+        private boolean exhausted;
+
+        private CsvReader(InputStream inputStream, ObjectMapper objectMapper) throws IOException {
+            super(inputStream, objectMapper);
+            List<String> columns = readHeader();
+            if (columns == null) {
+                throw new IllegalArgumentException(ErrorMessages.TASK_IMPORT_HEADER_MISSING);
+            }
+
+            this.header = columns.stream().map(String::trim).toList();
+            header.stream()
+                    .filter(column -> !CSV_COLUMNS.contains(column))
+                    .findFirst()
+                    .ifPresent(column -> {
+                        throw new IllegalArgumentException(ErrorMessages.TASK_IMPORT_UNKNOWN_COLUMN.formatted(column));
+                    });
+        }
+
+        @Override
+        Row next() throws IOException {
+            if (exhausted) {
+                return null;
+            }
+
+            List<String> values;
+            long line;
+            do {
+                line = lineNumber + 1;
+                values = readRecord();
+                if (values == null) {
+                    return null;
+                }
+            } while (values.size() == 1 && values.get(0).isBlank());
+
+            if (values == UNTERMINATED_RECORD) {
+                exhausted = true;
+                return Row.failed(line, ErrorMessages.TASK_IMPORT_UNTERMINATED_QUOTE);
+            }
+
+            if (values.size() != header.size()) {
+                return Row.failed(line, ErrorMessages.TASK_IMPORT_COLUMN_COUNT.formatted(values.size(), header.size()));
+            }
+
+            Map<String, String> fields = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                String value = values.get(i);
+                fields.put(header.get(i), value.isEmpty() ? null : value);
+            }
+
+            try {
+                return Row.parsed(line, objectMapper.convertValue(fields, CreateTaskRequest.class));
+            } catch (IllegalArgumentException ex) {
+                return Row.failed(line, describe(ex));
+            }
+        }
+
+        private List<String> readHeader() throws IOException {
+            List<String> columns = readRecord();
+            if (columns == UNTERMINATED_RECORD) {
+                throw new IllegalArgumentException(ErrorMessages.TASK_IMPORT_UNTERMINATED_QUOTE);
+            }
+            return columns;
+        }
+
+        private List<String> readRecord() throws IOException {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+
+            List<String> values = new ArrayList<>();
+            StringBuilder value = new StringBuilder();
+            boolean quoted = false;
+            int i = 0;
+            while (true) {
+                if (i == line.length()) {
+                    if (!quoted) {
+                        values.add(value.toString());
+                        return values;
+                    }
+
+                    line = reader.readLine();
+                    if (line == null) {
+                        return UNTERMINATED_RECORD;
+                    }
+                    lineNumber++;
+                    value.append('\n');
+                    i = 0;
+                    continue;
+                }
+
+                char c = line.charAt(i++);
+                if (quoted) {
+                    if (c != '"') {
+                        value.append(c);
+                    } else if (i < line.length() && line.charAt(i) == '"') {
+                        value.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(value.toString());
+                    value.setLength(0);
+                } else {
+                    value.append(c);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.patikadev.definex.advancedtaskmanager.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.patikadev.definex.advancedtaskmanager.config.ApplicationProperties;
+import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
+import com.patikadev.definex.advancedtaskmanager.event.TaskChangedEvent;
+import com.patikadev.definex.advancedtaskmanager.event.TaskCreatedEvent;
+import com.patikadev.definex.advancedtaskmanager.exception.FileOperationException;
+import com.patikadev.definex.advancedtaskmanager.mapper.TaskMapper;
+import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.CreateTaskRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.task.TaskImportResponse;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.task.TaskImportRowError;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.user.UserResponse;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Project;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Task;
+import com.patikadev.definex.advancedtaskmanager.model.entity.User;
+import com.patikadev.definex.advancedtaskmanager.model.enums.DataFormat;
+import com.patikadev.definex.advancedtaskmanager.repository.ProjectRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.TaskRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.UserRepository;
+import com.patikadev.definex.advancedtaskmanager.service.AuthService;
+import com.patikadev.definex.advancedtaskmanager.service.DomainEventService;
+import com.patikadev.definex.advancedtaskmanager.service.TaskImportService;
+import com.patikadev.definex.advancedtaskmanager.service.TaskStateHistoryService;
+import com.patikadev.definex.advancedtaskmanager.service.impl.TaskImportReader.Row;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.hibernate.Session;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class TaskImportServiceImpl implements TaskImportService {
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final TaskStateHistoryService taskStateHistoryService;
+    private final TaskMapper taskMapper;
+    private final AuthService authService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DomainEventService domainEventService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationProperties.TaskImport properties;
+
+    public TaskImportServiceImpl(TaskRepository taskRepository,
+                                 ProjectRepository projectRepository,
+                                 UserRepository userRepository,
+                                 TaskStateHistoryService taskStateHistoryService,
+                                 TaskMapper taskMapper,
+                                 AuthService authService,
+                                 ObjectMapper objectMapper,
+                                 Validator validator,
+                                 EntityManager entityManager,
+                                 ApplicationEventPublisher eventPublisher,
+                                 DomainEventService domainEventService,
+                                 PlatformTransactionManager transactionManager,
+                                 ApplicationProperties applicationProperties) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.taskStateHistoryService = taskStateHistoryService;
+        this.taskMapper = taskMapper;
+        this.authService = authService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.domainEventService = domainEventService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = applicationProperties.getTaskImport();
+    }
+
+    @Override
+    public TaskImportResponse importTasks(InputStream inputStream, DataFormat format) {
+        ImportContext context = new ImportContext(authService.getCurrentUser(), properties.getMaxReportedErrors());
+        int batchSize = properties.getBatchSize();
+
+        try (TaskImportReader reader = TaskImportReader.open(inputStream, format, objectMapper)) {
+            List<Row> batch = new ArrayList<>(batchSize);
+            Row row;
+            while ((row = reader.next()) != null) {
+                batch.add(row);
+                if (batch.size() == batchSize) {
+                    importBatch(batch, context);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                importBatch(batch, context);
+            }
+        } catch (IOException ex) {
+            throw new FileOperationException(ErrorMessages.TASK_IMPORT_READ_ERROR, ex);
+        }
+
+        return TaskImportResponse.builder()
+                .totalRows(context.totalRows)
+                .importedRows(context.importedRows)
+                .failedRows(context.failedRows)
+                .errorsTruncated(context.failedRows > context.errors.size())
+                .errors(context.errors)
+                .build();
+    }
+
+    private void importBatch(List<Row> batch, ImportContext context) {
+        try {
+            context.record(batch.size(), writeRows(batch, context));
+        } catch (DataAccessException | TransactionSystemException ex) {
+            log.warn("Task import batch of {} rows failed, retrying rows individually", batch.size(), ex);
+            batch.forEach(row -> importRow(row, context));
+        }
+
+        log.info("Task import progress: {} rows processed, {} imported, {} failed",
+                context.totalRows, context.importedRows, context.failedRows);
+    }
+
+    private void importRow(Row row, ImportContext context) {
+        try {
+            context.record(1, writeRows(List.of(row), context));
+        } catch (DataAccessException | TransactionSystemException ex) {
+            log.warn("Task import row {} could not be saved", row.line(), ex);
+            TaskImportRowError error = new TaskImportRowError(row.line(), ErrorMessages.TASK_IMPORT_ROW_SAVE_FAILED);
+            context.record(1, new BatchOutcome(0, List.of(error)));
+        }
+    }
+
+    private BatchOutcome writeRows(List<Row> rows, ImportContext context) {
+        return transactionTemplate.execute(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(properties.getBatchSize());
+            resolveReferences(rows, context);
+
+            List<Task> tasks = new ArrayList<>(rows.size());
+            List<TaskImportRowError> rejections = new ArrayList<>();
+            for (Row row : rows) {
+                String error = validateRow(row, context);
+                if (error != null) {
+                    rejections.add(new TaskImportRowError(row.line(), error));
+                    continue;
+                }
+
+                CreateTaskRequest request = row.request();
+                User assignedUser = request.getAssignedUserId() != null
+                        ? userRepository.getReferenceById(request.getAssignedUserId())
+                        : null;
+                tasks.add(taskMapper.toEntity(request, projectRepository.getReferenceById(request.getProjectId()), assignedUser));
+            }
+
+            if (!tasks.isEmpty()) {
+                List<Task> savedTasks = taskRepository.saveAll(tasks);
+                List<UUID> taskIds = savedTasks.stream().map(Task::getId).toList();
+                taskStateHistoryService.createInitialTaskStateHistories(taskIds, LocalDateTime.now());
+                eventPublisher.publishEvent(TaskChangedEvent.of(taskIds));
+                domainEventService.recordAll(savedTasks.stream().map(TaskCreatedEvent::of).toList());
+            }
+            return new BatchOutcome(tasks.size(), rejections);
+        });
+    }
+
+    private void resolveReferences(List<Row> batch, ImportContext context) {
+        Set<UUID> unknownProjectIds = new HashSet<>();
+        Set<UUID> unknownUserIds = new HashSet<>();
+        for (Row row : batch) {
+            if (row.request() == null) {
+                continue;
+            }
+            UUID projectId = row.request().getProjectId();
+            if (projectId != null && !context.projectErrors.containsKey(projectId)) {
+                unknownProjectIds.add(projectId);
+            }
+            UUID userId = row.request().getAssignedUserId();
+            if (userId != null && !context.userExists.containsKey(userId)) {
+                unknownUserIds.add(userId);
+            }
+        }
+
+        if (!unknownProjectIds.isEmpty()) {
+            Map<UUID, Project> projects = projectRepository.findAllByIdInAndIsActiveTrue(unknownProjectIds).stream()
+                    .collect(Collectors.toMap(Project::getId, project -> project));
+            unknownProjectIds.forEach(projectId -> context.projectErrors.put(projectId,
+                    checkProject(projectId, projects.get(projectId), context.currentUser)));
+        }
+
+        if (!unknownUserIds.isEmpty()) {
+            Set<UUID> activeUserIds = userRepository.findActiveIdsByIdIn(unknownUserIds);
+            unknownUserIds.forEach(userId -> context.userExists.put(userId, activeUserIds.contains(userId)));
+        }
+    }
+
+    private Optional<String> checkProject(UUID projectId, Project project, UserResponse currentUser) {
+        if (project == null) {
+            return Optional.of(ErrorMessages.PROJECT_NOT_FOUND.formatted(projectId));
+        }
+        if (!TaskServiceImpl.canManageProjectTasks(currentUser, project)) {
+            return Optional.of(ErrorMessages.UNAUTHORIZED_TASK_CREATE);
+        }
+        return Optional.empty();
+    }
+
+    private String validateRow(Row row, ImportContext context) {
+        if (row.error() != null) {
+            return row.error();
+        }
+
+        CreateTaskRequest request = row.request();
+        Set<ConstraintViolation<CreateTaskRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+
+        Optional<String> projectError = context.projectErrors.get(request.getProjectId());
+        if (projectError.isPresent()) {
+            return projectError.get();
+        }
+
+        if (request.getAssignedUserId() != null && !context.userExists.get(request.getAssignedUserId())) {
+            return ErrorMessages.USER_NOT_FOUND.formatted(request.getAssignedUserId());
+        }
+        return null;
+    }
+
+    private static final class ImportContext {
+        private final UserResponse currentUser;
+        private final int maxReportedErrors;
+        private final Map<UUID, Optional<String>> projectErrors = new HashMap<>();
+        private final Map<UUID, Boolean> userExists = new HashMap<>();
+        private final List<TaskImportRowError> errors = new ArrayList<>();
+        private long totalRows;
+        private long importedRows;
+        private long failedRows;
+
+        private ImportContext(UserResponse currentUser, int maxReportedErrors) {
+            this.currentUser = currentUser;
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        private void record(int rows, BatchOutcome outcome) {
+            totalRows += rows;
+            importedRows += outcome.imported();
+            outcome.rejections().forEach(rejection -> {
+                failedRows++;
+                if (errors.size() < maxReportedErrors) {
+                    errors.add(rejection);
+                }
+            });
+        }
+    }
+
+    private record BatchOutcome(int imported, List<TaskImportRowError> rejections) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.patikadev.definex.advancedtaskmanager.service.impl;
+
+import com.patikadev.definex.advancedtaskmanager.event.CommentAddedEvent;
+import com.patikadev.definex.advancedtaskmanager.event.TaskAssignedEvent;
+import com.patikadev.definex.advancedtaskmanager.event.TaskStateChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class TaskNotificationListener {
+
+    @EventListener
+    public void onTaskAssigned(TaskAssignedEvent event) {
+        log.info("Notifying user {} about assignment of task {}", event.assignedUserId(), event.taskId());
+    }
+
+    @EventListener
+    public void onTaskStateChanged(TaskStateChangedEvent event) {
+        if (event.assignedUserId() == null) {
+            return;
+        }
+        log.info("Notifying user {} that task {} moved from {} to {}",
+                event.assignedUserId(), event.taskId(), event.oldState(), event.newState());
+    }
+
+    @EventListener
+    public void onCommentAdded(CommentAddedEvent event) {
+        if (event.assignedUserId() == null || event.assignedUserId().equals(event.authorId())) {
+            return;
+        }
+        log.info("Notifying user {} about comment {} on task {}",
+                event.assignedUserId(), event.commentId(), event.taskId());
+    }
+}
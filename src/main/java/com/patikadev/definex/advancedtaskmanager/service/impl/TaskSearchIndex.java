@@ -0,0 +1,399 @@
+package com.patikadev.definex.advancedtaskmanager.service.impl;
+
+import com.patikadev.definex.advancedtaskmanager.config.ApplicationProperties;
+import com.patikadev.definex.advancedtaskmanager.config.BackgroundThreads;
+import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
+import com.patikadev.definex.advancedtaskmanager.event.TaskChangedEvent;
+import com.patikadev.definex.advancedtaskmanager.exception.FileOperationException;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.TaskCommentContent;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.TaskSearchDocument;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.task.TaskSearchHit;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskPriority;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
+import com.patikadev.definex.advancedtaskmanager.repository.CommentRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class TaskSearchIndex implements SmartLifecycle {
+
+    static final String FIELD_ID = "id";
+    static final String FIELD_PROJECT_ID = "projectId";
+    static final String FIELD_TITLE = "title";
+    static final String FIELD_USER_STORY = "userStory";
+    static final String FIELD_ACCEPTANCE_CRITERIA = "acceptanceCriteria";
+    static final String FIELD_COMMENTS = "comments";
+    static final String FIELD_STATE = "state";
+    static final String FIELD_PRIORITY = "priority";
+
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+            FIELD_TITLE, 4.0f,
+            FIELD_USER_STORY, 2.0f,
+            FIELD_ACCEPTANCE_CRITERIA, 1.5f,
+            FIELD_COMMENTS, 1.0f
+    );
+
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final ApplicationProperties.Search properties;
+    private final BackgroundThreads backgroundThreads;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Set<UUID> pendingTaskIds = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile Set<UUID> changedDuringRebuild;
+
+    private Directory directory;
+    private IndexWriter indexWriter;
+    private SearcherManager searcherManager;
+    private volatile boolean running;
+
+    public TaskSearchIndex(TaskRepository taskRepository,
+                           CommentRepository commentRepository,
+                           ApplicationProperties applicationProperties,
+                           BackgroundThreads backgroundThreads) {
+        this.taskRepository = taskRepository;
+        this.commentRepository = commentRepository;
+        this.properties = applicationProperties.getSearch();
+        this.backgroundThreads = backgroundThreads;
+    }
+
+    @Override
+    public void start() {
+        try {
+            directory = openDirectory();
+            boolean indexExists = DirectoryReader.indexExists(directory);
+            indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            searcherManager = new SearcherManager(indexWriter, null);
+            running = true;
+
+            if (!indexExists && properties.isRebuildOnStartup()) {
+                backgroundThreads.start("task-search-index-rebuild", this::rebuildQuietly);
+            }
+        } catch (IOException ex) {
+            throw new FileOperationException(ErrorMessages.SEARCH_INDEX_ERROR, ex);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        writeLock.lock();
+        try {
+            if (searcherManager != null) {
+                searcherManager.close();
+            }
+            if (indexWriter != null) {
+                indexWriter.close();
+            }
+            if (directory != null) {
+                directory.close();
+            }
+        } catch (IOException ex) {
+            log.warn("Task search index could not be closed cleanly", ex);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        pendingTaskIds.addAll(event.taskIds());
+        Set<UUID> rebuildChanges = changedDuringRebuild;
+        if (rebuildChanges != null) {
+            rebuildChanges.addAll(event.taskIds());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${application.search.refresh-interval-ms:1000}",
+            initialDelayString = "${application.search.refresh-interval-ms:1000}")
+    public void applyPendingChanges() {
+        if (!running || pendingTaskIds.isEmpty()) {
+            return;
+        }
+
+        List<UUID> taskIds = new ArrayList<>(pendingTaskIds);
+        pendingTaskIds.removeAll(taskIds);
+        try {
+            for (int from = 0; from < taskIds.size(); from += properties.getBatchSize()) {
+                reindex(taskIds.subList(from, Math.min(from + properties.getBatchSize(), taskIds.size())));
+            }
+        } catch (RuntimeException ex) {
+            pendingTaskIds.addAll(taskIds);
+            log.error("Task search index update failed for {} tasks, retrying on the next run", taskIds.size(), ex);
+        }
+    }
+
+    public void reindex(Collection<UUID> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            Map<UUID, TaskSearchDocument> documents = taskRepository.findSearchDocumentsByIdIn(taskIds).stream()
+                    .collect(Collectors.toMap(TaskSearchDocument::getTaskId, document -> document));
+            Map<UUID, List<String>> comments = findComments(documents.keySet());
+
+            for (UUID taskId : taskIds) {
+                TaskSearchDocument document = documents.get(taskId);
+                Term idTerm = new Term(FIELD_ID, taskId.toString());
+                if (document == null) {
+                    indexWriter.deleteDocuments(idTerm);
+                } else {
+                    indexWriter.updateDocument(idTerm, toDocument(document, comments.getOrDefault(taskId, List.of())));
+                }
+            }
+            indexWriter.commit();
+            searcherManager.maybeRefresh();
+        } catch (IOException ex) {
+            throw new FileOperationException(ErrorMessages.SEARCH_INDEX_ERROR, ex);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int rebuild() {
+        rebuildLock.lock();
+        Set<UUID> rebuildChanges = ConcurrentHashMap.newKeySet();
+        changedDuringRebuild = rebuildChanges;
+        Path stagingPath = null;
+        try {
+            stagingPath = createStagingPath();
+            try (Directory staging = stagingPath == null ? new ByteBuffersDirectory() : FSDirectory.open(stagingPath)) {
+                int indexed;
+                try (IndexWriter stagingWriter = new IndexWriter(staging, new IndexWriterConfig(analyzer))) {
+                    indexed = writeAllTasks(stagingWriter);
+                }
+                swapIn(staging);
+                pendingTaskIds.addAll(rebuildChanges);
+                log.info("Task search index rebuilt with {} tasks", indexed);
+                return indexed;
+            }
+        } catch (IOException ex) {
+            throw new FileOperationException(ErrorMessages.SEARCH_INDEX_ERROR, ex);
+        } finally {
+            changedDuringRebuild = null;
+            deleteStagingPath(stagingPath);
+            rebuildLock.unlock();
+        }
+    }
+
+    public List<TaskSearchHit> search(String text, Collection<UUID> projectIds, int limit) {
+        Query query = buildQuery(text, projectIds);
+        if (query == null) {
+            return List.of();
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                ScoreDoc[] scoreDocs = searcher.search(query, limit).scoreDocs;
+                StoredFields storedFields = searcher.storedFields();
+                List<TaskSearchHit> hits = new ArrayList<>(scoreDocs.length);
+                for (ScoreDoc scoreDoc : scoreDocs) {
+                    hits.add(toHit(storedFields.document(scoreDoc.doc), scoreDoc.score));
+                }
+                return hits;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new FileOperationException(ErrorMessages.SEARCH_INDEX_ERROR, ex);
+        }
+    }
+
+    private Query buildQuery(String text, Collection<UUID> projectIds) {
+        List<String> terms = analyze(text);
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String term : terms) {
+            BooleanQuery.Builder fieldQuery = new BooleanQuery.Builder();
+            FIELD_BOOSTS.forEach((field, boost) -> fieldQuery.add(
+                    new BoostQuery(new TermQuery(new Term(field, term)), boost), BooleanClause.Occur.SHOULD));
+            query.add(fieldQuery.build(), BooleanClause.Occur.MUST);
+        }
+
+        if (projectIds != null) {
+            List<BytesRef> projectTerms = projectIds.stream()
+                    .map(projectId -> new BytesRef(projectId.toString()))
+                    .toList();
+            query.add(new TermInSetQuery(FIELD_PROJECT_ID, projectTerms), BooleanClause.Occur.FILTER);
+        }
+        return query.build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream tokenStream = analyzer.tokenStream(FIELD_TITLE, text)) {
+            CharTermAttribute termAttribute = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                String term = termAttribute.toString();
+                if (!terms.contains(term)) {
+                    terms.add(term);
+                }
+            }
+            tokenStream.end();
+        } catch (IOException ex) {
+            throw new FileOperationException(ErrorMessages.SEARCH_INDEX_ERROR, ex);
+        }
+        return terms;
+    }
+
+    private int writeAllTasks(IndexWriter writer) throws IOException {
+        int indexed = 0;
+        UUID afterId = null;
+        List<TaskSearchDocument> batch;
+        do {
+            batch = taskRepository.findSearchDocumentsAfter(afterId, Limit.of(properties.getBatchSize()));
+            Map<UUID, List<String>> comments = findComments(batch.stream().map(TaskSearchDocument::getTaskId).toList());
+            for (TaskSearchDocument document : batch) {
+                writer.addDocument(toDocument(document, comments.getOrDefault(document.getTaskId(), List.of())));
+                afterId = document.getTaskId();
+            }
+            indexed += batch.size();
+        } while (batch.size() == properties.getBatchSize());
+        return indexed;
+    }
+
+    private void swapIn(Directory staging) throws IOException {
+        writeLock.lock();
+        try {
+            indexWriter.deleteAll();
+            indexWriter.addIndexes(staging);
+            indexWriter.commit();
+            searcherManager.maybeRefresh();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private Map<UUID, List<String>> findComments(Collection<UUID> taskIds) {
+        if (taskIds.isEmpty()) {
+            return Map.of();
+        }
+        return commentRepository.findSearchContentsByTaskIdIn(taskIds).stream()
+                .collect(Collectors.groupingBy(TaskCommentContent::getTaskId,
+                        Collectors.mapping(TaskCommentContent::getContent, Collectors.toList())));
+    }
+
+    private Document toDocument(TaskSearchDocument task, List<String> comments) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, task.getTaskId().toString(), Field.Store.YES));
+        document.add(new StringField(FIELD_PROJECT_ID, task.getProjectId().toString(), Field.Store.YES));
+        document.add(new TextField(FIELD_TITLE, task.getTitle(), Field.Store.YES));
+        addText(document, FIELD_USER_STORY, task.getUserStory());
+        addText(document, FIELD_ACCEPTANCE_CRITERIA, task.getAcceptanceCriteria());
+        comments.forEach(comment -> addText(document, FIELD_COMMENTS, comment));
+        document.add(new StoredField(FIELD_STATE, task.getState().name()));
+        document.add(new StoredField(FIELD_PRIORITY, task.getPriority().name()));
+        return document;
+    }
+
+    private void addText(Document document, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            document.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+    private TaskSearchHit toHit(Document document, float score) {
+        return TaskSearchHit.builder()
+                .taskId(UUID.fromString(document.get(FIELD_ID)))
+                .projectId(UUID.fromString(document.get(FIELD_PROJECT_ID)))
+                .title(document.get(FIELD_TITLE))
+                .state(TaskState.valueOf(document.get(FIELD_STATE)))
+                .priority(TaskPriority.valueOf(document.get(FIELD_PRIORITY)))
+                .score(score)
+                .build();
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException ex) {
+            log.error("Task search index rebuild failed", ex);
+        }
+    }
+
+    private Path createStagingPath() throws IOException {
+        String indexDir = properties.getIndexDir();
+        if (indexDir == null || indexDir.isBlank()) {
+            return null;
+        }
+        Path indexPath = Paths.get(indexDir).toAbsolutePath().normalize();
+        return Files.createTempDirectory(indexPath.getParent(), indexPath.getFileName() + "-rebuild-");
+    }
+
+    private void deleteStagingPath(Path stagingPath) {
+        if (stagingPath == null) {
+            return;
+        }
+        try {
+            FileSystemUtils.deleteRecursively(stagingPath);
+        } catch (IOException ex) {
+            log.warn("Task search index staging directory {} could not be deleted", stagingPath, ex);
+        }
+    }
+
+    private Directory openDirectory() throws IOException {
+        String indexDir = properties.getIndexDir();
+        if (indexDir == null || indexDir.isBlank()) {
+            return new ByteBuffersDirectory();
+        }
+        return FSDirectory.open(Paths.get(indexDir).toAbsolutePath().normalize());
+    }
+}
@@ -0,0 +1,63 @@
+package com.patikadev.definex.advancedtaskmanager.service.impl;
+
+import com.patikadev.definex.advancedtaskmanager.config.ApplicationProperties;
+import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.task.TaskSearchHit;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.user.UserResponse;
+import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
+import com.patikadev.definex.advancedtaskmanager.repository.ProjectRepository;
+import com.patikadev.definex.advancedtaskmanager.service.AuthService;
+import com.patikadev.definex.advancedtaskmanager.service.TaskSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class TaskSearchServiceImpl implements TaskSearchService {
+
+    private final TaskSearchIndex taskSearchIndex;
+    private final ProjectRepository projectRepository;
+    private final AuthService authService;
+    private final ApplicationProperties applicationProperties;
+
+    @Override
+    public List<TaskSearchHit> searchTasks(String query, UUID projectId, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException(ErrorMessages.SEARCH_QUERY_REQUIRED);
+        }
+
+        UserResponse currentUser = authService.getCurrentUser();
+        List<UUID> projectIds;
+        if (currentUser.getRoles().contains(UserRole.ADMIN) || currentUser.getRoles().contains(UserRole.PROJECT_GROUP_MANAGER)) {
+            projectIds = projectId != null ? List.of(projectId) : null;
+        } else {
+            if (currentUser.getDepartmentId() == null) {
+                return List.of();
+            }
+            projectIds = projectRepository.findActiveIdsByDepartmentId(currentUser.getDepartmentId()).stream()
+                    .filter(id -> projectId == null || id.equals(projectId))
+                    .toList();
+            if (projectIds.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        return taskSearchIndex.search(query, projectIds, resolveLimit(limit));
+    }
+
+    @Override
+    public int rebuildIndex() {
+        return taskSearchIndex.rebuild();
+    }
+
+    private int resolveLimit(Integer limit) {
+        ApplicationProperties.Search properties = applicationProperties.getSearch();
+        if (limit == null || limit < 1) {
+            return properties.getDefaultLimit();
+        }
+        return Math.min(limit, properties.getMaxLimit());
+    }
+}
@@ -1,37 +1,59 @@
 package com.patikadev.definex.advancedtaskmanager.service.impl;
 
 import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
+import com.patikadev.definex.advancedtaskmanager.event.TaskActivityEvent;
+import com.patikadev.definex.advancedtaskmanager.event.TaskAssignedEvent;
+import com.patikadev.definex.advancedtaskmanager.event.TaskChangedEvent;
+import com.patikadev.definex.advancedtaskmanager.event.TaskCreatedEvent;
+import com.patikadev.definex.advancedtaskmanager.event.TaskStateChangedEvent;
 import com.patikadev.definex.advancedtaskmanager.exception.InvalidTaskStateTransitionException;
 import com.patikadev.definex.advancedtaskmanager.exception.ResourceNotFoundException;
 import com.patikadev.definex.advancedtaskmanager.exception.UnauthorizedTaskAccessException;
+import com.patikadev.definex.advancedtaskmanager.exception.VersionConflictException;
 import com.patikadev.definex.advancedtaskmanager.mapper.TaskMapper;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.AggregateCounts;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPage;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPageRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.PageCursor;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.ResourceVersion;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.TaskDetailVersion;
+import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.BulkUpdateTaskStateRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.CreateTaskRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.TaskSearchCriteria;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.UpdateTaskRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.UpdateTaskStateRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.task.BulkTaskStateResult;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.task.BulkTaskStateUpdateResponse;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.task.TaskDetailResponse;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.task.TaskResponse;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.user.UserResponse;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Project;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Task;
 import com.patikadev.definex.advancedtaskmanager.model.entity.User;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskActivityType;
 import com.patikadev.definex.advancedtaskmanager.model.enums.TaskPriority;
 import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
 import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
 import com.patikadev.definex.advancedtaskmanager.repository.ProjectRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.TaskRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.UserRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.specification.TaskSpecifications;
+import com.patikadev.definex.advancedtaskmanager.service.AggregateCountService;
 import com.patikadev.definex.advancedtaskmanager.service.AuthService;
+import com.patikadev.definex.advancedtaskmanager.service.DomainEventService;
 import com.patikadev.definex.advancedtaskmanager.service.TaskService;
 import com.patikadev.definex.advancedtaskmanager.service.TaskStateHistoryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Objects;
-import java.util.Set;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -42,7 +64,10 @@ public class TaskServiceImpl implements TaskService {
     private final UserRepository userRepository;
     private final TaskStateHistoryService taskStateHistoryService;
     private final TaskMapper taskMapper;
+    private final AggregateCountService aggregateCountService;
     private final AuthService authService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DomainEventService domainEventService;
 
     @Override
     @Transactional
@@ -58,15 +83,20 @@ public class TaskServiceImpl implements TaskService {
         Task task = taskMapper.toEntity(request, project, assignedUser);
         Task savedTask = taskRepository.save(task);
         taskStateHistoryService.createTaskStateHistory(savedTask.getId(), null, TaskState.BACKLOG, LocalDateTime.now(), null);
+        eventPublisher.publishEvent(TaskChangedEvent.of(savedTask.getId()));
+        eventPublisher.publishEvent(TaskActivityEvent.of(TaskActivityType.TASK_CREATED, savedTask));
+        domainEventService.record(TaskCreatedEvent.of(savedTask));
 
-        return taskMapper.toResponse(savedTask);
+        return taskMapper.toResponse(savedTask, AggregateCounts.empty());
     }
 
     @Override
     @Transactional
-    public TaskResponse updateTask(UUID id, UpdateTaskRequest request) {
+    public TaskResponse updateTask(UUID id, UpdateTaskRequest request, Long expectedVersion) {
         Task task = findTaskById(id);
         validateTaskManagementPermission(task.getProject(), ErrorMessages.UNAUTHORIZED_TASK_UPDATE);
+        validateTaskVersion(task, expectedVersion);
+        UUID previousAssignedUserId = task.getAssignedUser() != null ? task.getAssignedUser().getId() : null;
 
         if (request.getAssignedUserId() != null) {
             User assignedUser = findUserById(request.getAssignedUserId());
@@ -74,9 +104,14 @@ public class TaskServiceImpl implements TaskService {
         }
 
         taskMapper.updateEntityFromDto(request, task);
-        Task updatedTask = taskRepository.save(task);
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        eventPublisher.publishEvent(TaskChangedEvent.of(updatedTask.getId()));
+        eventPublisher.publishEvent(TaskActivityEvent.of(TaskActivityType.TASK_UPDATED, updatedTask));
+        if (request.getAssignedUserId() != null && !request.getAssignedUserId().equals(previousAssignedUserId)) {
+            domainEventService.record(TaskAssignedEvent.of(updatedTask, previousAssignedUserId));
+        }
 
-        return taskMapper.toResponse(updatedTask);
+        return taskMapper.toResponse(updatedTask, aggregateCountService.countForTasks(List.of(updatedTask)));
     }
 
     @Override
@@ -85,107 +120,149 @@ public class TaskServiceImpl implements TaskService {
         Task task = findTaskById(id);
         validateTaskViewPermission(task.getProject());
 
-        return taskMapper.toDetailResponse(task);
+        return taskMapper.toDetailResponse(task, aggregateCountService.countForTasks(List.of(task)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getTaskDetailVersion(UUID id) {
+        TaskDetailVersion version = taskRepository.findDetailVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        ErrorMessages.TASK_NOT_FOUND.formatted(id)));
+        validateTaskViewPermission(version.getDepartmentId());
+
+        return version.toResourceVersion();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskResponse> getAllTasks() {
+    public CursorPage<TaskResponse> getAllTasks(CursorPageRequest pageRequest) {
         UserResponse currentUser = authService.getCurrentUser();
 
         if (isAdminOrProjectGroupManager(currentUser.getRoles())) {
-            List<Task> tasks = taskRepository.findAllByIsActiveTrue();
-            return taskMapper.toResponseList(tasks);
+            List<Task> tasks = taskRepository.findPageByIsActiveTrue(
+                    pageRequest.getCursorSortValue(), pageRequest.getCursorUuid(), pageRequest.toLimit());
+            return toTaskPage(tasks, pageRequest);
         } else if (currentUser.getDepartmentId() != null) {
-            List<Task> tasks = taskRepository.findAllByIsActiveTrue();
-            return taskMapper.toResponseList(
-                    tasks.stream()
-                            .filter(task -> Objects.equals(task.getProject().getDepartment().getId(), currentUser.getDepartmentId()))
-                            .toList()
-            );
+            List<Task> tasks = taskRepository.findPageByDepartmentIdAndIsActiveTrue(currentUser.getDepartmentId(),
+                    pageRequest.getCursorSortValue(), pageRequest.getCursorUuid(), pageRequest.toLimit());
+            return toTaskPage(tasks, pageRequest);
         }
 
-        return List.of();
+        return CursorPage.empty();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskResponse> getTasksByProjectId(UUID projectId) {
+    public CursorPage<TaskResponse> getTasksByProjectId(UUID projectId, CursorPageRequest pageRequest) {
         validateProjectExists(projectId);
         Project project = findProjectById(projectId);
         validateTaskViewPermission(project);
-        List<Task> tasks = taskRepository.findAllByProjectIdAndIsActiveTrue(projectId);
+        List<Task> tasks = taskRepository.findPageByProjectIdAndIsActiveTrue(projectId,
+                pageRequest.getCursorSortValue(), pageRequest.getCursorUuid(), pageRequest.toLimit());
 
-        return taskMapper.toResponseList(tasks);
+        return toTaskPage(tasks, pageRequest);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskResponse> getTasksByAssignedUserId(UUID userId) {
+    public CursorPage<TaskResponse> getTasksByAssignedUserId(UUID userId, CursorPageRequest pageRequest) {
         validateUserExists(userId);
         UserResponse currentUser = authService.getCurrentUser();
 
         if (isAdminOrProjectGroupManager(currentUser.getRoles())) {
-            List<Task> tasks = taskRepository.findAllByAssignedUserIdAndIsActiveTrue(userId);
-            return taskMapper.toResponseList(tasks);
-        } else {
-            List<Task> tasks = taskRepository.findAllByAssignedUserIdAndIsActiveTrue(userId);
-            return taskMapper.toResponseList(
-                    tasks.stream()
-                            .filter(task -> Objects.equals(task.getProject().getDepartment().getId(), currentUser.getDepartmentId()))
-                            .toList()
-            );
+            List<Task> tasks = taskRepository.findPageByAssignedUserIdAndIsActiveTrue(userId,
+                    pageRequest.getCursorSortValue(), pageRequest.getCursorUuid(), pageRequest.toLimit());
+            return toTaskPage(tasks, pageRequest);
+        } else if (currentUser.getDepartmentId() != null) {
+            List<Task> tasks = taskRepository.findPageByAssignedUserIdAndDepartmentIdAndIsActiveTrue(userId,
+                    currentUser.getDepartmentId(), pageRequest.getCursorSortValue(), pageRequest.getCursorUuid(),
+                    pageRequest.toLimit());
+            return toTaskPage(tasks, pageRequest);
         }
+
+        return CursorPage.empty();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskResponse> getTasksByState(TaskState state) {
+    public CursorPage<TaskResponse> getTasksByState(TaskState state, CursorPageRequest pageRequest) {
         UserResponse currentUser = authService.getCurrentUser();
 
         if (isAdminOrProjectGroupManager(currentUser.getRoles())) {
-            List<Task> tasks = taskRepository.findAllByStateAndIsActiveTrue(state);
-            return taskMapper.toResponseList(tasks);
-        } else {
-            List<Task> tasks = taskRepository.findAllByStateAndIsActiveTrue(state);
-            return taskMapper.toResponseList(
-                    tasks.stream()
-                            .filter(task -> Objects.equals(task.getProject().getDepartment().getId(), currentUser.getDepartmentId()))
-                            .toList()
-            );
+            List<Task> tasks = taskRepository.findPageByStateAndIsActiveTrue(state,
+                    pageRequest.getCursorSortValue(), pageRequest.getCursorUuid(), pageRequest.toLimit());
+            return toTaskPage(tasks, pageRequest);
+        } else if (currentUser.getDepartmentId() != null) {
+            List<Task> tasks = taskRepository.findPageByStateAndDepartmentIdAndIsActiveTrue(state,
+                    currentUser.getDepartmentId(), pageRequest.getCursorSortValue(), pageRequest.getCursorUuid(),
+                    pageRequest.toLimit());
+            return toTaskPage(tasks, pageRequest);
         }
+
+        return CursorPage.empty();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskResponse> getTasksByPriority(TaskPriority priority) {
+    public CursorPage<TaskResponse> getTasksByPriority(TaskPriority priority, CursorPageRequest pageRequest) {
         UserResponse currentUser = authService.getCurrentUser();
 
         if (isAdminOrProjectGroupManager(currentUser.getRoles())) {
-            List<Task> tasks = taskRepository.findAllByPriorityAndIsActiveTrue(priority);
-            return taskMapper.toResponseList(tasks);
-        } else {
-            List<Task> tasks = taskRepository.findAllByPriorityAndIsActiveTrue(priority);
-            return taskMapper.toResponseList(
-                    tasks.stream()
-                            .filter(task -> Objects.equals(task.getProject().getDepartment().getId(), currentUser.getDepartmentId()))
-                            .toList()
-            );
+            List<Task> tasks = taskRepository.findPageByPriorityAndIsActiveTrue(priority,
+                    pageRequest.getCursorSortValue(), pageRequest.getCursorUuid(), pageRequest.toLimit());
+            return toTaskPage(tasks, pageRequest);
+        } else if (currentUser.getDepartmentId() != null) {
+            List<Task> tasks = taskRepository.findPageByPriorityAndDepartmentIdAndIsActiveTrue(priority,
+                    currentUser.getDepartmentId(), pageRequest.getCursorSortValue(), pageRequest.getCursorUuid(),
+                    pageRequest.toLimit());
+            return toTaskPage(tasks, pageRequest);
         }
+
+        return CursorPage.empty();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponse> searchTasks(TaskSearchCriteria criteria, CursorPageRequest pageRequest) {
+        UserResponse currentUser = authService.getCurrentUser();
+        boolean canViewAllDepartments = isAdminOrProjectGroupManager(currentUser.getRoles());
+        if (!canViewAllDepartments && currentUser.getDepartmentId() == null) {
+            return CursorPage.empty();
+        }
+
+        Specification<Task> specification = Specification.where(TaskSpecifications.isActive())
+                .and(TaskSpecifications.inDepartment(canViewAllDepartments ? null : currentUser.getDepartmentId()))
+                .and(TaskSpecifications.inProject(criteria.getProjectId()))
+                .and(TaskSpecifications.assignedTo(criteria.getAssignedUserId()))
+                .and(TaskSpecifications.stateIn(criteria.getStates()))
+                .and(TaskSpecifications.priorityIn(criteria.getPriorities()))
+                .and(TaskSpecifications.createdBetween(criteria.getCreatedFrom(), criteria.getCreatedTo()))
+                .and(TaskSpecifications.updatedBetween(criteria.getUpdatedFrom(), criteria.getUpdatedTo()))
+                .and(TaskSpecifications.textContains(criteria.getText()))
+                .and(TaskSpecifications.createdBefore(pageRequest.getCursorSortValue(), pageRequest.getCursorUuid()));
+
+        List<Task> tasks = taskRepository.findBy(specification, query -> query
+                .project("project", "assignedUser")
+                .sortBy(Sort.by(Sort.Direction.DESC, "createdAt", "id"))
+                .limit(pageRequest.getSize() + 1)
+                .all());
+        return toTaskPage(tasks, pageRequest);
     }
 
     @Override
     @Transactional
-    public TaskResponse updateTaskState(UUID id, UpdateTaskStateRequest request) {
+    public TaskResponse updateTaskState(UUID id, UpdateTaskStateRequest request, Long expectedVersion) {
         Task task = findTaskById(id);
         validateTaskStateUpdatePermission(task.getProject());
+        validateTaskVersion(task, expectedVersion);
         TaskState currentState = task.getState();
         TaskState newState = request.getNewState();
 
         validateStateTransition(currentState, newState, request.getReason());
         task.setState(newState);
         task.setStateChangeReason(request.getReason());
-        Task updatedTask = taskRepository.save(task);
+        Task updatedTask = taskRepository.saveAndFlush(task);
 
         taskStateHistoryService.createTaskStateHistory(
                 updatedTask.getId(),
@@ -193,8 +270,76 @@ public class TaskServiceImpl implements TaskService {
                 newState,
                 LocalDateTime.now(),
                 request.getReason());
+        eventPublisher.publishEvent(TaskChangedEvent.of(updatedTask.getId()));
+        eventPublisher.publishEvent(TaskActivityEvent.of(TaskActivityType.TASK_STATE_CHANGED, updatedTask));
+        domainEventService.record(TaskStateChangedEvent.of(updatedTask, currentState));
+
+        return taskMapper.toResponse(updatedTask, aggregateCountService.countForTasks(List.of(updatedTask)));
+    }
+
+    @Override
+    @Transactional
+    public BulkTaskStateUpdateResponse bulkUpdateTaskState(BulkUpdateTaskStateRequest request) {
+        UserResponse currentUser = authService.getCurrentUser();
+        TaskState newState = request.getNewState();
+        Set<UUID> taskIds = new LinkedHashSet<>(request.getTaskIds());
+        Map<UUID, Task> tasksById = taskRepository.findAllByIdInAndIsActiveTrueWithProject(taskIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<BulkTaskStateResult> results = new ArrayList<>(taskIds.size());
+        List<Task> transitionedTasks = new ArrayList<>();
+        for (UUID taskId : taskIds) {
+            Task task = tasksById.get(taskId);
+            try {
+                if (task == null) {
+                    throw new ResourceNotFoundException(ErrorMessages.TASK_NOT_FOUND.formatted(taskId));
+                }
+                validateTaskStateUpdatePermission(task.getProject(), currentUser);
+                validateStateTransition(task.getState(), newState, request.getReason());
+                transitionedTasks.add(task);
+                results.add(BulkTaskStateResult.builder()
+                        .taskId(taskId)
+                        .success(true)
+                        .previousState(task.getState())
+                        .state(newState)
+                        .build());
+            } catch (ResourceNotFoundException | UnauthorizedTaskAccessException |
+                     InvalidTaskStateTransitionException | IllegalArgumentException ex) {
+                results.add(BulkTaskStateResult.builder()
+                        .taskId(taskId)
+                        .success(false)
+                        .previousState(task != null ? task.getState() : null)
+                        .state(task != null ? task.getState() : null)
+                        .error(ex.getMessage())
+                        .build());
+            }
+        }
+
+        if (!transitionedTasks.isEmpty()) {
+            List<UUID> transitionedTaskIds = transitionedTasks.stream().map(Task::getId).toList();
+            taskStateHistoryService.createTaskStateHistories(
+                    transitionedTaskIds, newState, LocalDateTime.now(), request.getReason());
+
+            List<TaskStateChangedEvent> stateChangedEvents = new ArrayList<>(transitionedTasks.size());
+            transitionedTasks.forEach(task -> {
+                TaskState previousState = task.getState();
+                task.setState(newState);
+                task.setStateChangeReason(request.getReason());
+                stateChangedEvents.add(TaskStateChangedEvent.of(task, previousState));
+            });
+            taskRepository.saveAll(transitionedTasks);
+            domainEventService.recordAll(stateChangedEvents);
+            eventPublisher.publishEvent(TaskChangedEvent.of(transitionedTaskIds));
+            transitionedTasks.forEach(task -> eventPublisher.publishEvent(
+                    TaskActivityEvent.of(TaskActivityType.TASK_STATE_CHANGED, task)));
+        }
 
-        return taskMapper.toResponse(updatedTask);
+        return BulkTaskStateUpdateResponse.builder()
+                .requested(taskIds.size())
+                .succeeded(transitionedTasks.size())
+                .failed(taskIds.size() - transitionedTasks.size())
+                .results(results)
+                .build();
     }
 
     @Override
@@ -203,10 +348,15 @@ public class TaskServiceImpl implements TaskService {
         Task task = findTaskById(taskId);
         validateTaskManagementPermission(task.getProject(), ErrorMessages.UNAUTHORIZED_TASK_ASSIGNMENT);
         User user = findUserById(userId);
+        UUID previousAssignedUserId = task.getAssignedUser() != null ? task.getAssignedUser().getId() : null;
         task.setAssignedUser(user);
         Task updatedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskActivityEvent.of(TaskActivityType.TASK_ASSIGNED, updatedTask));
+        if (!userId.equals(previousAssignedUserId)) {
+            domainEventService.record(TaskAssignedEvent.of(updatedTask, previousAssignedUserId));
+        }
 
-        return taskMapper.toResponse(updatedTask);
+        return taskMapper.toResponse(updatedTask, aggregateCountService.countForTasks(List.of(updatedTask)));
     }
 
     @Override
@@ -216,8 +366,9 @@ public class TaskServiceImpl implements TaskService {
         validateTaskManagementPermission(task.getProject(), ErrorMessages.UNAUTHORIZED_TASK_ASSIGNMENT);
         task.setAssignedUser(null);
         Task updatedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskActivityEvent.of(TaskActivityType.TASK_UNASSIGNED, updatedTask));
 
-        return taskMapper.toResponse(updatedTask);
+        return taskMapper.toResponse(updatedTask, aggregateCountService.countForTasks(List.of(updatedTask)));
     }
 
     @Override
@@ -227,6 +378,8 @@ public class TaskServiceImpl implements TaskService {
         validateTaskManagementPermission(task.getProject(), ErrorMessages.UNAUTHORIZED_TASK_DELETE);
         task.setIsActive(false);
         taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.of(id));
+        eventPublisher.publishEvent(TaskActivityEvent.of(TaskActivityType.TASK_DELETED, task));
     }
 
     private Task findTaskById(UUID id) {
@@ -235,6 +388,14 @@ public class TaskServiceImpl implements TaskService {
                         ErrorMessages.TASK_NOT_FOUND.formatted(id)));
     }
 
+    private void validateTaskVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new VersionConflictException(
+                    ErrorMessages.TASK_VERSION_CONFLICT.formatted(task.getId(), expectedVersion, task.getVersion()),
+                    taskMapper.toResponse(task, aggregateCountService.countForTasks(List.of(task))));
+        }
+    }
+
     private Project findProjectById(UUID id) {
         return projectRepository.findByIdAndIsActiveTrue(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
@@ -261,7 +422,7 @@ public class TaskServiceImpl implements TaskService {
         }
     }
 
-    private void validateStateTransition(TaskState currentState, TaskState newState, String reason) {
+    void validateStateTransition(TaskState currentState, TaskState newState, String reason) {
         if (currentState == newState) {
             return;
         }
@@ -323,27 +484,34 @@ public class TaskServiceImpl implements TaskService {
     }
 
     private void validateTaskManagementPermission(Project project, String errorMessage) {
-        UserResponse currentUser = authService.getCurrentUser();
+        if (!canManageProjectTasks(authService.getCurrentUser(), project)) {
+            throw new UnauthorizedTaskAccessException(errorMessage);
+        }
+    }
+
+    static boolean canManageProjectTasks(UserResponse currentUser, Project project) {
         Set<UserRole> roles = currentUser.getRoles();
 
         if (isAdminOrProjectGroupManager(roles)) {
-            return;
+            return true;
         }
 
         if ((roles.contains(UserRole.PROJECT_MANAGER) || roles.contains(UserRole.TEAM_LEADER))
                 && (currentUser.getDepartmentId() == null ||
                 !Objects.equals(project.getDepartment().getId(), currentUser.getDepartmentId()))) {
-            throw new UnauthorizedTaskAccessException(errorMessage);
+            return false;
         }
 
-        if (roles.contains(UserRole.TEAM_MEMBER) &&
-                !roles.contains(UserRole.PROJECT_MANAGER) &&
-                !roles.contains(UserRole.TEAM_LEADER)) {
-            throw new UnauthorizedTaskAccessException(errorMessage);
-        }
+        return !roles.contains(UserRole.TEAM_MEMBER) ||
+                roles.contains(UserRole.PROJECT_MANAGER) ||
+                roles.contains(UserRole.TEAM_LEADER);
     }
 
     private void validateTaskViewPermission(Project project) {
+        validateTaskViewPermission(project.getDepartment().getId());
+    }
+
+    private void validateTaskViewPermission(Long departmentId) {
         UserResponse currentUser = authService.getCurrentUser();
         Set<UserRole> roles = currentUser.getRoles();
 
@@ -352,13 +520,16 @@ public class TaskServiceImpl implements TaskService {
         }
 
         if (currentUser.getDepartmentId() == null ||
-                !Objects.equals(project.getDepartment().getId(), currentUser.getDepartmentId())) {
+                !Objects.equals(departmentId, currentUser.getDepartmentId())) {
             throw new UnauthorizedTaskAccessException(ErrorMessages.UNAUTHORIZED_TASK_ACCESS);
         }
     }
 
     private void validateTaskStateUpdatePermission(Project project) {
-        UserResponse currentUser = authService.getCurrentUser();
+        validateTaskStateUpdatePermission(project, authService.getCurrentUser());
+    }
+
+    private void validateTaskStateUpdatePermission(Project project, UserResponse currentUser) {
         Set<UserRole> roles = currentUser.getRoles();
 
         if (isAdminOrProjectGroupManager(roles)) {
@@ -371,7 +542,13 @@ public class TaskServiceImpl implements TaskService {
         }
     }
 
-    private boolean isAdminOrProjectGroupManager(Set<UserRole> roles) {
+    private static boolean isAdminOrProjectGroupManager(Set<UserRole> roles) {
         return roles.contains(UserRole.ADMIN) || roles.contains(UserRole.PROJECT_GROUP_MANAGER);
     }
-} 
\ No newline at end of file
+
+    private CursorPage<TaskResponse> toTaskPage(List<Task> tasks, CursorPageRequest pageRequest) {
+        return CursorPage.of(tasks, pageRequest,
+                task -> PageCursor.of(task.getCreatedAt(), task.getId()),
+                pageTasks -> taskMapper.toResponseList(pageTasks, aggregateCountService.countForTasks(pageTasks)));
+    }
+}
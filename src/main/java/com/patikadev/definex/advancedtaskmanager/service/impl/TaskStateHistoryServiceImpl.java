@@ -4,14 +4,18 @@ import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
 import com.patikadev.definex.advancedtaskmanager.exception.ResourceNotFoundException;
 import com.patikadev.definex.advancedtaskmanager.exception.UnauthorizedTaskAccessException;
 import com.patikadev.definex.advancedtaskmanager.mapper.TaskStateHistoryMapper;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPage;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPageRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.PageCursor;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.taskStateHistory.TaskStateHistoryResponse;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.user.UserResponse;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Task;
 import com.patikadev.definex.advancedtaskmanager.model.entity.TaskStateHistory;
-import com.patikadev.definex.advancedtaskmanager.model.entity.User;
+import com.patikadev.definex.advancedtaskmanager.model.entity.TaskStateHistoryOutbox;
 import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
 import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
 import com.patikadev.definex.advancedtaskmanager.repository.TaskRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.TaskStateHistoryOutboxRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.TaskStateHistoryRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.UserRepository;
 import com.patikadev.definex.advancedtaskmanager.service.AuthService;
@@ -19,19 +23,23 @@ import com.patikadev.definex.advancedtaskmanager.service.TaskStateHistoryService
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TaskStateHistoryServiceImpl implements TaskStateHistoryService {
 
     private final TaskStateHistoryRepository taskStateHistoryRepository;
+    private final TaskStateHistoryOutboxRepository taskStateHistoryOutboxRepository;
+    private final TaskStateHistoryWriter taskStateHistoryWriter;
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final AuthService authService;
@@ -40,14 +48,30 @@ public class TaskStateHistoryServiceImpl implements TaskStateHistoryService {
     @Override
     @Transactional
     public void createTaskStateHistory(UUID taskId, TaskState oldState, TaskState newState, LocalDateTime changedAt, String reason) {
-        Task task = findTaskById(taskId);
         UUID currentUserId = authService.getCurrentUserId();
-        User currentUser = findUserById(currentUserId);
+        TaskStateHistoryOutbox outboxEntry = taskStateHistoryMapper.toOutboxEntry(
+                taskId, oldState, newState, reason, changedAt, currentUserId);
+        Long outboxId = taskStateHistoryOutboxRepository.save(outboxEntry).getId();
+
+        enqueueAfterCommit(List.of(outboxId));
+    }
+
+    @Override
+    @Transactional
+    public void createTaskStateHistories(Collection<UUID> taskIds, TaskState newState, LocalDateTime changedAt, String reason) {
+        UUID currentUserId = authService.getCurrentUserId();
+        taskStateHistoryOutboxRepository.insertForTasks(taskIds, newState, reason, changedAt, currentUserId);
+
+        enqueueAfterCommit(taskStateHistoryOutboxRepository.findIdsByTaskIdInAndChangedAt(taskIds, changedAt));
+    }
 
-        TaskStateHistory taskStateHistory = taskStateHistoryMapper.toEntity(oldState, newState, reason, changedAt, currentUser);
-        taskStateHistory.setTask(task);
+    @Override
+    @Transactional
+    public void createInitialTaskStateHistories(Collection<UUID> taskIds, LocalDateTime changedAt) {
+        UUID currentUserId = authService.getCurrentUserId();
+        taskStateHistoryOutboxRepository.insertInitialForTasks(taskIds, changedAt, currentUserId);
 
-        taskStateHistoryRepository.save(taskStateHistory);
+        enqueueAfterCommit(taskStateHistoryOutboxRepository.findIdsByTaskIdInAndChangedAt(taskIds, changedAt));
     }
 
     @Override
@@ -61,64 +85,114 @@ public class TaskStateHistoryServiceImpl implements TaskStateHistoryService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskStateHistoryResponse> getTaskStateHistoriesByTaskId(UUID taskId) {
+    public CursorPage<TaskStateHistoryResponse> getTaskStateHistoriesByTaskId(UUID taskId, CursorPageRequest pageRequest) {
         validateTaskExists(taskId);
         Task task = findTaskById(taskId);
         validateTaskHistoryViewPermission(task);
-        List<TaskStateHistory> taskStateHistories = taskStateHistoryRepository.findByTaskIdWithDetails(taskId);
+        List<TaskStateHistory> taskStateHistories = taskStateHistoryRepository.findPageByTaskIdWithDetails(taskId,
+                pageRequest.getCursorSortValue(), pageRequest.getCursorLong(), pageRequest.toLimit());
 
-        return taskStateHistoryMapper.toResponseList(taskStateHistories);
+        return toTaskStateHistoryPage(taskStateHistories, pageRequest);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskStateHistoryResponse> getTaskStateHistoriesByChangedByUserId(UUID userId) {
+    public CursorPage<TaskStateHistoryResponse> getTaskStateHistoriesByChangedByUserId(UUID userId, CursorPageRequest pageRequest) {
         validateUserExists(userId);
         UserResponse currentUser = authService.getCurrentUser();
-        List<TaskStateHistory> taskStateHistories = taskStateHistoryRepository.findByChangedByIdOrderByChangedAtDesc(userId);
 
-        return filterTaskHistoriesByDepartment(taskStateHistories, currentUser);
+        if (isAdminOrProjectGroupManager(currentUser.getRoles())) {
+            List<TaskStateHistory> taskStateHistories = taskStateHistoryRepository.findPageByChangedById(userId,
+                    pageRequest.getCursorSortValue(), pageRequest.getCursorLong(), pageRequest.toLimit());
+            return toTaskStateHistoryPage(taskStateHistories, pageRequest);
+        } else if (currentUser.getDepartmentId() != null) {
+            List<TaskStateHistory> taskStateHistories = taskStateHistoryRepository.findPageByChangedByIdAndDepartmentId(
+                    userId, currentUser.getDepartmentId(), pageRequest.getCursorSortValue(),
+                    pageRequest.getCursorLong(), pageRequest.toLimit());
+            return toTaskStateHistoryPage(taskStateHistories, pageRequest);
+        }
+
+        return CursorPage.empty();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskStateHistoryResponse> getTaskStateHistoriesByOldState(TaskState oldState) {
+    public CursorPage<TaskStateHistoryResponse> getTaskStateHistoriesByOldState(TaskState oldState, CursorPageRequest pageRequest) {
         UserResponse currentUser = authService.getCurrentUser();
-        List<TaskStateHistory> taskStateHistories = taskStateHistoryRepository.findByOldStateOrderByChangedAtDesc(oldState);
 
-        return filterTaskHistoriesByDepartment(taskStateHistories, currentUser);
+        if (isAdminOrProjectGroupManager(currentUser.getRoles())) {
+            List<TaskStateHistory> taskStateHistories = taskStateHistoryRepository.findPageByOldState(oldState,
+                    pageRequest.getCursorSortValue(), pageRequest.getCursorLong(), pageRequest.toLimit());
+            return toTaskStateHistoryPage(taskStateHistories, pageRequest);
+        } else if (currentUser.getDepartmentId() != null) {
+            List<TaskStateHistory> taskStateHistories = taskStateHistoryRepository.findPageByOldStateAndDepartmentId(
+                    oldState, currentUser.getDepartmentId(), pageRequest.getCursorSortValue(),
+                    pageRequest.getCursorLong(), pageRequest.toLimit());
+            return toTaskStateHistoryPage(taskStateHistories, pageRequest);
+        }
+
+        return CursorPage.empty();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskStateHistoryResponse> getTaskStateHistoriesByNewState(TaskState newState) {
+    public CursorPage<TaskStateHistoryResponse> getTaskStateHistoriesByNewState(TaskState newState, CursorPageRequest pageRequest) {
         UserResponse currentUser = authService.getCurrentUser();
-        List<TaskStateHistory> taskStateHistories = taskStateHistoryRepository.findByNewStateOrderByChangedAtDesc(newState);
 
-        return filterTaskHistoriesByDepartment(taskStateHistories, currentUser);
+        if (isAdminOrProjectGroupManager(currentUser.getRoles())) {
+            List<TaskStateHistory> taskStateHistories = taskStateHistoryRepository.findPageByNewState(newState,
+                    pageRequest.getCursorSortValue(), pageRequest.getCursorLong(), pageRequest.toLimit());
+            return toTaskStateHistoryPage(taskStateHistories, pageRequest);
+        } else if (currentUser.getDepartmentId() != null) {
+            List<TaskStateHistory> taskStateHistories = taskStateHistoryRepository.findPageByNewStateAndDepartmentId(
+                    newState, currentUser.getDepartmentId(), pageRequest.getCursorSortValue(),
+                    pageRequest.getCursorLong(), pageRequest.toLimit());
+            return toTaskStateHistoryPage(taskStateHistories, pageRequest);
+        }
+
+        return CursorPage.empty();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskStateHistoryResponse> getTaskStateHistoriesByChangedAtBetween(LocalDateTime startDate, LocalDateTime endDate) {
+    public CursorPage<TaskStateHistoryResponse> getTaskStateHistoriesByChangedAtBetween(LocalDateTime startDate, LocalDateTime endDate,
+                                                                                        CursorPageRequest pageRequest) {
         UserResponse currentUser = authService.getCurrentUser();
-        List<TaskStateHistory> taskStateHistories = taskStateHistoryRepository.findByChangedAtBetweenOrderByChangedAtDesc(startDate, endDate);
 
-        return filterTaskHistoriesByDepartment(taskStateHistories, currentUser);
+        if (isAdminOrProjectGroupManager(currentUser.getRoles())) {
+            List<TaskStateHistory> taskStateHistories = taskStateHistoryRepository.findPageByChangedAtBetween(
+                    startDate, endDate, pageRequest.getCursorSortValue(), pageRequest.getCursorLong(),
+                    pageRequest.toLimit());
+            return toTaskStateHistoryPage(taskStateHistories, pageRequest);
+        } else if (currentUser.getDepartmentId() != null) {
+            List<TaskStateHistory> taskStateHistories = taskStateHistoryRepository.findPageByChangedAtBetweenAndDepartmentId(
+                    startDate, endDate, currentUser.getDepartmentId(), pageRequest.getCursorSortValue(),
+                    pageRequest.getCursorLong(), pageRequest.toLimit());
+            return toTaskStateHistoryPage(taskStateHistories, pageRequest);
+        }
+
+        return CursorPage.empty();
     }
 
-    private List<TaskStateHistoryResponse> filterTaskHistoriesByDepartment(List<TaskStateHistory> taskStateHistories, UserResponse currentUser) {
-        if (isAdminOrProjectGroupManager(currentUser.getRoles())) {
-            return taskStateHistoryMapper.toResponseList(taskStateHistories);
-        } else {
-            return taskStateHistoryMapper.toResponseList(
-                    taskStateHistories.stream()
-                            .filter(history -> Objects.equals(
-                                    history.getTask().getProject().getDepartment().getId(),
-                                    currentUser.getDepartmentId()))
-                            .collect(Collectors.toList())
-            );
+    private CursorPage<TaskStateHistoryResponse> toTaskStateHistoryPage(List<TaskStateHistory> taskStateHistories,
+                                                                        CursorPageRequest pageRequest) {
+        return CursorPage.of(taskStateHistories, pageRequest,
+                history -> PageCursor.of(history.getChangedAt(), history.getId()),
+                taskStateHistoryMapper::toResponseList);
+    }
+
+    private void enqueueAfterCommit(List<Long> outboxIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            outboxIds.forEach(taskStateHistoryWriter::enqueue);
+            return;
         }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxIds.forEach(taskStateHistoryWriter::enqueue);
+            }
+        });
     }
 
     private Task findTaskById(UUID id) {
@@ -127,12 +201,6 @@ public class TaskStateHistoryServiceImpl implements TaskStateHistoryService {
                         ErrorMessages.TASK_NOT_FOUND.formatted(id)));
     }
 
-    private User findUserById(UUID id) {
-        return userRepository.findByIdAndIsActiveTrue(id)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        ErrorMessages.USER_NOT_FOUND.formatted(id)));
-    }
-
     private TaskStateHistory findTaskStateHistoryById(Long id) {
         return taskStateHistoryRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
@@ -0,0 +1,216 @@
+package com.patikadev.definex.advancedtaskmanager.service.impl;
+
+import com.patikadev.definex.advancedtaskmanager.config.ApplicationProperties;
+import com.patikadev.definex.advancedtaskmanager.config.BackgroundThreads;
+import com.patikadev.definex.advancedtaskmanager.constant.MetricConstants;
+import com.patikadev.definex.advancedtaskmanager.repository.TaskStateHistoryOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class TaskStateHistoryWriter implements SmartLifecycle {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final String LOCK_OUTBOX_SQL =
+            "SELECT id FROM task_state_history_outbox WHERE id IN (:ids) AND is_active = TRUE FOR UPDATE";
+    private static final String INSERT_HISTORY_SQL = """
+                INSERT INTO task_state_histories
+                    (task_id, old_state, new_state, reason, changed_at, changed_by_user_id, created_at, updated_at, is_active)
+                SELECT task_id, old_state, new_state, reason, changed_at, changed_by_user_id, created_at, :writtenAt, is_active
+                FROM task_state_history_outbox
+                WHERE id IN (:ids)
+            """;
+    private static final String DELETE_OUTBOX_SQL = "DELETE FROM task_state_history_outbox WHERE id IN (:ids)";
+    private static final String DEAD_LETTER_OUTBOX_SQL = """
+                UPDATE task_state_history_outbox
+                SET is_active = FALSE, attempts = attempts + 1, last_error = :lastError, updated_at = :now
+                WHERE id = :id
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskStateHistoryOutboxRepository outboxRepository;
+    private final ApplicationProperties.HistoryWriter properties;
+    private final BackgroundThreads backgroundThreads;
+    private final BlockingQueue<Long> queue;
+    private final Timer flushTimer;
+    private final Counter overflowCounter;
+    private final Counter deadLetteredCounter;
+    private volatile boolean running;
+    private Thread worker;
+
+    public TaskStateHistoryWriter(NamedParameterJdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  TaskStateHistoryOutboxRepository outboxRepository,
+                                  ApplicationProperties applicationProperties,
+                                  BackgroundThreads backgroundThreads,
+                                  MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.outboxRepository = outboxRepository;
+        this.properties = applicationProperties.getHistoryWriter();
+        this.backgroundThreads = backgroundThreads;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.flushTimer = Timer.builder(MetricConstants.TASK_STATE_HISTORY_FLUSH).register(meterRegistry);
+        this.overflowCounter = Counter.builder(MetricConstants.TASK_STATE_HISTORY_QUEUE_OVERFLOW).register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder(MetricConstants.TASK_STATE_HISTORY_DEAD_LETTERED).register(meterRegistry);
+        Gauge.builder(MetricConstants.TASK_STATE_HISTORY_QUEUE_DEPTH, queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    public void enqueue(Long outboxId) {
+        if (!queue.offer(outboxId)) {
+            overflowCounter.increment();
+            log.debug("Task state history queue is full, outbox entry {} is left for the relay", outboxId);
+        }
+    }
+
+    public int flush(List<Long> outboxIds) {
+        if (outboxIds.isEmpty()) {
+            return 0;
+        }
+
+        Timer.Sample sample = Timer.start();
+        try {
+            return transactionTemplate.execute(status -> writeEntries(outboxIds));
+        } catch (DataIntegrityViolationException ex) {
+            log.warn("Task state history batch of {} entries was rejected, retrying entries one by one", outboxIds.size());
+            return outboxIds.stream().mapToInt(this::flushEntry).sum();
+        } catch (DataAccessException ex) {
+            log.error("Could not flush {} task state history entries, they stay in the outbox", outboxIds.size(), ex);
+            return 0;
+        } finally {
+            sample.stop(flushTimer);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${application.history-writer.relay-interval-ms:5000}",
+            initialDelayString = "${application.history-writer.relay-interval-ms:5000}")
+    public int relayPendingEntries() {
+        LocalDateTime createdBefore = LocalDateTime.now().minus(Duration.ofMillis(properties.getRelayDelayMs()));
+        int relayed = 0;
+
+        List<Long> pendingIds;
+        do {
+            pendingIds = outboxRepository.findPendingIds(createdBefore, Limit.of(properties.getBatchSize()));
+            int flushed = flush(pendingIds);
+            if (flushed == 0) {
+                break;
+            }
+            relayed += flushed;
+        } while (pendingIds.size() == properties.getBatchSize());
+
+        if (relayed > 0) {
+            log.info("Relayed {} task state history entries from the outbox", relayed);
+        }
+        return relayed;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = backgroundThreads.start("task-state-history-writer", this::drainQueue);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker == null) {
+            return;
+        }
+
+        try {
+            worker.join(properties.getPollTimeoutMs() * 2);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drainQueue() {
+        List<Long> batch = new ArrayList<>(properties.getBatchSize());
+        while (running) {
+            try {
+                Long outboxId = queue.poll(properties.getPollTimeoutMs(), TimeUnit.MILLISECONDS);
+                if (outboxId == null) {
+                    continue;
+                }
+
+                batch.add(outboxId);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                flush(List.copyOf(batch));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Task state history writer failed, pending entries stay in the outbox", ex);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private int writeEntries(List<Long> outboxIds) {
+        List<Long> lockedIds = jdbcTemplate.queryForList(LOCK_OUTBOX_SQL, new MapSqlParameterSource("ids", outboxIds), Long.class);
+        if (lockedIds.isEmpty()) {
+            return 0;
+        }
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource("ids", lockedIds)
+                .addValue("writtenAt", LocalDateTime.now());
+        int written = jdbcTemplate.update(INSERT_HISTORY_SQL, parameters);
+        jdbcTemplate.update(DELETE_OUTBOX_SQL, parameters);
+        return written;
+    }
+
+    private int flushEntry(Long outboxId) {
+        try {
+            return transactionTemplate.execute(status -> writeEntries(List.of(outboxId)));
+        } catch (DataIntegrityViolationException ex) {
+            log.error("Dead-lettering task state history outbox entry {} that can not be written", outboxId, ex);
+            deadLetter(outboxId, ex);
+            return 0;
+        } catch (DataAccessException ex) {
+            log.error("Could not flush task state history outbox entry {}", outboxId, ex);
+            return 0;
+        }
+    }
+
+    private void deadLetter(Long outboxId, RuntimeException ex) {
+        String error = ex.getMessage() != null ? ex.getMessage() : ex.getClass().getName();
+        MapSqlParameterSource parameters = new MapSqlParameterSource("id", outboxId)
+                .addValue("lastError", error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error)
+                .addValue("now", LocalDateTime.now());
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(DEAD_LETTER_OUTBOX_SQL, parameters));
+            deadLetteredCounter.increment();
+        } catch (DataAccessException deadLetterEx) {
+            log.error("Could not dead-letter task state history outbox entry {}, it stays pending", outboxId, deadLetterEx);
+        }
+    }
+}
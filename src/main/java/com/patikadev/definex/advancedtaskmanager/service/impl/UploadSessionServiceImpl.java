@@ -0,0 +1,291 @@
+package com.patikadev.definex.advancedtaskmanager.service.impl;
+
+import com.patikadev.definex.advancedtaskmanager.config.ApplicationProperties;
+import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
+import com.patikadev.definex.advancedtaskmanager.constant.FileConstants;
+import com.patikadev.definex.advancedtaskmanager.constant.MetricConstants;
+import com.patikadev.definex.advancedtaskmanager.event.AttachmentUploadedEvent;
+import com.patikadev.definex.advancedtaskmanager.exception.FileStorageException;
+import com.patikadev.definex.advancedtaskmanager.exception.ResourceNotFoundException;
+import com.patikadev.definex.advancedtaskmanager.exception.UploadSessionConflictException;
+import com.patikadev.definex.advancedtaskmanager.mapper.AttachmentMapper;
+import com.patikadev.definex.advancedtaskmanager.mapper.UploadSessionMapper;
+import com.patikadev.definex.advancedtaskmanager.model.dto.request.attachment.CreateUploadSessionRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.attachment.AttachmentResponse;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.attachment.UploadSessionResponse;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Attachment;
+import com.patikadev.definex.advancedtaskmanager.model.entity.AttachmentBlob;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Task;
+import com.patikadev.definex.advancedtaskmanager.model.entity.UploadSession;
+import com.patikadev.definex.advancedtaskmanager.model.entity.User;
+import com.patikadev.definex.advancedtaskmanager.repository.AttachmentRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.TaskRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.UploadSessionRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.UserRepository;
+import com.patikadev.definex.advancedtaskmanager.service.AttachmentStorageService;
+import com.patikadev.definex.advancedtaskmanager.service.AuthService;
+import com.patikadev.definex.advancedtaskmanager.service.DomainEventService;
+import com.patikadev.definex.advancedtaskmanager.service.UploadSessionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadSessionServiceImpl implements UploadSessionService {
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final AuthService authService;
+    private final AttachmentStorageService attachmentStorageService;
+    private final UploadSessionMapper uploadSessionMapper;
+    private final AttachmentMapper attachmentMapper;
+    private final ApplicationProperties applicationProperties;
+    private final DomainEventService domainEventService;
+    private final MeterRegistry meterRegistry;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    @Transactional
+    public UploadSessionResponse createUploadSession(CreateUploadSessionRequest request) {
+        if (!isAllowedFileType(request.getContentType())) {
+            throw new FileStorageException(ErrorMessages.FILE_TYPE_NOT_ALLOWED.formatted(request.getContentType()));
+        }
+
+        long maxFileSize = getChunkedUploadProperties().getMaxFileSize();
+        if (request.getTotalSize() > maxFileSize) {
+            throw new IllegalArgumentException(ErrorMessages.UPLOAD_SIZE_EXCEEDED.formatted(request.getTotalSize(), maxFileSize));
+        }
+
+        Task task = findTaskById(request.getTaskId());
+        User currentUser = findCurrentUser();
+        request.setFileName(StringUtils.cleanPath(request.getFileName()));
+
+        UploadSession session = uploadSessionRepository.save(
+                uploadSessionMapper.toEntity(request, task, currentUser, nextExpiresAt()));
+        return uploadSessionMapper.toResponse(session, 0L);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UploadSessionResponse getUploadSession(UUID sessionId) {
+        UploadSession session = findActiveSession(sessionId);
+        return uploadSessionMapper.toResponse(session, getReceivedBytes(sessionId));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public UploadSessionResponse appendChunk(UUID sessionId, long offset, InputStream content) {
+        UploadSession session = findActiveSession(sessionId);
+        Path stagingFile = getStagingFile(sessionId);
+
+        try {
+            Files.createDirectories(stagingFile.getParent());
+            try (FileChannel channel = FileChannel.open(stagingFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock lock = tryLock(channel, sessionId)) {
+                long receivedBytes = channel.size();
+                if (offset != receivedBytes) {
+                    throw new UploadSessionConflictException(ErrorMessages.UPLOAD_OFFSET_MISMATCH.formatted(offset, receivedBytes));
+                }
+
+                long acceptedBytes = Math.min(session.getTotalSize() - receivedBytes, getChunkedUploadProperties().getMaxChunkSize());
+                long position = receivedBytes;
+                ReadableByteChannel source = Channels.newChannel(content);
+                long transferred;
+                while (position - receivedBytes < acceptedBytes
+                        && (transferred = channel.transferFrom(source, position, acceptedBytes - (position - receivedBytes))) > 0) {
+                    position += transferred;
+                }
+
+                if (content.read() != -1) {
+                    channel.truncate(receivedBytes);
+                    throw new IllegalArgumentException(ErrorMessages.UPLOAD_CHUNK_TOO_LARGE.formatted(acceptedBytes));
+                }
+
+                if (position > receivedBytes) {
+                    extendExpiration(session);
+                }
+                return uploadSessionMapper.toResponse(session, position);
+            }
+        } catch (IOException ex) {
+            throw new FileStorageException(ErrorMessages.FILE_STORAGE_ERROR.formatted(session.getFileName()), ex);
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public AttachmentResponse commitUploadSession(UUID sessionId) {
+        UploadSession session = findActiveSession(sessionId);
+        long receivedBytes = requireCompleteUpload(session);
+        Path stagingFile = getStagingFile(sessionId);
+        String contentHash = attachmentStorageService.hashStagedFile(stagingFile, session.getFileName());
+
+        AttachmentResponse response = new TransactionTemplate(transactionManager).execute(status -> {
+            UploadSession lockedSession = uploadSessionRepository.findActiveSessionForUpdate(
+                            sessionId, authService.getCurrentUserId(), LocalDateTime.now())
+                    .orElseThrow(() -> new ResourceNotFoundException(ErrorMessages.UPLOAD_SESSION_NOT_FOUND.formatted(sessionId)));
+            requireCompleteUpload(lockedSession);
+
+            Task task = findTaskById(lockedSession.getTask().getId());
+            AttachmentBlob blob = attachmentStorageService.storeStagedFile(stagingFile, lockedSession.getFileName(), contentHash);
+
+            Attachment attachment = attachmentMapper.toEntity(
+                    lockedSession.getFileName(),
+                    task,
+                    lockedSession.getUploadedByUser(),
+                    blob.getFilePath(),
+                    blob.getFileSize(),
+                    lockedSession.getContentType(),
+                    blob.getContentHash()
+            );
+
+            Attachment savedAttachment = attachmentRepository.save(attachment);
+            lockedSession.setIsActive(false);
+            uploadSessionRepository.save(lockedSession);
+            domainEventService.record(AttachmentUploadedEvent.of(savedAttachment));
+            return attachmentMapper.toResponse(savedAttachment);
+        });
+
+        meterRegistry.counter(MetricConstants.ATTACHMENT_BYTES, MetricConstants.TAG_DIRECTION, MetricConstants.DIRECTION_IN)
+                .increment(receivedBytes);
+        return response;
+    }
+
+    @Override
+    @Transactional
+    public void abortUploadSession(UUID sessionId) {
+        UploadSession session = findActiveSession(sessionId);
+
+        session.setIsActive(false);
+        uploadSessionRepository.save(session);
+        deleteStagingFile(sessionId);
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${application.file.chunked-upload.cleanup-interval-ms:3600000}",
+            initialDelayString = "${application.file.chunked-upload.cleanup-interval-ms:3600000}")
+    public int expireUploadSessions() {
+        List<UploadSession> expiredSessions = uploadSessionRepository.findAllByIsActiveTrueAndExpiresAtBefore(LocalDateTime.now());
+
+        for (UploadSession session : expiredSessions) {
+            session.setIsActive(false);
+            deleteStagingFile(session.getId());
+        }
+
+        if (!expiredSessions.isEmpty()) {
+            log.info("Expired {} abandoned upload sessions", expiredSessions.size());
+        }
+        return expiredSessions.size();
+    }
+
+    private FileLock tryLock(FileChannel channel, UUID sessionId) throws IOException {
+        try {
+            FileLock lock = channel.tryLock();
+            if (lock != null) {
+                return lock;
+            }
+        } catch (OverlappingFileLockException ex) {
+            log.debug("Upload session {} is locked by another request", sessionId);
+        }
+        throw new UploadSessionConflictException(ErrorMessages.UPLOAD_SESSION_BUSY.formatted(sessionId));
+    }
+
+    private long requireCompleteUpload(UploadSession session) {
+        long receivedBytes = getReceivedBytes(session.getId());
+        if (receivedBytes != session.getTotalSize()) {
+            throw new UploadSessionConflictException(
+                    ErrorMessages.UPLOAD_SESSION_INCOMPLETE.formatted(session.getId(), receivedBytes, session.getTotalSize()));
+        }
+        return receivedBytes;
+    }
+
+    private void extendExpiration(UploadSession session) {
+        LocalDateTime expiresAt = nextExpiresAt();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                uploadSessionRepository.extendExpiration(session.getId(), expiresAt));
+        session.setExpiresAt(expiresAt);
+    }
+
+    private LocalDateTime nextExpiresAt() {
+        return LocalDateTime.now().plus(Duration.ofMillis(getChunkedUploadProperties().getSessionExpirationMs()));
+    }
+
+    private long getReceivedBytes(UUID sessionId) {
+        Path stagingFile = getStagingFile(sessionId);
+        try {
+            return Files.exists(stagingFile) ? Files.size(stagingFile) : 0L;
+        } catch (IOException ex) {
+            throw new FileStorageException(ErrorMessages.FILE_NOT_FOUND.formatted(stagingFile.getFileName()), ex);
+        }
+    }
+
+    private void deleteStagingFile(UUID sessionId) {
+        try {
+            Files.deleteIfExists(getStagingFile(sessionId));
+        } catch (IOException ex) {
+            log.warn("Could not delete staging file for upload session {}", sessionId, ex);
+        }
+    }
+
+    private Path getStagingFile(UUID sessionId) {
+        return attachmentStorageService.getStagingPath()
+                .resolve(FileConstants.UPLOAD_SESSIONS_DIR)
+                .resolve(sessionId + FileConstants.STAGING_FILE_SUFFIX);
+    }
+
+    private ApplicationProperties.ChunkedUpload getChunkedUploadProperties() {
+        return applicationProperties.getFile().getChunkedUpload();
+    }
+
+    private boolean isAllowedFileType(String contentType) {
+        return Stream.concat(Arrays.stream(FileConstants.ALLOWED_IMAGE_TYPES), Arrays.stream(FileConstants.ALLOWED_DOCUMENT_TYPES))
+                .anyMatch(allowedType -> allowedType.equals(contentType));
+    }
+
+    private UploadSession findActiveSession(UUID sessionId) {
+        return uploadSessionRepository.findActiveSession(sessionId, authService.getCurrentUserId(), LocalDateTime.now())
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        ErrorMessages.UPLOAD_SESSION_NOT_FOUND.formatted(sessionId)));
+    }
+
+    private Task findTaskById(UUID taskId) {
+        return taskRepository.findByIdAndIsActiveTrue(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        ErrorMessages.TASK_NOT_FOUND.formatted(taskId)));
+    }
+
+    private User findCurrentUser() {
+        UUID currentUserId = authService.getCurrentUserId();
+        return userRepository.findByIdAndIsActiveTrue(currentUserId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        ErrorMessages.USER_NOT_FOUND.formatted(currentUserId)));
+    }
+}
@@ -2,6 +2,9 @@ package com.patikadev.definex.advancedtaskmanager.service.impl;
 
 import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
 import com.patikadev.definex.advancedtaskmanager.mapper.UserMapper;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPage;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPageRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.PageCursor;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.user.CreateUserRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.user.UpdateUserRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.user.UpdateUserRolesRequest;
@@ -11,8 +14,10 @@ import com.patikadev.definex.advancedtaskmanager.model.entity.Department;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Role;
 import com.patikadev.definex.advancedtaskmanager.model.entity.User;
 import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
-import com.patikadev.definex.advancedtaskmanager.repository.DepartmentRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.UserRepository;
+import com.patikadev.definex.advancedtaskmanager.security.jwt.TokenRevocationRegistry;
+import com.patikadev.definex.advancedtaskmanager.security.jwt.VerifiedTokenCache;
+import com.patikadev.definex.advancedtaskmanager.service.ReferenceDataService;
 import com.patikadev.definex.advancedtaskmanager.service.RoleService;
 import com.patikadev.definex.advancedtaskmanager.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +26,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 
@@ -29,10 +35,12 @@ import java.util.UUID;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
-    private final DepartmentRepository departmentRepository;
     private final RoleService roleService;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final ReferenceDataService referenceDataService;
 
     @Override
     @Transactional
@@ -58,6 +66,7 @@ public class UserServiceImpl implements UserService {
         }
         user.setRoles(roles);
         User savedUser = userRepository.save(user);
+        referenceDataService.evictUserIdentity(savedUser.getEmail());
 
         return userMapper.toResponse(savedUser);
     }
@@ -72,6 +81,9 @@ public class UserServiceImpl implements UserService {
             throw new IllegalArgumentException(ErrorMessages.DUPLICATE_EMAIL);
         }
 
+        String previousEmail = user.getEmail();
+        Long previousDepartmentId = user.getDepartment() != null ? user.getDepartment().getId() : null;
+
         userMapper.updateEntityFromDto(request, user);
 
         if (request.getDepartmentId() != null) {
@@ -81,6 +93,11 @@ public class UserServiceImpl implements UserService {
 
         User savedUser = userRepository.save(user);
 
+        Long currentDepartmentId = savedUser.getDepartment() != null ? savedUser.getDepartment().getId() : null;
+        if (!previousEmail.equals(savedUser.getEmail()) || !Objects.equals(previousDepartmentId, currentDepartmentId)) {
+            revokeIssuedTokens(savedUser.getId(), previousEmail);
+        }
+
         return userMapper.toResponse(savedUser);
     }
 
@@ -100,23 +117,26 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<UserResponse> getAllUsers() {
-        List<User> users = userRepository.findAllByIsActiveTrue();
-        return userMapper.toResponseList(users);
+    public CursorPage<UserResponse> getAllUsers(CursorPageRequest pageRequest) {
+        List<User> users = userRepository.findPageByIsActiveTrue(
+                pageRequest.getCursorSortValue(), pageRequest.getCursorUuid(), pageRequest.toLimit());
+        return toUserPage(users, pageRequest);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<UserResponse> getUsersByDepartmentId(Long departmentId) {
-        List<User> users = userRepository.findAllByDepartmentIdAndIsActiveTrue(departmentId);
-        return userMapper.toResponseList(users);
+    public CursorPage<UserResponse> getUsersByDepartmentId(Long departmentId, CursorPageRequest pageRequest) {
+        List<User> users = userRepository.findPageByDepartmentIdAndIsActiveTrue(departmentId,
+                pageRequest.getCursorSortValue(), pageRequest.getCursorUuid(), pageRequest.toLimit());
+        return toUserPage(users, pageRequest);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<UserResponse> getUsersByRole(UserRole role) {
-        List<User> users = userRepository.findAllByRolesNameAndIsActiveTrue(role);
-        return userMapper.toResponseList(users);
+    public CursorPage<UserResponse> getUsersByRole(UserRole role, CursorPageRequest pageRequest) {
+        List<User> users = userRepository.findPageByRolesNameAndIsActiveTrue(role,
+                pageRequest.getCursorSortValue(), pageRequest.getCursorUuid(), pageRequest.toLimit());
+        return toUserPage(users, pageRequest);
     }
 
     @Override
@@ -125,6 +145,7 @@ public class UserServiceImpl implements UserService {
         User user = findUserById(id);
         user.setIsActive(false);
         userRepository.save(user);
+        revokeIssuedTokens(user.getId(), user.getEmail());
     }
 
     @Override
@@ -145,10 +166,17 @@ public class UserServiceImpl implements UserService {
         Set<Role> roleEntities = roleService.getRolesByNames(request.getRoles());
         user.setRoles(roleEntities);
         User savedUser = userRepository.save(user);
+        revokeIssuedTokens(savedUser.getId(), savedUser.getEmail());
 
         return userMapper.toResponse(savedUser);
     }
 
+    private void revokeIssuedTokens(UUID userId, String email) {
+        tokenRevocationRegistry.revokeIssuedTokens(userId, email);
+        verifiedTokenCache.invalidateUser(email);
+        referenceDataService.evictUserIdentity(email);
+    }
+
     private User findUserById(UUID id) {
         return userRepository.findByIdAndIsActiveTrue(id)
                 .orElseThrow(() -> new IllegalArgumentException(
@@ -162,8 +190,14 @@ public class UserServiceImpl implements UserService {
     }
 
     private Department findDepartmentById(Long id) {
-        return departmentRepository.findByIdAndIsActiveTrue(id)
+        return referenceDataService.findDepartment(id)
                 .orElseThrow(() -> new IllegalArgumentException(
                         ErrorMessages.DEPARTMENT_NOT_FOUND.formatted(id)));
     }
-} 
\ No newline at end of file
+
+    private CursorPage<UserResponse> toUserPage(List<User> users, CursorPageRequest pageRequest) {
+        return CursorPage.of(users, pageRequest,
+                user -> PageCursor.of(user.getCreatedAt(), user.getId()),
+                userMapper::toResponseList);
+    }
+}
@@ -6,8 +6,10 @@ import com.patikadev.definex.advancedtaskmanager.constant.SuccessMessages;
 import com.patikadev.definex.advancedtaskmanager.model.dto.common.ApiResponse;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.auth.LoginRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.attachment.CreateAttachmentRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.request.attachment.CreateUploadSessionRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.auth.AuthResponse;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Attachment;
+import com.patikadev.definex.advancedtaskmanager.model.entity.AttachmentBlob;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Department;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Project;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Role;
@@ -17,12 +19,14 @@ import com.patikadev.definex.advancedtaskmanager.model.enums.ProjectStatus;
 import com.patikadev.definex.advancedtaskmanager.model.enums.TaskPriority;
 import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
 import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
+import com.patikadev.definex.advancedtaskmanager.repository.AttachmentBlobRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.AttachmentRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.DepartmentRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.ProjectRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.RoleRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.TaskRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.UserRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -43,7 +47,9 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -66,6 +72,9 @@ public class AttachmentControllerTest {
     @Autowired
     private AttachmentRepository attachmentRepository;
 
+    @Autowired
+    private AttachmentBlobRepository attachmentBlobRepository;
+
     @Autowired
     private TaskRepository taskRepository;
 
@@ -84,11 +93,16 @@ public class AttachmentControllerTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Value("${application.file.upload-dir}")
     private String uploadDir;
 
     private static final String AUTH_URL = "/api/auth";
     private static final String BASE_URL = "/api/attachments";
+    private static final String TEST_FILE_CONTENT = "Test file content";
+    private static final String TEST_FILE_CONTENT_HASH = "6c76f7bd4b84eb68c26d2e8f48ea76f90b9bdf8836e27235a0ca4325f8fe4ce5";
     private User adminUser;
     private User regularUser;
     private Department testDepartment;
@@ -102,6 +116,7 @@ public class AttachmentControllerTest {
     @BeforeEach
     void setUp() throws IOException {
         attachmentRepository.deleteAll();
+        attachmentBlobRepository.deleteAll();
         taskRepository.deleteAll();
         projectRepository.deleteAll();
         userRepository.deleteAll();
@@ -121,7 +136,7 @@ public class AttachmentControllerTest {
 
         String uniqueFileName = "123456_test.pdf";
         Path testFilePath = attachmentDir.resolve(uniqueFileName);
-        Files.write(testFilePath, "Test file content".getBytes());
+        Files.write(testFilePath, TEST_FILE_CONTENT.getBytes());
 
         testAttachment = createTestAttachment(testFilePath);
 
@@ -154,6 +169,149 @@ public class AttachmentControllerTest {
                 .andExpect(jsonPath("$.data.contentType").value(testFile.getContentType()))
                 .andExpect(jsonPath("$.data.taskId").value(testTask.getId().toString()))
                 .andExpect(jsonPath("$.data.uploadedByUserId").value(regularUser.getId().toString()));
+
+        assertTrue(attachmentRepository.findAll().stream()
+                .filter(attachment -> !attachment.getId().equals(testAttachment.getId()))
+                .allMatch(attachment -> TEST_FILE_CONTENT_HASH.equals(attachment.getContentHash())));
+    }
+
+    @Test
+    @DisplayName("Upload File - Duplicate Content - Shares Single Blob")
+    void uploadFile_DuplicateContent_SharesSingleBlob() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(MockMvcRequestBuilders.multipart(BASE_URL + "/upload")
+                            .file(testFile)
+                            .param("taskId", testTask.getId().toString())
+                            .header("Authorization", "Bearer " + userToken))
+                    .andExpect(status().isOk());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Attachment> uploaded = attachmentRepository.findAll().stream()
+                .filter(attachment -> !attachment.getId().equals(testAttachment.getId()))
+                .toList();
+        AttachmentBlob blob = attachmentBlobRepository.findByContentHash(TEST_FILE_CONTENT_HASH).orElseThrow();
+
+        assertEquals(2, uploaded.size());
+        assertTrue(uploaded.stream().allMatch(attachment -> blob.getFilePath().equals(attachment.getFilePath())));
+        assertEquals(2, blob.getReferenceCount());
+        assertEquals(TEST_FILE_CONTENT, Files.readString(Paths.get(uploadDir).resolve(blob.getFilePath())));
+
+        mockMvc.perform(get(BASE_URL + "/download/" + uploaded.get(0).getId())
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(content().string(TEST_FILE_CONTENT));
+
+        mockMvc.perform(delete(BASE_URL + "/" + uploaded.get(0).getId())
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk());
+        entityManager.clear();
+
+        assertEquals(1, attachmentBlobRepository.findByContentHash(TEST_FILE_CONTENT_HASH).orElseThrow().getReferenceCount());
+    }
+
+    @Test
+    @DisplayName("Chunked Upload - Resumed Chunks - Commits Attachment")
+    void chunkedUpload_ResumedChunks_CommitsAttachment() throws Exception {
+        byte[] content = TEST_FILE_CONTENT.getBytes();
+        String sessionId = createUploadSession(content.length);
+
+        mockMvc.perform(put(BASE_URL + "/uploads/" + sessionId)
+                        .param("offset", "0")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(Arrays.copyOfRange(content, 0, 5))
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.receivedBytes").value(5));
+
+        mockMvc.perform(get(BASE_URL + "/uploads/" + sessionId)
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(SuccessMessages.UPLOAD_SESSION_FETCHED))
+                .andExpect(jsonPath("$.data.receivedBytes").value(5))
+                .andExpect(jsonPath("$.data.totalSize").value(content.length));
+
+        mockMvc.perform(put(BASE_URL + "/uploads/" + sessionId)
+                        .param("offset", "5")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(Arrays.copyOfRange(content, 5, content.length))
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.receivedBytes").value(content.length));
+
+        MvcResult result = mockMvc.perform(post(BASE_URL + "/uploads/" + sessionId + "/commit")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.httpStatus").value(201))
+                .andExpect(jsonPath("$.message").value(SuccessMessages.ATTACHMENT_UPLOADED))
+                .andExpect(jsonPath("$.data.fileName").value("large-spec.pdf"))
+                .andExpect(jsonPath("$.data.fileSize").value(content.length))
+                .andReturn();
+
+        long attachmentId = objectMapper.readTree(result.getResponse().getContentAsString()).path("data").path("id").asLong();
+        assertEquals(TEST_FILE_CONTENT_HASH, attachmentRepository.findById(attachmentId).orElseThrow().getContentHash());
+
+        mockMvc.perform(get(BASE_URL + "/download/" + attachmentId)
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(content().string(TEST_FILE_CONTENT));
+
+        mockMvc.perform(get(BASE_URL + "/uploads/" + sessionId)
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Chunked Upload - Offset Mismatch - Returns Conflict")
+    void chunkedUpload_OffsetMismatch_ReturnsConflict() throws Exception {
+        String sessionId = createUploadSession(TEST_FILE_CONTENT.length());
+
+        mockMvc.perform(put(BASE_URL + "/uploads/" + sessionId)
+                        .param("offset", "5")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(TEST_FILE_CONTENT.getBytes())
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.httpStatus").value(409));
+    }
+
+    @Test
+    @DisplayName("Chunked Upload - Incomplete Commit - Returns Conflict")
+    void chunkedUpload_IncompleteCommit_ReturnsConflict() throws Exception {
+        String sessionId = createUploadSession(TEST_FILE_CONTENT.length());
+
+        mockMvc.perform(post(BASE_URL + "/uploads/" + sessionId + "/commit")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("Chunked Upload - Other User - Returns Not Found")
+    void chunkedUpload_OtherUser_ReturnsNotFound() throws Exception {
+        String sessionId = createUploadSession(TEST_FILE_CONTENT.length());
+
+        mockMvc.perform(get(BASE_URL + "/uploads/" + sessionId)
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Chunked Upload - Abort - Closes Session")
+    void chunkedUpload_Abort_ClosesSession() throws Exception {
+        String sessionId = createUploadSession(TEST_FILE_CONTENT.length());
+
+        mockMvc.perform(delete(BASE_URL + "/uploads/" + sessionId)
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(SuccessMessages.UPLOAD_SESSION_ABORTED));
+
+        mockMvc.perform(put(BASE_URL + "/uploads/" + sessionId)
+                        .param("offset", "0")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(TEST_FILE_CONTENT.getBytes())
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isNotFound());
     }
 
     @Test
@@ -213,6 +371,90 @@ public class AttachmentControllerTest {
                 .andExpect(content().contentType(MediaType.parseMediaType(testAttachment.getContentType())));
     }
 
+    @Test
+    @DisplayName("Download File - Valid Id - Returns Full Content With Validators")
+    void downloadFile_ValidId_ReturnsFullContentWithValidators() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/download/" + testAttachment.getId())
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + TEST_FILE_CONTENT_HASH + "\""))
+                .andExpect(header().string("Accept-Ranges", "bytes"))
+                .andExpect(header().exists("Last-Modified"))
+                .andExpect(header().longValue("Content-Length", TEST_FILE_CONTENT.length()))
+                .andExpect(content().string(TEST_FILE_CONTENT));
+    }
+
+    @Test
+    @DisplayName("Download File - Matching If-None-Match - Returns Not Modified")
+    void downloadFile_MatchingIfNoneMatch_ReturnsNotModified() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/download/" + testAttachment.getId())
+                        .header("Authorization", "Bearer " + userToken)
+                        .header("If-None-Match", "\"" + TEST_FILE_CONTENT_HASH + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Download File - Single Range - Returns Partial Content")
+    void downloadFile_SingleRange_ReturnsPartialContent() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/download/" + testAttachment.getId())
+                        .header("Authorization", "Bearer " + userToken)
+                        .header("Range", "bytes=5-8"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 5-8/" + TEST_FILE_CONTENT.length()))
+                .andExpect(header().longValue("Content-Length", 4))
+                .andExpect(content().string("file"));
+    }
+
+    @Test
+    @DisplayName("Download File - Suffix Range - Returns Last Bytes")
+    void downloadFile_SuffixRange_ReturnsLastBytes() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/download/" + testAttachment.getId())
+                        .header("Authorization", "Bearer " + userToken)
+                        .header("Range", "bytes=-7"))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string("content"));
+    }
+
+    @Test
+    @DisplayName("Download File - Multiple Ranges - Returns Multipart Byteranges")
+    void downloadFile_MultipleRanges_ReturnsMultipartByteranges() throws Exception {
+        MvcResult result = mockMvc.perform(get(BASE_URL + "/download/" + testAttachment.getId())
+                        .header("Authorization", "Bearer " + userToken)
+                        .header("Range", "bytes=0-3,10-16"))
+                .andExpect(status().isPartialContent())
+                .andReturn();
+
+        String contentType = result.getResponse().getContentType();
+        assertNotNull(contentType);
+        assertTrue(contentType.startsWith("multipart/byteranges; boundary="));
+
+        String body = result.getResponse().getContentAsString();
+        assertTrue(body.contains("Content-Range: bytes 0-3/" + TEST_FILE_CONTENT.length() + "\r\n\r\nTest"));
+        assertTrue(body.contains("Content-Range: bytes 10-16/" + TEST_FILE_CONTENT.length() + "\r\n\r\ncontent"));
+    }
+
+    @Test
+    @DisplayName("Download File - Stale If-Range - Returns Full Content")
+    void downloadFile_StaleIfRange_ReturnsFullContent() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/download/" + testAttachment.getId())
+                        .header("Authorization", "Bearer " + userToken)
+                        .header("Range", "bytes=0-3")
+                        .header("If-Range", "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(content().string(TEST_FILE_CONTENT));
+    }
+
+    @Test
+    @DisplayName("Download File - Unsatisfiable Range - Returns Range Not Satisfiable")
+    void downloadFile_UnsatisfiableRange_ReturnsRangeNotSatisfiable() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/download/" + testAttachment.getId())
+                        .header("Authorization", "Bearer " + userToken)
+                        .header("Range", "bytes=100-200"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string("Content-Range", "bytes */" + TEST_FILE_CONTENT.length()));
+    }
+
     @Test
     @DisplayName("Download File - Invalid Id - Returns Not Found")
     void downloadFile_InvalidId_ReturnsNotFound() throws Exception {
@@ -301,6 +543,26 @@ public class AttachmentControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    private String createUploadSession(long totalSize) throws Exception {
+        CreateUploadSessionRequest request = new CreateUploadSessionRequest();
+        request.setTaskId(testTask.getId());
+        request.setFileName("large-spec.pdf");
+        request.setContentType(MediaType.APPLICATION_PDF_VALUE);
+        request.setTotalSize(totalSize);
+
+        MvcResult result = mockMvc.perform(post(BASE_URL + "/uploads")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.httpStatus").value(201))
+                .andExpect(jsonPath("$.message").value(SuccessMessages.UPLOAD_SESSION_CREATED))
+                .andExpect(jsonPath("$.data.receivedBytes").value(0))
+                .andReturn();
+
+        return objectMapper.readTree(result.getResponse().getContentAsString()).path("data").path("id").asText();
+    }
+
     private Department createTestDepartment() {
         Department department = new Department();
         department.setName("Test Department");
@@ -368,6 +630,7 @@ public class AttachmentControllerTest {
 
         attachment.setFileSize(1024L);
         attachment.setContentType("application/pdf");
+        attachment.setContentHash(TEST_FILE_CONTENT_HASH);
         attachment.setTask(testTask);
         attachment.setUploadedByUser(regularUser);
         attachment.setIsActive(true);
@@ -1,11 +1,13 @@
 package com.patikadev.definex.advancedtaskmanager.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.patikadev.definex.advancedtaskmanager.constant.SecurityConstants;
 import com.patikadev.definex.advancedtaskmanager.constant.SuccessMessages;
 import com.patikadev.definex.advancedtaskmanager.model.dto.common.ApiResponse;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.auth.LoginRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.auth.RefreshTokenRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.auth.RegisterRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.request.user.UpdateUserRolesRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.auth.AuthResponse;
 import com.patikadev.definex.advancedtaskmanager.model.entity.RefreshToken;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Role;
@@ -14,6 +16,9 @@ import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
 import com.patikadev.definex.advancedtaskmanager.repository.RefreshTokenRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.RoleRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.UserRepository;
+import com.patikadev.definex.advancedtaskmanager.security.jwt.JwtTokenProvider;
+import com.patikadev.definex.advancedtaskmanager.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -61,6 +66,15 @@ public class AuthControllerTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private static final String BASE_URL = "/api/auth";
     private User testUser;
     private RegisterRequest registerRequest;
@@ -162,6 +176,97 @@ public class AuthControllerTest {
                 .andExpect(jsonPath("$.data.email").value(testUser.getEmail()));
     }
 
+    @Test
+    @DisplayName("Login - Valid Credentials - Access Token Carries Identity Claims")
+    void login_ValidCredentials_AccessTokenCarriesIdentityClaims() throws Exception {
+        AuthResponse authResponse = login();
+
+        String userIdClaim = jwtTokenProvider.getClaimFromToken(authResponse.getAccessToken(),
+                claims -> claims.get(SecurityConstants.JWT_USER_ID_KEY, String.class));
+        String authoritiesClaim = jwtTokenProvider.getClaimFromToken(authResponse.getAccessToken(),
+                claims -> claims.get(SecurityConstants.JWT_AUTHORITIES_KEY, String.class));
+
+        assertEquals(testUser.getId().toString(), userIdClaim);
+        assertEquals("ROLE_PROJECT_MANAGER", authoritiesClaim);
+    }
+
+    @Test
+    @DisplayName("Get Current User - Roles Updated - Old Token Rejected And Refreshed Token Accepted")
+    void getCurrentUser_RolesUpdated_OldTokenRejectedAndRefreshedTokenAccepted() throws Exception {
+        AuthResponse authResponse = login();
+
+        UpdateUserRolesRequest updateUserRolesRequest = new UpdateUserRolesRequest();
+        updateUserRolesRequest.setRoles(Set.of(UserRole.TEAM_LEADER));
+        userService.updateUserRoles(testUser.getId(), updateUserRolesRequest);
+
+        mockMvc.perform(get(BASE_URL + "/me")
+                        .header("Authorization", "Bearer " + authResponse.getAccessToken()))
+                .andExpect(status().isUnauthorized());
+
+        MvcResult refreshResult = mockMvc.perform(post(BASE_URL + "/refresh-token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new RefreshTokenRequest(authResponse.getRefreshToken()))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String refreshedAccessToken = readAuthResponse(refreshResult).getAccessToken();
+
+        mockMvc.perform(get(BASE_URL + "/me")
+                        .header("Authorization", "Bearer " + refreshedAccessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.roles[0]").value(UserRole.TEAM_LEADER.name()));
+    }
+
+    @Test
+    @DisplayName("Get Current User - Repeated Requests - Served From Verified Token Cache")
+    void getCurrentUser_RepeatedRequests_ServedFromVerifiedTokenCache() throws Exception {
+        AuthResponse authResponse = login();
+        double hitsBefore = verifiedTokenCacheGets("hit");
+        double missesBefore = verifiedTokenCacheGets("miss");
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get(BASE_URL + "/me")
+                            .header("Authorization", "Bearer " + authResponse.getAccessToken()))
+                    .andExpect(status().isOk());
+        }
+
+        assertEquals(missesBefore + 1, verifiedTokenCacheGets("miss"));
+        assertEquals(hitsBefore + 2, verifiedTokenCacheGets("hit"));
+    }
+
+    @Test
+    @DisplayName("Logout - Authenticated - Rejects Only The Presented Token")
+    void logout_Authenticated_RejectsOnlyPresentedToken() throws Exception {
+        AuthResponse authResponse = login();
+        AuthResponse otherSession = login();
+
+        mockMvc.perform(get(BASE_URL + "/me")
+                        .header("Authorization", "Bearer " + authResponse.getAccessToken()))
+                .andExpect(status().isOk());
+        mockMvc.perform(post(BASE_URL + "/logout")
+                        .header("Authorization", "Bearer " + authResponse.getAccessToken()))
+                .andExpect(status().isOk());
+
+        double missesBefore = verifiedTokenCacheGets("miss");
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get(BASE_URL + "/me")
+                            .header("Authorization", "Bearer " + authResponse.getAccessToken()))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        assertEquals(missesBefore + 2, verifiedTokenCacheGets("miss"));
+
+        mockMvc.perform(get(BASE_URL + "/me")
+                        .header("Authorization", "Bearer " + otherSession.getAccessToken()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(BASE_URL + "/me")
+                        .header("Authorization", "Bearer " + login().getAccessToken()))
+                .andExpect(status().isOk());
+    }
+
     @Test
     @DisplayName("Get Current User - Unauthenticated - Returns Unauthorized")
     void getCurrentUser_Unauthenticated_ReturnsUnauthorized() throws Exception {
@@ -244,6 +349,30 @@ public class AuthControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    private AuthResponse login() throws Exception {
+        MvcResult loginResult = mockMvc.perform(post(BASE_URL + "/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        return readAuthResponse(loginResult);
+    }
+
+    private double verifiedTokenCacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", SecurityConstants.VERIFIED_TOKEN_CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private AuthResponse readAuthResponse(MvcResult result) throws Exception {
+        ApiResponse<AuthResponse> apiResponse = objectMapper.readValue(result.getResponse().getContentAsString(),
+                objectMapper.getTypeFactory().constructParametricType(ApiResponse.class, AuthResponse.class));
+        return apiResponse.getData();
+    }
+
     private User createTestUser() {
         Role role = roleRepository.findByName(UserRole.PROJECT_MANAGER)
                 .orElseGet(() -> {
@@ -1,6 +1,7 @@
 package com.patikadev.definex.advancedtaskmanager.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.patikadev.definex.advancedtaskmanager.constant.MetricConstants;
 import com.patikadev.definex.advancedtaskmanager.constant.SuccessMessages;
 import com.patikadev.definex.advancedtaskmanager.model.dto.common.ApiResponse;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.auth.LoginRequest;
@@ -14,12 +15,14 @@ import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
 import com.patikadev.definex.advancedtaskmanager.repository.DepartmentRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.RoleRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
@@ -33,6 +36,7 @@ import java.util.Set;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -60,6 +64,9 @@ public class DepartmentControllerTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private static final String AUTH_URL = "/api/auth";
     private static final String BASE_URL = "/api/departments";
     private Department testDepartment;
@@ -180,6 +187,33 @@ public class DepartmentControllerTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    @DisplayName("Update Department - Stale If-Match - Returns Conflict With Current Department")
+    void updateDepartment_StaleIfMatch_ReturnsConflictWithCurrentDepartment() throws Exception {
+        String ifMatch = "\"" + testDepartment.getVersion() + "\"";
+        UpdateDepartmentRequest request = new UpdateDepartmentRequest();
+        request.setDescription("Updated Description");
+
+        mockMvc.perform(put(BASE_URL + "/" + testDepartment.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header("Authorization", "Bearer " + adminToken)
+                        .header(HttpHeaders.IF_MATCH, ifMatch))
+                .andExpect(status().isOk());
+
+        request.setDescription("Stale Description");
+
+        mockMvc.perform(put(BASE_URL + "/" + testDepartment.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header("Authorization", "Bearer " + adminToken)
+                        .header(HttpHeaders.IF_MATCH, ifMatch))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.httpStatus").value(409))
+                .andExpect(jsonPath("$.data.description").value("Updated Description"))
+                .andExpect(jsonPath("$.data.version").value(testDepartment.getVersion()));
+    }
+
     @Test
     @DisplayName("Update Department - Regular User Access - Returns Forbidden")
     void updateDepartment_RegularUserAccess_ReturnsForbidden() throws Exception {
@@ -207,6 +241,52 @@ public class DepartmentControllerTest {
                 .andExpect(jsonPath("$.data.description").value(testDepartment.getDescription()));
     }
 
+    @Test
+    @DisplayName("Get Department By Id - Matching ETag - Returns Not Modified Until Department Changes")
+    void getDepartmentById_MatchingETag_ReturnsNotModifiedUntilDepartmentChanges() throws Exception {
+        MvcResult result = mockMvc.perform(get(BASE_URL + "/" + testDepartment.getId())
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn();
+        String etag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(BASE_URL + "/" + testDepartment.getId())
+                        .header("Authorization", "Bearer " + adminToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        testDepartment.setDescription("Updated Description");
+        departmentRepository.saveAndFlush(testDepartment);
+
+        mockMvc.perform(get(BASE_URL + "/" + testDepartment.getId())
+                        .header("Authorization", "Bearer " + adminToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$.data.description").value("Updated Description"));
+    }
+
+    @Test
+    @DisplayName("Get Department By Id - Admin Access - Records Service, Repository And Token Timers")
+    void getDepartmentById_AdminAccess_RecordsServiceRepositoryAndTokenTimers() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/" + testDepartment.getId())
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk());
+
+        assertTrue(meterRegistry.get(MetricConstants.SERVICE_METHOD)
+                .tag(MetricConstants.TAG_CLASS, "DepartmentServiceImpl")
+                .tag(MetricConstants.TAG_METHOD, "getDepartmentById")
+                .tag(MetricConstants.TAG_OUTCOME, MetricConstants.OUTCOME_SUCCESS)
+                .timer().count() > 0);
+        assertTrue(meterRegistry.get("spring.data.repository.invocations")
+                .tag("repository", "DepartmentRepository")
+                .timer().count() > 0);
+        assertTrue(meterRegistry.get(MetricConstants.JWT_VALIDATION).timers().stream()
+                .mapToLong(timer -> timer.count()).sum() > 0);
+        assertNotNull(meterRegistry.find("hikaricp.connections.active").gauge());
+    }
+
     @Test
     @DisplayName("Get Department By Id - Project Manager Access - Returns Department Detail")
     void getDepartmentById_ManagerAccess_ReturnsDepartmentDetail() throws Exception {
@@ -11,19 +11,27 @@ import com.patikadev.definex.advancedtaskmanager.model.dto.response.auth.AuthRes
 import com.patikadev.definex.advancedtaskmanager.model.entity.Department;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Project;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Role;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Task;
 import com.patikadev.definex.advancedtaskmanager.model.entity.User;
 import com.patikadev.definex.advancedtaskmanager.model.enums.ProjectStatus;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskPriority;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
 import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
 import com.patikadev.definex.advancedtaskmanager.repository.DepartmentRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.ProjectRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.RoleRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.TaskRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
@@ -31,13 +39,16 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -65,9 +76,15 @@ public class ProjectControllerTest {
     @Autowired
     private RoleRepository roleRepository;
 
+    @Autowired
+    private TaskRepository taskRepository;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private static final String AUTH_URL = "/api/auth";
     private static final String BASE_URL = "/api/projects";
     private Department testDepartment;
@@ -238,6 +255,31 @@ public class ProjectControllerTest {
                 .andExpect(jsonPath("$.data.teamMembers", hasSize(1)));
     }
 
+    @Test
+    @DisplayName("Get Project By Id - Matching ETag - Returns Not Modified Until A Task Is Added")
+    void getProjectById_MatchingETag_ReturnsNotModifiedUntilATaskIsAdded() throws Exception {
+        MvcResult result = mockMvc.perform(get(BASE_URL + "/" + testProject.getId())
+                        .header("Authorization", "Bearer " + managerToken))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn();
+        String etag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(BASE_URL + "/" + testProject.getId())
+                        .header("Authorization", "Bearer " + managerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        taskRepository.saveAndFlush(createTask(testProject, TaskState.IN_PROGRESS));
+
+        mockMvc.perform(get(BASE_URL + "/" + testProject.getId())
+                        .header("Authorization", "Bearer " + managerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$.data.totalTasks").value(1));
+    }
+
     @Test
     @DisplayName("Get Project By Id - Unauthenticated User - Returns Unauthorized")
     void getProjectById_UnauthenticatedUser_ReturnsUnauthorized() throws Exception {
@@ -323,6 +365,29 @@ public class ProjectControllerTest {
                 .andExpect(jsonPath("$.message").value(SuccessMessages.TEAM_MEMBER_ADDED));
     }
 
+    @Test
+    @DisplayName("Add Team Member - Stale If-Match - Returns Conflict With Current Project")
+    void addTeamMember_StaleIfMatch_ReturnsConflictWithCurrentProject() throws Exception {
+        String ifMatch = "\"" + testProject.getVersion() + "\"";
+
+        mockMvc.perform(post(BASE_URL + "/" + testProject.getId() + "/team-members/" + regularUser.getId())
+                        .header("Authorization", "Bearer " + adminToken)
+                        .header(HttpHeaders.IF_MATCH, ifMatch))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.version").value(testProject.getVersion()));
+
+        mockMvc.perform(put(BASE_URL + "/" + testProject.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateProjectRequest()))
+                        .header("Authorization", "Bearer " + adminToken)
+                        .header(HttpHeaders.IF_MATCH, ifMatch))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value("ERROR"))
+                .andExpect(jsonPath("$.httpStatus").value(409))
+                .andExpect(jsonPath("$.data.id").value(testProject.getId().toString()))
+                .andExpect(jsonPath("$.data.version").value(testProject.getVersion()));
+    }
+
     @Test
     @DisplayName("Add Team Member - Regular User Access - Returns Forbidden")
     void addTeamMember_RegularUserAccess_ReturnsForbidden() throws Exception {
@@ -401,6 +466,80 @@ public class ProjectControllerTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    @DisplayName("Get All Projects - Admin Access - Returns Aggregated Task Counters")
+    void getAllProjects_Admin_Access_ReturnsAggregatedTaskCounters() throws Exception {
+        Project projectWithTasks = createProjectsWithTasks(1).get(0);
+
+        mockMvc.perform(get(BASE_URL + "/" + projectWithTasks.getId())
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalTasks").value(2))
+                .andExpect(jsonPath("$.data.completedTasks").value(1));
+
+        mockMvc.perform(get(BASE_URL)
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[?(@.id == '%s')].totalTasks".formatted(projectWithTasks.getId())).value(2))
+                .andExpect(jsonPath("$.data[?(@.id == '%s')].completedTasks".formatted(projectWithTasks.getId())).value(1));
+    }
+
+    @Test
+    @DisplayName("Get All Projects - Admin Access - Statement Count Independent Of Project Count")
+    void getAllProjects_Admin_Access_StatementCountIndependentOfProjectCount() throws Exception {
+        createProjectsWithTasks(3);
+        long smallStatementCount = countStatementsForGetAllProjects(4);
+
+        createProjectsWithTasks(15);
+        long largeStatementCount = countStatementsForGetAllProjects(19);
+
+        assertEquals(smallStatementCount, largeStatementCount);
+    }
+
+    private long countStatementsForGetAllProjects(int expectedProjectCount) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        mockMvc.perform(get(BASE_URL)
+                        .param("size", "50")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(expectedProjectCount)));
+
+        long statementCount = statistics.getPrepareStatementCount();
+        statistics.setStatisticsEnabled(false);
+        return statementCount;
+    }
+
+    private List<Project> createProjectsWithTasks(int count) {
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Project project = createTestProject(testDepartment, new HashSet<>());
+            taskRepository.save(createTask(project, TaskState.IN_PROGRESS));
+            taskRepository.save(createTask(project, TaskState.COMPLETED));
+            projects.add(project);
+        }
+        return projects;
+    }
+
+    private Task createTask(Project project, TaskState state) {
+        Task task = new Task();
+        task.setTitle("Counter Task " + UUID.randomUUID().toString().substring(0, 8));
+        task.setUserStory("As a manager, I want task counters");
+        task.setAcceptanceCriteria("Counters are aggregated");
+        task.setState(state);
+        task.setPriority(TaskPriority.MEDIUM);
+        task.setProject(project);
+        task.setIsActive(true);
+        return task;
+    }
+
     private Department createTestDepartment() {
         Department department = new Department();
         department.setName("IT Department");
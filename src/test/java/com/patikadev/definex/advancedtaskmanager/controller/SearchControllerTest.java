@@ -0,0 +1,267 @@
+package com.patikadev.definex.advancedtaskmanager.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.patikadev.definex.advancedtaskmanager.constant.SuccessMessages;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.ApiResponse;
+import com.patikadev.definex.advancedtaskmanager.model.dto.request.auth.LoginRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.auth.AuthResponse;
+import com.patikadev.definex.advancedtaskmanager.model.entity.*;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskPriority;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
+import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
+import com.patikadev.definex.advancedtaskmanager.repository.*;
+import com.patikadev.definex.advancedtaskmanager.service.impl.TaskSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+public class SearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private static final String AUTH_URL = "/api/auth";
+    private static final String BASE_URL = "/api/search";
+
+    private User adminUser;
+    private Department testDepartment;
+    private Project testProject;
+    private String adminToken;
+    private String otherDepartmentLeaderToken;
+
+    @BeforeEach
+    void setUp() {
+        commentRepository.deleteAll();
+        userRepository.deleteAll();
+        taskRepository.deleteAll();
+        projectRepository.deleteAll();
+        departmentRepository.deleteAll();
+
+        testDepartment = createDepartment("IT Department");
+        Department otherDepartment = createDepartment("HR Department");
+        adminUser = createUser("admin@example.com", UserRole.ADMIN, testDepartment);
+        User otherDepartmentLeader = createUser("leader@example.com", UserRole.TEAM_LEADER, otherDepartment);
+
+        adminToken = getAuthToken(createLoginRequest(adminUser.getEmail()));
+        otherDepartmentLeaderToken = getAuthToken(createLoginRequest(otherDepartmentLeader.getEmail()));
+
+        testProject = createProject();
+    }
+
+    @Test
+    @DisplayName("Search Tasks - Matching Title And Comment - Ranks Title Match First")
+    void searchTasks_MatchingTitleAndComment_RanksTitleMatchFirst() throws Exception {
+        Task titleMatch = createTask("Invoice export", "As a user, I want to download reports");
+        Task commentMatch = createTask("Login page", "As a user, I want to sign in");
+        createComment(commentMatch, "The invoice link on this page is broken");
+        createTask("Profile settings", "As a user, I want to edit my profile");
+        taskSearchIndex.rebuild();
+
+        mockMvc.perform(get(BASE_URL + "/tasks")
+                        .param("q", "invoice")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(SuccessMessages.TASK_SEARCH_COMPLETED))
+                .andExpect(jsonPath("$.data", hasSize(2)))
+                .andExpect(jsonPath("$.data[0].taskId").value(titleMatch.getId().toString()))
+                .andExpect(jsonPath("$.data[0].projectId").value(testProject.getId().toString()))
+                .andExpect(jsonPath("$.data[1].taskId").value(commentMatch.getId().toString()));
+    }
+
+    @Test
+    @DisplayName("Search Tasks - Multiple Terms - Requires Every Term")
+    void searchTasks_MultipleTerms_RequiresEveryTerm() throws Exception {
+        Task match = createTask("Invoice export", "As an accountant, I want monthly totals");
+        createTask("Invoice import", "As a clerk, I want to upload files");
+        taskSearchIndex.rebuild();
+
+        mockMvc.perform(get(BASE_URL + "/tasks")
+                        .param("q", "invoice accountant")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.data[0].taskId").value(match.getId().toString()));
+    }
+
+    @Test
+    @DisplayName("Search Tasks - Reindexed Deleted Task - Is No Longer Returned")
+    void searchTasks_ReindexedDeletedTask_IsNoLongerReturned() throws Exception {
+        Task task = createTask("Invoice export", "As a user, I want to download reports");
+        taskSearchIndex.rebuild();
+
+        task.setIsActive(false);
+        taskRepository.save(task);
+        taskSearchIndex.reindex(List.of(task.getId()));
+
+        mockMvc.perform(get(BASE_URL + "/tasks")
+                        .param("q", "invoice")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("Search Tasks - Other Department User - Returns No Hits")
+    void searchTasks_OtherDepartmentUser_ReturnsNoHits() throws Exception {
+        createTask("Invoice export", "As a user, I want to download reports");
+        taskSearchIndex.rebuild();
+
+        mockMvc.perform(get(BASE_URL + "/tasks")
+                        .param("q", "invoice")
+                        .header("Authorization", "Bearer " + otherDepartmentLeaderToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("Search Tasks - Blank Query - Returns Bad Request")
+    void searchTasks_BlankQuery_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/tasks")
+                        .param("q", " ")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Rebuild Task Index - Non Admin User - Returns Forbidden")
+    void rebuildTaskIndex_NonAdminUser_ReturnsForbidden() throws Exception {
+        mockMvc.perform(post(BASE_URL + "/tasks/rebuild")
+                        .header("Authorization", "Bearer " + otherDepartmentLeaderToken))
+                .andExpect(status().isForbidden());
+    }
+
+    private User createUser(String email, UserRole userRole, Department department) {
+        Role role = roleRepository.findByName(userRole)
+                .orElseGet(() -> {
+                    Role newRole = new Role();
+                    newRole.setName(userRole);
+                    return roleRepository.save(newRole);
+                });
+
+        Set<Role> roles = new HashSet<>();
+        roles.add(role);
+
+        User user = new User();
+        user.setFirstName("Test");
+        user.setLastName("User");
+        user.setEmail(email);
+        user.setPassword(passwordEncoder.encode("Password123!"));
+        user.setDepartment(department);
+        user.setRoles(roles);
+        user.setIsActive(true);
+
+        return userRepository.save(user);
+    }
+
+    private Department createDepartment(String name) {
+        Department department = new Department();
+        department.setName(name);
+        department.setDescription(name + " Description");
+        department.setIsActive(true);
+        return departmentRepository.save(department);
+    }
+
+    private Project createProject() {
+        Project project = new Project();
+        project.setTitle("Test Project");
+        project.setDescription("Test Project Description");
+        project.setDepartment(testDepartment);
+        project.setIsActive(true);
+        return projectRepository.save(project);
+    }
+
+    private Task createTask(String title, String userStory) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setUserStory(userStory);
+        task.setAcceptanceCriteria("The feature works as described");
+        task.setState(TaskState.BACKLOG);
+        task.setPriority(TaskPriority.MEDIUM);
+        task.setProject(testProject);
+        task.setIsActive(true);
+        return taskRepository.save(task);
+    }
+
+    private void createComment(Task task, String content) {
+        Comment comment = new Comment();
+        comment.setContent(content);
+        comment.setTask(task);
+        comment.setUser(adminUser);
+        comment.setIsActive(true);
+        commentRepository.save(comment);
+    }
+
+    private LoginRequest createLoginRequest(String email) {
+        LoginRequest request = new LoginRequest();
+        request.setEmail(email);
+        request.setPassword("Password123!");
+        return request;
+    }
+
+    private String getAuthToken(LoginRequest loginRequest) {
+        try {
+            MvcResult result = mockMvc.perform(post(AUTH_URL + "/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(loginRequest)))
+                    .andReturn();
+
+            String responseContent = result.getResponse().getContentAsString();
+            ApiResponse<AuthResponse> response = objectMapper.readValue(responseContent,
+                    objectMapper.getTypeFactory().constructParametricType(ApiResponse.class, AuthResponse.class));
+
+            return response.getData().getAccessToken();
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to get auth token", e);
+        }
+    }
+}
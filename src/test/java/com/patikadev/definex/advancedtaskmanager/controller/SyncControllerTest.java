@@ -0,0 +1,313 @@
+package com.patikadev.definex.advancedtaskmanager.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
+import com.patikadev.definex.advancedtaskmanager.constant.SuccessMessages;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.ApiResponse;
+import com.patikadev.definex.advancedtaskmanager.model.dto.request.auth.LoginRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.auth.AuthResponse;
+import com.patikadev.definex.advancedtaskmanager.model.entity.*;
+import com.patikadev.definex.advancedtaskmanager.model.enums.SyncEntityType;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskPriority;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
+import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
+import com.patikadev.definex.advancedtaskmanager.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+public class SyncControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private static final String AUTH_URL = "/api/auth";
+    private static final String BASE_URL = "/api/sync";
+
+    private User adminUser;
+    private Department testDepartment;
+    private Project testProject;
+    private String adminToken;
+    private String otherDepartmentLeaderToken;
+
+    @BeforeEach
+    void setUp() {
+        attachmentRepository.deleteAll();
+        commentRepository.deleteAll();
+        userRepository.deleteAll();
+        taskRepository.deleteAll();
+        projectRepository.deleteAll();
+        departmentRepository.deleteAll();
+
+        testDepartment = createDepartment("IT Department");
+        Department otherDepartment = createDepartment("HR Department");
+        adminUser = createUser("admin@example.com", UserRole.ADMIN, testDepartment);
+        User otherDepartmentLeader = createUser("leader@example.com", UserRole.TEAM_LEADER, otherDepartment);
+
+        adminToken = getAuthToken(createLoginRequest(adminUser.getEmail()));
+        otherDepartmentLeaderToken = getAuthToken(createLoginRequest(otherDepartmentLeader.getEmail()));
+
+        testProject = createProject();
+    }
+
+    @Test
+    @DisplayName("Get Changes - Initial Sync - Returns Active Rows Without Tombstones")
+    void getChanges_InitialSync_ReturnsActiveRowsWithoutTombstones() throws Exception {
+        Task task = createTask("Invoice export");
+        Task deletedTask = createTask("Legacy report");
+        deletedTask.setIsActive(false);
+        taskRepository.saveAndFlush(deletedTask);
+        Comment comment = createComment(task, "Looks good");
+        Attachment attachment = createAttachment(task);
+
+        mockMvc.perform(get(BASE_URL)
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(SuccessMessages.SYNC_CHANGES_RETRIEVED))
+                .andExpect(jsonPath("$.data.tasks", hasSize(1)))
+                .andExpect(jsonPath("$.data.tasks[0].id").value(task.getId().toString()))
+                .andExpect(jsonPath("$.data.tasks[0].projectId").value(testProject.getId().toString()))
+                .andExpect(jsonPath("$.data.comments", hasSize(1)))
+                .andExpect(jsonPath("$.data.comments[0].id").value(comment.getId()))
+                .andExpect(jsonPath("$.data.attachments", hasSize(1)))
+                .andExpect(jsonPath("$.data.attachments[0].id").value(attachment.getId()))
+                .andExpect(jsonPath("$.data.attachments[0].fileName").value("report.pdf"))
+                .andExpect(jsonPath("$.data.tombstones", hasSize(0)))
+                .andExpect(jsonPath("$.data.hasMore").value(false));
+    }
+
+    @Test
+    @DisplayName("Get Changes - Since Watermark - Returns Only Later Changes And Tombstones")
+    void getChanges_SinceWatermark_ReturnsOnlyLaterChangesAndTombstones() throws Exception {
+        Task unchangedTask = createTask("Invoice export");
+        Task updatedTask = createTask("Login page");
+        Comment deletedComment = createComment(unchangedTask, "Looks good");
+        String watermark = getInitialWatermark(adminToken);
+
+        updatedTask.setTitle("Login page redesign");
+        taskRepository.saveAndFlush(updatedTask);
+        deletedComment.setIsActive(false);
+        commentRepository.saveAndFlush(deletedComment);
+        Comment newComment = createComment(updatedTask, "Started working on it");
+
+        mockMvc.perform(get(BASE_URL)
+                        .param("since", watermark)
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.tasks", hasSize(1)))
+                .andExpect(jsonPath("$.data.tasks[0].id").value(updatedTask.getId().toString()))
+                .andExpect(jsonPath("$.data.tasks[0].title").value("Login page redesign"))
+                .andExpect(jsonPath("$.data.comments", hasSize(1)))
+                .andExpect(jsonPath("$.data.comments[0].id").value(newComment.getId()))
+                .andExpect(jsonPath("$.data.attachments", hasSize(0)))
+                .andExpect(jsonPath("$.data.tombstones", hasSize(1)))
+                .andExpect(jsonPath("$.data.tombstones[0].type").value(SyncEntityType.COMMENT.name()))
+                .andExpect(jsonPath("$.data.tombstones[0].id").value(deletedComment.getId().toString()));
+    }
+
+    @Test
+    @DisplayName("Get Changes - Limit Reached - Continues From Returned Watermark")
+    void getChanges_LimitReached_ContinuesFromReturnedWatermark() throws Exception {
+        createTask("First task");
+        createTask("Second task");
+        createTask("Third task");
+
+        MvcResult firstPage = mockMvc.perform(get(BASE_URL)
+                        .param("limit", "2")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.tasks", hasSize(2)))
+                .andExpect(jsonPath("$.data.hasMore").value(true))
+                .andReturn();
+        String watermark = objectMapper.readTree(firstPage.getResponse().getContentAsString())
+                .path("data").path("watermark").asText();
+
+        mockMvc.perform(get(BASE_URL)
+                        .param("since", watermark)
+                        .param("limit", "2")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.tasks", hasSize(1)))
+                .andExpect(jsonPath("$.data.tasks[0].title").value("Third task"))
+                .andExpect(jsonPath("$.data.hasMore").value(false));
+    }
+
+    @Test
+    @DisplayName("Get Changes - Other Department User - Returns No Changes")
+    void getChanges_OtherDepartmentUser_ReturnsNoChanges() throws Exception {
+        Task task = createTask("Invoice export");
+        createComment(task, "Looks good");
+
+        mockMvc.perform(get(BASE_URL)
+                        .header("Authorization", "Bearer " + otherDepartmentLeaderToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.tasks", hasSize(0)))
+                .andExpect(jsonPath("$.data.comments", hasSize(0)))
+                .andExpect(jsonPath("$.data.tombstones", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("Get Changes - Malformed Watermark - Returns Bad Request")
+    void getChanges_MalformedWatermark_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get(BASE_URL)
+                        .param("since", "not-a-watermark")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorMessages.INVALID_SYNC_WATERMARK));
+    }
+
+    private String getInitialWatermark(String token) throws Exception {
+        MvcResult result = mockMvc.perform(get(BASE_URL)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString())
+                .path("data").path("watermark").asText();
+    }
+
+    private User createUser(String email, UserRole userRole, Department department) {
+        Role role = roleRepository.findByName(userRole)
+                .orElseGet(() -> {
+                    Role newRole = new Role();
+                    newRole.setName(userRole);
+                    return roleRepository.save(newRole);
+                });
+
+        Set<Role> roles = new HashSet<>();
+        roles.add(role);
+
+        User user = new User();
+        user.setFirstName("Test");
+        user.setLastName("User");
+        user.setEmail(email);
+        user.setPassword(passwordEncoder.encode("Password123!"));
+        user.setDepartment(department);
+        user.setRoles(roles);
+        user.setIsActive(true);
+
+        return userRepository.save(user);
+    }
+
+    private Department createDepartment(String name) {
+        Department department = new Department();
+        department.setName(name);
+        department.setDescription(name + " Description");
+        department.setIsActive(true);
+        return departmentRepository.save(department);
+    }
+
+    private Project createProject() {
+        Project project = new Project();
+        project.setTitle("Test Project");
+        project.setDescription("Test Project Description");
+        project.setDepartment(testDepartment);
+        project.setIsActive(true);
+        return projectRepository.save(project);
+    }
+
+    private Task createTask(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setUserStory("As a user, I want " + title.toLowerCase());
+        task.setAcceptanceCriteria("The feature works as described");
+        task.setState(TaskState.BACKLOG);
+        task.setPriority(TaskPriority.MEDIUM);
+        task.setProject(testProject);
+        task.setIsActive(true);
+        return taskRepository.saveAndFlush(task);
+    }
+
+    private Comment createComment(Task task, String content) {
+        Comment comment = new Comment();
+        comment.setContent(content);
+        comment.setTask(task);
+        comment.setUser(adminUser);
+        comment.setIsActive(true);
+        return commentRepository.saveAndFlush(comment);
+    }
+
+    private Attachment createAttachment(Task task) {
+        Attachment attachment = new Attachment();
+        attachment.setFileName("report.pdf");
+        attachment.setFilePath("task-attachments/report.pdf");
+        attachment.setFileSize(1024L);
+        attachment.setContentType("application/pdf");
+        attachment.setTask(task);
+        attachment.setUploadedByUser(adminUser);
+        attachment.setIsActive(true);
+        return attachmentRepository.saveAndFlush(attachment);
+    }
+
+    private LoginRequest createLoginRequest(String email) {
+        LoginRequest request = new LoginRequest();
+        request.setEmail(email);
+        request.setPassword("Password123!");
+        return request;
+    }
+
+    private String getAuthToken(LoginRequest loginRequest) {
+        try {
+            MvcResult result = mockMvc.perform(post(AUTH_URL + "/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(loginRequest)))
+                    .andReturn();
+
+            String responseContent = result.getResponse().getContentAsString();
+            ApiResponse<AuthResponse> response = objectMapper.readValue(responseContent,
+                    objectMapper.getTypeFactory().constructParametricType(ApiResponse.class, AuthResponse.class));
+
+            return response.getData().getAccessToken();
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to get auth token", e);
+        }
+    }
+}
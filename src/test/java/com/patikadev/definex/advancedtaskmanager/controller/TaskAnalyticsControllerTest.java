@@ -0,0 +1,259 @@
+package com.patikadev.definex.advancedtaskmanager.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.patikadev.definex.advancedtaskmanager.constant.SuccessMessages;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.ApiResponse;
+import com.patikadev.definex.advancedtaskmanager.model.dto.request.auth.LoginRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.auth.AuthResponse;
+import com.patikadev.definex.advancedtaskmanager.model.entity.*;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskPriority;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
+import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
+import com.patikadev.definex.advancedtaskmanager.repository.*;
+import com.patikadev.definex.advancedtaskmanager.service.impl.TaskFlowRollupJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+public class TaskAnalyticsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskFlowRollupJob taskFlowRollupJob;
+
+    @Autowired
+    private TaskStateHistoryRepository taskStateHistoryRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private static final String AUTH_URL = "/api/auth";
+    private static final String BASE_URL = "/api/analytics";
+
+    private User adminUser;
+    private Department testDepartment;
+    private Project testProject;
+    private String adminToken;
+    private String otherDepartmentLeaderToken;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        taskStateHistoryRepository.deleteAll();
+        taskRepository.deleteAll();
+        projectRepository.deleteAll();
+        departmentRepository.deleteAll();
+
+        testDepartment = createDepartment("IT Department");
+        Department otherDepartment = createDepartment("HR Department");
+        adminUser = createUser("admin@example.com", UserRole.ADMIN, testDepartment);
+        User otherDepartmentLeader = createUser("leader@example.com", UserRole.TEAM_LEADER, otherDepartment);
+
+        adminToken = getAuthToken(createLoginRequest(adminUser.getEmail()));
+        otherDepartmentLeaderToken = getAuthToken(createLoginRequest(otherDepartmentLeader.getEmail()));
+
+        testProject = createProject();
+    }
+
+    @Test
+    @DisplayName("Get Project Flow Metrics - Rolled Up History - Returns Lead, Cycle And Blocked Times")
+    void getProjectFlowMetrics_RolledUpHistory_ReturnsFlowMetrics() throws Exception {
+        Task task = createTask();
+        LocalDateTime createdAt = task.getCreatedAt();
+        createHistory(task, TaskState.BACKLOG, TaskState.IN_PROGRESS, createdAt.plusHours(1));
+        createHistory(task, TaskState.IN_PROGRESS, TaskState.BLOCKED, createdAt.plusHours(2));
+        createHistory(task, TaskState.BLOCKED, TaskState.IN_PROGRESS, createdAt.plusHours(5));
+        createHistory(task, TaskState.IN_PROGRESS, TaskState.COMPLETED, createdAt.plusHours(10));
+
+        assertEquals(4, taskFlowRollupJob.rollUpPendingHistory());
+
+        String weekStart = createdAt.plusHours(10).toLocalDate()
+                .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).toString();
+        mockMvc.perform(get(BASE_URL + "/projects/" + testProject.getId() + "/flow")
+                        .param("from", createdAt.toLocalDate().toString())
+                        .param("to", createdAt.toLocalDate().plusDays(1).toString())
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(SuccessMessages.TASK_FLOW_METRICS_FETCHED))
+                .andExpect(jsonPath("$.data.completedTasks").value(1))
+                .andExpect(jsonPath("$.data.averageLeadTimeSeconds").value(36000))
+                .andExpect(jsonPath("$.data.averageCycleTimeSeconds").value(32400))
+                .andExpect(jsonPath("$.data.blockedPeriods").value(1))
+                .andExpect(jsonPath("$.data.totalBlockedSeconds").value(10800))
+                .andExpect(jsonPath("$.data.weeklyThroughput[?(@.weekStart == '" + weekStart + "')].completedTasks").value(hasItem(1)));
+    }
+
+    @Test
+    @DisplayName("Get Department Flow Metrics - Incremental Rollup - Adds Only New History")
+    void getDepartmentFlowMetrics_IncrementalRollup_AddsOnlyNewHistory() throws Exception {
+        Task firstTask = createTask();
+        LocalDateTime createdAt = firstTask.getCreatedAt();
+        createHistory(firstTask, TaskState.IN_ANALYSIS, TaskState.COMPLETED, createdAt.plusHours(2));
+        assertEquals(1, taskFlowRollupJob.rollUpPendingHistory());
+
+        Task secondTask = createTask();
+        createHistory(secondTask, TaskState.IN_ANALYSIS, TaskState.COMPLETED, secondTask.getCreatedAt().plusHours(4));
+        assertEquals(1, taskFlowRollupJob.rollUpPendingHistory());
+        assertEquals(0, taskFlowRollupJob.rollUpPendingHistory());
+
+        mockMvc.perform(get(BASE_URL + "/departments/" + testDepartment.getId() + "/flow")
+                        .param("from", createdAt.toLocalDate().toString())
+                        .param("to", createdAt.toLocalDate().plusDays(1).toString())
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.departmentId").value(testDepartment.getId()))
+                .andExpect(jsonPath("$.data.completedTasks").value(2))
+                .andExpect(jsonPath("$.data.averageLeadTimeSeconds").value(10800))
+                .andExpect(jsonPath("$.data.averageCycleTimeSeconds").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Get Department Flow Metrics - Other Department - Returns Forbidden")
+    void getDepartmentFlowMetrics_OtherDepartment_ReturnsForbidden() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/departments/" + testDepartment.getId() + "/flow")
+                        .header("Authorization", "Bearer " + otherDepartmentLeaderToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Get Project Flow Metrics - Start After End - Returns Bad Request")
+    void getProjectFlowMetrics_StartAfterEnd_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/projects/" + testProject.getId() + "/flow")
+                        .param("from", "2025-02-01")
+                        .param("to", "2025-01-01")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    private User createUser(String email, UserRole userRole, Department department) {
+        Role role = roleRepository.findByName(userRole)
+                .orElseGet(() -> {
+                    Role newRole = new Role();
+                    newRole.setName(userRole);
+                    return roleRepository.save(newRole);
+                });
+
+        Set<Role> roles = new HashSet<>();
+        roles.add(role);
+
+        User user = new User();
+        user.setFirstName("Test");
+        user.setLastName("User");
+        user.setEmail(email);
+        user.setPassword(passwordEncoder.encode("Password123!"));
+        user.setDepartment(department);
+        user.setRoles(roles);
+        user.setIsActive(true);
+
+        return userRepository.save(user);
+    }
+
+    private Department createDepartment(String name) {
+        Department department = new Department();
+        department.setName(name);
+        department.setDescription(name + " Description");
+        department.setIsActive(true);
+        return departmentRepository.save(department);
+    }
+
+    private Project createProject() {
+        Project project = new Project();
+        project.setTitle("Test Project");
+        project.setDescription("Test Project Description");
+        project.setDepartment(testDepartment);
+        project.setIsActive(true);
+        return projectRepository.save(project);
+    }
+
+    private Task createTask() {
+        Task task = new Task();
+        task.setTitle("Test Task");
+        task.setUserStory("As a user, I want to test this functionality");
+        task.setAcceptanceCriteria("The test passes");
+        task.setState(TaskState.BACKLOG);
+        task.setPriority(TaskPriority.MEDIUM);
+        task.setProject(testProject);
+        task.setIsActive(true);
+        return taskRepository.save(task);
+    }
+
+    private void createHistory(Task task, TaskState oldState, TaskState newState, LocalDateTime changedAt) {
+        TaskStateHistory history = new TaskStateHistory();
+        history.setTask(task);
+        history.setOldState(oldState);
+        history.setNewState(newState);
+        history.setChangedAt(changedAt);
+        history.setChangedBy(adminUser);
+        taskStateHistoryRepository.save(history);
+    }
+
+    private LoginRequest createLoginRequest(String email) {
+        LoginRequest request = new LoginRequest();
+        request.setEmail(email);
+        request.setPassword("Password123!");
+        return request;
+    }
+
+    private String getAuthToken(LoginRequest loginRequest) {
+        try {
+            MvcResult result = mockMvc.perform(post(AUTH_URL + "/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(loginRequest)))
+                    .andReturn();
+
+            String responseContent = result.getResponse().getContentAsString();
+            ApiResponse<AuthResponse> response = objectMapper.readValue(responseContent,
+                    objectMapper.getTypeFactory().constructParametricType(ApiResponse.class, AuthResponse.class));
+
+            return response.getData().getAccessToken();
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to get auth token", e);
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package com.patikadev.definex.advancedtaskmanager.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
 import com.patikadev.definex.advancedtaskmanager.constant.SuccessMessages;
+import com.patikadev.definex.advancedtaskmanager.constant.TaskFeedConstants;
+import com.patikadev.definex.advancedtaskmanager.event.TaskActivityEvent;
+import com.patikadev.definex.advancedtaskmanager.event.TaskStateChangedEvent;
 import com.patikadev.definex.advancedtaskmanager.model.dto.common.ApiResponse;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.auth.LoginRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.BulkUpdateTaskStateRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.CreateTaskRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.UpdateTaskRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.UpdateTaskStateRequest;
@@ -13,22 +18,36 @@ import com.patikadev.definex.advancedtaskmanager.model.entity.Department;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Project;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Role;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Task;
+import com.patikadev.definex.advancedtaskmanager.model.entity.TaskStateHistory;
+import com.patikadev.definex.advancedtaskmanager.model.entity.TaskStateHistoryOutbox;
 import com.patikadev.definex.advancedtaskmanager.model.entity.User;
+import com.patikadev.definex.advancedtaskmanager.model.entity.DomainEventOutbox;
+import com.patikadev.definex.advancedtaskmanager.model.enums.DomainEventType;
 import com.patikadev.definex.advancedtaskmanager.model.enums.ProjectStatus;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskActivityType;
 import com.patikadev.definex.advancedtaskmanager.model.enums.TaskPriority;
 import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
 import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
+import com.patikadev.definex.advancedtaskmanager.repository.DomainEventOutboxRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.DepartmentRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.ProjectRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.RoleRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.TaskRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.TaskStateHistoryOutboxRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.TaskStateHistoryRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.UserRepository;
+import com.patikadev.definex.advancedtaskmanager.service.impl.TaskEventFeed;
+import com.patikadev.definex.advancedtaskmanager.service.impl.TaskStateHistoryWriter;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
@@ -37,12 +56,17 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -75,6 +99,24 @@ public class TaskControllerTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TaskStateHistoryRepository taskStateHistoryRepository;
+
+    @Autowired
+    private TaskStateHistoryOutboxRepository taskStateHistoryOutboxRepository;
+
+    @Autowired
+    private TaskStateHistoryWriter taskStateHistoryWriter;
+
+    @Autowired
+    private DomainEventOutboxRepository domainEventOutboxRepository;
+
+    @Autowired
+    private TaskEventFeed taskEventFeed;
+
     private static final String AUTH_URL = "/api/auth";
     private static final String BASE_URL = "/api/tasks";
     private Task testTask;
@@ -171,6 +213,91 @@ public class TaskControllerTest {
                 .andExpect(jsonPath("$.status").value("ERROR"));
     }
 
+    @Test
+    @DisplayName("Import Tasks - CSV - Imports Valid Rows And Reports Errors")
+    void importTasks_Csv_ImportsValidRowsAndReportsErrors() throws Exception {
+        UUID missingProjectId = UUID.randomUUID();
+        String csv = String.join("\n",
+                "title,userStory,acceptanceCriteria,priority,projectId,assignedUserId",
+                "Imported Task,\"As a user, I want \"\"quotes\"\"\",Works,HIGH," + testProject.getId() + "," + regularUser.getId(),
+                "Multi Line Task,\"First line",
+                "second line\",Works,LOW," + testProject.getId() + ",",
+                "Orphan Task,Story,Works,LOW," + missingProjectId + ",",
+                "Bad Priority,Story,Works,URGENT," + testProject.getId() + ",",
+                ",Story,Works,LOW," + testProject.getId() + ",");
+
+        mockMvc.perform(post(BASE_URL + "/import")
+                        .contentType("text/csv")
+                        .content(csv)
+                        .header("Authorization", "Bearer " + teamLeaderToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(SuccessMessages.TASKS_IMPORTED))
+                .andExpect(jsonPath("$.data.totalRows").value(5))
+                .andExpect(jsonPath("$.data.importedRows").value(2))
+                .andExpect(jsonPath("$.data.failedRows").value(3))
+                .andExpect(jsonPath("$.data.errors[0].line").value(5))
+                .andExpect(jsonPath("$.data.errors[0].error").value(ErrorMessages.PROJECT_NOT_FOUND.formatted(missingProjectId)))
+                .andExpect(jsonPath("$.data.errors[1].line").value(6))
+                .andExpect(jsonPath("$.data.errors[2].line").value(7))
+                .andExpect(jsonPath("$.data.errors[2].error").value(containsString("title")));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Task> tasks = taskRepository.findAllByProjectIdAndIsActiveTrue(testProject.getId());
+        assertEquals(3, tasks.size());
+        Task quoted = tasks.stream().filter(task -> task.getTitle().equals("Imported Task")).findFirst().orElseThrow();
+        assertEquals("As a user, I want \"quotes\"", quoted.getUserStory());
+        assertEquals(TaskState.BACKLOG, quoted.getState());
+        assertEquals(regularUser.getId(), quoted.getAssignedUser().getId());
+        Task multiLine = tasks.stream().filter(task -> task.getTitle().equals("Multi Line Task")).findFirst().orElseThrow();
+        assertEquals("First line\nsecond line", multiLine.getUserStory());
+        assertEquals(2, taskStateHistoryOutboxRepository.findAll().stream()
+                .filter(entry -> entry.getOldState() == null && entry.getNewState() == TaskState.BACKLOG)
+                .count());
+    }
+
+    @Test
+    @DisplayName("Import Tasks - NDJSON - Imports Valid Rows And Reports Errors")
+    void importTasks_Ndjson_ImportsValidRowsAndReportsErrors() throws Exception {
+        String ndjson = String.join("\n",
+                "{\"title\":\"Json Task\",\"userStory\":\"Story\",\"acceptanceCriteria\":\"Works\",\"priority\":\"MEDIUM\",\"projectId\":\"" + testProject.getId() + "\"}",
+                "",
+                "{not json}",
+                "{\"title\":\"Unknown User\",\"userStory\":\"Story\",\"acceptanceCriteria\":\"Works\",\"priority\":\"MEDIUM\",\"projectId\":\"" + testProject.getId() + "\",\"assignedUserId\":\"" + UUID.randomUUID() + "\"}");
+
+        mockMvc.perform(post(BASE_URL + "/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson)
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalRows").value(3))
+                .andExpect(jsonPath("$.data.importedRows").value(1))
+                .andExpect(jsonPath("$.data.failedRows").value(2))
+                .andExpect(jsonPath("$.data.errors[0].line").value(3))
+                .andExpect(jsonPath("$.data.errors[1].line").value(4));
+    }
+
+    @Test
+    @DisplayName("Import Tasks - Regular User Access - Returns Forbidden")
+    void importTasks_RegularUserAccess_ReturnsForbidden() throws Exception {
+        mockMvc.perform(post(BASE_URL + "/import")
+                        .contentType("text/csv")
+                        .content("title,userStory,acceptanceCriteria,priority,projectId")
+                        .header("Authorization", "Bearer " + regularUserToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Import Tasks - Unknown CSV Column - Returns Bad Request")
+    void importTasks_UnknownCsvColumn_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(post(BASE_URL + "/import")
+                        .contentType("text/csv")
+                        .content("title,owner\nTask,Someone")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorMessages.TASK_IMPORT_UNKNOWN_COLUMN.formatted("owner")));
+    }
+
     @Test
     @DisplayName("Update Task - Admin Access - Returns Updated Task")
     void updateTask_AdminAccess_ReturnsUpdatedTask() throws Exception {
@@ -210,6 +337,58 @@ public class TaskControllerTest {
                 .andExpect(jsonPath("$.data.title").value(request.getTitle()));
     }
 
+    @Test
+    @DisplayName("Update Task - Stale If-Match - Returns Conflict With Current Task")
+    void updateTask_StaleIfMatch_ReturnsConflictWithCurrentTask() throws Exception {
+        MvcResult result = mockMvc.perform(get(BASE_URL + "/" + testTask.getId())
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andReturn();
+        String etag = result.getResponse().getHeader(HttpHeaders.ETAG);
+        long version = testTask.getVersion();
+
+        UpdateTaskRequest firstRequest = new UpdateTaskRequest();
+        firstRequest.setTitle("First Writer Title");
+
+        mockMvc.perform(put(BASE_URL + "/" + testTask.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(firstRequest))
+                        .header("Authorization", "Bearer " + adminToken)
+                        .header(HttpHeaders.IF_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.version").value(version + 1));
+
+        UpdateTaskRequest secondRequest = new UpdateTaskRequest();
+        secondRequest.setTitle("Second Writer Title");
+
+        mockMvc.perform(put(BASE_URL + "/" + testTask.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(secondRequest))
+                        .header("Authorization", "Bearer " + adminToken)
+                        .header(HttpHeaders.IF_MATCH, etag))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value("ERROR"))
+                .andExpect(jsonPath("$.httpStatus").value(409))
+                .andExpect(jsonPath("$.message").value(
+                        ErrorMessages.TASK_VERSION_CONFLICT.formatted(testTask.getId(), version, version + 1)))
+                .andExpect(jsonPath("$.data.version").value(version + 1))
+                .andExpect(jsonPath("$.data.title").value(firstRequest.getTitle()));
+    }
+
+    @Test
+    @DisplayName("Update Task - Malformed If-Match - Returns Bad Request")
+    void updateTask_MalformedIfMatch_ReturnsBadRequest() throws Exception {
+        UpdateTaskRequest request = new UpdateTaskRequest();
+        request.setTitle("Updated Task Title");
+
+        mockMvc.perform(put(BASE_URL + "/" + testTask.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header("Authorization", "Bearer " + adminToken)
+                        .header(HttpHeaders.IF_MATCH, "W/\"0\""))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Update Task - Regular User Access - Returns Forbidden")
     void updateTask_RegularUserAccess_ReturnsForbidden() throws Exception {
@@ -223,6 +402,63 @@ public class TaskControllerTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    @DisplayName("Subscribe To Task Feed - Last Event Id - Replays Only Own Department Events")
+    void subscribeToTaskFeed_LastEventId_ReplaysOnlyOwnDepartmentEvents() throws Exception {
+        long lastEventId = taskEventFeed.getLatestEventId();
+        UUID otherDepartmentTaskId = UUID.randomUUID();
+        taskEventFeed.onTaskActivity(TaskActivityEvent.of(TaskActivityType.TASK_UPDATED, testTask));
+        taskEventFeed.onTaskActivity(new TaskActivityEvent(TaskActivityType.TASK_CREATED, otherDepartmentTaskId,
+                UUID.randomUUID(), testDepartment.getId() + 1, TaskState.BACKLOG, null, null));
+
+        MvcResult result = mockMvc.perform(get(BASE_URL + "/feed")
+                        .header(TaskFeedConstants.LAST_EVENT_ID_HEADER, lastEventId)
+                        .header("Authorization", "Bearer " + regularUserToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String content = result.getResponse().getContentAsString();
+        assertTrue(content.contains("id:" + (lastEventId + 1)));
+        assertTrue(content.contains("event:" + TaskActivityType.TASK_UPDATED.name()));
+        assertTrue(content.contains(testTask.getId().toString()));
+        assertFalse(content.contains(otherDepartmentTaskId.toString()));
+    }
+
+    @Test
+    @DisplayName("Subscribe To Task Feed - New Activity - Pushes Event To Subscriber")
+    void subscribeToTaskFeed_NewActivity_PushesEventToSubscriber() throws Exception {
+        MvcResult result = mockMvc.perform(get(BASE_URL + "/feed")
+                        .param("projectId", testProject.getId().toString())
+                        .header("Authorization", "Bearer " + teamLeaderToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        testTask.setAssignedUser(regularUser);
+        taskEventFeed.onTaskActivity(TaskActivityEvent.of(TaskActivityType.TASK_ASSIGNED, testTask));
+
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(TaskActivityType.TASK_ASSIGNED.name()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = result.getResponse().getContentAsString();
+        }
+
+        assertTrue(content.contains("event:" + TaskActivityType.TASK_ASSIGNED.name()));
+        assertTrue(content.contains("\"assignedUserId\":\"" + regularUser.getId() + "\""));
+    }
+
+    @Test
+    @DisplayName("Subscribe To Task Feed - Unknown Last Event Id - Sends Reset Event")
+    void subscribeToTaskFeed_UnknownLastEventId_SendsResetEvent() throws Exception {
+        MvcResult result = mockMvc.perform(get(BASE_URL + "/feed")
+                        .header(TaskFeedConstants.LAST_EVENT_ID_HEADER, taskEventFeed.getLatestEventId() + 1000)
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertTrue(result.getResponse().getContentAsString().contains("event:" + TaskFeedConstants.RESET_EVENT));
+    }
+
     @Test
     @DisplayName("Get Task By Id - Authenticated User - Returns Task Detail")
     void getTaskById_AuthenticatedUser_ReturnsTaskDetail() throws Exception {
@@ -237,6 +473,34 @@ public class TaskControllerTest {
                 .andExpect(jsonPath("$.data.projectId").value(testProject.getId().toString()));
     }
 
+    @Test
+    @DisplayName("Get Task By Id - Matching ETag - Returns Not Modified Until Task Changes")
+    void getTaskById_MatchingETag_ReturnsNotModifiedUntilTaskChanges() throws Exception {
+        MvcResult result = mockMvc.perform(get(BASE_URL + "/" + testTask.getId())
+                        .header("Authorization", "Bearer " + regularUserToken))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn();
+        String etag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(BASE_URL + "/" + testTask.getId())
+                        .header("Authorization", "Bearer " + regularUserToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        testTask.setTitle("Updated Task Title");
+        taskRepository.saveAndFlush(testTask);
+
+        mockMvc.perform(get(BASE_URL + "/" + testTask.getId())
+                        .header("Authorization", "Bearer " + regularUserToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$.data.title").value("Updated Task Title"));
+    }
+
     @Test
     @DisplayName("Get Task By Id - Unauthenticated User - Returns Unauthorized")
     void getTaskById_UnauthenticatedUser_ReturnsUnauthorized() throws Exception {
@@ -330,6 +594,110 @@ public class TaskControllerTest {
                 .andExpect(jsonPath("$.data.stateChangeReason").value(request.getReason()));
     }
 
+    @Test
+    @DisplayName("Update Task State - Authenticated User - Records History Through Outbox")
+    void updateTaskState_AuthenticatedUser_RecordsHistoryThroughOutbox() throws Exception {
+        UpdateTaskStateRequest request = new UpdateTaskStateRequest();
+        request.setNewState(TaskState.IN_ANALYSIS);
+        request.setReason("Starting the analysis");
+
+        mockMvc.perform(patch(BASE_URL + "/" + testTask.getId() + "/state")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header("Authorization", "Bearer " + regularUserToken))
+                .andExpect(status().isOk());
+        entityManager.flush();
+
+        List<Long> outboxIds = taskStateHistoryOutboxRepository.findAll().stream()
+                .map(TaskStateHistoryOutbox::getId)
+                .toList();
+        assertEquals(1, outboxIds.size());
+
+        assertEquals(1, taskStateHistoryWriter.flush(outboxIds));
+        entityManager.clear();
+
+        assertEquals(0, taskStateHistoryOutboxRepository.count());
+        List<TaskStateHistory> histories = taskStateHistoryRepository.findAll();
+        assertEquals(1, histories.size());
+        assertEquals(TaskState.BACKLOG, histories.get(0).getOldState());
+        assertEquals(TaskState.IN_ANALYSIS, histories.get(0).getNewState());
+        assertEquals(request.getReason(), histories.get(0).getReason());
+        assertEquals(regularUser.getId(), histories.get(0).getChangedBy().getId());
+    }
+
+    @Test
+    @DisplayName("Update Task State - Authenticated User - Records Domain Event In Outbox")
+    void updateTaskState_AuthenticatedUser_RecordsDomainEventInOutbox() throws Exception {
+        UpdateTaskStateRequest request = new UpdateTaskStateRequest();
+        request.setNewState(TaskState.IN_ANALYSIS);
+        request.setReason("Starting the analysis");
+
+        mockMvc.perform(patch(BASE_URL + "/" + testTask.getId() + "/state")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header("Authorization", "Bearer " + regularUserToken))
+                .andExpect(status().isOk());
+        entityManager.flush();
+
+        List<DomainEventOutbox> outboxEntries = domainEventOutboxRepository.findAll();
+        assertEquals(1, outboxEntries.size());
+        assertEquals(DomainEventType.TASK_STATE_CHANGED, outboxEntries.get(0).getEventType());
+        assertEquals(testTask.getId(), outboxEntries.get(0).getAggregateId());
+
+        TaskStateChangedEvent event = objectMapper.readValue(outboxEntries.get(0).getPayload(), TaskStateChangedEvent.class);
+        assertEquals(TaskState.BACKLOG, event.oldState());
+        assertEquals(TaskState.IN_ANALYSIS, event.newState());
+        assertEquals(request.getReason(), event.reason());
+    }
+
+    @Test
+    @DisplayName("Bulk Update Task State - Authenticated User - Returns Per Task Results")
+    void bulkUpdateTaskState_AuthenticatedUser_ReturnsPerTaskResults() throws Exception {
+        Task secondTask = createTestTask();
+        UUID missingTaskId = UUID.randomUUID();
+        BulkUpdateTaskStateRequest request = new BulkUpdateTaskStateRequest();
+        request.setTaskIds(List.of(testTask.getId(), secondTask.getId(), missingTaskId));
+        request.setNewState(TaskState.IN_ANALYSIS);
+        request.setReason("Sprint planning");
+
+        mockMvc.perform(patch(BASE_URL + "/state")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header("Authorization", "Bearer " + regularUserToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(SuccessMessages.TASK_STATES_BULK_UPDATED))
+                .andExpect(jsonPath("$.data.requested").value(3))
+                .andExpect(jsonPath("$.data.succeeded").value(2))
+                .andExpect(jsonPath("$.data.failed").value(1))
+                .andExpect(jsonPath("$.data.results[0].success").value(true))
+                .andExpect(jsonPath("$.data.results[0].previousState").value(TaskState.BACKLOG.toString()))
+                .andExpect(jsonPath("$.data.results[2].success").value(false))
+                .andExpect(jsonPath("$.data.results[2].error").value(ErrorMessages.TASK_NOT_FOUND.formatted(missingTaskId)));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(TaskState.IN_ANALYSIS, taskRepository.findById(secondTask.getId()).orElseThrow().getState());
+        List<TaskStateHistoryOutbox> outboxEntries = taskStateHistoryOutboxRepository.findAll();
+        assertEquals(2, outboxEntries.size());
+        assertTrue(outboxEntries.stream().allMatch(entry -> entry.getOldState() == TaskState.BACKLOG
+                && entry.getNewState() == TaskState.IN_ANALYSIS
+                && regularUser.getId().equals(entry.getChangedByUserId())));
+    }
+
+    @Test
+    @DisplayName("Bulk Update Task State - Empty Task List - Returns Bad Request")
+    void bulkUpdateTaskState_EmptyTaskList_ReturnsBadRequest() throws Exception {
+        BulkUpdateTaskStateRequest request = new BulkUpdateTaskStateRequest();
+        request.setTaskIds(List.of());
+        request.setNewState(TaskState.IN_ANALYSIS);
+
+        mockMvc.perform(patch(BASE_URL + "/state")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Update Task State - Authenticated User - Returns Bad Request")
     void updateTaskState_AuthenticatedUser_ReturnsBadRequest() throws Exception {
@@ -404,6 +772,255 @@ public class TaskControllerTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    @DisplayName("Export Tasks - NDJSON - Streams Tasks Matching Filters")
+    void exportTasks_Ndjson_StreamsTasksMatchingFilters() throws Exception {
+        Task highPriorityTask = createTestTask();
+        highPriorityTask.setPriority(TaskPriority.HIGH);
+        taskRepository.save(highPriorityTask);
+
+        MvcResult result = mockMvc.perform(get(BASE_URL + "/export")
+                        .param("priority", TaskPriority.HIGH.toString())
+                        .param("projectId", testProject.getId().toString())
+                        .header("Authorization", "Bearer " + regularUserToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", containsString(MediaType.APPLICATION_NDJSON_VALUE)))
+                .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(1, lines.length);
+        JsonNode row = objectMapper.readTree(lines[0]);
+        assertEquals(highPriorityTask.getId().toString(), row.get("id").asText());
+        assertEquals(testDepartment.getId(), row.get("departmentId").asLong());
+    }
+
+    @Test
+    @DisplayName("Export Tasks - CSV - Applies Department Visibility")
+    void exportTasks_Csv_AppliesDepartmentVisibility() throws Exception {
+        Department otherDepartment = new Department();
+        otherDepartment.setName("Other Department");
+        otherDepartment.setDescription("Another department");
+        otherDepartment.setIsActive(true);
+        otherDepartment = departmentRepository.save(otherDepartment);
+        User otherUser = createUser("other@example.com", UserRole.TEAM_MEMBER);
+        otherUser.setDepartment(otherDepartment);
+        userRepository.save(otherUser);
+        String otherUserToken = getAuthToken(createLoginRequest(otherUser.getEmail(), "Password123!"));
+
+        MvcResult adminResult = mockMvc.perform(get(BASE_URL + "/export")
+                        .param("format", "CSV")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", containsString("tasks.csv")))
+                .andReturn();
+        MvcResult otherResult = mockMvc.perform(get(BASE_URL + "/export")
+                        .param("format", "CSV")
+                        .header("Authorization", "Bearer " + otherUserToken))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String[] adminLines = adminResult.getResponse().getContentAsString().split("\n");
+        assertEquals(2, adminLines.length);
+        assertTrue(adminLines[0].startsWith("id,title,state,priority"));
+        assertTrue(adminLines[1].startsWith(testTask.getId() + ",Test Task,BACKLOG,MEDIUM,"));
+        assertEquals(1, otherResult.getResponse().getContentAsString().split("\n").length);
+    }
+
+    @Test
+    @DisplayName("Search Tasks - Combined Filters - Returns Only Matching Tasks")
+    void searchTasks_CombinedFilters_ReturnsMatchingTasks() throws Exception {
+        Task matchingTask = createSearchTask("Fix login redirect", TaskState.IN_PROGRESS, TaskPriority.HIGH, regularUser);
+        createSearchTask("Fix login timeout", TaskState.IN_PROGRESS, TaskPriority.LOW, regularUser);
+        createSearchTask("Fix login copy", TaskState.BLOCKED, TaskPriority.HIGH, teamLeaderUser);
+        createSearchTask("Update footer", TaskState.BLOCKED, TaskPriority.HIGH, regularUser);
+
+        mockMvc.perform(get(BASE_URL + "/search")
+                        .param("projectId", testProject.getId().toString())
+                        .param("assignedUserId", regularUser.getId().toString())
+                        .param("states", "IN_PROGRESS", "BLOCKED")
+                        .param("priorities", "HIGH")
+                        .param("text", "LOGIN")
+                        .header("Authorization", "Bearer " + teamLeaderToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(SuccessMessages.TASKS_FETCHED))
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.data[0].id").value(matchingTask.getId().toString()))
+                .andExpect(jsonPath("$.data[0].projectTitle").value(testProject.getTitle()))
+                .andExpect(jsonPath("$.data[0].assignedUserName").value("Test User"));
+    }
+
+    @Test
+    @DisplayName("Search Tasks - Keyset Pagination - Walks Every Page Without Duplicates")
+    void searchTasks_KeysetPagination_WalksEveryPageWithoutDuplicates() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            createSearchTask("Search Task " + i, TaskState.BACKLOG, TaskPriority.MEDIUM, null);
+        }
+
+        Set<String> seenTaskIds = new HashSet<>();
+        String cursor = null;
+        do {
+            var request = get(BASE_URL + "/search")
+                    .param("states", "BACKLOG")
+                    .param("size", "2")
+                    .header("Authorization", "Bearer " + adminToken);
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+
+            MvcResult result = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn();
+            JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+            body.get("data").forEach(task -> assertTrue(seenTaskIds.add(task.get("id").asText())));
+            cursor = body.hasNonNull("nextCursor") ? body.get("nextCursor").asText() : null;
+        } while (cursor != null);
+
+        assertEquals(5, seenTaskIds.size());
+    }
+
+    @Test
+    @DisplayName("Search Tasks - Other Department User - Returns Empty Page")
+    void searchTasks_OtherDepartmentUser_ReturnsEmptyPage() throws Exception {
+        Department otherDepartment = new Department();
+        otherDepartment.setName("Other Department");
+        otherDepartment.setDescription("Another department");
+        otherDepartment.setIsActive(true);
+        otherDepartment = departmentRepository.save(otherDepartment);
+        User otherUser = createUser("other@example.com", UserRole.TEAM_MEMBER);
+        otherUser.setDepartment(otherDepartment);
+        userRepository.save(otherUser);
+        String otherUserToken = getAuthToken(createLoginRequest(otherUser.getEmail(), "Password123!"));
+
+        mockMvc.perform(get(BASE_URL + "/search")
+                        .param("projectId", testProject.getId().toString())
+                        .header("Authorization", "Bearer " + otherUserToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("Search Tasks - Text Too Long - Returns Bad Request")
+    void searchTasks_TextTooLong_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/search")
+                        .param("text", "x".repeat(101))
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Get All Tasks - Regular User - Statement Count Independent Of Task Count")
+    void getAllTasks_RegularUser_StatementCountIndependentOfTaskCount() throws Exception {
+        createTasksInSeparateProjects(5);
+        long smallStatementCount = countStatementsForGetAllTasks(6);
+
+        createTasksInSeparateProjects(20);
+        long largeStatementCount = countStatementsForGetAllTasks(26);
+
+        assertEquals(smallStatementCount, largeStatementCount);
+    }
+
+    @Test
+    @DisplayName("Get All Tasks - Cursor Pagination - Walks All Pages Without Duplicates")
+    void getAllTasks_CursorPagination_WalksAllPagesWithoutDuplicates() throws Exception {
+        createTasksInSeparateProjects(4);
+        Set<String> seenTaskIds = new HashSet<>();
+        String cursor = null;
+        int pageCount = 0;
+
+        do {
+            MvcResult result = mockMvc.perform(get(BASE_URL)
+                            .param("size", "2")
+                            .param("cursor", cursor)
+                            .header("Authorization", "Bearer " + adminToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data", hasSize(lessThanOrEqualTo(2))))
+                    .andReturn();
+
+            JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+            body.get("data").forEach(task -> assertTrue(seenTaskIds.add(task.get("id").asText())));
+            cursor = body.hasNonNull("nextCursor") ? body.get("nextCursor").asText() : null;
+            pageCount++;
+        } while (cursor != null);
+
+        assertEquals(5, seenTaskIds.size());
+        assertEquals(3, pageCount);
+    }
+
+    @Test
+    @DisplayName("Get All Tasks - Invalid Cursor - Returns Bad Request")
+    void getAllTasks_InvalidCursor_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get(BASE_URL)
+                        .param("cursor", "not-a-valid-cursor")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorMessages.INVALID_PAGE_CURSOR));
+    }
+
+    @Test
+    @DisplayName("Get All Tasks - Invalid Page Size - Returns Bad Request")
+    void getAllTasks_InvalidPageSize_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get(BASE_URL)
+                        .param("size", "0")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorMessages.INVALID_PAGE_SIZE));
+    }
+
+    private long countStatementsForGetAllTasks(int expectedTaskCount) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        mockMvc.perform(get(BASE_URL)
+                        .param("size", "50")
+                        .header("Authorization", "Bearer " + regularUserToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(expectedTaskCount)));
+
+        long statementCount = statistics.getPrepareStatementCount();
+        statistics.setStatisticsEnabled(false);
+        return statementCount;
+    }
+
+    private void createTasksInSeparateProjects(int count) {
+        for (int i = 0; i < count; i++) {
+            Project project = new Project();
+            project.setTitle("Bulk Project " + UUID.randomUUID().toString().substring(0, 8));
+            project.setStatus(ProjectStatus.IN_PROGRESS);
+            project.setDepartment(testDepartment);
+            project.setIsActive(true);
+            project = projectRepository.save(project);
+
+            Task task = new Task();
+            task.setTitle("Bulk Task " + i);
+            task.setUserStory("As a user, I want many tasks");
+            task.setAcceptanceCriteria("Tasks are listed");
+            task.setState(TaskState.BACKLOG);
+            task.setPriority(TaskPriority.LOW);
+            task.setProject(project);
+            task.setIsActive(true);
+            taskRepository.save(task);
+        }
+    }
+
+    private Task createSearchTask(String title, TaskState state, TaskPriority priority, User assignedUser) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setUserStory("As a user, I want to find this task");
+        task.setAcceptanceCriteria("Task shows up in search");
+        task.setState(state);
+        task.setPriority(priority);
+        task.setProject(testProject);
+        task.setAssignedUser(assignedUser);
+        task.setIsActive(true);
+        return taskRepository.save(task);
+    }
+
     private Department createTestDepartment() {
         Department department = new Department();
         department.setName("IT Department");
@@ -11,6 +11,7 @@ import com.patikadev.definex.advancedtaskmanager.model.enums.TaskPriority;
 import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
 import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
 import com.patikadev.definex.advancedtaskmanager.repository.*;
+import com.patikadev.definex.advancedtaskmanager.service.impl.TaskStateHistoryWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,10 +30,14 @@ import java.time.format.DateTimeFormatter;
 import java.util.HashSet;
 import java.util.Set;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -51,6 +56,12 @@ public class TaskStateHistoryControllerTest {
     @Autowired
     private TaskStateHistoryRepository taskStateHistoryRepository;
 
+    @Autowired
+    private TaskStateHistoryOutboxRepository taskStateHistoryOutboxRepository;
+
+    @Autowired
+    private TaskStateHistoryWriter taskStateHistoryWriter;
+
     @Autowired
     private TaskRepository taskRepository;
 
@@ -106,6 +117,33 @@ public class TaskStateHistoryControllerTest {
         testTaskStateHistory = createTaskStateHistory(testTask, TaskState.BACKLOG, TaskState.IN_ANALYSIS, "Starting work", adminUser);
     }
 
+    @Test
+    @DisplayName("Export Task State Histories - CSV - Streams Filtered Rows")
+    void exportTaskStateHistories_Csv_StreamsFilteredRows() throws Exception {
+        createTaskStateHistory(testTask, TaskState.IN_ANALYSIS, TaskState.BLOCKED, "Waiting, on \"vendor\"", adminUser);
+
+        MvcResult result = mockMvc.perform(get(BASE_URL + "/export")
+                        .param("format", "CSV")
+                        .param("state", TaskState.BLOCKED.toString())
+                        .header("Authorization", "Bearer " + teamLeaderToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", containsString("task-state-histories.csv")))
+                .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("id,taskId,projectId,oldState,newState,reason,changedByUserId,changedAt", lines[0]);
+        assertTrue(lines[1].contains(",IN_ANALYSIS,BLOCKED,\"Waiting, on \"\"vendor\"\"\"," + adminUser.getId() + ","));
+    }
+
+    @Test
+    @DisplayName("Export Task State Histories - Team Member Access - Returns Forbidden")
+    void exportTaskStateHistories_TeamMemberAccess_ReturnsForbidden() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/export")
+                        .header("Authorization", "Bearer " + teamMemberToken))
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     @DisplayName("Get Task State History By Id - Admin Access - Returns History")
     void getTaskStateHistoryById_AdminAccess_ReturnsHistory() throws Exception {
@@ -286,6 +324,9 @@ public class TaskStateHistoryControllerTest {
                         .content(objectMapper.writeValueAsString(updateRequest))
                         .header("Authorization", "Bearer " + adminToken))
                 .andExpect(status().isOk());
+        taskStateHistoryWriter.flush(taskStateHistoryOutboxRepository.findAll().stream()
+                .map(TaskStateHistoryOutbox::getId)
+                .toList());
 
         mockMvc.perform(get(BASE_URL + "/task/" + testTask.getId())
                         .header("Authorization", "Bearer " + adminToken))
@@ -1,6 +1,7 @@
 package com.patikadev.definex.advancedtaskmanager.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.patikadev.definex.advancedtaskmanager.constant.CacheNames;
 import com.patikadev.definex.advancedtaskmanager.constant.SuccessMessages;
 import com.patikadev.definex.advancedtaskmanager.model.dto.common.ApiResponse;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.auth.LoginRequest;
@@ -15,12 +16,15 @@ import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
 import com.patikadev.definex.advancedtaskmanager.repository.DepartmentRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.RoleRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.UserRepository;
+import com.patikadev.definex.advancedtaskmanager.service.ReferenceDataService;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
@@ -62,6 +66,15 @@ public class UserControllerTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private ReferenceDataService referenceDataService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private static final String AUTH_URL = "/api/auth";
     private static final String BASE_URL = "/api/users";
     private User adminUser;
@@ -220,6 +233,30 @@ public class UserControllerTest {
         assertTrue(updatedUser.getRoles().stream().anyMatch(role -> role.getName() == UserRole.PROJECT_MANAGER));
     }
 
+    @Test
+    @DisplayName("Update User Roles - Cached Identity - Next Read Returns New Roles")
+    void updateUserRoles_CachedIdentity_NextReadReturnsNewRoles() throws Exception {
+        cacheManager.getCache(CacheNames.USER_IDENTITIES).clear();
+        String email = regularUser.getEmail();
+
+        assertEquals(Set.of(UserRole.TEAM_MEMBER), referenceDataService.findUserIdentity(email).orElseThrow().roles());
+        double hitsBefore = userIdentityCacheHits();
+        assertEquals(Set.of(UserRole.TEAM_MEMBER), referenceDataService.findUserIdentity(email).orElseThrow().roles());
+        assertEquals(hitsBefore + 1, userIdentityCacheHits());
+
+        UpdateUserRolesRequest request = new UpdateUserRolesRequest();
+        request.setRoles(Set.of(UserRole.TEAM_LEADER));
+
+        mockMvc.perform(put(BASE_URL + "/" + regularUserId + "/roles")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk());
+
+        assertNull(cacheManager.getCache(CacheNames.USER_IDENTITIES).get(email));
+        assertEquals(Set.of(UserRole.TEAM_LEADER), referenceDataService.findUserIdentity(email).orElseThrow().roles());
+    }
+
     @Test
     @DisplayName("Update User Roles - Unauthorized - Returns Forbidden")
     void updateUserRoles_Unauthorized_ReturnsForbidden() throws Exception {
@@ -441,6 +478,14 @@ public class UserControllerTest {
         return userRepository.save(user);
     }
 
+    private double userIdentityCacheHits() {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", CacheNames.USER_IDENTITIES)
+                .tag("result", "hit")
+                .functionCounter()
+                .count();
+    }
+
     private LoginRequest createLoginRequest(String email, String password) {
         LoginRequest request = new LoginRequest();
         request.setEmail(email);
@@ -2,12 +2,15 @@ package com.patikadev.definex.advancedtaskmanager.service;
 
 import com.patikadev.definex.advancedtaskmanager.config.ApplicationProperties;
 import com.patikadev.definex.advancedtaskmanager.constant.FileConstants;
+import com.patikadev.definex.advancedtaskmanager.constant.MetricConstants;
 import com.patikadev.definex.advancedtaskmanager.exception.FileStorageException;
 import com.patikadev.definex.advancedtaskmanager.exception.ResourceNotFoundException;
 import com.patikadev.definex.advancedtaskmanager.mapper.AttachmentMapper;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.attachment.CreateAttachmentRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.attachment.AttachmentDownload;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.attachment.AttachmentResponse;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Attachment;
+import com.patikadev.definex.advancedtaskmanager.model.entity.AttachmentBlob;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Project;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Task;
 import com.patikadev.definex.advancedtaskmanager.model.entity.User;
@@ -17,6 +20,8 @@ import com.patikadev.definex.advancedtaskmanager.repository.AttachmentRepository
 import com.patikadev.definex.advancedtaskmanager.repository.TaskRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.UserRepository;
 import com.patikadev.definex.advancedtaskmanager.service.impl.AttachmentServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,14 +29,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.io.Resource;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -57,12 +64,21 @@ public class AttachmentServiceTest {
     @Mock
     private AttachmentMapper attachmentMapper;
 
+    @Mock
+    private AttachmentStorageService attachmentStorageService;
+
     @Mock
     private ApplicationProperties applicationProperties;
 
     @Mock
     private ApplicationProperties.File fileProperties;
 
+    @Mock
+    private DomainEventService domainEventService;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private AttachmentServiceImpl attachmentService;
 
@@ -100,14 +116,13 @@ public class AttachmentServiceTest {
     @Test
     @DisplayName("Upload File - Success")
     void uploadFile_Success() throws IOException {
-        Files.createDirectories(tempDir.resolve(FileConstants.TASK_ATTACHMENTS_DIR).resolve(taskId.toString()));
+        AttachmentBlob blob = createAttachmentBlob(sha256Hex(multipartFile.getBytes()));
 
-        when(applicationProperties.getFile()).thenReturn(fileProperties);
-        when(fileProperties.getUploadDir()).thenReturn(uploadDir);
         when(taskRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(task));
         when(authService.getCurrentUserId()).thenReturn(userId);
         when(userRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(user));
-        when(attachmentMapper.toEntity(anyString(), any(Task.class), any(User.class), anyString(), anyLong(), anyString())).thenReturn(attachment);
+        when(attachmentStorageService.storeContent(any(MultipartFile.class))).thenReturn(blob);
+        when(attachmentMapper.toEntity(anyString(), any(Task.class), any(User.class), anyString(), anyLong(), anyString(), anyString())).thenReturn(attachment);
         when(attachmentRepository.save(any(Attachment.class))).thenReturn(attachment);
         when(attachmentMapper.toResponse(any(Attachment.class))).thenReturn(attachmentResponse);
 
@@ -118,9 +133,13 @@ public class AttachmentServiceTest {
         verify(taskRepository).findByIdAndIsActiveTrue(taskId);
         verify(authService).getCurrentUserId();
         verify(userRepository).findByIdAndIsActiveTrue(userId);
-        verify(attachmentMapper).toEntity(anyString(), eq(task), eq(user), anyString(), eq(multipartFile.getSize()), eq(multipartFile.getContentType()));
+        verify(attachmentStorageService).storeContent(multipartFile);
+        verify(attachmentMapper).toEntity(eq(fileName), eq(task), eq(user), eq(blob.getFilePath()), eq(multipartFile.getSize()),
+                eq(multipartFile.getContentType()), eq(blob.getContentHash()));
         verify(attachmentRepository).save(attachment);
         verify(attachmentMapper).toResponse(attachment);
+        assertEquals(multipartFile.getSize(), meterRegistry.get(MetricConstants.ATTACHMENT_BYTES)
+                .tag(MetricConstants.TAG_DIRECTION, MetricConstants.DIRECTION_IN).counter().count());
     }
 
     @Test
@@ -132,7 +151,8 @@ public class AttachmentServiceTest {
         verify(taskRepository, never()).findByIdAndIsActiveTrue(any());
         verify(authService, never()).getCurrentUserId();
         verify(userRepository, never()).findByIdAndIsActiveTrue(any());
-        verify(attachmentMapper, never()).toEntity(anyString(), any(), any(), anyString(), anyLong(), anyString());
+        verify(attachmentStorageService, never()).storeContent(any());
+        verify(attachmentMapper, never()).toEntity(anyString(), any(), any(), anyString(), anyLong(), anyString(), anyString());
         verify(attachmentRepository, never()).save(any());
     }
 
@@ -145,7 +165,8 @@ public class AttachmentServiceTest {
         verify(taskRepository, never()).findByIdAndIsActiveTrue(any());
         verify(authService, never()).getCurrentUserId();
         verify(userRepository, never()).findByIdAndIsActiveTrue(any());
-        verify(attachmentMapper, never()).toEntity(anyString(), any(), any(), anyString(), anyLong(), anyString());
+        verify(attachmentStorageService, never()).storeContent(any());
+        verify(attachmentMapper, never()).toEntity(anyString(), any(), any(), anyString(), anyLong(), anyString(), anyString());
         verify(attachmentRepository, never()).save(any());
     }
 
@@ -158,7 +179,8 @@ public class AttachmentServiceTest {
         verify(taskRepository).findByIdAndIsActiveTrue(taskId);
         verify(authService, never()).getCurrentUserId();
         verify(userRepository, never()).findByIdAndIsActiveTrue(any());
-        verify(attachmentMapper, never()).toEntity(anyString(), any(), any(), anyString(), anyLong(), anyString());
+        verify(attachmentStorageService, never()).storeContent(any());
+        verify(attachmentMapper, never()).toEntity(anyString(), any(), any(), anyString(), anyLong(), anyString(), anyString());
         verify(attachmentRepository, never()).save(any());
     }
 
@@ -173,7 +195,8 @@ public class AttachmentServiceTest {
         verify(taskRepository).findByIdAndIsActiveTrue(taskId);
         verify(authService).getCurrentUserId();
         verify(userRepository).findByIdAndIsActiveTrue(userId);
-        verify(attachmentMapper, never()).toEntity(anyString(), any(), any(), anyString(), anyLong(), anyString());
+        verify(attachmentStorageService, never()).storeContent(any());
+        verify(attachmentMapper, never()).toEntity(anyString(), any(), any(), anyString(), anyLong(), anyString(), anyString());
         verify(attachmentRepository, never()).save(any());
     }
 
@@ -193,10 +216,13 @@ public class AttachmentServiceTest {
 
         when(attachmentRepository.findByIdAndIsActiveTrue(anyLong())).thenReturn(Optional.of(attachment));
 
-        Resource resource = attachmentService.downloadFile(attachmentId);
+        AttachmentDownload download = attachmentService.downloadFile(attachmentId);
 
-        assertNotNull(resource);
-        assertTrue(resource.exists());
+        assertNotNull(download);
+        assertEquals(filePath.toAbsolutePath().normalize(), download.getFilePath());
+        assertEquals("test content".length(), download.getContentLength());
+        assertEquals(fileName, download.getFileName());
+        assertEquals(contentType, download.getContentType());
         verify(attachmentRepository).findByIdAndIsActiveTrue(attachmentId);
     }
 
@@ -311,6 +337,7 @@ public class AttachmentServiceTest {
         assertFalse(attachment.getIsActive());
         verify(attachmentRepository).findByIdAndIsActiveTrue(attachmentId);
         verify(attachmentRepository).save(attachment);
+        verify(attachmentStorageService).releaseContent(attachment);
     }
 
     @Test
@@ -321,6 +348,7 @@ public class AttachmentServiceTest {
         assertThrows(ResourceNotFoundException.class, () -> attachmentService.deleteAttachment(attachmentId));
         verify(attachmentRepository).findByIdAndIsActiveTrue(attachmentId);
         verify(attachmentRepository, never()).save(any());
+        verify(attachmentStorageService, never()).releaseContent(any());
     }
 
     private Task createTask() {
@@ -369,6 +397,16 @@ public class AttachmentServiceTest {
         return attachment;
     }
 
+    private AttachmentBlob createAttachmentBlob(String contentHash) {
+        return AttachmentBlob.builder()
+                .id(1L)
+                .contentHash(contentHash)
+                .filePath(FileConstants.BLOB_STORE_DIR + "/" + contentHash.substring(0, 2) + "/" + contentHash)
+                .fileSize(multipartFile.getSize())
+                .referenceCount(1)
+                .build();
+    }
+
     private CreateAttachmentRequest createCreateAttachmentRequest() {
         CreateAttachmentRequest request = new CreateAttachmentRequest();
         request.setTaskId(taskId);
@@ -402,4 +440,12 @@ public class AttachmentServiceTest {
     private MultipartFile createMultipartFile() {
         return new MockMultipartFile("file", fileName, contentType, "test content".getBytes());
     }
-} 
\ No newline at end of file
+
+    private String sha256Hex(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance(FileConstants.CONTENT_HASH_ALGORITHM).digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
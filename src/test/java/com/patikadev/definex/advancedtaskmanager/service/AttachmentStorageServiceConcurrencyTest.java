@@ -0,0 +1,92 @@
+package com.patikadev.definex.advancedtaskmanager.service;
+
+import com.patikadev.definex.advancedtaskmanager.model.entity.AttachmentBlob;
+import com.patikadev.definex.advancedtaskmanager.repository.AttachmentBlobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class AttachmentStorageServiceConcurrencyTest {
+
+    private static final int CONCURRENT_UPLOADS = 8;
+
+    @Autowired
+    private AttachmentStorageService attachmentStorageService;
+
+    @Autowired
+    private AttachmentBlobRepository attachmentBlobRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${application.file.upload-dir}")
+    private String uploadDir;
+
+    private final List<AttachmentBlob> storedBlobs = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (AttachmentBlob blob : storedBlobs) {
+            Files.deleteIfExists(Paths.get(uploadDir).toAbsolutePath().resolve(blob.getFilePath()));
+        }
+        attachmentBlobRepository.deleteAllInBatch(storedBlobs);
+    }
+
+    @Test
+    @DisplayName("Store Content - Concurrent First Uploads Of Same Content - Share One Blob")
+    void storeContent_ConcurrentFirstUploads_ShareOneBlob() throws Exception {
+        byte[] content = ("concurrent specification " + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_UPLOADS);
+
+        List<Future<AttachmentBlob>> uploads = new ArrayList<>();
+        try {
+            for (int i = 0; i < CONCURRENT_UPLOADS; i++) {
+                uploads.add(executor.submit(() -> {
+                    start.await();
+                    return transactionTemplate.execute(status -> attachmentStorageService.storeContent(
+                            new MockMultipartFile("file", "spec.pdf", "application/pdf", content)));
+                }));
+            }
+            start.countDown();
+
+            for (Future<AttachmentBlob> upload : uploads) {
+                storedBlobs.add(upload.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        String contentHash = storedBlobs.get(0).getContentHash();
+        assertTrue(storedBlobs.stream().allMatch(blob -> blob.getContentHash().equals(contentHash)));
+        AttachmentBlob blob = attachmentBlobRepository.findByContentHash(contentHash).orElseThrow();
+        assertEquals(CONCURRENT_UPLOADS, blob.getReferenceCount());
+        Path blobFile = Paths.get(uploadDir).toAbsolutePath().resolve(blob.getFilePath());
+        assertArrayEquals(content, Files.readAllBytes(blobFile));
+    }
+}
@@ -0,0 +1,357 @@
+package com.patikadev.definex.advancedtaskmanager.service;
+
+import com.patikadev.definex.advancedtaskmanager.config.ApplicationProperties;
+import com.patikadev.definex.advancedtaskmanager.constant.FileConstants;
+import com.patikadev.definex.advancedtaskmanager.exception.FileStorageException;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Attachment;
+import com.patikadev.definex.advancedtaskmanager.model.entity.AttachmentBlob;
+import com.patikadev.definex.advancedtaskmanager.repository.AttachmentBlobRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.AttachmentRepository;
+import com.patikadev.definex.advancedtaskmanager.service.impl.AttachmentStorageServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AttachmentStorageServiceTest {
+
+    @Mock
+    private AttachmentBlobRepository attachmentBlobRepository;
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @Mock
+    private ApplicationProperties applicationProperties;
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private AttachmentStorageServiceImpl attachmentStorageService;
+
+    @TempDir
+    Path uploadDir;
+
+    private final ApplicationProperties.File fileProperties = new ApplicationProperties.File();
+    private final byte[] content = "shared specification".getBytes();
+    private MockMultipartFile multipartFile;
+    private String contentHash;
+    private String blobPath;
+
+    @BeforeEach
+    void setUp() {
+        fileProperties.setUploadDir(uploadDir.toString());
+        fileProperties.setTempDir("temp");
+        lenient().when(applicationProperties.getFile()).thenReturn(fileProperties);
+
+        multipartFile = new MockMultipartFile("file", "spec.pdf", "application/pdf", content);
+        contentHash = sha256Hex(content);
+        blobPath = FileConstants.BLOB_STORE_DIR + "/" + contentHash.substring(0, 2) + "/" + contentHash;
+    }
+
+    @Test
+    @DisplayName("Store Content - New Content - Writes Blob And Creates Record")
+    void storeContent_NewContent_WritesBlobAndCreatesRecord() throws IOException {
+        when(attachmentBlobRepository.incrementReferenceCount(eq(contentHash), any(LocalDateTime.class))).thenReturn(0);
+        when(jdbcTemplate.update(anyString(), any(SqlParameterSource.class))).thenReturn(1);
+        when(attachmentBlobRepository.findByContentHash(contentHash)).thenReturn(Optional.of(createBlob(1)));
+
+        AttachmentBlob result = attachmentStorageService.storeContent(multipartFile);
+
+        ArgumentCaptor<SqlParameterSource> parameters = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(jdbcTemplate).update(contains("INSERT INTO attachment_blobs"), parameters.capture());
+        assertEquals(contentHash, parameters.getValue().getValue("contentHash"));
+        assertEquals(blobPath, parameters.getValue().getValue("filePath"));
+        assertEquals((long) content.length, parameters.getValue().getValue("fileSize"));
+        assertEquals(1, result.getReferenceCount());
+        assertArrayEquals(content, Files.readAllBytes(uploadDir.resolve(blobPath)));
+        try (var stagingFiles = Files.list(uploadDir.resolve("temp"))) {
+            assertEquals(0, stagingFiles.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Store Content - Duplicate Content - Reuses Blob Without Writing")
+    void storeContent_DuplicateContent_ReusesBlobWithoutWriting() throws IOException {
+        Path blobFile = uploadDir.resolve(blobPath);
+        Files.createDirectories(blobFile.getParent());
+        Files.write(blobFile, content);
+        AttachmentBlob existingBlob = createBlob(2);
+
+        when(attachmentBlobRepository.incrementReferenceCount(eq(contentHash), any(LocalDateTime.class))).thenReturn(1);
+        when(attachmentBlobRepository.findByContentHash(contentHash)).thenReturn(Optional.of(existingBlob));
+
+        AttachmentBlob result = attachmentStorageService.storeContent(multipartFile);
+
+        assertSame(existingBlob, result);
+        assertFalse(Files.exists(uploadDir.resolve("temp")));
+        verify(jdbcTemplate, never()).update(anyString(), any(SqlParameterSource.class));
+    }
+
+    @Test
+    @DisplayName("Store Content - Referenced Blob Missing On Disk - Rewrites Blob")
+    void storeContent_ReferencedBlobMissing_RewritesBlob() throws IOException {
+        when(attachmentBlobRepository.incrementReferenceCount(eq(contentHash), any(LocalDateTime.class))).thenReturn(1);
+        when(attachmentBlobRepository.findByContentHash(contentHash)).thenReturn(Optional.of(createBlob(2)));
+
+        attachmentStorageService.storeContent(multipartFile);
+
+        assertArrayEquals(content, Files.readAllBytes(uploadDir.resolve(blobPath)));
+    }
+
+    @Test
+    @DisplayName("Store Content - Concurrent Insert - Shares Blob Inserted By Other Upload")
+    void storeContent_ConcurrentInsert_SharesBlobInsertedByOtherUpload() throws IOException {
+        Path blobFile = uploadDir.resolve(blobPath);
+        Files.createDirectories(blobFile.getParent());
+        Files.write(blobFile, content);
+        AttachmentBlob existingBlob = createBlob(2);
+
+        when(attachmentBlobRepository.incrementReferenceCount(eq(contentHash), any(LocalDateTime.class))).thenReturn(0, 1);
+        when(jdbcTemplate.update(anyString(), any(SqlParameterSource.class)))
+                .thenThrow(new DuplicateKeyException("duplicate content hash"));
+        when(attachmentBlobRepository.findByContentHash(contentHash)).thenReturn(Optional.of(existingBlob));
+
+        AttachmentBlob result = attachmentStorageService.storeContent(multipartFile);
+
+        assertSame(existingBlob, result);
+        verify(attachmentBlobRepository, times(2)).incrementReferenceCount(eq(contentHash), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Store Content - Blob Removed During Insert Race - Throws FileStorageException")
+    void storeContent_BlobRemovedDuringInsertRace_ThrowsFileStorageException() {
+        when(attachmentBlobRepository.incrementReferenceCount(eq(contentHash), any(LocalDateTime.class))).thenReturn(0);
+        when(jdbcTemplate.update(anyString(), any(SqlParameterSource.class)))
+                .thenThrow(new DuplicateKeyException("duplicate content hash"));
+
+        assertThrows(FileStorageException.class, () -> attachmentStorageService.storeContent(multipartFile));
+    }
+
+    @Test
+    @DisplayName("Store Content - Rollback Of Existing File - Keeps File")
+    void storeContent_RollbackOfExistingFile_KeepsFile() throws IOException {
+        Path blobFile = uploadDir.resolve(blobPath);
+        Files.createDirectories(blobFile.getParent());
+        Files.write(blobFile, content);
+        when(attachmentBlobRepository.incrementReferenceCount(eq(contentHash), any(LocalDateTime.class))).thenReturn(0);
+        when(jdbcTemplate.update(anyString(), any(SqlParameterSource.class))).thenReturn(1);
+        when(attachmentBlobRepository.findByContentHash(contentHash)).thenReturn(Optional.of(createBlob(1)));
+
+        List<TransactionSynchronization> synchronizations = storeWithinSynchronization();
+
+        assertTrue(synchronizations.isEmpty());
+        assertTrue(Files.exists(blobFile));
+    }
+
+    @Test
+    @DisplayName("Store Content - Rollback Of Created File - Deletes File When No Blob Record Remains")
+    void storeContent_RollbackOfCreatedFile_DeletesFile() throws IOException {
+        stubNewBlob();
+        when(attachmentBlobRepository.findByContentHashForUpdate(contentHash)).thenReturn(Optional.empty());
+
+        storeWithinSynchronization().forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertFalse(Files.exists(uploadDir.resolve(blobPath)));
+    }
+
+    @Test
+    @DisplayName("Store Content - Rollback Of Created File - Keeps File Claimed By Another Upload")
+    void storeContent_RollbackOfCreatedFile_KeepsFileClaimedByAnotherUpload() throws IOException {
+        stubNewBlob();
+        when(attachmentBlobRepository.findByContentHashForUpdate(contentHash)).thenReturn(Optional.of(createBlob(1)));
+
+        storeWithinSynchronization().forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertArrayEquals(content, Files.readAllBytes(uploadDir.resolve(blobPath)));
+    }
+
+    @Test
+    @DisplayName("Hash Staged File - Returns Content Hash")
+    void hashStagedFile_ReturnsContentHash() throws IOException {
+        Path stagedFile = Files.write(uploadDir.resolve("session.part"), content);
+
+        assertEquals(contentHash, attachmentStorageService.hashStagedFile(stagedFile, "spec.pdf"));
+        assertTrue(Files.exists(stagedFile));
+    }
+
+    @Test
+    @DisplayName("Store Staged File - New Content - Moves Staged File Into Store")
+    void storeStagedFile_NewContent_MovesStagedFileIntoStore() throws IOException {
+        Path stagedFile = Files.write(uploadDir.resolve("session.part"), content);
+        stubNewBlob();
+
+        AttachmentBlob result = attachmentStorageService.storeStagedFile(stagedFile, "spec.pdf", contentHash);
+
+        assertEquals(blobPath, result.getFilePath());
+        assertEquals(content.length, result.getFileSize());
+        assertArrayEquals(content, Files.readAllBytes(uploadDir.resolve(blobPath)));
+        assertFalse(Files.exists(stagedFile));
+    }
+
+    @Test
+    @DisplayName("Store Staged File - Duplicate Content - Discards Staged File")
+    void storeStagedFile_DuplicateContent_DiscardsStagedFile() throws IOException {
+        Path blobFile = uploadDir.resolve(blobPath);
+        Files.createDirectories(blobFile.getParent());
+        Files.write(blobFile, content);
+        Path stagedFile = Files.write(uploadDir.resolve("session.part"), content);
+        AttachmentBlob existingBlob = createBlob(3);
+
+        when(attachmentBlobRepository.incrementReferenceCount(eq(contentHash), any(LocalDateTime.class))).thenReturn(1);
+        when(attachmentBlobRepository.findByContentHash(contentHash)).thenReturn(Optional.of(existingBlob));
+
+        AttachmentBlob result = attachmentStorageService.storeStagedFile(stagedFile, "spec.pdf", contentHash);
+
+        assertSame(existingBlob, result);
+        assertFalse(Files.exists(stagedFile));
+        verify(jdbcTemplate, never()).update(anyString(), any(SqlParameterSource.class));
+    }
+
+    @Test
+    @DisplayName("Release Content - Blob Backed Attachment - Decrements Reference Count")
+    void releaseContent_BlobBackedAttachment_DecrementsReferenceCount() {
+        Attachment attachment = Attachment.builder().contentHash(contentHash).filePath(blobPath).build();
+
+        attachmentStorageService.releaseContent(attachment);
+
+        verify(attachmentBlobRepository).decrementReferenceCount(eq(contentHash), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Release Content - Legacy Attachment - Leaves Blobs Untouched")
+    void releaseContent_LegacyAttachment_LeavesBlobsUntouched() {
+        Attachment attachment = Attachment.builder()
+                .contentHash(contentHash)
+                .filePath(FileConstants.TASK_ATTACHMENTS_DIR + "/task/123456_spec.pdf")
+                .build();
+
+        attachmentStorageService.releaseContent(attachment);
+
+        verify(attachmentBlobRepository, never()).decrementReferenceCount(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Collect Orphaned Blobs - Unreferenced Blob - Deletes File And Record")
+    void collectOrphanedBlobs_UnreferencedBlob_DeletesFileAndRecord() throws IOException {
+        Path blobFile = uploadDir.resolve(blobPath);
+        Files.createDirectories(blobFile.getParent());
+        Files.write(blobFile, content);
+        AttachmentBlob orphanedBlob = createBlob(0);
+
+        when(attachmentBlobRepository.findOrphanedBlobIds(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(1L));
+        when(attachmentBlobRepository.findOrphanedBlobForUpdate(1L)).thenReturn(Optional.of(orphanedBlob));
+        when(attachmentRepository.countByFilePathAndIsActiveTrue(blobPath)).thenReturn(0L);
+
+        int collected = attachmentStorageService.collectOrphanedBlobs();
+
+        assertEquals(1, collected);
+        assertFalse(Files.exists(blobFile));
+        verify(attachmentBlobRepository).delete(orphanedBlob);
+    }
+
+    @Test
+    @DisplayName("Collect Orphaned Blobs - Still Referenced - Repairs Reference Count")
+    void collectOrphanedBlobs_StillReferenced_RepairsReferenceCount() throws IOException {
+        Path blobFile = uploadDir.resolve(blobPath);
+        Files.createDirectories(blobFile.getParent());
+        Files.write(blobFile, content);
+        AttachmentBlob blob = createBlob(0);
+
+        when(attachmentBlobRepository.findOrphanedBlobIds(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(1L));
+        when(attachmentBlobRepository.findOrphanedBlobForUpdate(1L)).thenReturn(Optional.of(blob));
+        when(attachmentRepository.countByFilePathAndIsActiveTrue(blobPath)).thenReturn(2L);
+
+        int collected = attachmentStorageService.collectOrphanedBlobs();
+
+        assertEquals(0, collected);
+        assertEquals(2, blob.getReferenceCount());
+        assertTrue(Files.exists(blobFile));
+        verify(attachmentBlobRepository, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("Collect Orphaned Blobs - Reacquired Before Lock - Skips Blob")
+    void collectOrphanedBlobs_ReacquiredBeforeLock_SkipsBlob() {
+        ArgumentCaptor<LocalDateTime> releasedBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(attachmentBlobRepository.findOrphanedBlobIds(releasedBefore.capture(), any(Pageable.class))).thenReturn(List.of(1L));
+        when(attachmentBlobRepository.findOrphanedBlobForUpdate(1L)).thenReturn(Optional.empty());
+
+        int collected = attachmentStorageService.collectOrphanedBlobs();
+
+        assertEquals(0, collected);
+        assertTrue(releasedBefore.getValue().isBefore(LocalDateTime.now().minusMinutes(9)));
+        verify(attachmentRepository, never()).countByFilePathAndIsActiveTrue(anyString());
+        verify(attachmentBlobRepository, never()).delete(any());
+    }
+
+    private void stubNewBlob() {
+        when(attachmentBlobRepository.incrementReferenceCount(eq(contentHash), any(LocalDateTime.class))).thenReturn(0);
+        when(jdbcTemplate.update(anyString(), any(SqlParameterSource.class))).thenReturn(1);
+        when(attachmentBlobRepository.findByContentHash(contentHash)).thenReturn(Optional.of(createBlob(1)));
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+    }
+
+    private List<TransactionSynchronization> storeWithinSynchronization() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            attachmentStorageService.storeContent(multipartFile);
+            return TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private AttachmentBlob createBlob(int referenceCount) {
+        return AttachmentBlob.builder()
+                .id(1L)
+                .contentHash(contentHash)
+                .filePath(blobPath)
+                .fileSize((long) content.length)
+                .referenceCount(referenceCount)
+                .build();
+    }
+
+    private String sha256Hex(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance(FileConstants.CONTENT_HASH_ALGORITHM).digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.patikadev.definex.advancedtaskmanager.config.ApplicationProperties;
 import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
 import com.patikadev.definex.advancedtaskmanager.exception.TokenRefreshException;
 import com.patikadev.definex.advancedtaskmanager.mapper.UserMapper;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.UserIdentity;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.auth.LoginRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.auth.RegisterRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.user.CreateUserRequest;
@@ -15,8 +16,12 @@ import com.patikadev.definex.advancedtaskmanager.model.entity.Role;
 import com.patikadev.definex.advancedtaskmanager.model.entity.User;
 import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
 import com.patikadev.definex.advancedtaskmanager.repository.UserRepository;
+import com.patikadev.definex.advancedtaskmanager.security.CustomUserDetails;
+import com.patikadev.definex.advancedtaskmanager.security.JwtUserPrincipal;
 import com.patikadev.definex.advancedtaskmanager.security.jwt.JwtTokenProvider;
+import com.patikadev.definex.advancedtaskmanager.security.jwt.VerifiedTokenCache;
 import com.patikadev.definex.advancedtaskmanager.service.impl.AuthServiceImpl;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -63,6 +68,12 @@ public class AuthServiceTest {
     @Mock
     private RefreshTokenService refreshTokenService;
 
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Mock
+    private ReferenceDataService referenceDataService;
+
     @Mock
     private Authentication authentication;
 
@@ -81,6 +92,7 @@ public class AuthServiceTest {
     private User testUser;
     private UserResponse testUserResponse;
     private UserDetailResponse testUserDetailResponse;
+    private UserIdentity testUserIdentity;
     private RefreshToken testRefreshToken;
     private RegisterRequest testRegisterRequest;
     private LoginRequest testLoginRequest;
@@ -91,6 +103,7 @@ public class AuthServiceTest {
     void setUp() {
         userId = UUID.randomUUID();
         createTestUser();
+        testUserIdentity = new UserIdentity(userId, "test@example.com", 1L, Set.of(UserRole.PROJECT_MANAGER));
         createTestUserResponse();
         createTestUserDetailResponse();
         createTestRefreshToken();
@@ -99,6 +112,11 @@ public class AuthServiceTest {
         SecurityContextHolder.setContext(securityContext);
     }
 
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     @DisplayName("Register - Success")
     void registerSuccess() {
@@ -109,13 +127,10 @@ public class AuthServiceTest {
         when(userMapper.toCreateUserRequest(any(RegisterRequest.class))).thenReturn(testCreateUserRequest);
         when(userService.createUser(any(CreateUserRequest.class))).thenReturn(testUserResponse);
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class))).thenReturn(authentication);
-        when(authentication.getName()).thenReturn("test@example.com");
-
-        doReturn(Collections.singletonList(new SimpleGrantedAuthority("ROLE_PROJECT_MANAGER")))
-                .when(authentication).getAuthorities();
+        when(authentication.getPrincipal()).thenReturn(new CustomUserDetails(testUser));
 
         doReturn("access-token")
-                .when(tokenProvider).generateTokenFromUsername(anyString(), any());
+                .when(tokenProvider).generateTokenFromUsername(anyString(), any(), any(), any());
 
         when(refreshTokenService.createRefreshToken(any(UUID.class))).thenReturn(testRefreshToken);
 
@@ -130,7 +145,7 @@ public class AuthServiceTest {
         verify(userMapper).toCreateUserRequest(testRegisterRequest);
         verify(userService).createUser(testCreateUserRequest);
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(tokenProvider).generateTokenFromUsername(anyString(), any());
+        verify(tokenProvider).generateTokenFromUsername(anyString(), any(), any(), any());
         verify(refreshTokenService).createRefreshToken(userId);
     }
 
@@ -169,13 +184,10 @@ public class AuthServiceTest {
 
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class))).thenReturn(authentication);
         when(userService.getUserByEmail(anyString())).thenReturn(testUserDetailResponse);
-        when(authentication.getName()).thenReturn("test@example.com");
-
-        doReturn(Collections.singletonList(new SimpleGrantedAuthority("ROLE_PROJECT_MANAGER")))
-                .when(authentication).getAuthorities();
+        when(authentication.getPrincipal()).thenReturn(new CustomUserDetails(testUser));
 
         doReturn("access-token")
-                .when(tokenProvider).generateTokenFromUsername(anyString(), any());
+                .when(tokenProvider).generateTokenFromUsername(anyString(), any(), any(), any());
 
         when(refreshTokenService.createRefreshToken(any(UUID.class))).thenReturn(testRefreshToken);
 
@@ -188,7 +200,7 @@ public class AuthServiceTest {
 
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
         verify(userService).getUserByEmail("test@example.com");
-        verify(tokenProvider).generateTokenFromUsername(anyString(), any());
+        verify(tokenProvider).generateTokenFromUsername(anyString(), any(), any(), any());
         verify(refreshTokenService).createRefreshToken(userId);
     }
 
@@ -198,15 +210,53 @@ public class AuthServiceTest {
         when(securityContext.getAuthentication()).thenReturn(authentication);
         when(authentication.getName()).thenReturn("test@example.com");
         when(authentication.isAuthenticated()).thenReturn(true);
-        when(userService.getUserByEmail(anyString())).thenReturn(testUserDetailResponse);
+        when(referenceDataService.findUserIdentity(anyString())).thenReturn(Optional.of(testUserIdentity));
 
         UserResponse response = authService.getCurrentUser();
 
         assertNotNull(response);
-        assertEquals(testUserDetailResponse, response);
+        assertEquals(userId, response.getId());
+        assertEquals("test@example.com", response.getEmail());
+        assertEquals(1L, response.getDepartmentId());
+        assertEquals(Set.of(UserRole.PROJECT_MANAGER), response.getRoles());
 
         verify(securityContext).getAuthentication();
         verify(authentication).getName();
+        verify(referenceDataService).findUserIdentity("test@example.com");
+        verifyNoInteractions(userService, userRepository);
+    }
+
+    @Test
+    @DisplayName("GetCurrentUser - Resolved From Token Claims")
+    void getCurrentUserResolvedFromTokenClaims() {
+        JwtUserPrincipal principal = new JwtUserPrincipal("test@example.com", userId, 1L,
+                List.of(new SimpleGrantedAuthority("ROLE_PROJECT_MANAGER")));
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        when(authentication.isAuthenticated()).thenReturn(true);
+        when(authentication.getPrincipal()).thenReturn(principal);
+
+        UserResponse response = authService.getCurrentUser();
+
+        assertEquals(userId, response.getId());
+        assertEquals("test@example.com", response.getEmail());
+        assertEquals(1L, response.getDepartmentId());
+        assertEquals(Set.of(UserRole.PROJECT_MANAGER), response.getRoles());
+
+        verifyNoInteractions(userService, userRepository);
+    }
+
+    @Test
+    @DisplayName("GetCurrentUserProfile - Success")
+    void getCurrentUserProfileSuccess() {
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        when(authentication.getName()).thenReturn("test@example.com");
+        when(authentication.isAuthenticated()).thenReturn(true);
+        when(userService.getUserByEmail(anyString())).thenReturn(testUserDetailResponse);
+
+        UserResponse response = authService.getCurrentUserProfile();
+
+        assertEquals(testUserDetailResponse, response);
+
         verify(userService).getUserByEmail("test@example.com");
     }
 
@@ -231,7 +281,7 @@ public class AuthServiceTest {
         when(securityContext.getAuthentication()).thenReturn(authentication);
         when(authentication.getName()).thenReturn("test@example.com");
         when(authentication.isAuthenticated()).thenReturn(true);
-        when(userRepository.findByEmailAndIsActiveTrue(anyString())).thenReturn(Optional.of(testUser));
+        when(referenceDataService.findUserIdentity(anyString())).thenReturn(Optional.of(testUserIdentity));
 
         UUID id = authService.getCurrentUserId();
 
@@ -239,7 +289,23 @@ public class AuthServiceTest {
 
         verify(securityContext).getAuthentication();
         verify(authentication).getName();
-        verify(userRepository).findByEmailAndIsActiveTrue("test@example.com");
+        verify(referenceDataService).findUserIdentity("test@example.com");
+    }
+
+    @Test
+    @DisplayName("GetCurrentUserId - Resolved From Token Claims")
+    void getCurrentUserIdResolvedFromTokenClaims() {
+        JwtUserPrincipal principal = new JwtUserPrincipal("test@example.com", userId, null,
+                List.of(new SimpleGrantedAuthority("ROLE_TEAM_MEMBER")));
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        when(authentication.isAuthenticated()).thenReturn(true);
+        when(authentication.getPrincipal()).thenReturn(principal);
+
+        UUID id = authService.getCurrentUserId();
+
+        assertEquals(userId, id);
+
+        verifyNoInteractions(userRepository);
     }
 
     @Test
@@ -248,7 +314,7 @@ public class AuthServiceTest {
         when(securityContext.getAuthentication()).thenReturn(authentication);
         when(authentication.getName()).thenReturn("test@example.com");
         when(authentication.isAuthenticated()).thenReturn(true);
-        when(userRepository.findByEmailAndIsActiveTrue(anyString())).thenReturn(Optional.of(testUser));
+        when(referenceDataService.findUserIdentity(anyString())).thenReturn(Optional.of(testUserIdentity));
 
         boolean result = authService.isResourceOwner(userId);
 
@@ -256,7 +322,7 @@ public class AuthServiceTest {
 
         verify(securityContext).getAuthentication();
         verify(authentication).getName();
-        verify(userRepository).findByEmailAndIsActiveTrue("test@example.com");
+        verify(referenceDataService).findUserIdentity("test@example.com");
     }
 
     @Test
@@ -266,7 +332,7 @@ public class AuthServiceTest {
         when(securityContext.getAuthentication()).thenReturn(authentication);
         when(authentication.getName()).thenReturn("test@example.com");
         when(authentication.isAuthenticated()).thenReturn(true);
-        when(userRepository.findByEmailAndIsActiveTrue(anyString())).thenReturn(Optional.of(testUser));
+        when(referenceDataService.findUserIdentity(anyString())).thenReturn(Optional.of(testUserIdentity));
 
         boolean result = authService.isResourceOwner(differentUserId);
 
@@ -274,7 +340,7 @@ public class AuthServiceTest {
 
         verify(securityContext).getAuthentication();
         verify(authentication).getName();
-        verify(userRepository).findByEmailAndIsActiveTrue("test@example.com");
+        verify(referenceDataService).findUserIdentity("test@example.com");
     }
 
     @Test
@@ -295,7 +361,7 @@ public class AuthServiceTest {
         when(refreshTokenService.verifyExpiration(any(RefreshToken.class))).thenReturn(testRefreshToken);
 
         doReturn("new-access-token")
-                .when(tokenProvider).generateTokenFromUsername(anyString(), any());
+                .when(tokenProvider).generateTokenFromUsername(anyString(), any(), any(), any());
 
         when(refreshTokenService.createRefreshToken(any(UUID.class))).thenReturn(newRefreshToken);
         when(userMapper.toResponse(any(User.class))).thenReturn(testUserResponse);
@@ -309,7 +375,7 @@ public class AuthServiceTest {
 
         verify(refreshTokenService).findByToken("refresh-token");
         verify(refreshTokenService).verifyExpiration(testRefreshToken);
-        verify(tokenProvider).generateTokenFromUsername(anyString(), any());
+        verify(tokenProvider).generateTokenFromUsername(anyString(), any(), any(), any());
         verify(refreshTokenService).createRefreshToken(userId);
         verify(userMapper).toResponse(testUser);
     }
@@ -352,15 +418,19 @@ public class AuthServiceTest {
             when(securityContext.getAuthentication()).thenReturn(authentication);
             when(authentication.isAuthenticated()).thenReturn(true);
             when(authentication.getName()).thenReturn("test@example.com");
-            when(userRepository.findByEmailAndIsActiveTrue(anyString())).thenReturn(Optional.of(testUser));
+            when(authentication.getCredentials()).thenReturn("access-token");
+            when(referenceDataService.findUserIdentity(anyString())).thenReturn(Optional.of(testUserIdentity));
 
             authService.logout();
 
             verify(securityContext).getAuthentication();
             verify(authentication).isAuthenticated();
             verify(authentication).getName();
-            verify(userRepository).findByEmailAndIsActiveTrue("test@example.com");
+            verify(referenceDataService).findUserIdentity("test@example.com");
             verify(refreshTokenService).deleteByUserId(userId);
+            verify(tokenProvider).revokeToken("access-token");
+            verify(verifiedTokenCache).invalidate("access-token");
+            verify(verifiedTokenCache, never()).invalidateUser(anyString());
 
             securityContextHolderMock.verify(SecurityContextHolder::clearContext);
         }
@@ -381,14 +451,14 @@ public class AuthServiceTest {
             verify(authentication).isAuthenticated();
 
             securityContextHolderMock.verify(SecurityContextHolder::clearContext);
-            verifyNoInteractions(userRepository, refreshTokenService);
+            verifyNoInteractions(userRepository, refreshTokenService, tokenProvider, verifiedTokenCache);
         }
     }
 
     @Test
     @DisplayName("FindUserByEmail - Not Found")
     void findUserByEmailNotFound() {
-        when(userRepository.findByEmailAndIsActiveTrue(anyString())).thenReturn(Optional.empty());
+        when(referenceDataService.findUserIdentity(anyString())).thenReturn(Optional.empty());
 
         when(securityContext.getAuthentication()).thenReturn(authentication);
         when(authentication.getName()).thenReturn("nonexistent@example.com");
@@ -399,7 +469,7 @@ public class AuthServiceTest {
 
         assertTrue(exception.getMessage().contains("User with email"));
 
-        verify(userRepository).findByEmailAndIsActiveTrue("nonexistent@example.com");
+        verify(referenceDataService).findUserIdentity("nonexistent@example.com");
     }
 
     private void createTestUser() {
@@ -2,13 +2,18 @@ package com.patikadev.definex.advancedtaskmanager.service;
 
 import com.patikadev.definex.advancedtaskmanager.exception.ResourceNotFoundException;
 import com.patikadev.definex.advancedtaskmanager.mapper.CommentMapper;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPage;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPageRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.comment.CreateCommentRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.comment.UpdateCommentRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.comment.CommentResponse;
+import com.patikadev.definex.advancedtaskmanager.event.TaskActivityEvent;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Comment;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Department;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Project;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Task;
 import com.patikadev.definex.advancedtaskmanager.model.entity.User;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskActivityType;
 import com.patikadev.definex.advancedtaskmanager.model.enums.TaskPriority;
 import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
 import com.patikadev.definex.advancedtaskmanager.repository.CommentRepository;
@@ -22,6 +27,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -49,9 +56,17 @@ public class CommentServiceTest {
     @Mock
     private CommentMapper commentMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private DomainEventService domainEventService;
+
     @InjectMocks
     private CommentServiceImpl commentService;
 
+    private final CursorPageRequest pageRequest = CursorPageRequest.firstPage(20);
+
     private Comment comment;
     private User user;
     private Task task;
@@ -100,6 +115,10 @@ public class CommentServiceTest {
         verify(commentMapper).toEntity(createCommentRequest, task, user);
         verify(commentRepository).save(comment);
         verify(commentMapper).toResponse(comment);
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof TaskActivityEvent activity
+                && activity.type() == TaskActivityType.COMMENT_ADDED
+                && activity.taskId().equals(taskId)
+                && activity.departmentId() == 1L));
     }
 
     @Test
@@ -198,16 +217,16 @@ public class CommentServiceTest {
     @DisplayName("Get Comments By Task Id - Success")
     void getCommentsByTaskId_Success() {
         when(taskRepository.existsByIdAndIsActiveTrue(any(UUID.class))).thenReturn(true);
-        when(commentRepository.findAllByTaskIdWithDetails(any(UUID.class))).thenReturn(commentList);
+        when(commentRepository.findPageByTaskIdWithDetails(any(UUID.class), any(), any(), any(Limit.class))).thenReturn(commentList);
         when(commentMapper.toResponseList(anyList())).thenReturn(commentResponseList);
 
-        List<CommentResponse> result = commentService.getCommentsByTaskId(taskId);
+        CursorPage<CommentResponse> result = commentService.getCommentsByTaskId(taskId, pageRequest);
 
         assertNotNull(result);
-        assertEquals(commentResponseList, result);
-        assertEquals(commentResponseList.size(), result.size());
+        assertEquals(commentResponseList, result.getContent());
+        assertEquals(commentResponseList.size(), result.getContent().size());
         verify(taskRepository).existsByIdAndIsActiveTrue(taskId);
-        verify(commentRepository).findAllByTaskIdWithDetails(taskId);
+        verify(commentRepository).findPageByTaskIdWithDetails(eq(taskId), isNull(), isNull(), any(Limit.class));
         verify(commentMapper).toResponseList(commentList);
     }
 
@@ -217,11 +236,11 @@ public class CommentServiceTest {
         when(taskRepository.existsByIdAndIsActiveTrue(any(UUID.class))).thenReturn(false);
 
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
-                () -> commentService.getCommentsByTaskId(taskId));
+                () -> commentService.getCommentsByTaskId(taskId, pageRequest));
 
         assertTrue(exception.getMessage().contains(taskId.toString()));
         verify(taskRepository).existsByIdAndIsActiveTrue(taskId);
-        verify(commentRepository, never()).findAllByTaskIdWithDetails(any());
+        verify(commentRepository, never()).findPageByTaskIdWithDetails(any(), any(), any(), any());
         verify(commentMapper, never()).toResponseList(any());
     }
 
@@ -229,16 +248,16 @@ public class CommentServiceTest {
     @DisplayName("Get Comments By User Id - Success")
     void getCommentsByUserId_Success() {
         when(userRepository.existsByIdAndIsActiveTrue(any(UUID.class))).thenReturn(true);
-        when(commentRepository.findAllByUserIdAndIsActiveTrue(any(UUID.class))).thenReturn(commentList);
+        when(commentRepository.findPageByUserIdAndIsActiveTrue(any(UUID.class), any(), any(), any(Limit.class))).thenReturn(commentList);
         when(commentMapper.toResponseList(anyList())).thenReturn(commentResponseList);
 
-        List<CommentResponse> result = commentService.getCommentsByUserId(userId);
+        CursorPage<CommentResponse> result = commentService.getCommentsByUserId(userId, pageRequest);
 
         assertNotNull(result);
-        assertEquals(commentResponseList, result);
-        assertEquals(commentResponseList.size(), result.size());
+        assertEquals(commentResponseList, result.getContent());
+        assertEquals(commentResponseList.size(), result.getContent().size());
         verify(userRepository).existsByIdAndIsActiveTrue(userId);
-        verify(commentRepository).findAllByUserIdAndIsActiveTrue(userId);
+        verify(commentRepository).findPageByUserIdAndIsActiveTrue(eq(userId), isNull(), isNull(), any(Limit.class));
         verify(commentMapper).toResponseList(commentList);
     }
 
@@ -248,11 +267,11 @@ public class CommentServiceTest {
         when(userRepository.existsByIdAndIsActiveTrue(any(UUID.class))).thenReturn(false);
 
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
-                () -> commentService.getCommentsByUserId(userId));
+                () -> commentService.getCommentsByUserId(userId, pageRequest));
 
         assertTrue(exception.getMessage().contains(userId.toString()));
         verify(userRepository).existsByIdAndIsActiveTrue(userId);
-        verify(commentRepository, never()).findAllByUserIdAndIsActiveTrue(any());
+        verify(commentRepository, never()).findPageByUserIdAndIsActiveTrue(any(), any(), any(), any());
         verify(commentMapper, never()).toResponseList(any());
     }
 
@@ -306,7 +325,7 @@ public class CommentServiceTest {
                 .acceptanceCriteria("It should work")
                 .priority(TaskPriority.HIGH)
                 .state(TaskState.BACKLOG)
-                .project(new Project())
+                .project(Project.builder().id(UUID.randomUUID()).department(Department.builder().id(1L).build()).build())
                 .build();
         task.setIsActive(true);
         task.setCreatedAt(LocalDateTime.now());
@@ -37,6 +37,12 @@ public class DepartmentServiceTest {
     @Mock
     private DepartmentMapper departmentMapper;
 
+    @Mock
+    private AggregateCountService aggregateCountService;
+
+    @Mock
+    private ReferenceDataService referenceDataService;
+
     @InjectMocks
     private DepartmentServiceImpl departmentService;
 
@@ -65,7 +71,7 @@ public class DepartmentServiceTest {
         when(departmentRepository.findByNameAndIsActiveTrue(anyString())).thenReturn(Optional.empty());
         when(departmentMapper.toEntity(any(CreateDepartmentRequest.class))).thenReturn(department);
         when(departmentRepository.save(any(Department.class))).thenReturn(department);
-        when(departmentMapper.toResponse(any(Department.class))).thenReturn(departmentResponse);
+        when(departmentMapper.toResponse(any(Department.class), any())).thenReturn(departmentResponse);
 
         DepartmentResponse result = departmentService.createDepartment(createDepartmentRequest);
 
@@ -74,7 +80,7 @@ public class DepartmentServiceTest {
         verify(departmentRepository).findByNameAndIsActiveTrue(createDepartmentRequest.getName());
         verify(departmentMapper).toEntity(createDepartmentRequest);
         verify(departmentRepository).save(department);
-        verify(departmentMapper).toResponse(department);
+        verify(departmentMapper).toResponse(eq(department), any());
     }
 
     @Test
@@ -96,17 +102,18 @@ public class DepartmentServiceTest {
     @DisplayName("Update Department - Success")
     void updateDepartment_Success() {
         when(departmentRepository.findByIdAndIsActiveTrue(anyLong())).thenReturn(Optional.of(department));
-        when(departmentRepository.save(any(Department.class))).thenReturn(department);
-        when(departmentMapper.toResponse(any(Department.class))).thenReturn(departmentResponse);
+        when(departmentRepository.saveAndFlush(any(Department.class))).thenReturn(department);
+        when(departmentMapper.toResponse(any(Department.class), any())).thenReturn(departmentResponse);
 
-        DepartmentResponse result = departmentService.updateDepartment(1L, updateDepartmentRequest);
+        DepartmentResponse result = departmentService.updateDepartment(1L, updateDepartmentRequest, null);
 
         assertNotNull(result);
         assertEquals(departmentResponse, result);
         verify(departmentRepository).findByIdAndIsActiveTrue(1L);
         verify(departmentMapper).updateEntityFromDto(updateDepartmentRequest, department);
-        verify(departmentRepository).save(department);
-        verify(departmentMapper).toResponse(department);
+        verify(departmentRepository).saveAndFlush(department);
+        verify(departmentMapper).toResponse(eq(department), any());
+        verify(referenceDataService).evictDepartment(1L);
     }
 
     @Test
@@ -115,12 +122,12 @@ public class DepartmentServiceTest {
         when(departmentRepository.findByIdAndIsActiveTrue(anyLong())).thenReturn(Optional.empty());
 
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
-                () -> departmentService.updateDepartment(1L, updateDepartmentRequest));
+                () -> departmentService.updateDepartment(1L, updateDepartmentRequest, null));
 
         assertTrue(exception.getMessage().contains(String.valueOf(1L)));
         verify(departmentRepository).findByIdAndIsActiveTrue(1L);
         verify(departmentMapper, never()).updateEntityFromDto(any(), any());
-        verify(departmentRepository, never()).save(any());
+        verify(departmentRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -136,28 +143,28 @@ public class DepartmentServiceTest {
         updateDepartmentRequest.setName("New Department");
 
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
-                () -> departmentService.updateDepartment(1L, updateDepartmentRequest));
+                () -> departmentService.updateDepartment(1L, updateDepartmentRequest, null));
 
         assertEquals(ErrorMessages.DEPARTMENT_NAME_EXISTS.formatted(updateDepartmentRequest.getName()),
                 exception.getMessage());
         verify(departmentRepository).findByIdAndIsActiveTrue(1L);
         verify(departmentRepository).findByNameAndIsActiveTrue(updateDepartmentRequest.getName());
         verify(departmentMapper, never()).updateEntityFromDto(any(), any());
-        verify(departmentRepository, never()).save(any());
+        verify(departmentRepository, never()).saveAndFlush(any());
     }
 
     @Test
     @DisplayName("Get Department By Id - Success")
     void getDepartmentById_Success() {
         when(departmentRepository.findByIdAndIsActiveTrue(anyLong())).thenReturn(Optional.of(department));
-        when(departmentMapper.toDetailResponse(any(Department.class))).thenReturn(departmentDetailResponse);
+        when(departmentMapper.toDetailResponse(any(Department.class), any())).thenReturn(departmentDetailResponse);
 
         DepartmentDetailResponse result = departmentService.getDepartmentById(1L);
 
         assertNotNull(result);
         assertEquals(departmentDetailResponse, result);
         verify(departmentRepository).findByIdAndIsActiveTrue(1L);
-        verify(departmentMapper).toDetailResponse(department);
+        verify(departmentMapper).toDetailResponse(eq(department), any());
     }
 
     @Test
@@ -170,21 +177,21 @@ public class DepartmentServiceTest {
 
         assertTrue(exception.getMessage().contains(String.valueOf(1L)));
         verify(departmentRepository).findByIdAndIsActiveTrue(1L);
-        verify(departmentMapper, never()).toDetailResponse(any());
+        verify(departmentMapper, never()).toDetailResponse(any(), any());
     }
 
     @Test
     @DisplayName("Get Department By Name - Success")
     void getDepartmentByName_Success() {
         when(departmentRepository.findByNameAndIsActiveTrue(anyString())).thenReturn(Optional.of(department));
-        when(departmentMapper.toDetailResponse(any(Department.class))).thenReturn(departmentDetailResponse);
+        when(departmentMapper.toDetailResponse(any(Department.class), any())).thenReturn(departmentDetailResponse);
 
         DepartmentDetailResponse result = departmentService.getDepartmentByName("IT Department");
 
         assertNotNull(result);
         assertEquals(departmentDetailResponse, result);
         verify(departmentRepository).findByNameAndIsActiveTrue("IT Department");
-        verify(departmentMapper).toDetailResponse(department);
+        verify(departmentMapper).toDetailResponse(eq(department), any());
     }
 
     @Test
@@ -197,14 +204,14 @@ public class DepartmentServiceTest {
 
         assertTrue(exception.getMessage().contains("IT Department"));
         verify(departmentRepository).findByNameAndIsActiveTrue("IT Department");
-        verify(departmentMapper, never()).toDetailResponse(any());
+        verify(departmentMapper, never()).toDetailResponse(any(), any());
     }
 
     @Test
     @DisplayName("Get All Departments - Success")
     void getAllDepartments_Success() {
         when(departmentRepository.findAllByIsActiveTrue()).thenReturn(departmentList);
-        when(departmentMapper.toResponseList(anyList())).thenReturn(departmentResponseList);
+        when(departmentMapper.toResponseList(anyList(), any())).thenReturn(departmentResponseList);
 
         List<DepartmentResponse> result = departmentService.getAllDepartments();
 
@@ -212,7 +219,7 @@ public class DepartmentServiceTest {
         assertEquals(departmentResponseList, result);
         assertEquals(departmentResponseList.size(), result.size());
         verify(departmentRepository).findAllByIsActiveTrue();
-        verify(departmentMapper).toResponseList(departmentList);
+        verify(departmentMapper).toResponseList(eq(departmentList), any());
     }
 
     @Test
@@ -230,6 +237,7 @@ public class DepartmentServiceTest {
         assertFalse(emptyDepartment.getIsActive());
         verify(departmentRepository).findByIdAndIsActiveTrue(1L);
         verify(departmentRepository).save(emptyDepartment);
+        verify(referenceDataService).evictDepartment(1L);
     }
 
     @Test
@@ -0,0 +1,186 @@
+package com.patikadev.definex.advancedtaskmanager.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.patikadev.definex.advancedtaskmanager.config.ApplicationProperties;
+import com.patikadev.definex.advancedtaskmanager.config.BackgroundThreads;
+import com.patikadev.definex.advancedtaskmanager.constant.MetricConstants;
+import com.patikadev.definex.advancedtaskmanager.event.DomainEvent;
+import com.patikadev.definex.advancedtaskmanager.event.TaskAssignedEvent;
+import com.patikadev.definex.advancedtaskmanager.event.TaskStateChangedEvent;
+import com.patikadev.definex.advancedtaskmanager.model.entity.DomainEventOutbox;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
+import com.patikadev.definex.advancedtaskmanager.repository.DomainEventOutboxRepository;
+import com.patikadev.definex.advancedtaskmanager.service.impl.DomainEventDispatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DomainEventDispatcherTest {
+
+    @Mock
+    private DomainEventOutboxRepository outboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final UUID projectId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+    private SimpleMeterRegistry meterRegistry;
+    private ApplicationProperties applicationProperties;
+    private DomainEventDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        applicationProperties = new ApplicationProperties();
+        applicationProperties.getDomainEvents().setBatchSize(3);
+        applicationProperties.getDomainEvents().setMaxAttempts(3);
+        applicationProperties.getDomainEvents().setRetryBackoffMs(1000);
+        applicationProperties.getDomainEvents().setMaxRetryBackoffMs(60000);
+        dispatcher = new DomainEventDispatcher(outboxRepository, transactionManager, eventPublisher, objectMapper,
+                applicationProperties, new BackgroundThreads(new MockEnvironment()), meterRegistry);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+    }
+
+    @Test
+    @DisplayName("Dispatch Pending - Delivers Events In Outbox Order And Removes Them")
+    void dispatchPending_Success() throws JsonProcessingException {
+        UUID taskId = UUID.randomUUID();
+        TaskAssignedEvent assigned = new TaskAssignedEvent(taskId, projectId, userId, null);
+        TaskStateChangedEvent stateChanged = new TaskStateChangedEvent(taskId, projectId,
+                TaskState.BACKLOG, TaskState.IN_ANALYSIS, null, userId);
+        when(outboxRepository.findDeliverable(any(LocalDateTime.class), any(Limit.class)))
+                .thenReturn(List.of(entry(1L, assigned), entry(2L, stateChanged)));
+        claimAll();
+
+        int delivered = dispatcher.dispatchPending();
+
+        assertEquals(2, delivered);
+        InOrder inOrder = inOrder(eventPublisher);
+        inOrder.verify(eventPublisher).publishEvent((Object) assigned);
+        inOrder.verify(eventPublisher).publishEvent((Object) stateChanged);
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(outboxRepository).claim(eq(List.of(1L, 2L)), anyString(), any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(outboxRepository).findDeliverable(any(LocalDateTime.class), eq(Limit.of(3)));
+        assertEquals(1.0, meterRegistry.get(MetricConstants.DOMAIN_EVENT_DELIVERED)
+                .tag(MetricConstants.TAG_EVENT_TYPE, "TASK_STATE_CHANGED").counter().count());
+    }
+
+    @Test
+    @DisplayName("Dispatch Pending - Holds Back Later Events Of A Failed Aggregate")
+    void dispatchPending_ListenerFailure_BlocksAggregate() throws JsonProcessingException {
+        UUID failingTaskId = UUID.randomUUID();
+        UUID otherTaskId = UUID.randomUUID();
+        TaskAssignedEvent failing = new TaskAssignedEvent(failingTaskId, projectId, userId, null);
+        TaskStateChangedEvent blocked = new TaskStateChangedEvent(failingTaskId, projectId,
+                TaskState.BACKLOG, TaskState.IN_ANALYSIS, null, userId);
+        TaskAssignedEvent other = new TaskAssignedEvent(otherTaskId, projectId, userId, null);
+        DomainEventOutbox failingEntry = entry(1L, failing);
+        when(outboxRepository.findDeliverable(any(LocalDateTime.class), any(Limit.class)))
+                .thenReturn(List.of(failingEntry, entry(2L, blocked), entry(3L, other)))
+                .thenReturn(Collections.emptyList());
+        claimAll();
+        doThrow(new IllegalStateException("listener down")).when(eventPublisher).publishEvent((Object) failing);
+
+        int delivered = dispatcher.dispatchPending();
+
+        assertEquals(1, delivered);
+        verify(eventPublisher, never()).publishEvent((Object) blocked);
+        verify(eventPublisher).publishEvent((Object) other);
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(3L));
+        verify(outboxRepository).release(eq(List.of(2L)), anyString());
+        verify(outboxRepository).saveAll(List.of(failingEntry));
+        assertNull(failingEntry.getClaimedBy());
+        assertEquals(1, failingEntry.getAttempts());
+        assertEquals("listener down", failingEntry.getLastError());
+        assertTrue(failingEntry.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertTrue(failingEntry.getIsActive());
+        assertEquals(1.0, meterRegistry.get(MetricConstants.DOMAIN_EVENT_RETRIED).counter().count());
+    }
+
+    @Test
+    @DisplayName("Dispatch Pending - Dead-Letters Event After Max Attempts")
+    void dispatchPending_MaxAttempts_DeadLetters() throws JsonProcessingException {
+        TaskAssignedEvent failing = new TaskAssignedEvent(UUID.randomUUID(), projectId, userId, null);
+        DomainEventOutbox failingEntry = entry(1L, failing);
+        failingEntry.setAttempts(2);
+        when(outboxRepository.findDeliverable(any(LocalDateTime.class), any(Limit.class)))
+                .thenReturn(List.of(failingEntry));
+        claimAll();
+        doThrow(new IllegalStateException("listener down")).when(eventPublisher).publishEvent((Object) failing);
+
+        int delivered = dispatcher.dispatchPending();
+
+        assertEquals(0, delivered);
+        assertEquals(3, failingEntry.getAttempts());
+        assertFalse(failingEntry.getIsActive());
+        verify(outboxRepository).saveAll(List.of(failingEntry));
+        verify(outboxRepository, never()).deleteAllByIdInBatch(any());
+        assertEquals(1.0, meterRegistry.get(MetricConstants.DOMAIN_EVENT_DEAD_LETTERED).counter().count());
+    }
+
+    @Test
+    @DisplayName("Dispatch Pending - Skips Aggregates Claimed By Another Dispatcher")
+    void dispatchPending_ContestedAggregate_IsLeftToOtherDispatcher() throws JsonProcessingException {
+        UUID contestedTaskId = UUID.randomUUID();
+        TaskAssignedEvent claimedElsewhere = new TaskAssignedEvent(contestedTaskId, projectId, userId, null);
+        TaskStateChangedEvent laterOfContested = new TaskStateChangedEvent(contestedTaskId, projectId,
+                TaskState.BACKLOG, TaskState.IN_ANALYSIS, null, userId);
+        TaskAssignedEvent other = new TaskAssignedEvent(UUID.randomUUID(), projectId, userId, null);
+        when(outboxRepository.findDeliverable(any(LocalDateTime.class), any(Limit.class)))
+                .thenReturn(List.of(entry(1L, claimedElsewhere), entry(2L, laterOfContested), entry(3L, other)));
+        when(outboxRepository.findClaimedIds(ArgumentMatchers.<Long>anyList(), anyString())).thenReturn(List.of(2L, 3L));
+
+        int delivered = dispatcher.dispatchPending();
+
+        assertEquals(1, delivered);
+        verify(eventPublisher, never()).publishEvent((Object) claimedElsewhere);
+        verify(eventPublisher, never()).publishEvent((Object) laterOfContested);
+        verify(eventPublisher).publishEvent((Object) other);
+        verify(outboxRepository).release(eq(List.of(2L)), anyString());
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(3L));
+    }
+
+    private void claimAll() {
+        when(outboxRepository.findClaimedIds(ArgumentMatchers.<Long>anyList(), anyString()))
+                .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0));
+    }
+
+    private DomainEventOutbox entry(Long id, DomainEvent event) throws JsonProcessingException {
+        return DomainEventOutbox.builder()
+                .id(id)
+                .eventType(event.type())
+                .aggregateId(event.aggregateId())
+                .payload(objectMapper.writeValueAsString(event))
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.patikadev.definex.advancedtaskmanager.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.TaskExportFilter;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.task.TaskExportRow;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.user.UserResponse;
+import com.patikadev.definex.advancedtaskmanager.model.enums.DataFormat;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskPriority;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
+import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
+import com.patikadev.definex.advancedtaskmanager.repository.TaskRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.TaskStateHistoryRepository;
+import com.patikadev.definex.advancedtaskmanager.service.impl.ExportServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ExportServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskStateHistoryRepository taskStateHistoryRepository;
+
+    @Mock
+    private AuthService authService;
+
+    private ExportServiceImpl exportService;
+    private final TaskExportFilter filter = new TaskExportFilter();
+    private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ExportServiceImpl(taskRepository, taskStateHistoryRepository, authService,
+                new ObjectMapper().registerModule(new JavaTimeModule()));
+        filter.setState(TaskState.IN_PROGRESS);
+    }
+
+    @Test
+    @DisplayName("Export Tasks - Admin - Streams All Departments And Closes The Stream")
+    void exportTasks_Admin_StreamsAllDepartments() {
+        AtomicBoolean closed = new AtomicBoolean();
+        TaskExportRow row = new TaskExportRow(UUID.randomUUID(), "Task", TaskState.IN_PROGRESS, TaskPriority.HIGH,
+                null, UUID.randomUUID(), 1L, null, null, null);
+        when(authService.getCurrentUser()).thenReturn(createUserResponse(UserRole.ADMIN, null));
+        when(taskRepository.streamExportRows(isNull(), any(), any(), any(), any(), any()))
+                .thenReturn(Stream.of(row).onClose(() -> closed.set(true)));
+
+        long exported = exportService.exportTasks(filter, DataFormat.NDJSON, outputStream);
+
+        assertEquals(1, exported);
+        assertTrue(closed.get());
+        assertTrue(outputStream.toString(StandardCharsets.UTF_8).contains("\"title\":\"Task\""));
+        verify(taskRepository).streamExportRows(null, TaskState.IN_PROGRESS, null, null, null, null);
+    }
+
+    @Test
+    @DisplayName("Export Tasks - Department User - Restricts Rows To Own Department")
+    void exportTasks_DepartmentUser_RestrictsToDepartment() {
+        when(authService.getCurrentUser()).thenReturn(createUserResponse(UserRole.TEAM_MEMBER, 7L));
+        when(taskRepository.streamExportRows(any(), any(), any(), any(), any(), any())).thenReturn(Stream.empty());
+
+        long exported = exportService.exportTasks(filter, DataFormat.CSV, outputStream);
+
+        assertEquals(0, exported);
+        assertTrue(outputStream.toString(StandardCharsets.UTF_8).startsWith("id,title,state"));
+        verify(taskRepository).streamExportRows(7L, TaskState.IN_PROGRESS, null, null, null, null);
+    }
+
+    @Test
+    @DisplayName("Export Task State Histories - User Without Department - Writes Only Header")
+    void exportTaskStateHistories_UserWithoutDepartment_WritesOnlyHeader() {
+        when(authService.getCurrentUser()).thenReturn(createUserResponse(UserRole.TEAM_LEADER, null));
+
+        long exported = exportService.exportTaskStateHistories(filter, DataFormat.CSV, outputStream);
+
+        assertEquals(0, exported);
+        assertEquals("id,taskId,projectId,oldState,newState,reason,changedByUserId,changedAt\n",
+                outputStream.toString(StandardCharsets.UTF_8));
+        verifyNoInteractions(taskStateHistoryRepository);
+    }
+
+    private UserResponse createUserResponse(UserRole role, Long departmentId) {
+        UserResponse userResponse = new UserResponse();
+        userResponse.setRoles(Set.of(role));
+        userResponse.setDepartmentId(departmentId);
+        return userResponse;
+    }
+}
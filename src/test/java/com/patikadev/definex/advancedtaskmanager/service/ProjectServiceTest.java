@@ -2,7 +2,10 @@ package com.patikadev.definex.advancedtaskmanager.service;
 
 import com.patikadev.definex.advancedtaskmanager.exception.ResourceNotFoundException;
 import com.patikadev.definex.advancedtaskmanager.exception.UnauthorizedDepartmentAccessException;
+import com.patikadev.definex.advancedtaskmanager.exception.VersionConflictException;
 import com.patikadev.definex.advancedtaskmanager.mapper.ProjectMapper;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPage;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPageRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.project.CreateProjectRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.project.UpdateProjectRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.project.UpdateProjectStatusRequest;
@@ -26,6 +29,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -44,18 +48,29 @@ public class ProjectServiceTest {
     @Mock
     private DepartmentRepository departmentRepository;
 
+    @Mock
+    private ReferenceDataService referenceDataService;
+
     @Mock
     private UserRepository userRepository;
 
     @Mock
     private ProjectMapper projectMapper;
 
+    @Mock
+    private AggregateCountService aggregateCountService;
+
     @Mock
     private AuthService authService;
 
+    @Mock
+    private DomainEventService domainEventService;
+
     @InjectMocks
     private ProjectServiceImpl projectService;
 
+    private final CursorPageRequest pageRequest = CursorPageRequest.firstPage(20);
+
     private Project project;
     private Department department;
     private User user;
@@ -102,33 +117,33 @@ public class ProjectServiceTest {
     @Test
     @DisplayName("Create Project - Success as Project Manager of Same Department")
     void createProject_SuccessAsProjectManager() {
-        when(departmentRepository.findByIdAndIsActiveTrue(anyLong())).thenReturn(Optional.of(department));
+        when(referenceDataService.findDepartment(anyLong())).thenReturn(Optional.of(department));
         when(userRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(user));
         when(projectMapper.toEntity(any(CreateProjectRequest.class), any(Department.class), anySet()))
                 .thenReturn(project);
         when(projectRepository.save(any(Project.class))).thenReturn(project);
-        when(projectMapper.toResponse(any(Project.class))).thenReturn(projectResponse);
+        when(projectMapper.toResponse(any(Project.class), any())).thenReturn(projectResponse);
         when(authService.getCurrentUser()).thenReturn(projectManagerUserResponse);
 
         ProjectResponse result = projectService.createProject(createProjectRequest);
 
         assertNotNull(result);
         assertEquals(projectResponse, result);
-        verify(departmentRepository).findByIdAndIsActiveTrue(createProjectRequest.getDepartmentId());
+        verify(referenceDataService).findDepartment(createProjectRequest.getDepartmentId());
         verify(projectMapper).toEntity(eq(createProjectRequest), eq(department), anySet());
         verify(projectRepository).save(project);
-        verify(projectMapper).toResponse(project);
+        verify(projectMapper).toResponse(eq(project), any());
         verify(authService).getCurrentUser();
     }
 
     @Test
     @DisplayName("Create Project - Unauthorized Department Access")
     void createProject_UnauthorizedDepartmentAccess() {
-        when(departmentRepository.findByIdAndIsActiveTrue(anyLong())).thenReturn(Optional.of(department));
+        when(referenceDataService.findDepartment(anyLong())).thenReturn(Optional.of(department));
         when(authService.getCurrentUser()).thenReturn(userWithOtherDepartment);
 
         assertThrows(UnauthorizedDepartmentAccessException.class, () -> projectService.createProject(createProjectRequest));
-        verify(departmentRepository).findByIdAndIsActiveTrue(createProjectRequest.getDepartmentId());
+        verify(referenceDataService).findDepartment(createProjectRequest.getDepartmentId());
         verify(authService).getCurrentUser();
         verify(projectMapper, never()).toEntity(any(), any(), any());
         verify(projectRepository, never()).save(any());
@@ -138,21 +153,21 @@ public class ProjectServiceTest {
     @DisplayName("Update Project - Success as Project Group Manager")
     void updateProject_SuccessAsProjectGroupManager() {
         when(projectRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(project));
-        when(departmentRepository.findByIdAndIsActiveTrue(anyLong())).thenReturn(Optional.of(department));
+        when(referenceDataService.findDepartment(anyLong())).thenReturn(Optional.of(department));
         when(userRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(user));
-        when(projectRepository.save(any(Project.class))).thenReturn(project);
-        when(projectMapper.toResponse(any(Project.class))).thenReturn(projectResponse);
+        when(projectRepository.saveAndFlush(any(Project.class))).thenReturn(project);
+        when(projectMapper.toResponse(any(Project.class), any())).thenReturn(projectResponse);
         when(authService.getCurrentUser()).thenReturn(projectGroupManagerUserResponse);
 
-        ProjectResponse result = projectService.updateProject(projectId, updateProjectRequest);
+        ProjectResponse result = projectService.updateProject(projectId, updateProjectRequest, null);
 
         assertNotNull(result);
         assertEquals(projectResponse, result);
         verify(projectRepository).findByIdAndIsActiveTrue(projectId);
         verify(projectMapper).updateEntityFromDto(updateProjectRequest, project);
-        verify(departmentRepository).findByIdAndIsActiveTrue(updateProjectRequest.getDepartmentId());
-        verify(projectRepository).save(project);
-        verify(projectMapper).toResponse(project);
+        verify(referenceDataService).findDepartment(updateProjectRequest.getDepartmentId());
+        verify(projectRepository).saveAndFlush(project);
+        verify(projectMapper).toResponse(eq(project), any());
     }
 
     @Test
@@ -161,11 +176,11 @@ public class ProjectServiceTest {
         when(projectRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(project));
         when(authService.getCurrentUser()).thenReturn(userWithOtherDepartment);
 
-        assertThrows(UnauthorizedDepartmentAccessException.class, () -> projectService.updateProject(projectId, updateProjectRequest));
+        assertThrows(UnauthorizedDepartmentAccessException.class, () -> projectService.updateProject(projectId, updateProjectRequest, null));
         verify(projectRepository).findByIdAndIsActiveTrue(projectId);
         verify(authService).getCurrentUser();
         verify(projectMapper, never()).updateEntityFromDto(any(), any());
-        verify(projectRepository, never()).save(any());
+        verify(projectRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -174,11 +189,11 @@ public class ProjectServiceTest {
         when(projectRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(project));
         when(authService.getCurrentUser()).thenReturn(userWithOtherDepartment);
 
-        assertThrows(UnauthorizedDepartmentAccessException.class, () -> projectService.addTeamMember(projectId, userId));
+        assertThrows(UnauthorizedDepartmentAccessException.class, () -> projectService.addTeamMember(projectId, userId, null));
         verify(projectRepository).findByIdAndIsActiveTrue(projectId);
         verify(authService).getCurrentUser();
         verify(userRepository, never()).findByIdAndIsActiveTrue(any());
-        verify(projectRepository, never()).save(any());
+        verify(projectRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -222,10 +237,10 @@ public class ProjectServiceTest {
     @Test
     @DisplayName("Create Project - Department Not Found")
     void createProject_DepartmentNotFound() {
-        when(departmentRepository.findByIdAndIsActiveTrue(anyLong())).thenReturn(Optional.empty());
+        when(referenceDataService.findDepartment(anyLong())).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> projectService.createProject(createProjectRequest));
-        verify(departmentRepository).findByIdAndIsActiveTrue(createProjectRequest.getDepartmentId());
+        verify(referenceDataService).findDepartment(createProjectRequest.getDepartmentId());
         verify(projectMapper, never()).toEntity(any(), any(), any());
         verify(projectRepository, never()).save(any());
     }
@@ -234,14 +249,14 @@ public class ProjectServiceTest {
     @DisplayName("Get Project By Id - Success")
     void getProjectById_Success() {
         when(projectRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(project));
-        when(projectMapper.toDetailResponse(any(Project.class))).thenReturn(projectDetailResponse);
+        when(projectMapper.toDetailResponse(any(Project.class), any())).thenReturn(projectDetailResponse);
 
         ProjectDetailResponse result = projectService.getProjectById(projectId);
 
         assertNotNull(result);
         assertEquals(projectDetailResponse, result);
         verify(projectRepository).findByIdAndIsActiveTrue(projectId);
-        verify(projectMapper).toDetailResponse(project);
+        verify(projectMapper).toDetailResponse(eq(project), any());
     }
 
     @Test
@@ -251,39 +266,39 @@ public class ProjectServiceTest {
 
         assertThrows(ResourceNotFoundException.class, () -> projectService.getProjectById(projectId));
         verify(projectRepository).findByIdAndIsActiveTrue(projectId);
-        verify(projectMapper, never()).toDetailResponse(any());
+        verify(projectMapper, never()).toDetailResponse(any(), any());
     }
 
     @Test
     @DisplayName("Get All Projects - Success")
     void getAllProjects_Success() {
-        when(projectRepository.findAllByIsActiveTrue()).thenReturn(projectList);
-        when(projectMapper.toResponseList(anyList())).thenReturn(projectResponseList);
+        when(projectRepository.findPageByIsActiveTrue(any(), any(), any(Limit.class))).thenReturn(projectList);
+        when(projectMapper.toResponseList(anyList(), any())).thenReturn(projectResponseList);
 
-        List<ProjectResponse> result = projectService.getAllProjects();
+        CursorPage<ProjectResponse> result = projectService.getAllProjects(pageRequest);
 
         assertNotNull(result);
-        assertEquals(projectResponseList, result);
-        assertEquals(projectResponseList.size(), result.size());
-        verify(projectRepository).findAllByIsActiveTrue();
-        verify(projectMapper).toResponseList(projectList);
+        assertEquals(projectResponseList, result.getContent());
+        assertEquals(projectResponseList.size(), result.getContent().size());
+        verify(projectRepository).findPageByIsActiveTrue(isNull(), isNull(), any(Limit.class));
+        verify(projectMapper).toResponseList(eq(projectList), any());
     }
 
     @Test
     @DisplayName("Get Projects By Department Id - Success")
     void getProjectsByDepartmentId_Success() {
         when(departmentRepository.existsByIdAndIsActiveTrue(anyLong())).thenReturn(true);
-        when(projectRepository.findAllByDepartmentIdAndIsActiveTrue(anyLong())).thenReturn(projectList);
-        when(projectMapper.toResponseList(anyList())).thenReturn(projectResponseList);
+        when(projectRepository.findPageByDepartmentIdAndIsActiveTrue(anyLong(), any(), any(), any(Limit.class))).thenReturn(projectList);
+        when(projectMapper.toResponseList(anyList(), any())).thenReturn(projectResponseList);
 
-        List<ProjectResponse> result = projectService.getProjectsByDepartmentId(departmentId);
+        CursorPage<ProjectResponse> result = projectService.getProjectsByDepartmentId(departmentId, pageRequest);
 
         assertNotNull(result);
-        assertEquals(projectResponseList, result);
-        assertEquals(projectResponseList.size(), result.size());
+        assertEquals(projectResponseList, result.getContent());
+        assertEquals(projectResponseList.size(), result.getContent().size());
         verify(departmentRepository).existsByIdAndIsActiveTrue(departmentId);
-        verify(projectRepository).findAllByDepartmentIdAndIsActiveTrue(departmentId);
-        verify(projectMapper).toResponseList(projectList);
+        verify(projectRepository).findPageByDepartmentIdAndIsActiveTrue(eq(departmentId), isNull(), isNull(), any(Limit.class));
+        verify(projectMapper).toResponseList(eq(projectList), any());
     }
 
     @Test
@@ -291,42 +306,42 @@ public class ProjectServiceTest {
     void getProjectsByDepartmentId_DepartmentNotFound() {
         when(departmentRepository.existsByIdAndIsActiveTrue(anyLong())).thenReturn(false);
 
-        assertThrows(ResourceNotFoundException.class, () -> projectService.getProjectsByDepartmentId(departmentId));
+        assertThrows(ResourceNotFoundException.class, () -> projectService.getProjectsByDepartmentId(departmentId, pageRequest));
         verify(departmentRepository).existsByIdAndIsActiveTrue(departmentId);
-        verify(projectRepository, never()).findAllByDepartmentIdAndIsActiveTrue(any());
-        verify(projectMapper, never()).toResponseList(any());
+        verify(projectRepository, never()).findPageByDepartmentIdAndIsActiveTrue(any(), any(), any(), any());
+        verify(projectMapper, never()).toResponseList(any(), any());
     }
 
     @Test
     @DisplayName("Get Projects By Status - Success")
     void getProjectsByStatus_Success() {
-        when(projectRepository.findAllByStatusAndIsActiveTrue(any(ProjectStatus.class))).thenReturn(projectList);
-        when(projectMapper.toResponseList(anyList())).thenReturn(projectResponseList);
+        when(projectRepository.findPageByStatusAndIsActiveTrue(any(ProjectStatus.class), any(), any(), any(Limit.class))).thenReturn(projectList);
+        when(projectMapper.toResponseList(anyList(), any())).thenReturn(projectResponseList);
 
-        List<ProjectResponse> result = projectService.getProjectsByStatus(ProjectStatus.IN_PROGRESS);
+        CursorPage<ProjectResponse> result = projectService.getProjectsByStatus(ProjectStatus.IN_PROGRESS, pageRequest);
 
         assertNotNull(result);
-        assertEquals(projectResponseList, result);
-        assertEquals(projectResponseList.size(), result.size());
-        verify(projectRepository).findAllByStatusAndIsActiveTrue(ProjectStatus.IN_PROGRESS);
-        verify(projectMapper).toResponseList(projectList);
+        assertEquals(projectResponseList, result.getContent());
+        assertEquals(projectResponseList.size(), result.getContent().size());
+        verify(projectRepository).findPageByStatusAndIsActiveTrue(eq(ProjectStatus.IN_PROGRESS), isNull(), isNull(), any(Limit.class));
+        verify(projectMapper).toResponseList(eq(projectList), any());
     }
 
     @Test
     @DisplayName("Get Projects By Team Member Id - Success")
     void getProjectsByTeamMemberId_Success() {
         when(userRepository.existsByIdAndIsActiveTrue(any(UUID.class))).thenReturn(true);
-        when(projectRepository.findAllByTeamMemberIdAndIsActiveTrue(any(UUID.class))).thenReturn(projectList);
-        when(projectMapper.toResponseList(anyList())).thenReturn(projectResponseList);
+        when(projectRepository.findPageByTeamMemberIdAndIsActiveTrue(any(UUID.class), any(), any(), any(Limit.class))).thenReturn(projectList);
+        when(projectMapper.toResponseList(anyList(), any())).thenReturn(projectResponseList);
 
-        List<ProjectResponse> result = projectService.getProjectsByTeamMemberId(userId);
+        CursorPage<ProjectResponse> result = projectService.getProjectsByTeamMemberId(userId, pageRequest);
 
         assertNotNull(result);
-        assertEquals(projectResponseList, result);
-        assertEquals(projectResponseList.size(), result.size());
+        assertEquals(projectResponseList, result.getContent());
+        assertEquals(projectResponseList.size(), result.getContent().size());
         verify(userRepository).existsByIdAndIsActiveTrue(userId);
-        verify(projectRepository).findAllByTeamMemberIdAndIsActiveTrue(userId);
-        verify(projectMapper).toResponseList(projectList);
+        verify(projectRepository).findPageByTeamMemberIdAndIsActiveTrue(eq(userId), isNull(), isNull(), any(Limit.class));
+        verify(projectMapper).toResponseList(eq(projectList), any());
     }
 
     @Test
@@ -334,10 +349,10 @@ public class ProjectServiceTest {
     void getProjectsByTeamMemberId_UserNotFound() {
         when(userRepository.existsByIdAndIsActiveTrue(any(UUID.class))).thenReturn(false);
 
-        assertThrows(ResourceNotFoundException.class, () -> projectService.getProjectsByTeamMemberId(userId));
+        assertThrows(ResourceNotFoundException.class, () -> projectService.getProjectsByTeamMemberId(userId, pageRequest));
         verify(userRepository).existsByIdAndIsActiveTrue(userId);
-        verify(projectRepository, never()).findAllByTeamMemberIdAndIsActiveTrue(any());
-        verify(projectMapper, never()).toResponseList(any());
+        verify(projectRepository, never()).findPageByTeamMemberIdAndIsActiveTrue(any(), any(), any(), any());
+        verify(projectMapper, never()).toResponseList(any(), any());
     }
 
     @Test
@@ -367,10 +382,10 @@ public class ProjectServiceTest {
     void updateProject_NotFound() {
         when(projectRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.empty());
 
-        assertThrows(ResourceNotFoundException.class, () -> projectService.updateProject(projectId, updateProjectRequest));
+        assertThrows(ResourceNotFoundException.class, () -> projectService.updateProject(projectId, updateProjectRequest, null));
         verify(projectRepository).findByIdAndIsActiveTrue(projectId);
         verify(projectMapper, never()).updateEntityFromDto(any(), any());
-        verify(projectRepository, never()).save(any());
+        verify(projectRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -378,18 +393,18 @@ public class ProjectServiceTest {
     void addTeamMember_Success() {
         when(projectRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(project));
         when(userRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(user));
-        when(projectRepository.save(any(Project.class))).thenReturn(project);
-        when(projectMapper.toResponse(any(Project.class))).thenReturn(projectResponse);
+        when(projectRepository.saveAndFlush(any(Project.class))).thenReturn(project);
+        when(projectMapper.toResponse(any(Project.class), any())).thenReturn(projectResponse);
         when(authService.getCurrentUser()).thenReturn(adminUserResponse);
 
-        ProjectResponse result = projectService.addTeamMember(projectId, userId);
+        ProjectResponse result = projectService.addTeamMember(projectId, userId, null);
 
         assertNotNull(result);
         assertEquals(projectResponse, result);
         verify(projectRepository).findByIdAndIsActiveTrue(projectId);
         verify(userRepository).findByIdAndIsActiveTrue(userId);
-        verify(projectRepository).save(project);
-        verify(projectMapper).toResponse(project);
+        verify(projectRepository).saveAndFlush(project);
+        verify(projectMapper).toResponse(eq(project), any());
         verify(authService).getCurrentUser();
     }
 
@@ -403,10 +418,27 @@ public class ProjectServiceTest {
         when(userRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(existingUser));
         when(authService.getCurrentUser()).thenReturn(adminUserResponse);
 
-        assertThrows(IllegalArgumentException.class, () -> projectService.addTeamMember(projectId, userId));
+        assertThrows(IllegalArgumentException.class, () -> projectService.addTeamMember(projectId, userId, null));
         verify(projectRepository).findByIdAndIsActiveTrue(projectId);
         verify(userRepository).findByIdAndIsActiveTrue(userId);
-        verify(projectRepository, never()).save(any());
+        verify(projectRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Add Team Member - Version Conflict")
+    void addTeamMember_VersionConflict() {
+        project.setVersion(5L);
+
+        when(projectRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(project));
+        when(projectMapper.toResponse(any(Project.class), any())).thenReturn(projectResponse);
+        when(authService.getCurrentUser()).thenReturn(adminUserResponse);
+
+        VersionConflictException exception = assertThrows(VersionConflictException.class,
+                () -> projectService.addTeamMember(projectId, userId, 4L));
+
+        assertEquals(projectResponse, exception.getCurrentRepresentation());
+        verify(userRepository, never()).findByIdAndIsActiveTrue(any());
+        verify(projectRepository, never()).saveAndFlush(any());
         verify(authService).getCurrentUser();
     }
 
@@ -419,7 +451,7 @@ public class ProjectServiceTest {
         when(projectRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(project));
         when(userRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(existingUser));
         when(projectRepository.save(any(Project.class))).thenReturn(project);
-        when(projectMapper.toResponse(any(Project.class))).thenReturn(projectResponse);
+        when(projectMapper.toResponse(any(Project.class), any())).thenReturn(projectResponse);
         when(authService.getCurrentUser()).thenReturn(adminUserResponse);
 
         ProjectResponse result = projectService.removeTeamMember(projectId, userId);
@@ -429,7 +461,7 @@ public class ProjectServiceTest {
         verify(projectRepository).findByIdAndIsActiveTrue(projectId);
         verify(userRepository).findByIdAndIsActiveTrue(userId);
         verify(projectRepository).save(project);
-        verify(projectMapper).toResponse(project);
+        verify(projectMapper).toResponse(eq(project), any());
         verify(authService).getCurrentUser();
     }
 
@@ -452,7 +484,7 @@ public class ProjectServiceTest {
     void updateProjectStatus_Success() {
         when(projectRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(project));
         when(projectRepository.save(any(Project.class))).thenReturn(project);
-        when(projectMapper.toResponse(any(Project.class))).thenReturn(projectResponse);
+        when(projectMapper.toResponse(any(Project.class), any())).thenReturn(projectResponse);
         when(authService.getCurrentUser()).thenReturn(adminUserResponse);
 
         ProjectResponse result = projectService.updateProjectStatus(projectId, updateProjectStatusRequest);
@@ -461,7 +493,7 @@ public class ProjectServiceTest {
         assertEquals(projectResponse, result);
         verify(projectRepository).findByIdAndIsActiveTrue(projectId);
         verify(projectRepository).save(project);
-        verify(projectMapper).toResponse(project);
+        verify(projectMapper).toResponse(eq(project), any());
         verify(authService).getCurrentUser();
     }
 
@@ -0,0 +1,158 @@
+package com.patikadev.definex.advancedtaskmanager.service;
+
+import com.patikadev.definex.advancedtaskmanager.constant.CacheNames;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.UserIdentity;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Department;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Role;
+import com.patikadev.definex.advancedtaskmanager.model.entity.User;
+import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
+import com.patikadev.definex.advancedtaskmanager.repository.DepartmentRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.RoleRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.UserRepository;
+import com.patikadev.definex.advancedtaskmanager.service.impl.ReferenceDataServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReferenceDataServiceTest {
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private ReferenceDataServiceImpl referenceDataService;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(
+                CacheNames.ROLES, CacheNames.DEPARTMENTS, CacheNames.USER_IDENTITIES);
+        cacheManager.setAllowNullValues(false);
+        referenceDataService = new ReferenceDataServiceImpl(roleRepository, departmentRepository, userRepository, cacheManager);
+    }
+
+    @Test
+    @DisplayName("Find Role - Repeated Lookup - Loads Once And Returns Separate Copies")
+    void findRole_RepeatedLookup_LoadsOnceAndReturnsSeparateCopies() {
+        Role role = Role.builder().id(1L).name(UserRole.ADMIN).build();
+        when(roleRepository.findByNameAndIsActiveTrue(UserRole.ADMIN)).thenReturn(Optional.of(role));
+
+        Role first = referenceDataService.findRole(UserRole.ADMIN).orElseThrow();
+        Role second = referenceDataService.findRole(UserRole.ADMIN).orElseThrow();
+
+        assertEquals(1L, second.getId());
+        assertEquals(UserRole.ADMIN, second.getName());
+        assertNotSame(first, second);
+        verify(roleRepository, times(1)).findByNameAndIsActiveTrue(UserRole.ADMIN);
+    }
+
+    @Test
+    @DisplayName("Find Department - Not Found - Is Not Cached")
+    void findDepartment_NotFound_IsNotCached() {
+        Department department = Department.builder().id(1L).name("IT Department").build();
+        when(departmentRepository.findByIdAndIsActiveTrue(1L))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(department));
+
+        assertTrue(referenceDataService.findDepartment(1L).isEmpty());
+        assertEquals("IT Department", referenceDataService.findDepartment(1L).orElseThrow().getName());
+        verify(departmentRepository, times(2)).findByIdAndIsActiveTrue(1L);
+    }
+
+    @Test
+    @DisplayName("Find User Identity - After Eviction - Reloads From Repository")
+    void findUserIdentity_AfterEviction_ReloadsFromRepository() {
+        UUID userId = UUID.randomUUID();
+        User user = User.builder()
+                .id(userId)
+                .email("test@example.com")
+                .department(Department.builder().id(1L).build())
+                .roles(Set.of(Role.builder().id(1L).name(UserRole.TEAM_MEMBER).build()))
+                .build();
+        User promotedUser = User.builder()
+                .id(userId)
+                .email("test@example.com")
+                .department(Department.builder().id(1L).build())
+                .roles(Set.of(Role.builder().id(2L).name(UserRole.TEAM_LEADER).build()))
+                .build();
+        when(userRepository.findByEmailAndIsActiveTrue("test@example.com"))
+                .thenReturn(Optional.of(user))
+                .thenReturn(Optional.of(promotedUser));
+
+        assertEquals(new UserIdentity(userId, "test@example.com", 1L, Set.of(UserRole.TEAM_MEMBER)),
+                referenceDataService.findUserIdentity("test@example.com").orElseThrow());
+        assertEquals(Set.of(UserRole.TEAM_MEMBER),
+                referenceDataService.findUserIdentity("test@example.com").orElseThrow().roles());
+
+        referenceDataService.evictUserIdentity("test@example.com");
+
+        assertEquals(Set.of(UserRole.TEAM_LEADER),
+                referenceDataService.findUserIdentity("test@example.com").orElseThrow().roles());
+        verify(userRepository, times(2)).findByEmailAndIsActiveTrue("test@example.com");
+    }
+
+    @Test
+    @DisplayName("Find User Identity - Evicted During Load - Does Not Cache Stale Value")
+    void findUserIdentity_EvictedDuringLoad_DoesNotCacheStaleValue() throws Exception {
+        UUID userId = UUID.randomUUID();
+        User user = User.builder()
+                .id(userId)
+                .email("test@example.com")
+                .department(Department.builder().id(1L).build())
+                .roles(Set.of(Role.builder().id(1L).name(UserRole.TEAM_MEMBER).build()))
+                .build();
+        User promotedUser = User.builder()
+                .id(userId)
+                .email("test@example.com")
+                .department(Department.builder().id(1L).build())
+                .roles(Set.of(Role.builder().id(2L).name(UserRole.TEAM_LEADER).build()))
+                .build();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+        when(userRepository.findByEmailAndIsActiveTrue("test@example.com"))
+                .thenAnswer(invocation -> {
+                    loading.countDown();
+                    assertTrue(evicted.await(5, TimeUnit.SECONDS));
+                    return Optional.of(user);
+                })
+                .thenReturn(Optional.of(promotedUser));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Optional<UserIdentity>> staleRead = executor.submit(
+                    () -> referenceDataService.findUserIdentity("test@example.com"));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            referenceDataService.evictUserIdentity("test@example.com");
+            evicted.countDown();
+
+            assertEquals(Set.of(UserRole.TEAM_MEMBER), staleRead.get(5, TimeUnit.SECONDS).orElseThrow().roles());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(Set.of(UserRole.TEAM_LEADER),
+                referenceDataService.findUserIdentity("test@example.com").orElseThrow().roles());
+        verify(userRepository, times(2)).findByEmailAndIsActiveTrue("test@example.com");
+    }
+}
@@ -25,6 +25,9 @@ public class RoleServiceTest {
     @Mock
     private RoleRepository roleRepository;
 
+    @Mock
+    private ReferenceDataService referenceDataService;
+
     @InjectMocks
     private RoleServiceImpl roleService;
 
@@ -47,33 +50,33 @@ public class RoleServiceTest {
     @Test
     @DisplayName("Get Role By Name - Success")
     void getRoleByName_Success() {
-        when(roleRepository.findByNameAndIsActiveTrue(any(UserRole.class))).thenReturn(Optional.of(adminRole));
+        when(referenceDataService.findRole(any(UserRole.class))).thenReturn(Optional.of(adminRole));
 
         Role result = roleService.getRoleByName(UserRole.ADMIN);
 
         assertNotNull(result);
         assertEquals(adminRole.getId(), result.getId());
         assertEquals(adminRole.getName(), result.getName());
-        verify(roleRepository).findByNameAndIsActiveTrue(UserRole.ADMIN);
+        verify(referenceDataService).findRole(UserRole.ADMIN);
     }
 
     @Test
     @DisplayName("Get Role By Name - Not Found")
     void getRoleByName_NotFound() {
-        when(roleRepository.findByNameAndIsActiveTrue(any(UserRole.class))).thenReturn(Optional.empty());
+        when(referenceDataService.findRole(any(UserRole.class))).thenReturn(Optional.empty());
 
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> roleService.getRoleByName(UserRole.ADMIN));
 
         assertTrue(exception.getMessage().contains(UserRole.ADMIN.toString()));
-        verify(roleRepository).findByNameAndIsActiveTrue(UserRole.ADMIN);
+        verify(referenceDataService).findRole(UserRole.ADMIN);
     }
 
     @Test
     @DisplayName("Get Roles By Names - Success")
     void getRolesByNames_Success() {
-        when(roleRepository.findByNameAndIsActiveTrue(UserRole.ADMIN)).thenReturn(Optional.of(adminRole));
-        when(roleRepository.findByNameAndIsActiveTrue(UserRole.PROJECT_MANAGER)).thenReturn(Optional.of(projectManagerRole));
+        when(referenceDataService.findRole(UserRole.ADMIN)).thenReturn(Optional.of(adminRole));
+        when(referenceDataService.findRole(UserRole.PROJECT_MANAGER)).thenReturn(Optional.of(projectManagerRole));
 
         Set<Role> result = roleService.getRolesByNames(roleNames);
 
@@ -81,8 +84,8 @@ public class RoleServiceTest {
         assertEquals(2, result.size());
         assertTrue(result.contains(adminRole));
         assertTrue(result.contains(projectManagerRole));
-        verify(roleRepository, times(1)).findByNameAndIsActiveTrue(UserRole.ADMIN);
-        verify(roleRepository, times(1)).findByNameAndIsActiveTrue(UserRole.PROJECT_MANAGER);
+        verify(referenceDataService, times(1)).findRole(UserRole.ADMIN);
+        verify(referenceDataService, times(1)).findRole(UserRole.PROJECT_MANAGER);
     }
 
     @Test
@@ -112,6 +115,7 @@ public class RoleServiceTest {
 
         verify(roleRepository, times(5)).findByName(any(UserRole.class));
         verify(roleRepository, times(5)).save(any(Role.class));
+        verify(referenceDataService).evictRoles();
     }
 
     @Test
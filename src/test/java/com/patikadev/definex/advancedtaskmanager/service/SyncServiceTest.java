@@ -0,0 +1,142 @@
+package com.patikadev.definex.advancedtaskmanager.service;
+
+import com.patikadev.definex.advancedtaskmanager.config.ApplicationProperties;
+import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.PageCursor;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.SyncWatermark;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.sync.SyncCommentResponse;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.sync.SyncResponse;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.sync.SyncTaskResponse;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.user.UserResponse;
+import com.patikadev.definex.advancedtaskmanager.model.enums.SyncEntityType;
+import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
+import com.patikadev.definex.advancedtaskmanager.repository.AttachmentRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.CommentRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.TaskRepository;
+import com.patikadev.definex.advancedtaskmanager.service.impl.SyncServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SyncServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @Mock
+    private AuthService authService;
+
+    @Mock
+    private ApplicationProperties applicationProperties;
+
+    @InjectMocks
+    private SyncServiceImpl syncService;
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 3, 10, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(applicationProperties.getSync()).thenReturn(new ApplicationProperties.Sync());
+    }
+
+    @Test
+    @DisplayName("Get Changes - Inactive Rows - Returned As Tombstones And Watermark Advances")
+    void getChanges_InactiveRows_ReturnedAsTombstonesAndWatermarkAdvances() {
+        UUID taskId = UUID.randomUUID();
+        PageCursor commentCursor = PageCursor.of(now.minusDays(1), 5L);
+        String watermark = new SyncWatermark(null, commentCursor, null).encode();
+        when(authService.getCurrentUser()).thenReturn(createUserResponse(UserRole.TEAM_MEMBER, 1L));
+        when(taskRepository.findSyncPage(eq(1L), any(), isNull(), isNull(), eq(Limit.of(201))))
+                .thenReturn(List.of(SyncTaskResponse.builder().id(taskId).updatedAt(now).active(true).build()));
+        when(commentRepository.findSyncPage(eq(1L), any(), eq(commentCursor.getSortValue()), eq(5L), eq(Limit.of(201))))
+                .thenReturn(List.of(
+                        SyncCommentResponse.builder().id(6L).updatedAt(now).active(false).build(),
+                        SyncCommentResponse.builder().id(7L).updatedAt(now.plusSeconds(1)).active(true).build()));
+        when(attachmentRepository.findSyncPage(eq(1L), any(), isNull(), isNull(), eq(Limit.of(201))))
+                .thenReturn(List.of());
+
+        SyncResponse response = syncService.getChanges(watermark, null);
+
+        assertEquals(List.of(taskId), response.getTasks().stream().map(SyncTaskResponse::getId).toList());
+        assertEquals(List.of(7L), response.getComments().stream().map(SyncCommentResponse::getId).toList());
+        assertEquals(1, response.getTombstones().size());
+        assertEquals(SyncEntityType.COMMENT, response.getTombstones().get(0).getType());
+        assertEquals("6", response.getTombstones().get(0).getId());
+        assertFalse(response.isHasMore());
+
+        SyncWatermark next = SyncWatermark.decode(response.getWatermark());
+        assertEquals(taskId, next.getTasks().getIdAsUuid());
+        assertEquals(now.plusSeconds(1), next.getComments().getSortValue());
+        assertEquals(7L, next.getComments().getIdAsLong());
+        assertNull(next.getAttachments());
+    }
+
+    @Test
+    @DisplayName("Get Changes - More Rows Than Limit - Stops At Last Returned Row")
+    void getChanges_MoreRowsThanLimit_StopsAtLastReturnedRow() {
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        when(authService.getCurrentUser()).thenReturn(createUserResponse(UserRole.ADMIN, null));
+        when(taskRepository.findSyncPage(isNull(), any(), isNull(), isNull(), eq(Limit.of(2))))
+                .thenReturn(List.of(
+                        SyncTaskResponse.builder().id(firstId).updatedAt(now).active(true).build(),
+                        SyncTaskResponse.builder().id(secondId).updatedAt(now).active(true).build()));
+        when(commentRepository.findSyncPage(any(), any(), any(), any(), any())).thenReturn(List.of());
+        when(attachmentRepository.findSyncPage(any(), any(), any(), any(), any())).thenReturn(List.of());
+
+        SyncResponse response = syncService.getChanges(null, 1);
+
+        assertEquals(List.of(firstId), response.getTasks().stream().map(SyncTaskResponse::getId).toList());
+        assertTrue(response.isHasMore());
+        assertEquals(firstId, SyncWatermark.decode(response.getWatermark()).getTasks().getIdAsUuid());
+    }
+
+    @Test
+    @DisplayName("Get Changes - User Without Department - Returns Empty Changes")
+    void getChanges_UserWithoutDepartment_ReturnsEmptyChanges() {
+        when(authService.getCurrentUser()).thenReturn(createUserResponse(UserRole.TEAM_MEMBER, null));
+
+        SyncResponse response = syncService.getChanges(null, null);
+
+        assertTrue(response.getTasks().isEmpty());
+        assertTrue(response.getTombstones().isEmpty());
+        verifyNoInteractions(taskRepository, commentRepository, attachmentRepository);
+    }
+
+    @Test
+    @DisplayName("Get Changes - Malformed Watermark - Throws Illegal Argument")
+    void getChanges_MalformedWatermark_ThrowsIllegalArgument() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> syncService.getChanges("abc", null));
+
+        assertEquals(ErrorMessages.INVALID_SYNC_WATERMARK, exception.getMessage());
+        verifyNoInteractions(authService, taskRepository);
+    }
+
+    private UserResponse createUserResponse(UserRole role, Long departmentId) {
+        UserResponse userResponse = new UserResponse();
+        userResponse.setRoles(Set.of(role));
+        userResponse.setDepartmentId(departmentId);
+        return userResponse;
+    }
+}
@@ -0,0 +1,128 @@
+package com.patikadev.definex.advancedtaskmanager.service;
+
+import com.patikadev.definex.advancedtaskmanager.config.ApplicationProperties;
+import com.patikadev.definex.advancedtaskmanager.exception.UnauthorizedDepartmentAccessException;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.TaskFlowDailyTotals;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.analytics.TaskFlowMetricsResponse;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.analytics.WeeklyThroughput;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.user.UserResponse;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Department;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Project;
+import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
+import com.patikadev.definex.advancedtaskmanager.repository.DepartmentRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.ProjectRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.TaskFlowDailyRollupRepository;
+import com.patikadev.definex.advancedtaskmanager.service.impl.TaskAnalyticsServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskAnalyticsServiceTest {
+
+    @Mock
+    private TaskFlowDailyRollupRepository taskFlowDailyRollupRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    @Mock
+    private AuthService authService;
+
+    @Mock
+    private ApplicationProperties applicationProperties;
+
+    @InjectMocks
+    private TaskAnalyticsServiceImpl taskAnalyticsService;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        Department department = new Department();
+        department.setId(1L);
+
+        project = new Project();
+        project.setId(UUID.randomUUID());
+        project.setDepartment(department);
+    }
+
+    @Test
+    @DisplayName("Get Project Flow Metrics - Daily Rollups - Aggregates Averages And Weekly Throughput")
+    void getProjectFlowMetrics_DailyRollups_AggregatesMetrics() {
+        LocalDate from = LocalDate.of(2025, 3, 3);
+        LocalDate to = LocalDate.of(2025, 3, 23);
+        when(projectRepository.findByIdAndIsActiveTrue(project.getId())).thenReturn(Optional.of(project));
+        when(authService.getCurrentUser()).thenReturn(createUserResponse(UserRole.PROJECT_MANAGER, 1L));
+        when(taskFlowDailyRollupRepository.findDailyTotalsByProjectId(project.getId(), from, to)).thenReturn(List.of(
+                new TaskFlowDailyTotals(LocalDate.of(2025, 3, 4), 2L, 7200L, 1L, 1800L, 1L, 600L),
+                new TaskFlowDailyTotals(LocalDate.of(2025, 3, 6), 1L, 3600L, 1L, 600L, 0L, 0L)));
+
+        TaskFlowMetricsResponse response = taskAnalyticsService.getProjectFlowMetrics(project.getId(), from, to);
+
+        assertEquals(3, response.getCompletedTasks());
+        assertEquals(3600L, response.getAverageLeadTimeSeconds());
+        assertEquals(1200L, response.getAverageCycleTimeSeconds());
+        assertEquals(1, response.getBlockedPeriods());
+        assertEquals(600L, response.getAverageBlockedSeconds());
+        assertEquals(List.of(
+                new WeeklyThroughput(LocalDate.of(2025, 3, 3), 3),
+                new WeeklyThroughput(LocalDate.of(2025, 3, 10), 0),
+                new WeeklyThroughput(LocalDate.of(2025, 3, 17), 0)), response.getWeeklyThroughput());
+    }
+
+    @Test
+    @DisplayName("Get Department Flow Metrics - No Range - Uses Default Weeks And Empty Averages")
+    void getDepartmentFlowMetrics_NoRange_UsesDefaultWeeks() {
+        ApplicationProperties.FlowAnalytics flowAnalytics = new ApplicationProperties.FlowAnalytics();
+        flowAnalytics.setDefaultRangeWeeks(4);
+        when(applicationProperties.getFlowAnalytics()).thenReturn(flowAnalytics);
+        when(departmentRepository.existsByIdAndIsActiveTrue(1L)).thenReturn(true);
+        when(authService.getCurrentUser()).thenReturn(createUserResponse(UserRole.ADMIN, null));
+        when(taskFlowDailyRollupRepository.findDailyTotalsByDepartmentId(any(), any(), any())).thenReturn(List.of());
+
+        TaskFlowMetricsResponse response = taskAnalyticsService.getDepartmentFlowMetrics(1L, null, null);
+
+        assertEquals(LocalDate.now(), response.getTo());
+        assertEquals(LocalDate.now().minusWeeks(4).plusDays(1), response.getFrom());
+        assertEquals(0, response.getCompletedTasks());
+        assertNull(response.getAverageLeadTimeSeconds());
+        assertNull(response.getAverageCycleTimeSeconds());
+        assertFalse(response.getWeeklyThroughput().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Get Project Flow Metrics - Other Department - Throws Unauthorized Department Access")
+    void getProjectFlowMetrics_OtherDepartment_ThrowsException() {
+        when(projectRepository.findByIdAndIsActiveTrue(project.getId())).thenReturn(Optional.of(project));
+        when(authService.getCurrentUser()).thenReturn(createUserResponse(UserRole.TEAM_LEADER, 2L));
+
+        assertThrows(UnauthorizedDepartmentAccessException.class,
+                () -> taskAnalyticsService.getProjectFlowMetrics(project.getId(), null, null));
+        verifyNoInteractions(taskFlowDailyRollupRepository);
+    }
+
+    private UserResponse createUserResponse(UserRole role, Long departmentId) {
+        UserResponse userResponse = new UserResponse();
+        userResponse.setRoles(Set.of(role));
+        userResponse.setDepartmentId(departmentId);
+        return userResponse;
+    }
+}
@@ -0,0 +1,202 @@
+package com.patikadev.definex.advancedtaskmanager.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.patikadev.definex.advancedtaskmanager.config.ApplicationProperties;
+import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
+import com.patikadev.definex.advancedtaskmanager.mapper.TaskMapper;
+import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.CreateTaskRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.task.TaskImportResponse;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.user.UserResponse;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Department;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Project;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Task;
+import com.patikadev.definex.advancedtaskmanager.model.enums.DataFormat;
+import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
+import com.patikadev.definex.advancedtaskmanager.repository.ProjectRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.TaskRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.UserRepository;
+import com.patikadev.definex.advancedtaskmanager.service.impl.TaskImportServiceImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskImportServiceTest {
+
+    private static final String CSV_HEADER = "title,userStory,acceptanceCriteria,priority,projectId\n";
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TaskStateHistoryService taskStateHistoryService;
+
+    @Mock
+    private TaskMapper taskMapper;
+
+    @Mock
+    private AuthService authService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private DomainEventService domainEventService;
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    private final UUID projectId = UUID.randomUUID();
+    private ApplicationProperties applicationProperties;
+    private TaskImportServiceImpl taskImportService;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        applicationProperties = new ApplicationProperties();
+        applicationProperties.getTaskImport().setBatchSize(2);
+        applicationProperties.getTaskImport().setMaxReportedErrors(1);
+        taskImportService = new TaskImportServiceImpl(taskRepository, projectRepository, userRepository,
+                taskStateHistoryService, taskMapper, authService, new ObjectMapper(), validator, entityManager,
+                eventPublisher, domainEventService, transactionManager, applicationProperties);
+
+        Department department = new Department();
+        department.setId(1L);
+        project = new Project();
+        project.setId(projectId);
+        project.setDepartment(department);
+
+        UserResponse admin = new UserResponse();
+        admin.setRoles(Set.of(UserRole.ADMIN));
+        when(authService.getCurrentUser()).thenReturn(admin);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+    }
+
+    @Test
+    @DisplayName("Import Tasks - Writes Rows In Configured Batches")
+    void importTasks_WritesRowsInBatches() {
+        when(projectRepository.findAllByIdInAndIsActiveTrue(anyCollection())).thenReturn(List.of(project));
+        when(projectRepository.getReferenceById(projectId)).thenReturn(project);
+        when(taskMapper.toEntity(any(CreateTaskRequest.class), eq(project), isNull()))
+                .thenAnswer(invocation -> Task.builder().id(UUID.randomUUID()).project(project).build());
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TaskImportResponse response = taskImportService.importTasks(csv(
+                row("First"), row("Second"), row("Third")), DataFormat.CSV);
+
+        assertEquals(3, response.getTotalRows());
+        assertEquals(3, response.getImportedRows());
+        assertEquals(0, response.getFailedRows());
+        verify(transactionManager, times(2)).commit(any());
+        verify(session, times(2)).setJdbcBatchSize(2);
+        verify(taskRepository, times(2)).saveAll(anyList());
+        verify(taskStateHistoryService, times(2)).createInitialTaskStateHistories(anyList(), any(LocalDateTime.class));
+        verify(domainEventService, times(2)).recordAll(anyList());
+        verify(projectRepository, times(1)).findAllByIdInAndIsActiveTrue(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Import Tasks - Reports Failed Rows Up To The Configured Limit")
+    void importTasks_ReportsFailedRowsUpToLimit() {
+        when(projectRepository.findAllByIdInAndIsActiveTrue(anyCollection())).thenReturn(List.of());
+
+        TaskImportResponse response = taskImportService.importTasks(csv(
+                row("First"), row("Second"), row("Third")), DataFormat.CSV);
+
+        assertEquals(3, response.getTotalRows());
+        assertEquals(0, response.getImportedRows());
+        assertEquals(3, response.getFailedRows());
+        assertTrue(response.isErrorsTruncated());
+        assertEquals(1, response.getErrors().size());
+        assertEquals(2, response.getErrors().get(0).getLine());
+        assertEquals(ErrorMessages.PROJECT_NOT_FOUND.formatted(projectId), response.getErrors().get(0).getError());
+        verify(projectRepository, times(1)).findAllByIdInAndIsActiveTrue(anyCollection());
+        verify(taskRepository, never()).saveAll(anyList());
+        verify(taskStateHistoryService, never()).createInitialTaskStateHistories(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("Import Tasks - Failed Batch Is Retried Row By Row And Reports The Failing Row")
+    void importTasks_FailedBatch_RetriesRowByRow() {
+        when(projectRepository.findAllByIdInAndIsActiveTrue(anyCollection())).thenReturn(List.of(project));
+        when(projectRepository.getReferenceById(projectId)).thenReturn(project);
+        when(taskMapper.toEntity(any(CreateTaskRequest.class), eq(project), isNull()))
+                .thenAnswer(invocation -> Task.builder().id(UUID.randomUUID())
+                        .title(invocation.<CreateTaskRequest>getArgument(0).getTitle()).project(project).build());
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            if (tasks.stream().anyMatch(task -> task.getTitle().equals("Second"))) {
+                throw new DataIntegrityViolationException("duplicate task");
+            }
+            return tasks;
+        });
+
+        TaskImportResponse response = taskImportService.importTasks(csv(
+                row("First"), row("Second"), row("Third")), DataFormat.CSV);
+
+        assertEquals(3, response.getTotalRows());
+        assertEquals(2, response.getImportedRows());
+        assertEquals(1, response.getFailedRows());
+        assertEquals(1, response.getErrors().size());
+        assertEquals(3, response.getErrors().get(0).getLine());
+        assertEquals(ErrorMessages.TASK_IMPORT_ROW_SAVE_FAILED, response.getErrors().get(0).getError());
+        verify(taskRepository, times(4)).saveAll(anyList());
+        verify(transactionManager, times(2)).commit(any());
+        verify(transactionManager, times(2)).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Import Tasks - Unterminated Quote Ends The Import With A Row Error")
+    void importTasks_UnterminatedQuote_ReportsRowError() {
+        TaskImportResponse response = taskImportService.importTasks(csv("\"Broken,Story,Works,LOW," + projectId + "\n"),
+                DataFormat.CSV);
+
+        assertEquals(1, response.getFailedRows());
+        assertEquals(ErrorMessages.TASK_IMPORT_UNTERMINATED_QUOTE, response.getErrors().get(0).getError());
+        verify(taskRepository, never()).saveAll(anyList());
+    }
+
+    private String row(String title) {
+        return title + ",Story,Works,LOW," + projectId + "\n";
+    }
+
+    private ByteArrayInputStream csv(String... rows) {
+        return new ByteArrayInputStream((CSV_HEADER + String.join("", rows)).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,12 +1,21 @@
 package com.patikadev.definex.advancedtaskmanager.service;
 
+import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
+import com.patikadev.definex.advancedtaskmanager.event.TaskActivityEvent;
+import com.patikadev.definex.advancedtaskmanager.event.TaskAssignedEvent;
+import com.patikadev.definex.advancedtaskmanager.event.TaskStateChangedEvent;
 import com.patikadev.definex.advancedtaskmanager.exception.InvalidTaskStateTransitionException;
 import com.patikadev.definex.advancedtaskmanager.exception.ResourceNotFoundException;
 import com.patikadev.definex.advancedtaskmanager.exception.UnauthorizedTaskAccessException;
+import com.patikadev.definex.advancedtaskmanager.exception.VersionConflictException;
 import com.patikadev.definex.advancedtaskmanager.mapper.TaskMapper;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPage;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPageRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.BulkUpdateTaskStateRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.CreateTaskRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.UpdateTaskRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.task.UpdateTaskStateRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.task.BulkTaskStateUpdateResponse;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.task.TaskDetailResponse;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.task.TaskResponse;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.user.UserResponse;
@@ -14,6 +23,7 @@ import com.patikadev.definex.advancedtaskmanager.model.entity.Department;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Project;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Task;
 import com.patikadev.definex.advancedtaskmanager.model.entity.User;
+import com.patikadev.definex.advancedtaskmanager.model.enums.TaskActivityType;
 import com.patikadev.definex.advancedtaskmanager.model.enums.TaskPriority;
 import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
 import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
@@ -28,6 +38,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -54,12 +66,23 @@ public class TaskServiceTest {
     @Mock
     private TaskMapper taskMapper;
 
+    @Mock
+    private AggregateCountService aggregateCountService;
+
     @Mock
     private AuthService authService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private DomainEventService domainEventService;
+
     @InjectMocks
     private TaskServiceImpl taskService;
 
+    private final CursorPageRequest pageRequest = CursorPageRequest.firstPage(20);
+
     private Task task;
     private Project project;
     private Department department;
@@ -111,7 +134,7 @@ public class TaskServiceTest {
         when(userRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(user));
         when(taskMapper.toEntity(any(CreateTaskRequest.class), any(Project.class), any(User.class))).thenReturn(task);
         when(taskRepository.save(any(Task.class))).thenReturn(task);
-        when(taskMapper.toResponse(any(Task.class))).thenReturn(taskResponse);
+        when(taskMapper.toResponse(any(Task.class), any())).thenReturn(taskResponse);
         when(authService.getCurrentUser()).thenReturn(adminUserResponse);
         doNothing().when(taskStateHistoryService).createTaskStateHistory(any(UUID.class), any(), any(TaskState.class), any(LocalDateTime.class), any());
 
@@ -123,7 +146,7 @@ public class TaskServiceTest {
         verify(userRepository).findByIdAndIsActiveTrue(userId);
         verify(taskMapper).toEntity(eq(createTaskRequest), eq(project), eq(user));
         verify(taskRepository).save(task);
-        verify(taskMapper).toResponse(task);
+        verify(taskMapper).toResponse(eq(task), any());
         verify(authService).getCurrentUser();
         verify(taskStateHistoryService).createTaskStateHistory(eq(taskId), isNull(), eq(TaskState.BACKLOG), any(LocalDateTime.class), isNull());
     }
@@ -135,7 +158,7 @@ public class TaskServiceTest {
         when(userRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(user));
         when(taskMapper.toEntity(any(CreateTaskRequest.class), any(Project.class), any(User.class))).thenReturn(task);
         when(taskRepository.save(any(Task.class))).thenReturn(task);
-        when(taskMapper.toResponse(any(Task.class))).thenReturn(taskResponse);
+        when(taskMapper.toResponse(any(Task.class), any())).thenReturn(taskResponse);
         when(authService.getCurrentUser()).thenReturn(projectManagerUserResponse);
         doNothing().when(taskStateHistoryService).createTaskStateHistory(any(UUID.class), any(), any(TaskState.class), any(LocalDateTime.class), any());
 
@@ -147,7 +170,7 @@ public class TaskServiceTest {
         verify(userRepository).findByIdAndIsActiveTrue(userId);
         verify(taskMapper).toEntity(eq(createTaskRequest), eq(project), eq(user));
         verify(taskRepository).save(task);
-        verify(taskMapper).toResponse(task);
+        verify(taskMapper).toResponse(eq(task), any());
         verify(authService).getCurrentUser();
         verify(taskStateHistoryService).createTaskStateHistory(eq(taskId), isNull(), eq(TaskState.BACKLOG), any(LocalDateTime.class), isNull());
     }
@@ -211,19 +234,19 @@ public class TaskServiceTest {
     void updateTask_Success() {
         when(taskRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(task));
         when(userRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(user));
-        when(taskRepository.save(any(Task.class))).thenReturn(task);
-        when(taskMapper.toResponse(any(Task.class))).thenReturn(taskResponse);
+        when(taskRepository.saveAndFlush(any(Task.class))).thenReturn(task);
+        when(taskMapper.toResponse(any(Task.class), any())).thenReturn(taskResponse);
         when(authService.getCurrentUser()).thenReturn(adminUserResponse);
 
-        TaskResponse result = taskService.updateTask(taskId, updateTaskRequest);
+        TaskResponse result = taskService.updateTask(taskId, updateTaskRequest, null);
 
         assertNotNull(result);
         assertEquals(taskResponse, result);
         verify(taskRepository).findByIdAndIsActiveTrue(taskId);
         verify(userRepository).findByIdAndIsActiveTrue(userId);
         verify(taskMapper).updateEntityFromDto(updateTaskRequest, task);
-        verify(taskRepository).save(task);
-        verify(taskMapper).toResponse(task);
+        verify(taskRepository).saveAndFlush(task);
+        verify(taskMapper).toResponse(eq(task), any());
         verify(authService).getCurrentUser();
     }
 
@@ -233,12 +256,12 @@ public class TaskServiceTest {
         when(taskRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(task));
         when(authService.getCurrentUser()).thenReturn(userWithOtherDepartment);
 
-        assertThrows(UnauthorizedTaskAccessException.class, () -> taskService.updateTask(taskId, updateTaskRequest));
+        assertThrows(UnauthorizedTaskAccessException.class, () -> taskService.updateTask(taskId, updateTaskRequest, null));
         verify(taskRepository).findByIdAndIsActiveTrue(taskId);
         verify(authService).getCurrentUser();
         verify(userRepository, never()).findByIdAndIsActiveTrue(any());
         verify(taskMapper, never()).updateEntityFromDto(any(), any());
-        verify(taskRepository, never()).save(any());
+        verify(taskRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -248,19 +271,37 @@ public class TaskServiceTest {
         when(userRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.empty());
         when(authService.getCurrentUser()).thenReturn(adminUserResponse);
 
-        assertThrows(ResourceNotFoundException.class, () -> taskService.updateTask(taskId, updateTaskRequest));
+        assertThrows(ResourceNotFoundException.class, () -> taskService.updateTask(taskId, updateTaskRequest, null));
         verify(taskRepository).findByIdAndIsActiveTrue(taskId);
         verify(userRepository).findByIdAndIsActiveTrue(userId);
         verify(taskMapper, never()).updateEntityFromDto(any(), any());
-        verify(taskRepository, never()).save(any());
+        verify(taskRepository, never()).saveAndFlush(any());
         verify(authService).getCurrentUser();
     }
 
+    @Test
+    @DisplayName("Update Task - Version Conflict")
+    void updateTask_VersionConflict() {
+        task.setVersion(3L);
+
+        when(taskRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(task));
+        when(taskMapper.toResponse(any(Task.class), any())).thenReturn(taskResponse);
+        when(authService.getCurrentUser()).thenReturn(adminUserResponse);
+
+        VersionConflictException exception = assertThrows(VersionConflictException.class,
+                () -> taskService.updateTask(taskId, updateTaskRequest, 2L));
+
+        assertEquals(ErrorMessages.TASK_VERSION_CONFLICT.formatted(taskId, 2L, 3L), exception.getMessage());
+        assertEquals(taskResponse, exception.getCurrentRepresentation());
+        verify(taskMapper, never()).updateEntityFromDto(any(), any());
+        verify(taskRepository, never()).saveAndFlush(any());
+    }
+
     @Test
     @DisplayName("Get Task By Id - Success")
     void getTaskById_Success() {
         when(taskRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(task));
-        when(taskMapper.toDetailResponse(any(Task.class))).thenReturn(taskDetailResponse);
+        when(taskMapper.toDetailResponse(any(Task.class), any())).thenReturn(taskDetailResponse);
         when(authService.getCurrentUser()).thenReturn(adminUserResponse);
 
         TaskDetailResponse result = taskService.getTaskById(taskId);
@@ -268,7 +309,7 @@ public class TaskServiceTest {
         assertNotNull(result);
         assertEquals(taskDetailResponse, result);
         verify(taskRepository).findByIdAndIsActiveTrue(taskId);
-        verify(taskMapper).toDetailResponse(task);
+        verify(taskMapper).toDetailResponse(eq(task), any());
         verify(authService).getCurrentUser();
     }
 
@@ -281,23 +322,23 @@ public class TaskServiceTest {
         assertThrows(UnauthorizedTaskAccessException.class, () -> taskService.getTaskById(taskId));
         verify(taskRepository).findByIdAndIsActiveTrue(taskId);
         verify(authService).getCurrentUser();
-        verify(taskMapper, never()).toDetailResponse(any());
+        verify(taskMapper, never()).toDetailResponse(any(), any());
     }
 
     @Test
     @DisplayName("Get All Tasks - Success as Admin")
     void getAllTasks_SuccessAsAdmin() {
-        when(taskRepository.findAllByIsActiveTrue()).thenReturn(taskList);
-        when(taskMapper.toResponseList(anyList())).thenReturn(taskResponseList);
+        when(taskRepository.findPageByIsActiveTrue(any(), any(), any(Limit.class))).thenReturn(taskList);
+        when(taskMapper.toResponseList(anyList(), any())).thenReturn(taskResponseList);
         when(authService.getCurrentUser()).thenReturn(adminUserResponse);
 
-        List<TaskResponse> result = taskService.getAllTasks();
+        CursorPage<TaskResponse> result = taskService.getAllTasks(pageRequest);
 
         assertNotNull(result);
-        assertEquals(taskResponseList, result);
-        assertEquals(taskResponseList.size(), result.size());
-        verify(taskRepository).findAllByIsActiveTrue();
-        verify(taskMapper).toResponseList(taskList);
+        assertEquals(taskResponseList, result.getContent());
+        assertEquals(taskResponseList.size(), result.getContent().size());
+        verify(taskRepository).findPageByIsActiveTrue(isNull(), isNull(), any(Limit.class));
+        verify(taskMapper).toResponseList(eq(taskList), any());
         verify(authService).getCurrentUser();
     }
 
@@ -306,19 +347,19 @@ public class TaskServiceTest {
     void getTasksByProjectId_Success() {
         when(projectRepository.existsByIdAndIsActiveTrue(any(UUID.class))).thenReturn(true);
         when(projectRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(project));
-        when(taskRepository.findAllByProjectIdAndIsActiveTrue(any(UUID.class))).thenReturn(taskList);
-        when(taskMapper.toResponseList(anyList())).thenReturn(taskResponseList);
+        when(taskRepository.findPageByProjectIdAndIsActiveTrue(any(UUID.class), any(), any(), any(Limit.class))).thenReturn(taskList);
+        when(taskMapper.toResponseList(anyList(), any())).thenReturn(taskResponseList);
         when(authService.getCurrentUser()).thenReturn(adminUserResponse);
 
-        List<TaskResponse> result = taskService.getTasksByProjectId(projectId);
+        CursorPage<TaskResponse> result = taskService.getTasksByProjectId(projectId, pageRequest);
 
         assertNotNull(result);
-        assertEquals(taskResponseList, result);
-        assertEquals(taskResponseList.size(), result.size());
+        assertEquals(taskResponseList, result.getContent());
+        assertEquals(taskResponseList.size(), result.getContent().size());
         verify(projectRepository).existsByIdAndIsActiveTrue(projectId);
         verify(projectRepository).findByIdAndIsActiveTrue(projectId);
-        verify(taskRepository).findAllByProjectIdAndIsActiveTrue(projectId);
-        verify(taskMapper).toResponseList(taskList);
+        verify(taskRepository).findPageByProjectIdAndIsActiveTrue(eq(projectId), isNull(), isNull(), any(Limit.class));
+        verify(taskMapper).toResponseList(eq(taskList), any());
         verify(authService).getCurrentUser();
     }
 
@@ -327,28 +368,28 @@ public class TaskServiceTest {
     void getTasksByProjectId_ProjectNotFound() {
         when(projectRepository.existsByIdAndIsActiveTrue(any(UUID.class))).thenReturn(false);
 
-        assertThrows(ResourceNotFoundException.class, () -> taskService.getTasksByProjectId(projectId));
+        assertThrows(ResourceNotFoundException.class, () -> taskService.getTasksByProjectId(projectId, pageRequest));
         verify(projectRepository).existsByIdAndIsActiveTrue(projectId);
-        verify(taskRepository, never()).findAllByProjectIdAndIsActiveTrue(any());
-        verify(taskMapper, never()).toResponseList(any());
+        verify(taskRepository, never()).findPageByProjectIdAndIsActiveTrue(any(), any(), any(), any());
+        verify(taskMapper, never()).toResponseList(any(), any());
     }
 
     @Test
     @DisplayName("Get Tasks By Assigned User Id - Success")
     void getTasksByAssignedUserId_Success() {
         when(userRepository.existsByIdAndIsActiveTrue(any(UUID.class))).thenReturn(true);
-        when(taskRepository.findAllByAssignedUserIdAndIsActiveTrue(any(UUID.class))).thenReturn(taskList);
-        when(taskMapper.toResponseList(anyList())).thenReturn(taskResponseList);
+        when(taskRepository.findPageByAssignedUserIdAndIsActiveTrue(any(UUID.class), any(), any(), any(Limit.class))).thenReturn(taskList);
+        when(taskMapper.toResponseList(anyList(), any())).thenReturn(taskResponseList);
         when(authService.getCurrentUser()).thenReturn(adminUserResponse);
 
-        List<TaskResponse> result = taskService.getTasksByAssignedUserId(userId);
+        CursorPage<TaskResponse> result = taskService.getTasksByAssignedUserId(userId, pageRequest);
 
         assertNotNull(result);
-        assertEquals(taskResponseList, result);
-        assertEquals(taskResponseList.size(), result.size());
+        assertEquals(taskResponseList, result.getContent());
+        assertEquals(taskResponseList.size(), result.getContent().size());
         verify(userRepository).existsByIdAndIsActiveTrue(userId);
-        verify(taskRepository).findAllByAssignedUserIdAndIsActiveTrue(userId);
-        verify(taskMapper).toResponseList(taskList);
+        verify(taskRepository).findPageByAssignedUserIdAndIsActiveTrue(eq(userId), isNull(), isNull(), any(Limit.class));
+        verify(taskMapper).toResponseList(eq(taskList), any());
         verify(authService).getCurrentUser();
     }
 
@@ -357,43 +398,43 @@ public class TaskServiceTest {
     void getTasksByAssignedUserId_UserNotFound() {
         when(userRepository.existsByIdAndIsActiveTrue(any(UUID.class))).thenReturn(false);
 
-        assertThrows(ResourceNotFoundException.class, () -> taskService.getTasksByAssignedUserId(userId));
+        assertThrows(ResourceNotFoundException.class, () -> taskService.getTasksByAssignedUserId(userId, pageRequest));
         verify(userRepository).existsByIdAndIsActiveTrue(userId);
-        verify(taskRepository, never()).findAllByAssignedUserIdAndIsActiveTrue(any());
-        verify(taskMapper, never()).toResponseList(any());
+        verify(taskRepository, never()).findPageByAssignedUserIdAndIsActiveTrue(any(), any(), any(), any());
+        verify(taskMapper, never()).toResponseList(any(), any());
     }
 
     @Test
     @DisplayName("Get Tasks By State - Success")
     void getTasksByState_Success() {
-        when(taskRepository.findAllByStateAndIsActiveTrue(any(TaskState.class))).thenReturn(taskList);
-        when(taskMapper.toResponseList(anyList())).thenReturn(taskResponseList);
+        when(taskRepository.findPageByStateAndIsActiveTrue(any(TaskState.class), any(), any(), any(Limit.class))).thenReturn(taskList);
+        when(taskMapper.toResponseList(anyList(), any())).thenReturn(taskResponseList);
         when(authService.getCurrentUser()).thenReturn(adminUserResponse);
 
-        List<TaskResponse> result = taskService.getTasksByState(TaskState.IN_PROGRESS);
+        CursorPage<TaskResponse> result = taskService.getTasksByState(TaskState.IN_PROGRESS, pageRequest);
 
         assertNotNull(result);
-        assertEquals(taskResponseList, result);
-        assertEquals(taskResponseList.size(), result.size());
-        verify(taskRepository).findAllByStateAndIsActiveTrue(TaskState.IN_PROGRESS);
-        verify(taskMapper).toResponseList(taskList);
+        assertEquals(taskResponseList, result.getContent());
+        assertEquals(taskResponseList.size(), result.getContent().size());
+        verify(taskRepository).findPageByStateAndIsActiveTrue(eq(TaskState.IN_PROGRESS), isNull(), isNull(), any(Limit.class));
+        verify(taskMapper).toResponseList(eq(taskList), any());
         verify(authService).getCurrentUser();
     }
 
     @Test
     @DisplayName("Get Tasks By Priority - Success")
     void getTasksByPriority_Success() {
-        when(taskRepository.findAllByPriorityAndIsActiveTrue(any(TaskPriority.class))).thenReturn(taskList);
-        when(taskMapper.toResponseList(anyList())).thenReturn(taskResponseList);
+        when(taskRepository.findPageByPriorityAndIsActiveTrue(any(TaskPriority.class), any(), any(), any(Limit.class))).thenReturn(taskList);
+        when(taskMapper.toResponseList(anyList(), any())).thenReturn(taskResponseList);
         when(authService.getCurrentUser()).thenReturn(adminUserResponse);
 
-        List<TaskResponse> result = taskService.getTasksByPriority(TaskPriority.HIGH);
+        CursorPage<TaskResponse> result = taskService.getTasksByPriority(TaskPriority.HIGH, pageRequest);
 
         assertNotNull(result);
-        assertEquals(taskResponseList, result);
-        assertEquals(taskResponseList.size(), result.size());
-        verify(taskRepository).findAllByPriorityAndIsActiveTrue(TaskPriority.HIGH);
-        verify(taskMapper).toResponseList(taskList);
+        assertEquals(taskResponseList, result.getContent());
+        assertEquals(taskResponseList.size(), result.getContent().size());
+        verify(taskRepository).findPageByPriorityAndIsActiveTrue(eq(TaskPriority.HIGH), isNull(), isNull(), any(Limit.class));
+        verify(taskMapper).toResponseList(eq(taskList), any());
         verify(authService).getCurrentUser();
     }
 
@@ -408,19 +449,22 @@ public class TaskServiceTest {
         stateRequest.setReason("Moving to development");
 
         when(taskRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(taskWithState));
-        when(taskRepository.save(any(Task.class))).thenReturn(taskWithState);
-        when(taskMapper.toResponse(any(Task.class))).thenReturn(taskResponse);
+        when(taskRepository.saveAndFlush(any(Task.class))).thenReturn(taskWithState);
+        when(taskMapper.toResponse(any(Task.class), any())).thenReturn(taskResponse);
         when(authService.getCurrentUser()).thenReturn(adminUserResponse);
         doNothing().when(taskStateHistoryService).createTaskStateHistory(any(UUID.class), any(TaskState.class), any(TaskState.class), any(LocalDateTime.class), anyString());
 
-        TaskResponse result = taskService.updateTaskState(taskId, stateRequest);
+        TaskResponse result = taskService.updateTaskState(taskId, stateRequest, null);
 
         assertNotNull(result);
         assertEquals(taskResponse, result);
         verify(taskRepository).findByIdAndIsActiveTrue(taskId);
-        verify(taskRepository).save(taskWithState);
+        verify(taskRepository).saveAndFlush(taskWithState);
         verify(taskStateHistoryService).createTaskStateHistory(eq(taskId), eq(TaskState.IN_ANALYSIS), eq(TaskState.IN_PROGRESS), any(LocalDateTime.class), eq("Moving to development"));
-        verify(taskMapper).toResponse(taskWithState);
+        verify(domainEventService).record(argThat(event -> event instanceof TaskStateChangedEvent stateChanged
+                && stateChanged.oldState() == TaskState.IN_ANALYSIS
+                && stateChanged.newState() == TaskState.IN_PROGRESS));
+        verify(taskMapper).toResponse(eq(taskWithState), any());
         verify(authService).getCurrentUser();
     }
 
@@ -436,11 +480,12 @@ public class TaskServiceTest {
         when(taskRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(taskWithState));
         when(authService.getCurrentUser()).thenReturn(adminUserResponse);
 
-        assertThrows(InvalidTaskStateTransitionException.class, () -> taskService.updateTaskState(taskId, stateRequest));
+        assertThrows(InvalidTaskStateTransitionException.class, () -> taskService.updateTaskState(taskId, stateRequest, null));
         verify(taskRepository).findByIdAndIsActiveTrue(taskId);
-        verify(taskRepository, never()).save(any());
+        verify(taskRepository, never()).saveAndFlush(any());
         verify(taskStateHistoryService, never()).createTaskStateHistory(any(), any(), any(), any(), any());
         verify(authService).getCurrentUser();
+        verify(domainEventService, never()).record(any());
     }
 
     @Test
@@ -455,9 +500,9 @@ public class TaskServiceTest {
         when(taskRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(taskWithState));
         when(authService.getCurrentUser()).thenReturn(adminUserResponse);
 
-        assertThrows(IllegalArgumentException.class, () -> taskService.updateTaskState(taskId, stateRequest));
+        assertThrows(IllegalArgumentException.class, () -> taskService.updateTaskState(taskId, stateRequest, null));
         verify(taskRepository).findByIdAndIsActiveTrue(taskId);
-        verify(taskRepository, never()).save(any());
+        verify(taskRepository, never()).saveAndFlush(any());
         verify(taskStateHistoryService, never()).createTaskStateHistory(any(), any(), any(), any(), any());
         verify(authService).getCurrentUser();
     }
@@ -475,20 +520,83 @@ public class TaskServiceTest {
         when(taskRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(taskWithState));
         when(authService.getCurrentUser()).thenReturn(userWithOtherDepartment);
 
-        assertThrows(UnauthorizedTaskAccessException.class, () -> taskService.updateTaskState(taskId, stateRequest));
+        assertThrows(UnauthorizedTaskAccessException.class, () -> taskService.updateTaskState(taskId, stateRequest, null));
         verify(taskRepository).findByIdAndIsActiveTrue(taskId);
         verify(authService).getCurrentUser();
-        verify(taskRepository, never()).save(any());
+        verify(taskRepository, never()).saveAndFlush(any());
         verify(taskStateHistoryService, never()).createTaskStateHistory(any(), any(), any(), any(), any());
     }
 
+    @Test
+    @DisplayName("Bulk Update Task State - Mixed Results")
+    void bulkUpdateTaskState_MixedResults() {
+        Task analysisTask = createTask();
+        analysisTask.setState(TaskState.IN_ANALYSIS);
+        Task completedTask = createTask();
+        completedTask.setId(UUID.randomUUID());
+        completedTask.setState(TaskState.COMPLETED);
+        UUID missingTaskId = UUID.randomUUID();
+
+        BulkUpdateTaskStateRequest request = new BulkUpdateTaskStateRequest();
+        request.setTaskIds(List.of(taskId, completedTask.getId(), missingTaskId, taskId));
+        request.setNewState(TaskState.IN_PROGRESS);
+        request.setReason("Sprint started");
+
+        when(authService.getCurrentUser()).thenReturn(projectManagerUserResponse);
+        when(taskRepository.findAllByIdInAndIsActiveTrueWithProject(anyCollection()))
+                .thenReturn(List.of(analysisTask, completedTask));
+
+        BulkTaskStateUpdateResponse result = taskService.bulkUpdateTaskState(request);
+
+        assertEquals(3, result.getRequested());
+        assertEquals(1, result.getSucceeded());
+        assertEquals(2, result.getFailed());
+        assertTrue(result.getResults().get(0).isSuccess());
+        assertEquals(TaskState.IN_ANALYSIS, result.getResults().get(0).getPreviousState());
+        assertFalse(result.getResults().get(1).isSuccess());
+        assertEquals(TaskState.COMPLETED, result.getResults().get(1).getState());
+        assertFalse(result.getResults().get(2).isSuccess());
+        assertTrue(result.getResults().get(2).getError().contains(missingTaskId.toString()));
+        assertEquals(TaskState.IN_PROGRESS, analysisTask.getState());
+        assertEquals(TaskState.COMPLETED, completedTask.getState());
+        verify(authService, times(1)).getCurrentUser();
+        verify(taskRepository, times(1)).findAllByIdInAndIsActiveTrueWithProject(anyCollection());
+        verify(taskStateHistoryService).createTaskStateHistories(eq(List.of(taskId)), eq(TaskState.IN_PROGRESS),
+                any(LocalDateTime.class), eq("Sprint started"));
+        verify(taskRepository).saveAll(List.of(analysisTask));
+        verify(taskRepository, never()).findByIdAndIsActiveTrue(any());
+    }
+
+    @Test
+    @DisplayName("Bulk Update Task State - Unauthorized Department")
+    void bulkUpdateTaskState_UnauthorizedDepartment() {
+        Task analysisTask = createTask();
+        analysisTask.setState(TaskState.IN_ANALYSIS);
+
+        BulkUpdateTaskStateRequest request = new BulkUpdateTaskStateRequest();
+        request.setTaskIds(List.of(taskId));
+        request.setNewState(TaskState.IN_PROGRESS);
+
+        when(authService.getCurrentUser()).thenReturn(userWithOtherDepartment);
+        when(taskRepository.findAllByIdInAndIsActiveTrueWithProject(anyCollection())).thenReturn(List.of(analysisTask));
+
+        BulkTaskStateUpdateResponse result = taskService.bulkUpdateTaskState(request);
+
+        assertEquals(0, result.getSucceeded());
+        assertEquals(1, result.getFailed());
+        assertFalse(result.getResults().get(0).isSuccess());
+        assertEquals(TaskState.IN_ANALYSIS, analysisTask.getState());
+        verify(taskStateHistoryService, never()).createTaskStateHistories(any(), any(), any(), any());
+        verify(taskRepository, never()).saveAll(any());
+    }
+
     @Test
     @DisplayName("Assign Task To User - Success")
     void assignTaskToUser_Success() {
         when(taskRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(task));
         when(userRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(user));
         when(taskRepository.save(any(Task.class))).thenReturn(task);
-        when(taskMapper.toResponse(any(Task.class))).thenReturn(taskResponse);
+        when(taskMapper.toResponse(any(Task.class), any())).thenReturn(taskResponse);
         when(authService.getCurrentUser()).thenReturn(adminUserResponse);
 
         TaskResponse result = taskService.assignTaskToUser(taskId, userId);
@@ -498,8 +606,28 @@ public class TaskServiceTest {
         verify(taskRepository).findByIdAndIsActiveTrue(taskId);
         verify(userRepository).findByIdAndIsActiveTrue(userId);
         verify(taskRepository).save(task);
-        verify(taskMapper).toResponse(task);
+        verify(taskMapper).toResponse(eq(task), any());
         verify(authService).getCurrentUser();
+        verify(eventPublisher).publishEvent(TaskActivityEvent.of(TaskActivityType.TASK_ASSIGNED, task));
+        verify(domainEventService, never()).record(any());
+    }
+
+    @Test
+    @DisplayName("Assign Task To User - New Assignee - Records Assigned Event")
+    void assignTaskToUser_NewAssignee_RecordsAssignedEvent() {
+        UUID newAssigneeId = UUID.randomUUID();
+        User newAssignee = User.builder().id(newAssigneeId).email("new@example.com").build();
+        when(taskRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(task));
+        when(userRepository.findByIdAndIsActiveTrue(newAssigneeId)).thenReturn(Optional.of(newAssignee));
+        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        when(taskMapper.toResponse(any(Task.class), any())).thenReturn(taskResponse);
+        when(authService.getCurrentUser()).thenReturn(adminUserResponse);
+
+        taskService.assignTaskToUser(taskId, newAssigneeId);
+
+        verify(domainEventService).record(argThat(event -> event instanceof TaskAssignedEvent assigned
+                && newAssigneeId.equals(assigned.assignedUserId())
+                && userId.equals(assigned.previousAssignedUserId())));
     }
 
     @Test
@@ -545,16 +673,17 @@ public class TaskServiceTest {
     @Test
     @DisplayName("Get All Tasks - Success with Department Filter for Project Manager")
     void getAllTasks_SuccessWithDepartmentFilter() {
-        when(taskRepository.findAllByIsActiveTrue()).thenReturn(taskList);
-        when(taskMapper.toResponseList(any())).thenReturn(taskResponseList);
+        when(taskRepository.findPageByDepartmentIdAndIsActiveTrue(anyLong(), any(), any(), any(Limit.class))).thenReturn(taskList);
+        when(taskMapper.toResponseList(any(), any())).thenReturn(taskResponseList);
         when(authService.getCurrentUser()).thenReturn(projectManagerUserResponse);
 
-        List<TaskResponse> result = taskService.getAllTasks();
+        CursorPage<TaskResponse> result = taskService.getAllTasks(pageRequest);
 
         assertNotNull(result);
-        assertEquals(taskResponseList, result);
-        verify(taskRepository).findAllByIsActiveTrue();
-        verify(taskMapper).toResponseList(any());
+        assertEquals(taskResponseList, result.getContent());
+        verify(taskRepository).findPageByDepartmentIdAndIsActiveTrue(eq(departmentId), isNull(), isNull(), any(Limit.class));
+        verify(taskRepository, never()).findPageByIsActiveTrue(any(), any(), any());
+        verify(taskMapper).toResponseList(any(), any());
         verify(authService).getCurrentUser();
     }
 
@@ -562,52 +691,70 @@ public class TaskServiceTest {
     @DisplayName("Get Tasks By Assigned User Id - Success with Department Filter")
     void getTasksByAssignedUserId_SuccessWithDepartmentFilter() {
         when(userRepository.existsByIdAndIsActiveTrue(any(UUID.class))).thenReturn(true);
-        when(taskRepository.findAllByAssignedUserIdAndIsActiveTrue(any(UUID.class))).thenReturn(taskList);
-        when(taskMapper.toResponseList(any())).thenReturn(taskResponseList);
+        when(taskRepository.findPageByAssignedUserIdAndDepartmentIdAndIsActiveTrue(any(UUID.class), anyLong(), any(), any(), any(Limit.class))).thenReturn(taskList);
+        when(taskMapper.toResponseList(any(), any())).thenReturn(taskResponseList);
         when(authService.getCurrentUser()).thenReturn(projectManagerUserResponse);
 
-        List<TaskResponse> result = taskService.getTasksByAssignedUserId(userId);
+        CursorPage<TaskResponse> result = taskService.getTasksByAssignedUserId(userId, pageRequest);
 
         assertNotNull(result);
-        assertEquals(taskResponseList, result);
+        assertEquals(taskResponseList, result.getContent());
         verify(userRepository).existsByIdAndIsActiveTrue(userId);
-        verify(taskRepository).findAllByAssignedUserIdAndIsActiveTrue(userId);
-        verify(taskMapper).toResponseList(any());
+        verify(taskRepository).findPageByAssignedUserIdAndDepartmentIdAndIsActiveTrue(eq(userId), eq(departmentId), isNull(), isNull(), any(Limit.class));
+        verify(taskRepository, never()).findPageByAssignedUserIdAndIsActiveTrue(any(), any(), any(), any());
+        verify(taskMapper).toResponseList(any(), any());
         verify(authService).getCurrentUser();
     }
 
     @Test
     @DisplayName("Get Tasks By State - Success with Department Filter")
     void getTasksByState_SuccessWithDepartmentFilter() {
-        when(taskRepository.findAllByStateAndIsActiveTrue(any(TaskState.class))).thenReturn(taskList);
-        when(taskMapper.toResponseList(any())).thenReturn(taskResponseList);
+        when(taskRepository.findPageByStateAndDepartmentIdAndIsActiveTrue(any(TaskState.class), anyLong(), any(), any(), any(Limit.class))).thenReturn(taskList);
+        when(taskMapper.toResponseList(any(), any())).thenReturn(taskResponseList);
         when(authService.getCurrentUser()).thenReturn(projectManagerUserResponse);
 
-        List<TaskResponse> result = taskService.getTasksByState(TaskState.IN_PROGRESS);
+        CursorPage<TaskResponse> result = taskService.getTasksByState(TaskState.IN_PROGRESS, pageRequest);
 
         assertNotNull(result);
-        assertEquals(taskResponseList, result);
-        verify(taskRepository).findAllByStateAndIsActiveTrue(TaskState.IN_PROGRESS);
-        verify(taskMapper).toResponseList(any());
+        assertEquals(taskResponseList, result.getContent());
+        verify(taskRepository).findPageByStateAndDepartmentIdAndIsActiveTrue(eq(TaskState.IN_PROGRESS), eq(departmentId), isNull(), isNull(), any(Limit.class));
+        verify(taskRepository, never()).findPageByStateAndIsActiveTrue(any(), any(), any(), any());
+        verify(taskMapper).toResponseList(any(), any());
         verify(authService).getCurrentUser();
     }
 
     @Test
     @DisplayName("Get Tasks By Priority - Success with Department Filter")
     void getTasksByPriority_SuccessWithDepartmentFilter() {
-        when(taskRepository.findAllByPriorityAndIsActiveTrue(any(TaskPriority.class))).thenReturn(taskList);
-        when(taskMapper.toResponseList(any())).thenReturn(taskResponseList);
+        when(taskRepository.findPageByPriorityAndDepartmentIdAndIsActiveTrue(any(TaskPriority.class), anyLong(), any(), any(), any(Limit.class))).thenReturn(taskList);
+        when(taskMapper.toResponseList(any(), any())).thenReturn(taskResponseList);
         when(authService.getCurrentUser()).thenReturn(projectManagerUserResponse);
 
-        List<TaskResponse> result = taskService.getTasksByPriority(TaskPriority.HIGH);
+        CursorPage<TaskResponse> result = taskService.getTasksByPriority(TaskPriority.HIGH, pageRequest);
 
         assertNotNull(result);
-        assertEquals(taskResponseList, result);
-        verify(taskRepository).findAllByPriorityAndIsActiveTrue(TaskPriority.HIGH);
-        verify(taskMapper).toResponseList(any());
+        assertEquals(taskResponseList, result.getContent());
+        verify(taskRepository).findPageByPriorityAndDepartmentIdAndIsActiveTrue(eq(TaskPriority.HIGH), eq(departmentId), isNull(), isNull(), any(Limit.class));
+        verify(taskRepository, never()).findPageByPriorityAndIsActiveTrue(any(), any(), any(), any());
+        verify(taskMapper).toResponseList(any(), any());
         verify(authService).getCurrentUser();
     }
 
+    @Test
+    @DisplayName("Get Tasks By State - User Without Department Returns Empty List")
+    void getTasksByState_UserWithoutDepartment_ReturnsEmptyList() {
+        UserResponse userWithoutDepartment = createUserResponse("No", "Department", "nodept@example.com",
+                new HashSet<>(Collections.singletonList(UserRole.TEAM_MEMBER)), null);
+        when(authService.getCurrentUser()).thenReturn(userWithoutDepartment);
+
+        CursorPage<TaskResponse> result = taskService.getTasksByState(TaskState.IN_PROGRESS, pageRequest);
+
+        assertTrue(result.getContent().isEmpty());
+        verify(taskRepository, never()).findPageByStateAndIsActiveTrue(any(), any(), any(), any());
+        verify(taskRepository, never()).findPageByStateAndDepartmentIdAndIsActiveTrue(any(), any(), any(), any(), any());
+        verify(taskMapper, never()).toResponseList(any(), any());
+    }
+
     @Test
     @DisplayName("Update Task State - Immutable States")
     void updateTaskState_ImmutableStates() {
@@ -621,10 +768,10 @@ public class TaskServiceTest {
         when(taskRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(taskWithState));
         when(authService.getCurrentUser()).thenReturn(adminUserResponse);
 
-        assertThrows(InvalidTaskStateTransitionException.class, () -> taskService.updateTaskState(taskId, stateRequest));
+        assertThrows(InvalidTaskStateTransitionException.class, () -> taskService.updateTaskState(taskId, stateRequest, null));
         verify(taskRepository).findByIdAndIsActiveTrue(taskId);
         verify(authService).getCurrentUser();
-        verify(taskRepository, never()).save(any());
+        verify(taskRepository, never()).saveAndFlush(any());
         verify(taskStateHistoryService, never()).createTaskStateHistory(any(), any(), any(), any(), any());
     }
 
@@ -640,7 +787,7 @@ public class TaskServiceTest {
         when(projectRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(project));
         when(taskMapper.toEntity(any(CreateTaskRequest.class), any(Project.class), isNull())).thenReturn(taskWithoutUser);
         when(taskRepository.save(any(Task.class))).thenReturn(taskWithoutUser);
-        when(taskMapper.toResponse(any(Task.class))).thenReturn(taskResponse);
+        when(taskMapper.toResponse(any(Task.class), any())).thenReturn(taskResponse);
         when(authService.getCurrentUser()).thenReturn(adminUserResponse);
         doNothing().when(taskStateHistoryService).createTaskStateHistory(any(UUID.class), any(), any(TaskState.class), any(LocalDateTime.class), any());
 
@@ -652,7 +799,7 @@ public class TaskServiceTest {
         verify(userRepository, never()).findByIdAndIsActiveTrue(any());
         verify(taskMapper).toEntity(eq(requestWithoutUser), eq(project), isNull());
         verify(taskRepository).save(taskWithoutUser);
-        verify(taskMapper).toResponse(taskWithoutUser);
+        verify(taskMapper).toResponse(eq(taskWithoutUser), any());
         verify(authService).getCurrentUser();
         verify(taskStateHistoryService).createTaskStateHistory(eq(taskId), isNull(), eq(TaskState.BACKLOG), any(LocalDateTime.class), isNull());
     }
@@ -667,18 +814,18 @@ public class TaskServiceTest {
         stateRequest.setNewState(TaskState.IN_ANALYSIS);
 
         when(taskRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(taskWithState));
-        when(taskRepository.save(any(Task.class))).thenReturn(taskWithState);
-        when(taskMapper.toResponse(any(Task.class))).thenReturn(taskResponse);
+        when(taskRepository.saveAndFlush(any(Task.class))).thenReturn(taskWithState);
+        when(taskMapper.toResponse(any(Task.class), any())).thenReturn(taskResponse);
         when(authService.getCurrentUser()).thenReturn(adminUserResponse);
         doNothing().when(taskStateHistoryService).createTaskStateHistory(any(UUID.class), any(TaskState.class), any(TaskState.class), any(LocalDateTime.class), any());
 
-        TaskResponse result = taskService.updateTaskState(taskId, stateRequest);
+        TaskResponse result = taskService.updateTaskState(taskId, stateRequest, null);
 
         assertNotNull(result);
         assertEquals(taskResponse, result);
         verify(taskRepository).findByIdAndIsActiveTrue(taskId);
-        verify(taskRepository).save(taskWithState);
-        verify(taskMapper).toResponse(taskWithState);
+        verify(taskRepository).saveAndFlush(taskWithState);
+        verify(taskMapper).toResponse(eq(taskWithState), any());
         verify(authService).getCurrentUser();
         verify(taskStateHistoryService).createTaskStateHistory(eq(taskId), eq(TaskState.IN_ANALYSIS), eq(TaskState.IN_ANALYSIS), any(LocalDateTime.class), isNull());
     }
@@ -690,12 +837,12 @@ public class TaskServiceTest {
         when(projectRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(project));
         when(authService.getCurrentUser()).thenReturn(userWithOtherDepartment);
 
-        assertThrows(UnauthorizedTaskAccessException.class, () -> taskService.getTasksByProjectId(projectId));
+        assertThrows(UnauthorizedTaskAccessException.class, () -> taskService.getTasksByProjectId(projectId, pageRequest));
         verify(projectRepository).existsByIdAndIsActiveTrue(projectId);
         verify(projectRepository).findByIdAndIsActiveTrue(projectId);
         verify(authService).getCurrentUser();
-        verify(taskRepository, never()).findAllByProjectIdAndIsActiveTrue(any());
-        verify(taskMapper, never()).toResponseList(any());
+        verify(taskRepository, never()).findPageByProjectIdAndIsActiveTrue(any(), any(), any(), any());
+        verify(taskMapper, never()).toResponseList(any(), any());
     }
 
     @Test
@@ -703,7 +850,7 @@ public class TaskServiceTest {
     void unassignTask_Success() {
         when(taskRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(task));
         when(taskRepository.save(any(Task.class))).thenReturn(task);
-        when(taskMapper.toResponse(any(Task.class))).thenReturn(taskResponse);
+        when(taskMapper.toResponse(any(Task.class), any())).thenReturn(taskResponse);
         when(authService.getCurrentUser()).thenReturn(adminUserResponse);
 
         TaskResponse result = taskService.unassignTask(taskId);
@@ -712,7 +859,7 @@ public class TaskServiceTest {
         assertEquals(taskResponse, result);
         verify(taskRepository).findByIdAndIsActiveTrue(taskId);
         verify(taskRepository).save(task);
-        verify(taskMapper).toResponse(task);
+        verify(taskMapper).toResponse(eq(task), any());
         verify(authService).getCurrentUser();
     }
 
@@ -735,7 +882,7 @@ public class TaskServiceTest {
 
         assertThrows(ResourceNotFoundException.class, () -> taskService.getTaskById(taskId));
         verify(taskRepository).findByIdAndIsActiveTrue(taskId);
-        verify(taskMapper, never()).toDetailResponse(any());
+        verify(taskMapper, never()).toDetailResponse(any(), any());
     }
 
     @Test
@@ -743,11 +890,11 @@ public class TaskServiceTest {
     void updateTask_TaskNotFound() {
         when(taskRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.empty());
 
-        assertThrows(ResourceNotFoundException.class, () -> taskService.updateTask(taskId, updateTaskRequest));
+        assertThrows(ResourceNotFoundException.class, () -> taskService.updateTask(taskId, updateTaskRequest, null));
         verify(taskRepository).findByIdAndIsActiveTrue(taskId);
         verify(userRepository, never()).findByIdAndIsActiveTrue(any());
         verify(taskMapper, never()).updateEntityFromDto(any(), any());
-        verify(taskRepository, never()).save(any());
+        verify(taskRepository, never()).saveAndFlush(any());
     }
 
     private Department createDepartment() {
@@ -3,20 +3,25 @@ package com.patikadev.definex.advancedtaskmanager.service;
 import com.patikadev.definex.advancedtaskmanager.exception.ResourceNotFoundException;
 import com.patikadev.definex.advancedtaskmanager.exception.UnauthorizedTaskAccessException;
 import com.patikadev.definex.advancedtaskmanager.mapper.TaskStateHistoryMapper;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPage;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPageRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.taskStateHistory.TaskStateHistoryResponse;
 import com.patikadev.definex.advancedtaskmanager.model.dto.response.user.UserResponse;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Department;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Project;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Task;
 import com.patikadev.definex.advancedtaskmanager.model.entity.TaskStateHistory;
+import com.patikadev.definex.advancedtaskmanager.model.entity.TaskStateHistoryOutbox;
 import com.patikadev.definex.advancedtaskmanager.model.entity.User;
 import com.patikadev.definex.advancedtaskmanager.model.enums.TaskPriority;
 import com.patikadev.definex.advancedtaskmanager.model.enums.TaskState;
 import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
 import com.patikadev.definex.advancedtaskmanager.repository.TaskRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.TaskStateHistoryOutboxRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.TaskStateHistoryRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.UserRepository;
 import com.patikadev.definex.advancedtaskmanager.service.impl.TaskStateHistoryServiceImpl;
+import com.patikadev.definex.advancedtaskmanager.service.impl.TaskStateHistoryWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,6 +29,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -44,6 +52,12 @@ public class TaskStateHistoryServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TaskStateHistoryOutboxRepository taskStateHistoryOutboxRepository;
+
+    @Mock
+    private TaskStateHistoryWriter taskStateHistoryWriter;
+
     @Mock
     private AuthService authService;
 
@@ -53,6 +67,8 @@ public class TaskStateHistoryServiceTest {
     @InjectMocks
     private TaskStateHistoryServiceImpl taskStateHistoryService;
 
+    private final CursorPageRequest pageRequest = CursorPageRequest.firstPage(20);
+
     private TaskStateHistory taskStateHistory;
     private Department department;
     private Project project;
@@ -102,54 +118,55 @@ public class TaskStateHistoryServiceTest {
     }
 
     @Test
-    @DisplayName("Create Task State History - Success")
+    @DisplayName("Create Task State History - Writes Outbox Entry And Enqueues It")
     void createTaskStateHistory_Success() {
-        when(taskRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(task));
+        TaskStateHistoryOutbox outboxEntry = TaskStateHistoryOutbox.builder().id(42L).build();
         when(authService.getCurrentUserId()).thenReturn(userId);
-        when(userRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(user));
-        when(taskStateHistoryMapper.toEntity(any(TaskState.class), any(TaskState.class), anyString(), any(LocalDateTime.class), any(User.class))).thenReturn(taskStateHistory);
+        when(taskStateHistoryMapper.toOutboxEntry(taskId, oldState, newState, reason, changedAt, userId)).thenReturn(outboxEntry);
+        when(taskStateHistoryOutboxRepository.save(outboxEntry)).thenReturn(outboxEntry);
 
         taskStateHistoryService.createTaskStateHistory(taskId, oldState, newState, changedAt, reason);
 
-        verify(taskRepository).findByIdAndIsActiveTrue(taskId);
-        verify(authService).getCurrentUserId();
-        verify(userRepository).findByIdAndIsActiveTrue(userId);
-        verify(taskStateHistoryMapper).toEntity(oldState, newState, reason, changedAt, user);
-        verify(taskStateHistoryRepository).save(taskStateHistory);
+        verify(taskStateHistoryOutboxRepository).save(outboxEntry);
+        verify(taskStateHistoryWriter).enqueue(42L);
+        verify(taskRepository, never()).findByIdAndIsActiveTrue(any());
+        verify(userRepository, never()).findByIdAndIsActiveTrue(any());
+        verify(taskStateHistoryRepository, never()).save(any());
     }
 
     @Test
-    @DisplayName("Create Task State History - Task Not Found")
-    void createTaskStateHistory_TaskNotFound() {
-        when(taskRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.empty());
-
-        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
-                () -> taskStateHistoryService.createTaskStateHistory(taskId, oldState, newState, changedAt, reason));
-
-        assertTrue(exception.getMessage().contains(taskId.toString()));
-        verify(taskRepository).findByIdAndIsActiveTrue(taskId);
-        verify(authService, never()).getCurrentUserId();
-        verify(userRepository, never()).findByIdAndIsActiveTrue(any());
-        verify(taskStateHistoryMapper, never()).toEntity(any(), any(), any(), any(), any());
-        verify(taskStateHistoryRepository, never()).save(any());
+    @DisplayName("Create Task State History - Enqueues Only After Commit")
+    void createTaskStateHistory_EnqueuesAfterCommit() {
+        TaskStateHistoryOutbox outboxEntry = TaskStateHistoryOutbox.builder().id(42L).build();
+        when(authService.getCurrentUserId()).thenReturn(userId);
+        when(taskStateHistoryMapper.toOutboxEntry(taskId, oldState, newState, reason, changedAt, userId)).thenReturn(outboxEntry);
+        when(taskStateHistoryOutboxRepository.save(outboxEntry)).thenReturn(outboxEntry);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            taskStateHistoryService.createTaskStateHistory(taskId, oldState, newState, changedAt, reason);
+            verify(taskStateHistoryWriter, never()).enqueue(any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(taskStateHistoryWriter).enqueue(42L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 
     @Test
-    @DisplayName("Create Task State History - User Not Found")
-    void createTaskStateHistory_UserNotFound() {
-        when(taskRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(task));
+    @DisplayName("Create Task State Histories - Writes Outbox Entries In One Statement")
+    void createTaskStateHistories_Success() {
+        List<UUID> taskIds = List.of(taskId, UUID.randomUUID());
         when(authService.getCurrentUserId()).thenReturn(userId);
-        when(userRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.empty());
+        when(taskStateHistoryOutboxRepository.findIdsByTaskIdInAndChangedAt(taskIds, changedAt)).thenReturn(List.of(7L, 8L));
 
-        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
-                () -> taskStateHistoryService.createTaskStateHistory(taskId, oldState, newState, changedAt, reason));
+        taskStateHistoryService.createTaskStateHistories(taskIds, newState, changedAt, reason);
 
-        assertTrue(exception.getMessage().contains(userId.toString()));
-        verify(taskRepository).findByIdAndIsActiveTrue(taskId);
-        verify(authService).getCurrentUserId();
-        verify(userRepository).findByIdAndIsActiveTrue(userId);
-        verify(taskStateHistoryMapper, never()).toEntity(any(), any(), any(), any(), any());
-        verify(taskStateHistoryRepository, never()).save(any());
+        verify(taskStateHistoryOutboxRepository).insertForTasks(taskIds, newState, reason, changedAt, userId);
+        verify(taskStateHistoryWriter).enqueue(7L);
+        verify(taskStateHistoryWriter).enqueue(8L);
+        verify(taskStateHistoryOutboxRepository, never()).save(any());
     }
 
     @Test
@@ -216,18 +233,18 @@ public class TaskStateHistoryServiceTest {
     void getTaskStateHistoriesByTaskId_SuccessAsAdmin() {
         when(taskRepository.existsByIdAndIsActiveTrue(any(UUID.class))).thenReturn(true);
         when(taskRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(task));
-        when(taskStateHistoryRepository.findByTaskIdWithDetails(any(UUID.class))).thenReturn(taskStateHistoryList);
+        when(taskStateHistoryRepository.findPageByTaskIdWithDetails(any(UUID.class), any(), any(), any(Limit.class))).thenReturn(taskStateHistoryList);
         when(taskStateHistoryMapper.toResponseList(anyList())).thenReturn(taskStateHistoryResponseList);
         when(authService.getCurrentUser()).thenReturn(adminUserResponse);
 
-        List<TaskStateHistoryResponse> result = taskStateHistoryService.getTaskStateHistoriesByTaskId(taskId);
+        CursorPage<TaskStateHistoryResponse> result = taskStateHistoryService.getTaskStateHistoriesByTaskId(taskId, pageRequest);
 
         assertNotNull(result);
-        assertEquals(taskStateHistoryResponseList, result);
-        assertEquals(taskStateHistoryResponseList.size(), result.size());
+        assertEquals(taskStateHistoryResponseList, result.getContent());
+        assertEquals(taskStateHistoryResponseList.size(), result.getContent().size());
         verify(taskRepository).existsByIdAndIsActiveTrue(taskId);
         verify(taskRepository).findByIdAndIsActiveTrue(taskId);
-        verify(taskStateHistoryRepository).findByTaskIdWithDetails(taskId);
+        verify(taskStateHistoryRepository).findPageByTaskIdWithDetails(eq(taskId), isNull(), isNull(), any(Limit.class));
         verify(taskStateHistoryMapper).toResponseList(taskStateHistoryList);
         verify(authService).getCurrentUser();
     }
@@ -237,18 +254,18 @@ public class TaskStateHistoryServiceTest {
     void getTaskStateHistoriesByTaskId_SuccessAsProjectManager() {
         when(taskRepository.existsByIdAndIsActiveTrue(any(UUID.class))).thenReturn(true);
         when(taskRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(task));
-        when(taskStateHistoryRepository.findByTaskIdWithDetails(any(UUID.class))).thenReturn(taskStateHistoryList);
+        when(taskStateHistoryRepository.findPageByTaskIdWithDetails(any(UUID.class), any(), any(), any(Limit.class))).thenReturn(taskStateHistoryList);
         when(taskStateHistoryMapper.toResponseList(anyList())).thenReturn(taskStateHistoryResponseList);
         when(authService.getCurrentUser()).thenReturn(projectManagerUserResponse);
 
-        List<TaskStateHistoryResponse> result = taskStateHistoryService.getTaskStateHistoriesByTaskId(taskId);
+        CursorPage<TaskStateHistoryResponse> result = taskStateHistoryService.getTaskStateHistoriesByTaskId(taskId, pageRequest);
 
         assertNotNull(result);
-        assertEquals(taskStateHistoryResponseList, result);
-        assertEquals(taskStateHistoryResponseList.size(), result.size());
+        assertEquals(taskStateHistoryResponseList, result.getContent());
+        assertEquals(taskStateHistoryResponseList.size(), result.getContent().size());
         verify(taskRepository).existsByIdAndIsActiveTrue(taskId);
         verify(taskRepository).findByIdAndIsActiveTrue(taskId);
-        verify(taskStateHistoryRepository).findByTaskIdWithDetails(taskId);
+        verify(taskStateHistoryRepository).findPageByTaskIdWithDetails(eq(taskId), isNull(), isNull(), any(Limit.class));
         verify(taskStateHistoryMapper).toResponseList(taskStateHistoryList);
         verify(authService).getCurrentUser();
     }
@@ -259,11 +276,11 @@ public class TaskStateHistoryServiceTest {
         when(taskRepository.existsByIdAndIsActiveTrue(any(UUID.class))).thenReturn(false);
 
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
-                () -> taskStateHistoryService.getTaskStateHistoriesByTaskId(taskId));
+                () -> taskStateHistoryService.getTaskStateHistoriesByTaskId(taskId, pageRequest));
 
         assertTrue(exception.getMessage().contains(taskId.toString()));
         verify(taskRepository).existsByIdAndIsActiveTrue(taskId);
-        verify(taskStateHistoryRepository, never()).findByTaskIdWithDetails(any());
+        verify(taskStateHistoryRepository, never()).findPageByTaskIdWithDetails(any(), any(), any(), any());
         verify(taskStateHistoryMapper, never()).toResponseList(any());
     }
 
@@ -275,12 +292,12 @@ public class TaskStateHistoryServiceTest {
         when(authService.getCurrentUser()).thenReturn(userWithOtherDepartment);
 
         assertThrows(UnauthorizedTaskAccessException.class,
-                () -> taskStateHistoryService.getTaskStateHistoriesByTaskId(taskId));
+                () -> taskStateHistoryService.getTaskStateHistoriesByTaskId(taskId, pageRequest));
 
         verify(taskRepository).existsByIdAndIsActiveTrue(taskId);
         verify(taskRepository).findByIdAndIsActiveTrue(taskId);
         verify(authService).getCurrentUser();
-        verify(taskStateHistoryRepository, never()).findByTaskIdWithDetails(any());
+        verify(taskStateHistoryRepository, never()).findPageByTaskIdWithDetails(any(), any(), any(), any());
         verify(taskStateHistoryMapper, never()).toResponseList(any());
     }
 
@@ -288,17 +305,17 @@ public class TaskStateHistoryServiceTest {
     @DisplayName("Get Task State Histories By Changed By User ID - Success as Admin")
     void getTaskStateHistoriesByChangedByUserId_SuccessAsAdmin() {
         when(userRepository.existsByIdAndIsActiveTrue(any(UUID.class))).thenReturn(true);
-        when(taskStateHistoryRepository.findByChangedByIdOrderByChangedAtDesc(any(UUID.class))).thenReturn(taskStateHistoryList);
+        when(taskStateHistoryRepository.findPageByChangedById(any(UUID.class), any(), any(), any(Limit.class))).thenReturn(taskStateHistoryList);
         when(taskStateHistoryMapper.toResponseList(anyList())).thenReturn(taskStateHistoryResponseList);
         when(authService.getCurrentUser()).thenReturn(adminUserResponse);
 
-        List<TaskStateHistoryResponse> result = taskStateHistoryService.getTaskStateHistoriesByChangedByUserId(userId);
+        CursorPage<TaskStateHistoryResponse> result = taskStateHistoryService.getTaskStateHistoriesByChangedByUserId(userId, pageRequest);
 
         assertNotNull(result);
-        assertEquals(taskStateHistoryResponseList, result);
-        assertEquals(taskStateHistoryResponseList.size(), result.size());
+        assertEquals(taskStateHistoryResponseList, result.getContent());
+        assertEquals(taskStateHistoryResponseList.size(), result.getContent().size());
         verify(userRepository).existsByIdAndIsActiveTrue(userId);
-        verify(taskStateHistoryRepository).findByChangedByIdOrderByChangedAtDesc(userId);
+        verify(taskStateHistoryRepository).findPageByChangedById(eq(userId), isNull(), isNull(), any(Limit.class));
         verify(taskStateHistoryMapper).toResponseList(taskStateHistoryList);
         verify(authService).getCurrentUser();
     }
@@ -307,16 +324,16 @@ public class TaskStateHistoryServiceTest {
     @DisplayName("Get Task State Histories By Changed By User ID - Success as Project Manager with Department Filter")
     void getTaskStateHistoriesByChangedByUserId_SuccessWithDepartmentFilter() {
         when(userRepository.existsByIdAndIsActiveTrue(any(UUID.class))).thenReturn(true);
-        when(taskStateHistoryRepository.findByChangedByIdOrderByChangedAtDesc(any(UUID.class))).thenReturn(taskStateHistoryList);
+        when(taskStateHistoryRepository.findPageByChangedByIdAndDepartmentId(any(UUID.class), anyLong(), any(), any(), any(Limit.class))).thenReturn(taskStateHistoryList);
         when(taskStateHistoryMapper.toResponseList(anyList())).thenReturn(taskStateHistoryResponseList);
         when(authService.getCurrentUser()).thenReturn(projectManagerUserResponse);
 
-        List<TaskStateHistoryResponse> result = taskStateHistoryService.getTaskStateHistoriesByChangedByUserId(userId);
+        CursorPage<TaskStateHistoryResponse> result = taskStateHistoryService.getTaskStateHistoriesByChangedByUserId(userId, pageRequest);
 
         assertNotNull(result);
-        assertEquals(taskStateHistoryResponseList, result);
+        assertEquals(taskStateHistoryResponseList, result.getContent());
         verify(userRepository).existsByIdAndIsActiveTrue(userId);
-        verify(taskStateHistoryRepository).findByChangedByIdOrderByChangedAtDesc(userId);
+        verify(taskStateHistoryRepository).findPageByChangedByIdAndDepartmentId(eq(userId), eq(departmentId), isNull(), isNull(), any(Limit.class));
         verify(taskStateHistoryMapper).toResponseList(anyList());
         verify(authService).getCurrentUser();
     }
@@ -327,27 +344,27 @@ public class TaskStateHistoryServiceTest {
         when(userRepository.existsByIdAndIsActiveTrue(any(UUID.class))).thenReturn(false);
 
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
-                () -> taskStateHistoryService.getTaskStateHistoriesByChangedByUserId(userId));
+                () -> taskStateHistoryService.getTaskStateHistoriesByChangedByUserId(userId, pageRequest));
 
         assertTrue(exception.getMessage().contains(userId.toString()));
         verify(userRepository).existsByIdAndIsActiveTrue(userId);
-        verify(taskStateHistoryRepository, never()).findByChangedByIdOrderByChangedAtDesc(any());
+        verify(taskStateHistoryRepository, never()).findPageByChangedById(any(), any(), any(), any());
         verify(taskStateHistoryMapper, never()).toResponseList(any());
     }
 
     @Test
     @DisplayName("Get Task State Histories By Old State - Success as Admin")
     void getTaskStateHistoriesByOldState_SuccessAsAdmin() {
-        when(taskStateHistoryRepository.findByOldStateOrderByChangedAtDesc(any(TaskState.class))).thenReturn(taskStateHistoryList);
+        when(taskStateHistoryRepository.findPageByOldState(any(TaskState.class), any(), any(), any(Limit.class))).thenReturn(taskStateHistoryList);
         when(taskStateHistoryMapper.toResponseList(anyList())).thenReturn(taskStateHistoryResponseList);
         when(authService.getCurrentUser()).thenReturn(adminUserResponse);
 
-        List<TaskStateHistoryResponse> result = taskStateHistoryService.getTaskStateHistoriesByOldState(oldState);
+        CursorPage<TaskStateHistoryResponse> result = taskStateHistoryService.getTaskStateHistoriesByOldState(oldState, pageRequest);
 
         assertNotNull(result);
-        assertEquals(taskStateHistoryResponseList, result);
-        assertEquals(taskStateHistoryResponseList.size(), result.size());
-        verify(taskStateHistoryRepository).findByOldStateOrderByChangedAtDesc(oldState);
+        assertEquals(taskStateHistoryResponseList, result.getContent());
+        assertEquals(taskStateHistoryResponseList.size(), result.getContent().size());
+        verify(taskStateHistoryRepository).findPageByOldState(eq(oldState), isNull(), isNull(), any(Limit.class));
         verify(taskStateHistoryMapper).toResponseList(taskStateHistoryList);
         verify(authService).getCurrentUser();
     }
@@ -355,15 +372,15 @@ public class TaskStateHistoryServiceTest {
     @Test
     @DisplayName("Get Task State Histories By Old State - Success with Department Filter")
     void getTaskStateHistoriesByOldState_SuccessWithDepartmentFilter() {
-        when(taskStateHistoryRepository.findByOldStateOrderByChangedAtDesc(any(TaskState.class))).thenReturn(taskStateHistoryList);
+        when(taskStateHistoryRepository.findPageByOldStateAndDepartmentId(any(TaskState.class), anyLong(), any(), any(), any(Limit.class))).thenReturn(taskStateHistoryList);
         when(taskStateHistoryMapper.toResponseList(anyList())).thenReturn(taskStateHistoryResponseList);
         when(authService.getCurrentUser()).thenReturn(projectManagerUserResponse);
 
-        List<TaskStateHistoryResponse> result = taskStateHistoryService.getTaskStateHistoriesByOldState(oldState);
+        CursorPage<TaskStateHistoryResponse> result = taskStateHistoryService.getTaskStateHistoriesByOldState(oldState, pageRequest);
 
         assertNotNull(result);
-        assertEquals(taskStateHistoryResponseList, result);
-        verify(taskStateHistoryRepository).findByOldStateOrderByChangedAtDesc(oldState);
+        assertEquals(taskStateHistoryResponseList, result.getContent());
+        verify(taskStateHistoryRepository).findPageByOldStateAndDepartmentId(eq(oldState), eq(departmentId), isNull(), isNull(), any(Limit.class));
         verify(taskStateHistoryMapper).toResponseList(anyList());
         verify(authService).getCurrentUser();
     }
@@ -371,16 +388,16 @@ public class TaskStateHistoryServiceTest {
     @Test
     @DisplayName("Get Task State Histories By New State - Success as Admin")
     void getTaskStateHistoriesByNewState_SuccessAsAdmin() {
-        when(taskStateHistoryRepository.findByNewStateOrderByChangedAtDesc(any(TaskState.class))).thenReturn(taskStateHistoryList);
+        when(taskStateHistoryRepository.findPageByNewState(any(TaskState.class), any(), any(), any(Limit.class))).thenReturn(taskStateHistoryList);
         when(taskStateHistoryMapper.toResponseList(anyList())).thenReturn(taskStateHistoryResponseList);
         when(authService.getCurrentUser()).thenReturn(adminUserResponse);
 
-        List<TaskStateHistoryResponse> result = taskStateHistoryService.getTaskStateHistoriesByNewState(newState);
+        CursorPage<TaskStateHistoryResponse> result = taskStateHistoryService.getTaskStateHistoriesByNewState(newState, pageRequest);
 
         assertNotNull(result);
-        assertEquals(taskStateHistoryResponseList, result);
-        assertEquals(taskStateHistoryResponseList.size(), result.size());
-        verify(taskStateHistoryRepository).findByNewStateOrderByChangedAtDesc(newState);
+        assertEquals(taskStateHistoryResponseList, result.getContent());
+        assertEquals(taskStateHistoryResponseList.size(), result.getContent().size());
+        verify(taskStateHistoryRepository).findPageByNewState(eq(newState), isNull(), isNull(), any(Limit.class));
         verify(taskStateHistoryMapper).toResponseList(taskStateHistoryList);
         verify(authService).getCurrentUser();
     }
@@ -388,15 +405,15 @@ public class TaskStateHistoryServiceTest {
     @Test
     @DisplayName("Get Task State Histories By New State - Success with Department Filter")
     void getTaskStateHistoriesByNewState_SuccessWithDepartmentFilter() {
-        when(taskStateHistoryRepository.findByNewStateOrderByChangedAtDesc(any(TaskState.class))).thenReturn(taskStateHistoryList);
+        when(taskStateHistoryRepository.findPageByNewStateAndDepartmentId(any(TaskState.class), anyLong(), any(), any(), any(Limit.class))).thenReturn(taskStateHistoryList);
         when(taskStateHistoryMapper.toResponseList(anyList())).thenReturn(taskStateHistoryResponseList);
         when(authService.getCurrentUser()).thenReturn(projectManagerUserResponse);
 
-        List<TaskStateHistoryResponse> result = taskStateHistoryService.getTaskStateHistoriesByNewState(newState);
+        CursorPage<TaskStateHistoryResponse> result = taskStateHistoryService.getTaskStateHistoriesByNewState(newState, pageRequest);
 
         assertNotNull(result);
-        assertEquals(taskStateHistoryResponseList, result);
-        verify(taskStateHistoryRepository).findByNewStateOrderByChangedAtDesc(newState);
+        assertEquals(taskStateHistoryResponseList, result.getContent());
+        verify(taskStateHistoryRepository).findPageByNewStateAndDepartmentId(eq(newState), eq(departmentId), isNull(), isNull(), any(Limit.class));
         verify(taskStateHistoryMapper).toResponseList(anyList());
         verify(authService).getCurrentUser();
     }
@@ -407,16 +424,16 @@ public class TaskStateHistoryServiceTest {
         LocalDateTime startDate = LocalDateTime.now().minusDays(7);
         LocalDateTime endDate = LocalDateTime.now();
 
-        when(taskStateHistoryRepository.findByChangedAtBetweenOrderByChangedAtDesc(any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(taskStateHistoryList);
+        when(taskStateHistoryRepository.findPageByChangedAtBetween(any(LocalDateTime.class), any(LocalDateTime.class), any(), any(), any(Limit.class))).thenReturn(taskStateHistoryList);
         when(taskStateHistoryMapper.toResponseList(anyList())).thenReturn(taskStateHistoryResponseList);
         when(authService.getCurrentUser()).thenReturn(adminUserResponse);
 
-        List<TaskStateHistoryResponse> result = taskStateHistoryService.getTaskStateHistoriesByChangedAtBetween(startDate, endDate);
+        CursorPage<TaskStateHistoryResponse> result = taskStateHistoryService.getTaskStateHistoriesByChangedAtBetween(startDate, endDate, pageRequest);
 
         assertNotNull(result);
-        assertEquals(taskStateHistoryResponseList, result);
-        assertEquals(taskStateHistoryResponseList.size(), result.size());
-        verify(taskStateHistoryRepository).findByChangedAtBetweenOrderByChangedAtDesc(startDate, endDate);
+        assertEquals(taskStateHistoryResponseList, result.getContent());
+        assertEquals(taskStateHistoryResponseList.size(), result.getContent().size());
+        verify(taskStateHistoryRepository).findPageByChangedAtBetween(eq(startDate), eq(endDate), isNull(), isNull(), any(Limit.class));
         verify(taskStateHistoryMapper).toResponseList(taskStateHistoryList);
         verify(authService).getCurrentUser();
     }
@@ -427,15 +444,15 @@ public class TaskStateHistoryServiceTest {
         LocalDateTime startDate = LocalDateTime.now().minusDays(7);
         LocalDateTime endDate = LocalDateTime.now();
 
-        when(taskStateHistoryRepository.findByChangedAtBetweenOrderByChangedAtDesc(any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(taskStateHistoryList);
+        when(taskStateHistoryRepository.findPageByChangedAtBetweenAndDepartmentId(any(LocalDateTime.class), any(LocalDateTime.class), anyLong(), any(), any(), any(Limit.class))).thenReturn(taskStateHistoryList);
         when(taskStateHistoryMapper.toResponseList(anyList())).thenReturn(taskStateHistoryResponseList);
         when(authService.getCurrentUser()).thenReturn(projectManagerUserResponse);
 
-        List<TaskStateHistoryResponse> result = taskStateHistoryService.getTaskStateHistoriesByChangedAtBetween(startDate, endDate);
+        CursorPage<TaskStateHistoryResponse> result = taskStateHistoryService.getTaskStateHistoriesByChangedAtBetween(startDate, endDate, pageRequest);
 
         assertNotNull(result);
-        assertEquals(taskStateHistoryResponseList, result);
-        verify(taskStateHistoryRepository).findByChangedAtBetweenOrderByChangedAtDesc(startDate, endDate);
+        assertEquals(taskStateHistoryResponseList, result.getContent());
+        verify(taskStateHistoryRepository).findPageByChangedAtBetweenAndDepartmentId(eq(startDate), eq(endDate), eq(departmentId), isNull(), isNull(), any(Limit.class));
         verify(taskStateHistoryMapper).toResponseList(anyList());
         verify(authService).getCurrentUser();
     }
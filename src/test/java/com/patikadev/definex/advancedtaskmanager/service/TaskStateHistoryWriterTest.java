@@ -0,0 +1,153 @@
+package com.patikadev.definex.advancedtaskmanager.service;
+
+import com.patikadev.definex.advancedtaskmanager.config.ApplicationProperties;
+import com.patikadev.definex.advancedtaskmanager.config.BackgroundThreads;
+import com.patikadev.definex.advancedtaskmanager.constant.MetricConstants;
+import com.patikadev.definex.advancedtaskmanager.repository.TaskStateHistoryOutboxRepository;
+import com.patikadev.definex.advancedtaskmanager.service.impl.TaskStateHistoryWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskStateHistoryWriterTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TaskStateHistoryOutboxRepository outboxRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ApplicationProperties applicationProperties;
+    private TaskStateHistoryWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        applicationProperties = new ApplicationProperties();
+        applicationProperties.getHistoryWriter().setQueueCapacity(2);
+        applicationProperties.getHistoryWriter().setBatchSize(2);
+        writer = new TaskStateHistoryWriter(jdbcTemplate, transactionManager, outboxRepository,
+                applicationProperties, new BackgroundThreads(new MockEnvironment()), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Enqueue - Counts Overflow When Queue Is Full")
+    void enqueue_QueueFull_CountsOverflow() {
+        writer.enqueue(1L);
+        writer.enqueue(2L);
+        writer.enqueue(3L);
+
+        assertEquals(2.0, meterRegistry.get(MetricConstants.TASK_STATE_HISTORY_QUEUE_DEPTH).gauge().value());
+        assertEquals(1.0, meterRegistry.get(MetricConstants.TASK_STATE_HISTORY_QUEUE_OVERFLOW).counter().count());
+    }
+
+    @Test
+    @DisplayName("Flush - Moves Locked Outbox Entries Into History")
+    void flush_Success() {
+        stubTransactions();
+        when(jdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class), eq(Long.class)))
+                .thenReturn(List.of(1L, 2L));
+        when(jdbcTemplate.update(anyString(), any(SqlParameterSource.class))).thenReturn(2);
+
+        int written = writer.flush(List.of(1L, 2L));
+
+        assertEquals(2, written);
+        verify(jdbcTemplate, times(2)).update(anyString(), any(SqlParameterSource.class));
+        verify(transactionManager).commit(any());
+        assertEquals(1L, meterRegistry.get(MetricConstants.TASK_STATE_HISTORY_FLUSH).timer().count());
+    }
+
+    @Test
+    @DisplayName("Flush - Skips Entries Already Written By Another Flush")
+    void flush_NoLockedEntries_WritesNothing() {
+        stubTransactions();
+        when(jdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class), eq(Long.class)))
+                .thenReturn(Collections.emptyList());
+
+        int written = writer.flush(List.of(1L));
+
+        assertEquals(0, written);
+        verify(jdbcTemplate, never()).update(anyString(), any(SqlParameterSource.class));
+    }
+
+    @Test
+    @DisplayName("Flush - Dead-Letters Entry Rejected By Constraints")
+    void flush_IntegrityViolation_DeadLettersPoisonEntry() {
+        stubTransactions();
+        when(jdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class), eq(Long.class)))
+                .thenAnswer(invocation -> List.of(1L));
+        when(jdbcTemplate.update(contains("INSERT INTO task_state_histories"), any(SqlParameterSource.class)))
+                .thenThrow(new DataIntegrityViolationException("fk"));
+        when(jdbcTemplate.update(contains("SET is_active = FALSE"), any(SqlParameterSource.class))).thenReturn(1);
+
+        int written = writer.flush(List.of(1L));
+
+        assertEquals(0, written);
+        verify(jdbcTemplate, never()).update(startsWith("DELETE"), any(SqlParameterSource.class));
+        verify(jdbcTemplate).update(contains("SET is_active = FALSE"), argThat((SqlParameterSource parameters) ->
+                Long.valueOf(1L).equals(parameters.getValue("id")) && "fk".equals(parameters.getValue("lastError"))));
+        assertEquals(1.0, meterRegistry.get(MetricConstants.TASK_STATE_HISTORY_DEAD_LETTERED).counter().count());
+    }
+
+    @Test
+    @DisplayName("Flush - Leaves Entries In Outbox On Transient Failure")
+    void flush_TransientFailure_LeavesEntries() {
+        stubTransactions();
+        when(jdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class), eq(Long.class)))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        int written = writer.flush(List.of(1L, 2L));
+
+        assertEquals(0, written);
+        verify(jdbcTemplate, never()).update(anyString(), any(SqlParameterSource.class));
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Relay Pending Entries - Flushes Outbox In Batches")
+    void relayPendingEntries_FlushesInBatches() {
+        stubTransactions();
+        when(outboxRepository.findPendingIds(any(LocalDateTime.class), any(Limit.class)))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L));
+        when(jdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class), eq(Long.class)))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L));
+        when(jdbcTemplate.update(anyString(), any(SqlParameterSource.class)))
+                .thenReturn(2, 2, 1, 1);
+
+        int relayed = writer.relayPendingEntries();
+
+        assertEquals(3, relayed);
+        verify(outboxRepository, times(2)).findPendingIds(any(LocalDateTime.class), eq(Limit.of(2)));
+    }
+
+    private void stubTransactions() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+    }
+}
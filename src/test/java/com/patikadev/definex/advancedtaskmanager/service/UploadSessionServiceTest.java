@@ -0,0 +1,304 @@
+package com.patikadev.definex.advancedtaskmanager.service;
+
+import com.patikadev.definex.advancedtaskmanager.config.ApplicationProperties;
+import com.patikadev.definex.advancedtaskmanager.constant.FileConstants;
+import com.patikadev.definex.advancedtaskmanager.constant.MetricConstants;
+import com.patikadev.definex.advancedtaskmanager.event.AttachmentUploadedEvent;
+import com.patikadev.definex.advancedtaskmanager.exception.FileStorageException;
+import com.patikadev.definex.advancedtaskmanager.exception.ResourceNotFoundException;
+import com.patikadev.definex.advancedtaskmanager.exception.UploadSessionConflictException;
+import com.patikadev.definex.advancedtaskmanager.mapper.AttachmentMapper;
+import com.patikadev.definex.advancedtaskmanager.mapper.UploadSessionMapper;
+import com.patikadev.definex.advancedtaskmanager.model.dto.request.attachment.CreateUploadSessionRequest;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.attachment.AttachmentResponse;
+import com.patikadev.definex.advancedtaskmanager.model.dto.response.attachment.UploadSessionResponse;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Attachment;
+import com.patikadev.definex.advancedtaskmanager.model.entity.AttachmentBlob;
+import com.patikadev.definex.advancedtaskmanager.model.entity.Task;
+import com.patikadev.definex.advancedtaskmanager.model.entity.UploadSession;
+import com.patikadev.definex.advancedtaskmanager.model.entity.User;
+import com.patikadev.definex.advancedtaskmanager.repository.AttachmentRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.TaskRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.UploadSessionRepository;
+import com.patikadev.definex.advancedtaskmanager.repository.UserRepository;
+import com.patikadev.definex.advancedtaskmanager.service.impl.UploadSessionServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UploadSessionServiceTest {
+
+    @Mock
+    private UploadSessionRepository uploadSessionRepository;
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AuthService authService;
+
+    @Mock
+    private AttachmentStorageService attachmentStorageService;
+
+    @Mock
+    private UploadSessionMapper uploadSessionMapper;
+
+    @Mock
+    private AttachmentMapper attachmentMapper;
+
+    @Mock
+    private ApplicationProperties applicationProperties;
+
+    @Mock
+    private DomainEventService domainEventService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private UploadSessionServiceImpl uploadSessionService;
+
+    @TempDir
+    Path stagingPath;
+
+    private final ApplicationProperties.File fileProperties = new ApplicationProperties.File();
+    private final UUID sessionId = UUID.randomUUID();
+    private final UUID taskId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+    private final byte[] content = "0123456789".getBytes();
+    private Task task;
+    private User user;
+    private UploadSession session;
+    private UploadSessionResponse sessionResponse;
+    private Path stagingFile;
+
+    @BeforeEach
+    void setUp() {
+        fileProperties.getChunkedUpload().setMaxFileSize(1024);
+        fileProperties.getChunkedUpload().setMaxChunkSize(6);
+        lenient().when(applicationProperties.getFile()).thenReturn(fileProperties);
+        lenient().when(attachmentStorageService.getStagingPath()).thenReturn(stagingPath);
+        lenient().when(authService.getCurrentUserId()).thenReturn(userId);
+
+        task = Task.builder().id(taskId).title("Test Task").build();
+        user = User.builder().id(userId).firstName("Test").lastName("User").build();
+        session = UploadSession.builder()
+                .id(sessionId)
+                .fileName("spec.pdf")
+                .contentType("application/pdf")
+                .totalSize((long) content.length)
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .task(task)
+                .uploadedByUser(user)
+                .build();
+        sessionResponse = new UploadSessionResponse();
+        sessionResponse.setId(sessionId);
+        stagingFile = stagingPath.resolve(FileConstants.UPLOAD_SESSIONS_DIR).resolve(sessionId + FileConstants.STAGING_FILE_SUFFIX);
+    }
+
+    @Test
+    @DisplayName("Create Upload Session - Success")
+    void createUploadSession_Success() {
+        CreateUploadSessionRequest request = createRequest("application/pdf", (long) content.length);
+
+        when(taskRepository.findByIdAndIsActiveTrue(taskId)).thenReturn(Optional.of(task));
+        when(userRepository.findByIdAndIsActiveTrue(userId)).thenReturn(Optional.of(user));
+        when(uploadSessionMapper.toEntity(eq(request), eq(task), eq(user), any(LocalDateTime.class))).thenReturn(session);
+        when(uploadSessionRepository.save(session)).thenReturn(session);
+        when(uploadSessionMapper.toResponse(session, 0L)).thenReturn(sessionResponse);
+
+        UploadSessionResponse result = uploadSessionService.createUploadSession(request);
+
+        assertEquals(sessionResponse, result);
+        verify(uploadSessionRepository).save(session);
+    }
+
+    @Test
+    @DisplayName("Create Upload Session - File Type Not Allowed")
+    void createUploadSession_FileTypeNotAllowed() {
+        CreateUploadSessionRequest request = createRequest("application/x-msdownload", (long) content.length);
+
+        assertThrows(FileStorageException.class, () -> uploadSessionService.createUploadSession(request));
+        verify(uploadSessionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Create Upload Session - Size Exceeds Limit")
+    void createUploadSession_SizeExceedsLimit() {
+        CreateUploadSessionRequest request = createRequest("application/pdf", 2048L);
+
+        assertThrows(IllegalArgumentException.class, () -> uploadSessionService.createUploadSession(request));
+        verify(taskRepository, never()).findByIdAndIsActiveTrue(any());
+        verify(uploadSessionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Append Chunk - Sequential Chunks - Appends To Staging File")
+    void appendChunk_SequentialChunks_AppendsToStagingFile() throws IOException {
+        when(uploadSessionRepository.findActiveSession(eq(sessionId), eq(userId), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(session));
+        when(uploadSessionMapper.toResponse(eq(session), anyLong())).thenReturn(sessionResponse);
+
+        uploadSessionService.appendChunk(sessionId, 0, new ByteArrayInputStream(content, 0, 6));
+        uploadSessionService.appendChunk(sessionId, 6, new ByteArrayInputStream(content, 6, 4));
+
+        assertArrayEquals(content, Files.readAllBytes(stagingFile));
+        verify(uploadSessionMapper).toResponse(session, 6L);
+        verify(uploadSessionMapper).toResponse(session, 10L);
+        verify(uploadSessionRepository, times(2)).extendExpiration(eq(sessionId), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Append Chunk - Offset Mismatch - Throws Conflict")
+    void appendChunk_OffsetMismatch_ThrowsConflict() throws IOException {
+        Files.createDirectories(stagingFile.getParent());
+        Files.write(stagingFile, new byte[]{1, 2, 3});
+        when(uploadSessionRepository.findActiveSession(eq(sessionId), eq(userId), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(session));
+
+        assertThrows(UploadSessionConflictException.class,
+                () -> uploadSessionService.appendChunk(sessionId, 0, new ByteArrayInputStream(content)));
+        assertEquals(3, Files.size(stagingFile));
+    }
+
+    @Test
+    @DisplayName("Append Chunk - Chunk Too Large - Discards Chunk")
+    void appendChunk_ChunkTooLarge_DiscardsChunk() throws IOException {
+        when(uploadSessionRepository.findActiveSession(eq(sessionId), eq(userId), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(session));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> uploadSessionService.appendChunk(sessionId, 0, new ByteArrayInputStream(content)));
+        assertEquals(0, Files.size(stagingFile));
+        verify(uploadSessionRepository, never()).extendExpiration(any(), any());
+    }
+
+    @Test
+    @DisplayName("Append Chunk - Session Not Found")
+    void appendChunk_SessionNotFound() {
+        when(uploadSessionRepository.findActiveSession(eq(sessionId), eq(userId), any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> uploadSessionService.appendChunk(sessionId, 0, new ByteArrayInputStream(content)));
+        assertFalse(Files.exists(stagingFile));
+    }
+
+    @Test
+    @DisplayName("Commit Upload Session - Success")
+    void commitUploadSession_Success() throws IOException {
+        Files.createDirectories(stagingFile.getParent());
+        Files.write(stagingFile, content);
+        AttachmentBlob blob = AttachmentBlob.builder().contentHash("hash").filePath("blobs/ha/hash").fileSize(10L).build();
+        Attachment attachment = new Attachment();
+        attachment.setTask(task);
+        attachment.setUploadedByUser(user);
+        AttachmentResponse attachmentResponse = new AttachmentResponse();
+
+        when(uploadSessionRepository.findActiveSession(eq(sessionId), eq(userId), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(session));
+        when(attachmentStorageService.hashStagedFile(stagingFile, "spec.pdf")).thenReturn("hash");
+        when(uploadSessionRepository.findActiveSessionForUpdate(eq(sessionId), eq(userId), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(session));
+        when(taskRepository.findByIdAndIsActiveTrue(taskId)).thenReturn(Optional.of(task));
+        when(attachmentStorageService.storeStagedFile(stagingFile, "spec.pdf", "hash")).thenReturn(blob);
+        when(attachmentMapper.toEntity("spec.pdf", task, user, "blobs/ha/hash", 10L, "application/pdf", "hash"))
+                .thenReturn(attachment);
+        when(attachmentRepository.save(attachment)).thenReturn(attachment);
+        when(attachmentMapper.toResponse(attachment)).thenReturn(attachmentResponse);
+
+        AttachmentResponse result = uploadSessionService.commitUploadSession(sessionId);
+
+        assertEquals(attachmentResponse, result);
+        assertFalse(session.getIsActive());
+        verify(uploadSessionRepository).save(session);
+        verify(domainEventService).record(any(AttachmentUploadedEvent.class));
+        assertEquals(content.length, meterRegistry.get(MetricConstants.ATTACHMENT_BYTES)
+                .tag(MetricConstants.TAG_DIRECTION, MetricConstants.DIRECTION_IN).counter().count());
+    }
+
+    @Test
+    @DisplayName("Commit Upload Session - Incomplete Upload - Throws Conflict")
+    void commitUploadSession_IncompleteUpload_ThrowsConflict() throws IOException {
+        Files.createDirectories(stagingFile.getParent());
+        Files.write(stagingFile, new byte[]{1, 2, 3});
+        when(uploadSessionRepository.findActiveSession(eq(sessionId), eq(userId), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(session));
+
+        assertThrows(UploadSessionConflictException.class, () -> uploadSessionService.commitUploadSession(sessionId));
+        verify(attachmentStorageService, never()).hashStagedFile(any(), any());
+        verify(uploadSessionRepository, never()).findActiveSessionForUpdate(any(), any(), any());
+        verify(attachmentRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Abort Upload Session - Deletes Staging File")
+    void abortUploadSession_DeletesStagingFile() throws IOException {
+        Files.createDirectories(stagingFile.getParent());
+        Files.write(stagingFile, content);
+        when(uploadSessionRepository.findActiveSession(eq(sessionId), eq(userId), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(session));
+
+        uploadSessionService.abortUploadSession(sessionId);
+
+        assertFalse(session.getIsActive());
+        assertFalse(Files.exists(stagingFile));
+        verify(uploadSessionRepository).save(session);
+    }
+
+    @Test
+    @DisplayName("Expire Upload Sessions - Deactivates Expired Sessions")
+    void expireUploadSessions_DeactivatesExpiredSessions() throws IOException {
+        Files.createDirectories(stagingFile.getParent());
+        Files.write(stagingFile, content);
+        when(uploadSessionRepository.findAllByIsActiveTrueAndExpiresAtBefore(any(LocalDateTime.class)))
+                .thenReturn(List.of(session));
+
+        int expired = uploadSessionService.expireUploadSessions();
+
+        assertEquals(1, expired);
+        assertFalse(session.getIsActive());
+        assertFalse(Files.exists(stagingFile));
+    }
+
+    private CreateUploadSessionRequest createRequest(String contentType, Long totalSize) {
+        CreateUploadSessionRequest request = new CreateUploadSessionRequest();
+        request.setTaskId(taskId);
+        request.setFileName("spec.pdf");
+        request.setContentType(contentType);
+        request.setTotalSize(totalSize);
+        return request;
+    }
+}
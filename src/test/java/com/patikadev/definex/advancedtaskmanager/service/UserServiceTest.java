@@ -2,6 +2,8 @@ package com.patikadev.definex.advancedtaskmanager.service;
 
 import com.patikadev.definex.advancedtaskmanager.constant.ErrorMessages;
 import com.patikadev.definex.advancedtaskmanager.mapper.UserMapper;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPage;
+import com.patikadev.definex.advancedtaskmanager.model.dto.common.CursorPageRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.user.CreateUserRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.user.UpdateUserRequest;
 import com.patikadev.definex.advancedtaskmanager.model.dto.request.user.UpdateUserRolesRequest;
@@ -11,8 +13,9 @@ import com.patikadev.definex.advancedtaskmanager.model.entity.Department;
 import com.patikadev.definex.advancedtaskmanager.model.entity.Role;
 import com.patikadev.definex.advancedtaskmanager.model.entity.User;
 import com.patikadev.definex.advancedtaskmanager.model.enums.UserRole;
-import com.patikadev.definex.advancedtaskmanager.repository.DepartmentRepository;
 import com.patikadev.definex.advancedtaskmanager.repository.UserRepository;
+import com.patikadev.definex.advancedtaskmanager.security.jwt.TokenRevocationRegistry;
+import com.patikadev.definex.advancedtaskmanager.security.jwt.VerifiedTokenCache;
 import com.patikadev.definex.advancedtaskmanager.service.impl.UserServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +24,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.*;
@@ -37,7 +41,7 @@ public class UserServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private DepartmentRepository departmentRepository;
+    private ReferenceDataService referenceDataService;
 
     @Mock
     private RoleService roleService;
@@ -48,9 +52,17 @@ public class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
     @InjectMocks
     private UserServiceImpl userService;
 
+    private final CursorPageRequest pageRequest = CursorPageRequest.firstPage(20);
+
     private User user;
     private Department department;
     private Role role;
@@ -88,7 +100,7 @@ public class UserServiceTest {
         when(userRepository.existsByEmail(anyString())).thenReturn(false);
         when(userMapper.toEntity(any(CreateUserRequest.class))).thenReturn(user);
         when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
-        when(departmentRepository.findByIdAndIsActiveTrue(anyLong())).thenReturn(Optional.of(department));
+        when(referenceDataService.findDepartment(anyLong())).thenReturn(Optional.of(department));
         when(roleService.getRolesByNames(any())).thenReturn(roles);
         when(userRepository.save(any(User.class))).thenReturn(user);
         when(userMapper.toResponse(any(User.class))).thenReturn(userResponse);
@@ -100,7 +112,7 @@ public class UserServiceTest {
         verify(userRepository).existsByEmail(createUserRequest.getEmail());
         verify(userMapper).toEntity(createUserRequest);
         verify(passwordEncoder).encode(createUserRequest.getPassword());
-        verify(departmentRepository).findByIdAndIsActiveTrue(createUserRequest.getDepartmentId());
+        verify(referenceDataService).findDepartment(createUserRequest.getDepartmentId());
         verify(roleService).getRolesByNames(createUserRequest.getRoles());
         verify(userRepository).save(user);
         verify(userMapper).toResponse(user);
@@ -126,7 +138,7 @@ public class UserServiceTest {
         when(userRepository.existsByEmail(anyString())).thenReturn(false);
         when(userMapper.toEntity(any(CreateUserRequest.class))).thenReturn(user);
         when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
-        when(departmentRepository.findByIdAndIsActiveTrue(anyLong())).thenReturn(Optional.of(department));
+        when(referenceDataService.findDepartment(anyLong())).thenReturn(Optional.of(department));
         when(roleService.getRolesByNames(any())).thenReturn(roles);
         when(userRepository.save(any(User.class))).thenReturn(user);
         when(userMapper.toResponse(any(User.class))).thenReturn(userResponse);
@@ -143,7 +155,7 @@ public class UserServiceTest {
     void updateUser_Success() {
         when(userRepository.findByIdAndIsActiveTrue(any(UUID.class))).thenReturn(Optional.of(user));
         when(userRepository.existsByEmail(anyString())).thenReturn(false);
-        when(departmentRepository.findByIdAndIsActiveTrue(anyLong())).thenReturn(Optional.of(department));
+        when(referenceDataService.findDepartment(anyLong())).thenReturn(Optional.of(department));
         when(userRepository.save(any(User.class))).thenReturn(user);
         when(userMapper.toResponse(any(User.class))).thenReturn(userResponse);
 
@@ -153,7 +165,7 @@ public class UserServiceTest {
         assertEquals(userResponse, result);
         verify(userRepository).findByIdAndIsActiveTrue(userId);
         verify(userMapper).updateEntityFromDto(updateUserRequest, user);
-        verify(departmentRepository).findByIdAndIsActiveTrue(updateUserRequest.getDepartmentId());
+        verify(referenceDataService).findDepartment(updateUserRequest.getDepartmentId());
         verify(userRepository).save(user);
         verify(userMapper).toResponse(user);
     }
@@ -244,15 +256,15 @@ public class UserServiceTest {
     @Test
     @DisplayName("Get All Users - Success")
     void getAllUsers_Success() {
-        when(userRepository.findAllByIsActiveTrue()).thenReturn(userList);
+        when(userRepository.findPageByIsActiveTrue(any(), any(), any(Limit.class))).thenReturn(userList);
         when(userMapper.toResponseList(anyList())).thenReturn(userResponseList);
 
-        List<UserResponse> result = userService.getAllUsers();
+        CursorPage<UserResponse> result = userService.getAllUsers(pageRequest);
 
         assertNotNull(result);
-        assertEquals(userResponseList, result);
-        assertEquals(userResponseList.size(), result.size());
-        verify(userRepository).findAllByIsActiveTrue();
+        assertEquals(userResponseList, result.getContent());
+        assertEquals(userResponseList.size(), result.getContent().size());
+        verify(userRepository).findPageByIsActiveTrue(isNull(), isNull(), any(Limit.class));
         verify(userMapper).toResponseList(userList);
     }
 
@@ -260,15 +272,15 @@ public class UserServiceTest {
     @DisplayName("Get Users By Department Id - Success")
     void getUsersByDepartmentId_Success() {
         Long departmentId = 1L;
-        when(userRepository.findAllByDepartmentIdAndIsActiveTrue(anyLong())).thenReturn(userList);
+        when(userRepository.findPageByDepartmentIdAndIsActiveTrue(anyLong(), any(), any(), any(Limit.class))).thenReturn(userList);
         when(userMapper.toResponseList(anyList())).thenReturn(userResponseList);
 
-        List<UserResponse> result = userService.getUsersByDepartmentId(departmentId);
+        CursorPage<UserResponse> result = userService.getUsersByDepartmentId(departmentId, pageRequest);
 
         assertNotNull(result);
-        assertEquals(userResponseList, result);
-        assertEquals(userResponseList.size(), result.size());
-        verify(userRepository).findAllByDepartmentIdAndIsActiveTrue(departmentId);
+        assertEquals(userResponseList, result.getContent());
+        assertEquals(userResponseList.size(), result.getContent().size());
+        verify(userRepository).findPageByDepartmentIdAndIsActiveTrue(eq(departmentId), isNull(), isNull(), any(Limit.class));
         verify(userMapper).toResponseList(userList);
     }
 
@@ -276,15 +288,15 @@ public class UserServiceTest {
     @DisplayName("Get Users By Role - Success")
     void getUsersByRole_Success() {
         UserRole userRole = UserRole.TEAM_MEMBER;
-        when(userRepository.findAllByRolesNameAndIsActiveTrue(any(UserRole.class))).thenReturn(userList);
+        when(userRepository.findPageByRolesNameAndIsActiveTrue(any(UserRole.class), any(), any(), any(Limit.class))).thenReturn(userList);
         when(userMapper.toResponseList(anyList())).thenReturn(userResponseList);
 
-        List<UserResponse> result = userService.getUsersByRole(userRole);
+        CursorPage<UserResponse> result = userService.getUsersByRole(userRole, pageRequest);
 
         assertNotNull(result);
-        assertEquals(userResponseList, result);
-        assertEquals(userResponseList.size(), result.size());
-        verify(userRepository).findAllByRolesNameAndIsActiveTrue(userRole);
+        assertEquals(userResponseList, result.getContent());
+        assertEquals(userResponseList.size(), result.getContent().size());
+        verify(userRepository).findPageByRolesNameAndIsActiveTrue(eq(userRole), isNull(), isNull(), any(Limit.class));
         verify(userMapper).toResponseList(userList);
     }
 
@@ -299,6 +311,9 @@ public class UserServiceTest {
         assertFalse(user.getIsActive());
         verify(userRepository).findByIdAndIsActiveTrue(userId);
         verify(userRepository).save(user);
+        verify(tokenRevocationRegistry).revokeIssuedTokens(userId, user.getEmail());
+        verify(verifiedTokenCache).invalidateUser(user.getEmail());
+        verify(referenceDataService).evictUserIdentity(user.getEmail());
     }
 
     @Test
@@ -353,6 +368,9 @@ public class UserServiceTest {
         verify(roleService).getRolesByNames(updateUserRolesRequest.getRoles());
         verify(userRepository).save(user);
         verify(userMapper).toResponse(user);
+        verify(tokenRevocationRegistry).revokeIssuedTokens(userId, user.getEmail());
+        verify(verifiedTokenCache).invalidateUser(user.getEmail());
+        verify(referenceDataService).evictUserIdentity(user.getEmail());
     }
 
     @Test